@@ -1,10 +1,17 @@
 package dev.logchange.cli;
 
+import dev.logchange.commands.batch.MultiRootExecutor;
+import dev.logchange.commands.batch.ProjectRoots;
+import dev.logchange.commands.batch.RootResult;
+import dev.logchange.core.application.profile.ProfileReport;
+import dev.logchange.core.application.profile.Profiler;
 import dev.logchange.utils.logger.LogchangeLogger;
 import dev.logchange.utils.logger.LoggerLevel;
 import lombok.CustomLog;
 
 import java.io.File;
+import java.util.List;
+import java.util.function.Consumer;
 
 import static dev.logchange.commands.Constants.*;
 import static picocli.CommandLine.Option;
@@ -16,10 +23,51 @@ public abstract class BaseCommand implements Runnable {
     boolean verbose;
 
     @Option(names = {PATH_SHORT_OPTION, PATH_OPTION}, description = PATH_OPTION_DESCRIPTION, defaultValue = DEFAULT_PATH)
-    private File path;
+    private List<String> paths;
+
+    @Option(names = PATHS_FILE_OPTION, description = PATHS_FILE_OPTION_DESCRIPTION)
+    private File pathsFile;
+
+    @Option(names = THREADS_OPTION, description = THREADS_OPTION_DESCRIPTION)
+    private Integer threads;
+
+    @Option(names = PROFILE_OPTION, description = PROFILE_OPTION_DESCRIPTION, defaultValue = "false")
+    private boolean profile;
+
+    @Option(names = PROFILE_FILE_OPTION, description = PROFILE_FILE_OPTION_DESCRIPTION)
+    private File profileFile;
 
     protected String path() {
-        return path.getAbsolutePath();
+        if (paths.size() > 1 || pathsFile != null) {
+            throw new IllegalArgumentException("This command supports only one " + PATH_OPTION);
+        }
+        return new File(paths.get(0)).getAbsolutePath();
+    }
+
+    /**
+     * Runs action for every project root given by paths, glob patterns and paths file.
+     * Many roots are processed in parallel, and the command fails after all of them were processed if any failed.
+     */
+    protected void forEachRoot(String inputDir, Consumer<String> action) {
+        List<File> roots = ProjectRoots.of(new File(DEFAULT_PATH), inputDir).resolve(paths, pathsFile);
+        if (roots.isEmpty()) {
+            throw new IllegalArgumentException("There are no projects matching given paths");
+        }
+        if (roots.size() == 1) {
+            action.accept(roots.get(0).getPath());
+            return;
+        }
+
+        int parallelism = threads != null ? threads : Runtime.getRuntime().availableProcessors();
+        log.info("Processing " + roots.size() + " projects using " + parallelism + " threads");
+        List<RootResult> results = MultiRootExecutor.of(parallelism).execute(roots, root -> action.accept(root.getPath()));
+
+        results.forEach(result -> log.info(result.toString()));
+        long failed = results.stream().filter(result -> !result.isSuccess()).count();
+        log.info(String.format("Processed %d projects: %d succeeded, %d failed", results.size(), results.size() - failed, failed));
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " of " + results.size() + " projects failed");
+        }
     }
 
     @Override
@@ -27,13 +75,35 @@ public abstract class BaseCommand implements Runnable {
         try {
             if (verbose) {
                 LogchangeLogger.setLevel(LoggerLevel.DEBUG);
+            } else if (isQuietByDefault()) {
+                LogchangeLogger.setLevel(LoggerLevel.WARN);
+            }
+            boolean profiled = profile || profileFile != null;
+            if (profiled) {
+                Profiler.enable();
+            }
+            try {
+                runCommand();
+            } finally {
+                if (profiled) {
+                    ProfileReport report = Profiler.finish(PROFILE_SLOWEST_LIMIT);
+                    log.info(report.toSummary());
+                    report.writeJson(profileFile != null ? profileFile : new File(DEFAULT_PROFILE_FILE));
+                }
             }
-            runCommand();
         } catch (Exception e) {
             log.debug(e);
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Commands printing machine-readable result to standard output return true,
+     * so informational logs do not mix with it (they are still shown with --verbose).
+     */
+    protected boolean isQuietByDefault() {
+        return false;
+    }
+
     public abstract void runCommand();
 }
@@ -4,10 +4,16 @@ import dev.logchange.cli.add.AddChangelogEntryCliCommand;
 import dev.logchange.cli.add.AddExampleChangelogEntryCliCommand;
 import dev.logchange.cli.aggregate.AggregateProjectsCliCommand;
 import dev.logchange.cli.archive.ArchiveVersionCliCommand;
+import dev.logchange.cli.diff.DiffCliCommand;
 import dev.logchange.cli.generate.GenerateChangelogCliCommand;
+import dev.logchange.cli.imports.ImportCliCommand;
 import dev.logchange.cli.init.InitCliCommand;
 import dev.logchange.cli.lint.LintCliCommand;
+import dev.logchange.cli.pack.PackCliCommand;
+import dev.logchange.cli.query.QueryCliCommand;
 import dev.logchange.cli.release.ReleaseVersionCliCommand;
+import dev.logchange.cli.search.SearchCliCommand;
+import dev.logchange.utils.logger.LogchangeLogger;
 import lombok.CustomLog;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -30,13 +36,19 @@ import static dev.logchange.commands.Constants.LOGCHANGE_DESCRIPTION;
                 AddExampleChangelogEntryCliCommand.class,
                 LintCliCommand.class,
                 AggregateProjectsCliCommand.class,
-                ArchiveVersionCliCommand.class
+                ArchiveVersionCliCommand.class,
+                QueryCliCommand.class,
+                SearchCliCommand.class,
+                DiffCliCommand.class,
+                ImportCliCommand.class,
+                PackCliCommand.class
         })
 public class LogchangeCliCommand implements Runnable {
 
     private static CommandLine commandLine;
 
     public static void main(String[] args) {
+        LogchangeLogger.enableAsyncOutput();
         commandLine = new CommandLine(new LogchangeCliCommand());
         commandLine.setExecutionExceptionHandler((ex, cmd, parseResult) -> {
             log.error(String.format("Command %s execution failed", cmd.getCommandName()));
@@ -44,10 +56,12 @@ public class LogchangeCliCommand implements Runnable {
             return 1;
         });
         int exitCode = commandLine.execute(args);
+        LogchangeLogger.flush();
         System.exit(exitCode);
     }
 
     public void run() {
+        LogchangeLogger.flush();
         commandLine.usage(System.out);
     }
 
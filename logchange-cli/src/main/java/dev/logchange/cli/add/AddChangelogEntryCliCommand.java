@@ -3,6 +3,7 @@ package dev.logchange.cli.add;
 import dev.logchange.cli.BaseCommand;
 import dev.logchange.commands.add.AddChangelogEntryBatchModeParams;
 import dev.logchange.commands.add.AddEntryCommand;
+import dev.logchange.commands.add.BulkAddEntryCommand;
 import dev.logchange.commands.add.ChangelogEntryProviderFactory;
 import dev.logchange.commands.add.OutputFileNameProvider;
 import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
@@ -28,6 +29,15 @@ public class AddChangelogEntryCliCommand extends BaseCommand {
     @Option(defaultValue = DEFAULT_UNRELEASED_VERSION_DIR, names = UNRELEASED_VERSION_DIR_OPTION)
     private String unreleasedVersionDir;
 
+    @Option(defaultValue = DEFAULT_CONFIG_FILE, names = CONFIG_FILE_OPTION, description = CONFIG_FILE_OPTION_DESCRIPTION)
+    private String configFile;
+
+    @Option(names = BULK_FROM_OPTION, description = BULK_FROM_OPTION_DESCRIPTION)
+    private String from;
+
+    @Option(names = BULK_FORMAT_OPTION, description = BULK_FORMAT_OPTION_DESCRIPTION)
+    private String fromFormat;
+
     @Option(names = FILENAME_OPTION, description = FILENAME_OPTION_DESCRIPTION)
     private String outputFileName;
 
@@ -59,6 +69,12 @@ public class AddChangelogEntryCliCommand extends BaseCommand {
     public void runCommand() {
         log.info(ADD_COMMAND_START_LOG);
 
+        if (from != null) {
+            BulkAddEntryCommand.of(path(), inputDir, unreleasedVersionDir, configFile).execute(from, fromFormat);
+            log.info(ADD_COMMAND_END_LOG);
+            return;
+        }
+
         CliAddEntryPrompter cliPrompter = CliAddEntryPrompter.of();
         AddEntryCommand addEntryCommand = AddEntryCommand.of(path(), inputDir, unreleasedVersionDir);
         outputFileName = new OutputFileNameProvider(empty, cliPrompter, outputFileName).get();
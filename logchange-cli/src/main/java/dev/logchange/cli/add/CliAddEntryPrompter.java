@@ -1,6 +1,7 @@
 package dev.logchange.cli.add;
 
 import dev.logchange.commands.add.AddEntryPrompter;
+import dev.logchange.utils.logger.LogchangeLogger;
 import lombok.RequiredArgsConstructor;
 
 import java.io.BufferedReader;
@@ -14,6 +15,7 @@ public class CliAddEntryPrompter implements AddEntryPrompter {
 
     @Override
     public String prompt(String message) {
+        LogchangeLogger.flush();
         System.out.print(message);
         try {
             return reader.readLine();
@@ -24,6 +26,7 @@ public class CliAddEntryPrompter implements AddEntryPrompter {
 
     @Override
     public void showMessage(String message) {
+        LogchangeLogger.flush();
         System.out.println(message);
     }
 }
@@ -0,0 +1,51 @@
+package dev.logchange.cli.diff;
+
+import dev.logchange.cli.BaseCommand;
+import dev.logchange.commands.diff.DiffProjectCommand;
+import dev.logchange.utils.logger.LogchangeLogger;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import static dev.logchange.commands.Constants.*;
+
+@Command(name = DIFF_COMMAND,
+        description = DIFF_COMMAND_DESCRIPTION,
+        separator = OPTION_SEPARATOR,
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true)
+public class DiffCliCommand extends BaseCommand {
+
+    @Option(defaultValue = DEFAULT_INPUT_DIR, names = INPUT_DIR_OPTION, description = INPUT_DIR_OPTION_DESCRIPTION)
+    private String inputDir;
+
+    @Option(defaultValue = DEFAULT_CONFIG_FILE, names = CONFIG_FILE_OPTION, description = CONFIG_FILE_OPTION_DESCRIPTION)
+    private String configFile;
+
+    @Option(names = DIFF_TEMPLATE_OPTION, description = DIFF_TEMPLATE_OPTION_DESCRIPTION)
+    private String template;
+
+    @Option(names = OUTPUT_FILE_OPTION, description = DIFF_OUTPUT_FILE_OPTION_DESCRIPTION)
+    private String outputFile;
+
+    @Parameters(index = "0", description = DIFF_FROM_DESCRIPTION)
+    private String from;
+
+    @Parameters(index = "1", description = DIFF_TO_DESCRIPTION)
+    private String to;
+
+    @Override
+    public void runCommand() {
+        String result = DiffProjectCommand.of(path(), inputDir, configFile).execute(from, to, template, outputFile);
+
+        if (outputFile == null) {
+            LogchangeLogger.flush();
+            System.out.print(result);
+        }
+    }
+
+    @Override
+    protected boolean isQuietByDefault() {
+        return outputFile == null;
+    }
+}
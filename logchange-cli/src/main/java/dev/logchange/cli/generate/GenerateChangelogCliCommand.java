@@ -25,10 +25,20 @@ public class GenerateChangelogCliCommand extends BaseCommand {
     @Option(defaultValue = DEFAULT_CONFIG_FILE, names = CONFIG_FILE_OPTION, description = CONFIG_FILE_OPTION_DESCRIPTION)
     private String configFile;
 
+    @Option(defaultValue = DEFAULT_INDEX, names = INDEX_OPTION, description = INDEX_OPTION_DESCRIPTION)
+    private String index;
+
+    @Option(defaultValue = DEFAULT_INDEX_OUTPUT_FILE, names = INDEX_OUTPUT_FILE_OPTION, description = INDEX_OUTPUT_FILE_OPTION_DESCRIPTION)
+    private String indexOutputFile;
+
     public void runCommand() {
-        log.info(GENERATE_COMMAND_START_LOG);
-        GenerateProjectCommand.of(path(), inputDir, outputFile, configFile).execute(false);
-        log.info(GENERATE_COMMAND_END_LOG);
+        forEachRoot(inputDir, path -> {
+            log.info(GENERATE_COMMAND_START_LOG);
+            GenerateProjectCommand.of(path, inputDir, outputFile, configFile)
+                    .withIndex(index, indexOutputFile)
+                    .execute(false);
+            log.info(GENERATE_COMMAND_END_LOG);
+        });
     }
 
 }
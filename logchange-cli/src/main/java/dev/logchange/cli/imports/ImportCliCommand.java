@@ -0,0 +1,37 @@
+package dev.logchange.cli.imports;
+
+import dev.logchange.cli.BaseCommand;
+import dev.logchange.commands.imports.ImportProjectCommand;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import static dev.logchange.commands.Constants.*;
+
+@Command(name = IMPORT_COMMAND,
+        description = IMPORT_COMMAND_DESCRIPTION,
+        separator = OPTION_SEPARATOR,
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true)
+public class ImportCliCommand extends BaseCommand {
+
+    @Option(defaultValue = DEFAULT_INPUT_DIR, names = INPUT_DIR_OPTION, description = INPUT_DIR_OPTION_DESCRIPTION)
+    private String inputDir;
+
+    @Option(defaultValue = DEFAULT_UNRELEASED_VERSION_DIR, names = UNRELEASED_VERSION_DIR_OPTION)
+    private String unreleasedVersionDir;
+
+    @Option(defaultValue = DEFAULT_CONFIG_FILE, names = CONFIG_FILE_OPTION, description = CONFIG_FILE_OPTION_DESCRIPTION)
+    private String configFile;
+
+    @Option(names = IMPORT_FORMAT_OPTION, description = IMPORT_FORMAT_OPTION_DESCRIPTION)
+    private String format;
+
+    @Parameters(index = "0", description = IMPORT_SOURCE_DESCRIPTION)
+    private String source;
+
+    @Override
+    public void runCommand() {
+        ImportProjectCommand.of(path(), inputDir, unreleasedVersionDir, configFile).execute(source, format);
+    }
+}
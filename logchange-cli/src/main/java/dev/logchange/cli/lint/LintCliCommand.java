@@ -25,10 +25,25 @@ public class LintCliCommand extends BaseCommand {
     @Option(defaultValue = DEFAULT_CONFIG_FILE, names = CONFIG_FILE_OPTION, description = CONFIG_FILE_OPTION_DESCRIPTION)
     private String configFile;
 
+    @Option(defaultValue = "false", names = LINT_STAGED_OPTION, description = LINT_STAGED_OPTION_DESCRIPTION)
+    private boolean staged;
+
+    @Option(names = LINT_SINCE_OPTION, description = LINT_SINCE_OPTION_DESCRIPTION)
+    private String since;
+
     public void runCommand() {
-        log.info(LINT_COMMAND_START_LOG);
-        LintProjectCommand.of(path(), inputDir, outputFile, configFile).validate();
-        log.info(LINT_COMMAND_END_LOG);
+        forEachRoot(inputDir, path -> {
+            log.info(LINT_COMMAND_START_LOG);
+            LintProjectCommand command = LintProjectCommand.of(path, inputDir, outputFile, configFile);
+            if (since != null) {
+                command.validateChanged(since);
+            } else if (staged) {
+                command.validateChanged(null);
+            } else {
+                command.validate();
+            }
+            log.info(LINT_COMMAND_END_LOG);
+        });
     }
 
 }
@@ -0,0 +1,36 @@
+package dev.logchange.cli.pack;
+
+import dev.logchange.cli.BaseCommand;
+import dev.logchange.commands.pack.PackVersionCommand;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.util.List;
+
+import static dev.logchange.commands.Constants.*;
+
+@Command(name = PACK_COMMAND,
+        description = PACK_COMMAND_DESCRIPTION,
+        separator = OPTION_SEPARATOR,
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true)
+public class PackCliCommand extends BaseCommand {
+
+    @Option(defaultValue = DEFAULT_INPUT_DIR, names = INPUT_DIR_OPTION, description = INPUT_DIR_OPTION_DESCRIPTION)
+    private String inputDir;
+
+    @Option(defaultValue = DEFAULT_UNRELEASED_VERSION_DIR, names = UNRELEASED_VERSION_DIR_OPTION, description = UNRELEASED_VERSION_DIR_OPTION_DESCRIPTION)
+    private String unreleasedVersionDir;
+
+    @Option(defaultValue = DEFAULT_CONFIG_FILE, names = CONFIG_FILE_OPTION, description = CONFIG_FILE_OPTION_DESCRIPTION)
+    private String configFile;
+
+    @Parameters(arity = "0..*", description = PACK_VERSIONS_DESCRIPTION)
+    private List<String> versions;
+
+    @Override
+    public void runCommand() {
+        PackVersionCommand.of(path(), inputDir, unreleasedVersionDir, configFile).execute(versions);
+    }
+}
@@ -0,0 +1,52 @@
+package dev.logchange.cli.query;
+
+import dev.logchange.cli.BaseCommand;
+import dev.logchange.commands.query.QueryOutputFormat;
+import dev.logchange.commands.query.QueryProjectCommand;
+import dev.logchange.utils.logger.LogchangeLogger;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.util.List;
+import java.util.Locale;
+
+import static dev.logchange.commands.Constants.*;
+
+@Command(name = QUERY_COMMAND,
+        description = QUERY_COMMAND_DESCRIPTION,
+        separator = OPTION_SEPARATOR,
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true)
+public class QueryCliCommand extends BaseCommand {
+
+    @Option(defaultValue = DEFAULT_INPUT_DIR, names = INPUT_DIR_OPTION, description = INPUT_DIR_OPTION_DESCRIPTION)
+    private String inputDir;
+
+    @Option(defaultValue = DEFAULT_CONFIG_FILE, names = CONFIG_FILE_OPTION, description = CONFIG_FILE_OPTION_DESCRIPTION)
+    private String configFile;
+
+    @Option(defaultValue = DEFAULT_INDEX_OUTPUT_FILE, names = INDEX_OUTPUT_FILE_OPTION, description = INDEX_OUTPUT_FILE_OPTION_DESCRIPTION)
+    private String indexOutputFile;
+
+    @Option(defaultValue = DEFAULT_QUERY_FORMAT, names = QUERY_FORMAT_OPTION, description = QUERY_FORMAT_OPTION_DESCRIPTION)
+    private String format;
+
+    @Parameters(arity = "0..*", description = QUERY_EXPRESSION_DESCRIPTION)
+    private List<String> expression;
+
+    @Override
+    public void runCommand() {
+        String result = QueryProjectCommand.of(path(), inputDir, configFile, indexOutputFile)
+                .execute(expression == null ? "" : String.join(" ", expression),
+                        QueryOutputFormat.valueOf(format.toUpperCase(Locale.ROOT)));
+
+        LogchangeLogger.flush();
+        System.out.println(result);
+    }
+
+    @Override
+    protected boolean isQuietByDefault() {
+        return true;
+    }
+}
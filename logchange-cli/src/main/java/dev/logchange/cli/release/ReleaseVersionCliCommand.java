@@ -38,6 +38,9 @@ public class ReleaseVersionCliCommand extends BaseCommand {
     @Option(defaultValue = DEFAULT_XML_OUTPUT_FILE, names = XML_OUTPUT_FILE_OPTION, description = XML_OUTPUT_FILE_OPTION_DESCRIPTION)
     private String xmlOutputFile;
 
+    @Option(defaultValue = "false", names = PACK_OPTION, description = PACK_OPTION_DESCRIPTION)
+    private boolean isPack;
+
     public void runCommand() {
         log.info(RELEASE_COMMAND_START_LOG + versionToRelease);
         ReleaseVersionCommand.of(
@@ -48,7 +51,7 @@ public class ReleaseVersionCliCommand extends BaseCommand {
                 outputFile,
                 configFile,
                 isGenerateChangesXml,
-                xmlOutputFile).execute();
+                xmlOutputFile).withPack(isPack).execute();
         log.info(RELEASE_COMMAND_END_LOG);
     }
 
@@ -0,0 +1,52 @@
+package dev.logchange.cli.search;
+
+import dev.logchange.cli.BaseCommand;
+import dev.logchange.commands.search.SearchProjectCommand;
+import dev.logchange.utils.logger.LogchangeLogger;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.util.List;
+
+import static dev.logchange.commands.Constants.*;
+
+@Command(name = SEARCH_COMMAND,
+        description = SEARCH_COMMAND_DESCRIPTION,
+        separator = OPTION_SEPARATOR,
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true)
+public class SearchCliCommand extends BaseCommand {
+
+    @Option(defaultValue = DEFAULT_INPUT_DIR, names = INPUT_DIR_OPTION, description = INPUT_DIR_OPTION_DESCRIPTION)
+    private String inputDir;
+
+    @Option(defaultValue = DEFAULT_CONFIG_FILE, names = CONFIG_FILE_OPTION, description = CONFIG_FILE_OPTION_DESCRIPTION)
+    private String configFile;
+
+    @Option(defaultValue = DEFAULT_SEARCH_LIMIT, names = SEARCH_LIMIT_OPTION, description = SEARCH_LIMIT_OPTION_DESCRIPTION)
+    private int limit;
+
+    @Option(defaultValue = DEFAULT_SEARCH_INDEX_FILE, names = SEARCH_INDEX_FILE_OPTION, description = SEARCH_INDEX_FILE_OPTION_DESCRIPTION)
+    private String searchIndexFile;
+
+    @Option(defaultValue = "false", names = SEARCH_SAVE_INDEX_OPTION, description = SEARCH_SAVE_INDEX_OPTION_DESCRIPTION)
+    private boolean saveIndex;
+
+    @Parameters(arity = "1..*", description = SEARCH_TERMS_DESCRIPTION)
+    private List<String> terms;
+
+    @Override
+    public void runCommand() {
+        String result = SearchProjectCommand.of(path(), inputDir, configFile, searchIndexFile, saveIndex)
+                .execute(String.join(" ", terms), limit);
+
+        LogchangeLogger.flush();
+        System.out.print(result);
+    }
+
+    @Override
+    protected boolean isQuietByDefault() {
+        return true;
+    }
+}
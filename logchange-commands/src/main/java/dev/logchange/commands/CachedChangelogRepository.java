@@ -0,0 +1,47 @@
+package dev.logchange.commands;
+
+import dev.logchange.core.application.changelog.repository.ChangelogRepository;
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.config.model.Config;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Reads markdown changelog through {@link ProjectModelCache}, other operations are passed to the delegate.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public class CachedChangelogRepository implements ChangelogRepository {
+
+    private final ChangelogRepository delegate;
+    private final File changelogDirectory;
+    private final Config config;
+    private final ProjectModelCache cache;
+
+    @Override
+    public Changelog findMarkdown() {
+        return cache.getChangelog(changelogDirectory, config, delegate::findMarkdown);
+    }
+
+    @Override
+    public Changelog findXML() {
+        return delegate.findXML();
+    }
+
+    @Override
+    public List<ChangelogEntry> findEntries(List<File> entryFiles) {
+        return delegate.findEntries(entryFiles);
+    }
+
+    @Override
+    public void save(Changelog changelog) {
+        delegate.save(changelog);
+    }
+
+    @Override
+    public void saveXML(Changelog changelog) {
+        delegate.saveXML(changelog);
+    }
+}
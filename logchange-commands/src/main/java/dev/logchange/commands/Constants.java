@@ -56,6 +56,14 @@ public class Constants {
     public static final String LINT_COMMAND_START_LOG = "Running lint command...";
     public static final String LINT_COMMAND_END_LOG = "No problems found, lint passed successfully";
 
+    public static final String LINT_STAGED_PROPERTY = "staged";
+    public static final String LINT_STAGED_OPTION = OPTION_PREFIX + LINT_STAGED_PROPERTY;
+    public static final String LINT_STAGED_OPTION_DESCRIPTION = "Lints only YML files staged in git index (useful in pre-commit hooks). Whole changelog is linted when config or templates are staged";
+
+    public static final String LINT_SINCE_PROPERTY = "since";
+    public static final String LINT_SINCE_OPTION = OPTION_PREFIX + LINT_SINCE_PROPERTY;
+    public static final String LINT_SINCE_OPTION_DESCRIPTION = "Lints only YML files changed since given git ref (f.e. origin/main). Whole changelog is linted when config or templates were changed";
+
     public static final String ADD_COMMAND = "add";
     public static final String ADD_COMMAND_DESCRIPTION = "Creates new YML file with logchange structure in <" + UNRELEASED_VERSION_DIR_PROPERTY + "> directory";
     public static final String ADD_COMMAND_START_LOG = "Running add command...";
@@ -81,12 +89,78 @@ public class Constants {
     public static final String ARCHIVE_COMMAND_START_LOG = "Running archive command...";
     public static final String ARCHIVE_COMMAND_END_LOG = "Archive successfully";
 
+    public static final String ARCHIVE_POLICY_COMMAND = "archivePolicy";
+    public static final String ARCHIVE_POLICY_COMMAND_DESCRIPTION = "Archives released versions outside of the archive policy from " + DEFAULT_CONFIG_FILE + ", executed before generating changelog";
+    public static final String ARCHIVE_POLICY_COMMAND_START_LOG = "Running archive policy command...";
+    public static final String ARCHIVE_POLICY_COMMAND_END_LOG = "Archive policy applied successfully";
+
+    public static final String QUERY_COMMAND = "query";
+    public static final String QUERY_COMMAND_DESCRIPTION = "Prints changelog entries matching given filter, f.e. \"type=security module=core version>=3.2\" or \"author=nick last=10\"";
+    public static final String QUERY_EXPRESSION_DESCRIPTION = "Conditions joined with 'and' (or just spaces): type=, module=, author=, issue= (comma separated values), version and date (yyyy-MM-dd) with = > >= < <=, last=N newest released versions. Empty matches all entries";
+
+    public static final String QUERY_FORMAT_PROPERTY = "format";
+    public static final String QUERY_FORMAT_OPTION = OPTION_PREFIX + QUERY_FORMAT_PROPERTY;
+    public static final String DEFAULT_QUERY_FORMAT = "md";
+    public static final String QUERY_FORMAT_OPTION_DESCRIPTION = "[json/md] Format of printed entries";
+
+    public static final String SEARCH_COMMAND = "search";
+    public static final String SEARCH_COMMAND_DESCRIPTION = "Full-text search in entry titles, important notes, configuration descriptions and archives, f.e. \"oauth timeout\"";
+    public static final String SEARCH_TERMS_DESCRIPTION = "Words that every found entry has to contain (case-insensitive), a word ending with * matches every word with that prefix";
+
+    public static final String SEARCH_LIMIT_PROPERTY = "limit";
+    public static final String SEARCH_LIMIT_OPTION = OPTION_PREFIX + SEARCH_LIMIT_PROPERTY;
+    public static final String DEFAULT_SEARCH_LIMIT = "20";
+    public static final String SEARCH_LIMIT_OPTION_DESCRIPTION = "Maximal number of printed results, best first";
+
+    public static final String SEARCH_INDEX_FILE_PROPERTY = "searchIndexFile";
+    public static final String SEARCH_INDEX_FILE_OPTION = OPTION_PREFIX + SEARCH_INDEX_FILE_PROPERTY;
+    public static final String DEFAULT_SEARCH_INDEX_FILE = "changelog-search-index.bin";
+    public static final String SEARCH_INDEX_FILE_OPTION_DESCRIPTION = "Name of search index file, it is used instead of parsing changelog when it is newer than all files in changelog directory";
+
+    public static final String SEARCH_SAVE_INDEX_PROPERTY = "saveIndex";
+    public static final String SEARCH_SAVE_INDEX_OPTION = OPTION_PREFIX + SEARCH_SAVE_INDEX_PROPERTY;
+    public static final String SEARCH_SAVE_INDEX_OPTION_DESCRIPTION = "Saves built search index to <" + SEARCH_INDEX_FILE_PROPERTY + "> for next searches";
+
+    public static final String DIFF_COMMAND = "diff";
+    public static final String DIFF_COMMAND_DESCRIPTION = "Prints changes between two versions (f.e. upgrade notes from 4.1.0 to 5.3.2) as one version with entries, important notes and configuration changes of all versions in between";
+    public static final String DIFF_FROM_DESCRIPTION = "Version the upgrade starts from, its changes are not included";
+    public static final String DIFF_TO_DESCRIPTION = "Version the upgrade ends with, its changes are included (can be unreleased)";
+    public static final String DIFF_OUTPUT_FILE_OPTION_DESCRIPTION = "Saves the result to given file instead of printing it";
+
+    public static final String DIFF_TEMPLATE_PROPERTY = "template";
+    public static final String DIFF_TEMPLATE_OPTION = OPTION_PREFIX + DIFF_TEMPLATE_PROPERTY;
+    public static final String DIFF_TEMPLATE_OPTION_DESCRIPTION = "Jinja template from <inputDir>/templates used instead of markdown, the merged version is available as 'version' like in version summary templates";
+
+    public static final String IMPORT_COMMAND = "import";
+    public static final String IMPORT_COMMAND_DESCRIPTION = "Converts existing CHANGELOG.md (Keep a Changelog format) or changes.xml into version directories with YML entries";
+    public static final String IMPORT_SOURCE_DESCRIPTION = "File to import (relative to path), f.e. CHANGELOG.md or src/changes/changes.xml";
+
+    public static final String IMPORT_FORMAT_PROPERTY = "format";
+    public static final String IMPORT_FORMAT_OPTION = OPTION_PREFIX + IMPORT_FORMAT_PROPERTY;
+    public static final String IMPORT_FORMAT_OPTION_DESCRIPTION = "[markdown/changes_xml] Format of imported file, by default changes_xml for .xml files, markdown otherwise";
+
+    public static final String PACK_COMMAND = "pack";
+    public static final String PACK_COMMAND_DESCRIPTION = "Merges entries of released versions into single entries.packed.yml file per version directory, packed versions are read like unpacked ones";
+    public static final String PACK_VERSIONS_DESCRIPTION = "Versions to pack (f.e. 1.2.0), when none given all released versions are packed";
+
+    public static final String PACK_PROPERTY = "pack";
+    public static final String PACK_OPTION = OPTION_PREFIX + PACK_PROPERTY;
+    public static final String PACK_OPTION_DESCRIPTION = "[true/false] Should entries of released version be packed into single file?";
+
     public static final String DEFAULT_PATH = ".";
     public static final String PATH_PROPERTY = "path";
     public static final String PATH_OPTION = OPTION_PREFIX + PATH_PROPERTY;
     public static final String PATH_SHORT_PROPERTY = "p";
     public static final String PATH_SHORT_OPTION = OPTION_SHORT_PREFIX + PATH_SHORT_PROPERTY;
-    public static final String PATH_OPTION_DESCRIPTION = "Path indicating the directory in which the command is to be executed";
+    public static final String PATH_OPTION_DESCRIPTION = "Path indicating the directory in which the command is to be executed. Generate and lint accept many paths (repeat the option) and glob patterns, f.e. services/*";
+
+    public static final String PATHS_FILE_PROPERTY = "pathsFile";
+    public static final String PATHS_FILE_OPTION = OPTION_PREFIX + PATHS_FILE_PROPERTY;
+    public static final String PATHS_FILE_OPTION_DESCRIPTION = "File with paths or glob patterns of projects, one per line (relative to this file, lines starting with # are ignored), used by generate and lint";
+
+    public static final String THREADS_PROPERTY = "threads";
+    public static final String THREADS_OPTION = OPTION_PREFIX + THREADS_PROPERTY;
+    public static final String THREADS_OPTION_DESCRIPTION = "Number of projects processed in parallel when many paths are given, defaults to number of processors";
 
     public static final String AGGREGATE_VERSION_PROPERTY = "aggregateVersion";
     public static final String AGGREGATE_VERSION_OPTION = OPTION_PREFIX + AGGREGATE_VERSION_PROPERTY;
@@ -104,6 +178,14 @@ public class Constants {
     public static final String AUTHORS_OPTION = OPTION_PREFIX + AUTHORS_PROPERTY;
     public static final String AUTHORS_OPTION_DESCRIPTION = "List of authors, separated by commas";
 
+    public static final String BULK_FROM_PROPERTY = "from";
+    public static final String BULK_FROM_OPTION = OPTION_PREFIX + BULK_FROM_PROPERTY;
+    public static final String BULK_FROM_OPTION_DESCRIPTION = "Adds many entries at once from JSON lines or CSV file (relative to path), '-' reads standard input";
+
+    public static final String BULK_FORMAT_PROPERTY = "fromFormat";
+    public static final String BULK_FORMAT_OPTION = OPTION_PREFIX + BULK_FORMAT_PROPERTY;
+    public static final String BULK_FORMAT_OPTION_DESCRIPTION = "[jsonl/csv] Format of <" + BULK_FROM_PROPERTY + ">, by default csv for .csv files, jsonl otherwise";
+
     public static final String EMPTY_PROPERTY = "empty";
     public static final String EMPTY_OPTION = OPTION_PREFIX + EMPTY_PROPERTY;
     public static final String EMPTY_OPTION_DESCRIPTION = "true/false; default false; if set to true, generates empty entry with some lorem ipsum content";
@@ -120,6 +202,29 @@ public class Constants {
     public static final String XML_OUTPUT_FILE_OPTION = OPTION_PREFIX + XML_OUTPUT_FILE_PROPERTY;
     public static final String XML_OUTPUT_FILE_OPTION_DESCRIPTION = "";
 
+    public static final String FORCE_PROPERTY = "force";
+    public static final String FORCE_OPTION_DESCRIPTION = "true/false; default false; if set to true, runs even if changelog did not change since last successful execution";
+    public static final String UP_TO_DATE_LOG = "Changelog did not change since last execution, skipping (use -D" + FORCE_PROPERTY + "=true to run anyway)";
+
+    public static final String PROFILE_PROPERTY = "profile";
+    public static final String PROFILE_OPTION = OPTION_PREFIX + PROFILE_PROPERTY;
+    public static final String DEFAULT_PROFILE_FILE = "logchange-profile.json";
+    public static final String PROFILE_OPTION_DESCRIPTION = "Prints time spent in each phase and the slowest entries and templates, and saves them as JSON to " + DEFAULT_PROFILE_FILE + " (or to " + OPTION_PREFIX + "profileFile)";
+    public static final String PROFILE_FILE_PROPERTY = "profileFile";
+    public static final String PROFILE_FILE_OPTION = OPTION_PREFIX + PROFILE_FILE_PROPERTY;
+    public static final String PROFILE_FILE_OPTION_DESCRIPTION = "File to which the profile is saved as JSON, enables profiling (default: " + DEFAULT_PROFILE_FILE + ")";
+    public static final int PROFILE_SLOWEST_LIMIT = 10;
+
+    public static final String INDEX_OUTPUT_FILE_PROPERTY = "indexOutputFile";
+    public static final String INDEX_OUTPUT_FILE_OPTION = OPTION_PREFIX + INDEX_OUTPUT_FILE_PROPERTY;
+    public static final String DEFAULT_INDEX_OUTPUT_FILE = "changelog-index";
+    public static final String INDEX_OUTPUT_FILE_OPTION_DESCRIPTION = "Name of changelog index file without extension, .json and/or .bin is appended";
+
+    public static final String INDEX_PROPERTY = "index";
+    public static final String INDEX_OPTION = OPTION_PREFIX + INDEX_PROPERTY;
+    public static final String DEFAULT_INDEX = "none";
+    public static final String INDEX_OPTION_DESCRIPTION = "[none/json/binary/all] Writes also machine-readable changelog index (<" + INDEX_OUTPUT_FILE_PROPERTY + ">) with versions, entries, types, modules, authors, issues and merge requests";
+
     public static final String RELEASE_DATE_FORMAT = "yyyy-MM-dd";
 
     public static final String VERSION_TO_RELEASE_PROPERTY = "versionToRelease";
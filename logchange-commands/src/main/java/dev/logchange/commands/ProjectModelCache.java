@@ -0,0 +1,44 @@
+package dev.logchange.commands;
+
+import dev.logchange.core.application.config.TemplateFile;
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.config.model.Config;
+
+import java.io.File;
+import java.util.function.Supplier;
+
+/**
+ * Allows build tools to share parsed configuration and changelog between commands executed in one build.
+ * Implementations decide when cached value is still valid, e.g. by comparing fingerprint of input files.
+ */
+public interface ProjectModelCache {
+
+    ProjectModelCache NONE = new ProjectModelCache() {
+        @Override
+        public Config getConfig(File configFile, Supplier<Config> loader) {
+            return loader.get();
+        }
+
+        @Override
+        public Changelog getChangelog(File changelogDirectory, Config config, Supplier<Changelog> loader) {
+            return loader.get();
+        }
+
+        @Override
+        public TemplateFile getTemplate(File templateFile, Supplier<TemplateFile> loader) {
+            return loader.get();
+        }
+    };
+
+    Config getConfig(File configFile, Supplier<Config> loader);
+
+    /**
+     * Changelog is parsed according to the config (f.e. custom entry types), so it is cached for each config separately.
+     */
+    Changelog getChangelog(File changelogDirectory, Config config, Supplier<Changelog> loader);
+
+    /**
+     * Templates are read for every version and every project using them, so they are worth sharing.
+     */
+    TemplateFile getTemplate(File templateFile, Supplier<TemplateFile> loader);
+}
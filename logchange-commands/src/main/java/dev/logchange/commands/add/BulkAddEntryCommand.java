@@ -0,0 +1,223 @@
+package dev.logchange.commands.add;
+
+import dev.logchange.core.application.changelog.service.add.AddChangelogEntryService;
+import dev.logchange.core.application.config.ConfigFile;
+import dev.logchange.core.application.file.EntryFileName;
+import dev.logchange.core.application.file.repository.FileWriter;
+import dev.logchange.core.domain.changelog.command.AddChangelogEntryUseCase;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntry;
+import dev.logchange.core.format.yml.config.YMLChangelogException;
+import dev.logchange.core.infrastructure.persistance.changelog.FileChangelogEntryRepository;
+import lombok.AccessLevel;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Adds many entries at once from {@link BulkEntryFormat JSON lines or CSV}, f.e. generated by dependency bots.
+ * Every record is validated against entry types from configuration before anything is written,
+ * so invalid input leaves the unreleased directory untouched. Names of files are taken from the {@code file}
+ * key or made of the title, when such file already exists {@code -2}, {@code -3}, ... suffix is added.
+ * Files are written in parallel, and the command logs one summary instead of messages per entry.
+ */
+@CustomLog
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkAddEntryCommand {
+
+    public static final String STDIN = "-";
+
+    private static final String YML_EXTENSION = ".yml";
+
+    private final String rootPath;
+    private final String inputDir;
+    private final String unreleasedVersionDir;
+    private final String configFile;
+
+    public static BulkAddEntryCommand of(String rootPath, String inputDir, String unreleasedVersionDir, String configFile) {
+        AddEntryCommand.checkIfCanAdd(rootPath, inputDir, unreleasedVersionDir);
+        return new BulkAddEntryCommand(rootPath, inputDir, unreleasedVersionDir, configFile);
+    }
+
+    /**
+     * @param from   path of input file relative to root path, or {@code -} for standard input
+     * @param format name of {@link BulkEntryFormat}, when blank it is chosen by extension of input file
+     * @return created entry files, in order of input
+     */
+    public List<File> execute(String from, String format) {
+        BulkEntryFormat bulkEntryFormat = BulkEntryFormat.of(format, from);
+        if (STDIN.equals(from)) {
+            return execute(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)), bulkEntryFormat, "stdin");
+        }
+
+        Path input = Paths.get(rootPath).resolve(from);
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            return execute(reader, bulkEntryFormat, from);
+        } catch (IOException e) {
+            String msg = "Could not read entries from " + input + " because: " + e.getMessage();
+            log.error(msg);
+            throw new IllegalArgumentException(msg, e);
+        }
+    }
+
+    /**
+     * @param source name of input used in error messages, f.e. path of file or {@code stdin}
+     * @return created entry files, in order of input
+     */
+    public List<File> execute(BufferedReader input, BulkEntryFormat format, String source) {
+        long start = System.nanoTime();
+        ChangelogEntryType.setEntryTypes(findConfig().getEntryTypes());
+
+        List<BulkEntryFormat.Record> records;
+        try {
+            records = format.read(input, source);
+        } catch (IOException e) {
+            String msg = "Could not read entries from " + source + " because: " + e.getMessage();
+            log.error(msg);
+            throw new IllegalArgumentException(msg, e);
+        }
+
+        List<ChangelogEntry> entries = new ArrayList<>(records.size());
+        List<String> fileNames = new ArrayList<>(records.size());
+        List<Exception> errors = new ArrayList<>();
+        for (BulkEntryFormat.Record record : records) {
+            try {
+                fileNames.add(toFileName(record));
+                entries.add(toEntry(record));
+            } catch (RuntimeException e) {
+                errors.add(e);
+            }
+        }
+        if (!errors.isEmpty()) {
+            YMLChangelogException exception = new YMLChangelogException(errors);
+            log.error(exception.getMessage());
+            throw exception;
+        }
+
+        File unreleasedDirectory = new File(rootPath + "/" + inputDir + "/" + unreleasedVersionDir);
+        List<File> files = reserveFiles(unreleasedDirectory, fileNames);
+        writeAll(files, entries);
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Added " + files.size() + " entries from " + source + " to " + unreleasedDirectory.getPath() + " in " + millis + " ms");
+        return files;
+    }
+
+    private ChangelogEntry toEntry(BulkEntryFormat.Record record) {
+        if (record.error != null) {
+            throw new IllegalArgumentException(record.position + ": " + record.error);
+        }
+        Map<String, Object> values = new HashMap<>(record.values);
+        values.remove(BulkEntryFormat.FILE_KEY);
+        return YMLChangelogEntry.of(values, record.position).to();
+    }
+
+    private static String toFileName(BulkEntryFormat.Record record) {
+        if (record.values == null) {
+            return null;
+        }
+        Object file = record.values.get(BulkEntryFormat.FILE_KEY);
+        if (file != null && !file.toString().trim().isEmpty()) {
+            return file.toString().trim()
+                    .replaceAll("\\.ya?ml$", "")
+                    .replaceAll("[/\\\\:.]", "_");
+        }
+        Object title = record.values.get("title");
+        return EntryFileName.of(title == null ? null : title.toString());
+    }
+
+    /**
+     * Creates empty files one by one, {@link File#createNewFile()} is atomic, so names do not collide
+     * with existing entries, other entries of the same input nor entries added concurrently by another process.
+     */
+    private static List<File> reserveFiles(File directory, List<String> names) {
+        List<File> files = new ArrayList<>(names.size());
+        for (String name : names) {
+            try {
+                File file = new File(directory, name + YML_EXTENSION);
+                for (int suffix = 2; !file.createNewFile(); suffix++) {
+                    file = new File(directory, name + "-" + suffix + YML_EXTENSION);
+                }
+                files.add(file);
+            } catch (IOException e) {
+                deleteAll(files);
+                String msg = String.format("An error occurred while creating empty changelog entry file %s in %s - %s", name, directory.getPath(), e.getMessage());
+                log.error(msg);
+                throw new RuntimeException(msg);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Waits for all writes before handling failures, so no write can recreate a file after it was deleted.
+     * When any write fails, all reserved files are deleted, written or not, so input is added entirely or not at all.
+     */
+    private static void writeAll(List<File> files, List<ChangelogEntry> entries) {
+        Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+        IntStream.range(0, files.size()).parallel().forEach(i -> {
+            try {
+                write(files.get(i), entries.get(i));
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        });
+
+        if (!failures.isEmpty()) {
+            deleteAll(files);
+            throw failures.peek();
+        }
+    }
+
+    private static void deleteAll(List<File> files) {
+        for (File file : files) {
+            if (file.exists() && !file.delete()) {
+                log.warn("Could not delete changelog entry file: " + file.getPath());
+            }
+        }
+    }
+
+    private static void write(File file, ChangelogEntry entry) {
+        AddChangelogEntryUseCase addChangelogEntry = new AddChangelogEntryService(new FileChangelogEntryRepository(quietWriter(file)));
+        addChangelogEntry.handle(AddChangelogEntryUseCase.AddChangelogEntryCommand.of(entry));
+    }
+
+    /**
+     * Writes the same content as {@link dev.logchange.core.infrastructure.persistance.file.FileRepository},
+     * without logging every file.
+     */
+    private static FileWriter quietWriter(File file) {
+        return content -> {
+            try {
+                Files.write(file.toPath(), (content + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                String msg = "Could not save entry to file: " + file + " because: " + e.getMessage();
+                log.error(msg);
+                throw new IllegalArgumentException(msg);
+            }
+        };
+    }
+
+    private Config findConfig() {
+        String configPath = rootPath + "/" + inputDir + "/" + configFile;
+        return ConfigFile.find(configPath).orElse(Config.EMPTY);
+    }
+}
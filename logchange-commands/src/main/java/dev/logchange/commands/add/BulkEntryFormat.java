@@ -0,0 +1,231 @@
+package dev.logchange.commands.add;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Input formats of {@link BulkAddEntryCommand}. Both are read line by line into the same keys as entry YML files,
+ * so records are validated by the same code.
+ * <ul>
+ *     <li>{@link #JSONL} - one JSON object per line, f.e.
+ *     {@code {"title": "Upgraded junit to 5.10.0", "type": "dependency_update", "authors": [{"nick": "renovate"}]}}</li>
+ *     <li>{@link #CSV} - header row with column names, then one entry per row. Columns with lists separate
+ *     values with {@code |}, authors are written as {@code name;nick;url} and links as {@code name;url} or
+ *     just {@code url}.</li>
+ * </ul>
+ * Both accept optional {@code file} key with the name of entry file, otherwise the name is made of the title.
+ */
+public enum BulkEntryFormat {
+
+    JSONL {
+        @Override
+        List<Record> read(BufferedReader reader, String source) throws IOException {
+            List<Record> records = new ArrayList<>();
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String position = source + ":" + lineNumber;
+                try {
+                    records.add(Record.of(position, JSON_READER.readValue(line)));
+                } catch (JsonProcessingException e) {
+                    records.add(Record.invalid(position, "Invalid JSON: " + e.getOriginalMessage()));
+                }
+            }
+            return records;
+        }
+    },
+
+    CSV {
+        @Override
+        List<Record> read(BufferedReader reader, String source) throws IOException {
+            String header = reader.readLine();
+            if (header == null) {
+                return Collections.emptyList();
+            }
+            List<String> columns = csvColumns(header, source);
+
+            List<Record> records = new ArrayList<>();
+            int lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String position = source + ":" + lineNumber;
+                List<String> cells = splitCsvLine(line);
+                if (cells.size() > columns.size()) {
+                    records.add(Record.invalid(position, "Expected at most " + columns.size() + " columns, but found " + cells.size()));
+                    continue;
+                }
+                Map<String, Object> values = new LinkedHashMap<>();
+                for (int i = 0; i < cells.size(); i++) {
+                    String cell = cells.get(i).trim();
+                    if (!cell.isEmpty()) {
+                        values.put(columns.get(i), csvValue(columns.get(i), cell));
+                    }
+                }
+                records.add(Record.of(position, values));
+            }
+            return records;
+        }
+    };
+
+    static final String FILE_KEY = "file";
+
+    private static final ObjectReader JSON_READER = new ObjectMapper().readerFor(Map.class);
+    private static final Set<String> CSV_COLUMNS = new LinkedHashSet<>(Arrays.asList(
+            "title", "type", "authors", "modules", "merge_requests", "issues", "links", "important_notes", FILE_KEY));
+    private static final String CSV_LIST_SEPARATOR = "\\|";
+    private static final String CSV_PART_SEPARATOR = ";";
+
+    /**
+     * @param format name of format (case-insensitive), when blank it is chosen by extension of {@code source},
+     *               JSON lines for anything except {@code .csv}
+     */
+    public static BulkEntryFormat of(String format, String source) {
+        if (format != null && !format.trim().isEmpty()) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown bulk entry format: " + format + ", available: " + Arrays.toString(values()));
+            }
+        }
+        return source != null && source.toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : JSONL;
+    }
+
+    abstract List<Record> read(BufferedReader reader, String source) throws IOException;
+
+    private static List<String> csvColumns(String header, String source) {
+        List<String> columns = new ArrayList<>();
+        for (String column : splitCsvLine(header)) {
+            String name = column.trim().toLowerCase(Locale.ROOT);
+            if (!CSV_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("Unknown column: " + column + " in " + source + ", available: " + CSV_COLUMNS);
+            }
+            columns.add(name);
+        }
+        return columns;
+    }
+
+    private static Object csvValue(String column, String cell) {
+        switch (column) {
+            case "title":
+            case "type":
+            case FILE_KEY:
+                return cell;
+            case "authors":
+                return csvList(cell, BulkEntryFormat::csvAuthor);
+            case "links":
+                return csvList(cell, BulkEntryFormat::csvLink);
+            default:
+                return csvList(cell, value -> value);
+        }
+    }
+
+    private static List<Object> csvList(String cell, Function<String, Object> mapper) {
+        List<Object> values = new ArrayList<>();
+        for (String value : cell.split(CSV_LIST_SEPARATOR)) {
+            if (!value.trim().isEmpty()) {
+                values.add(mapper.apply(value.trim()));
+            }
+        }
+        return values;
+    }
+
+    private static Object csvAuthor(String value) {
+        String[] parts = value.split(CSV_PART_SEPARATOR, -1);
+        Map<String, String> author = new LinkedHashMap<>();
+        putPart(author, "name", parts, 0);
+        putPart(author, "nick", parts, 1);
+        putPart(author, "url", parts, 2);
+        return author;
+    }
+
+    private static Object csvLink(String value) {
+        int separator = value.indexOf(CSV_PART_SEPARATOR);
+        Map<String, String> link = new LinkedHashMap<>();
+        if (separator < 0) {
+            link.put("url", value);
+        } else {
+            link.put("name", value.substring(0, separator).trim());
+            link.put("url", value.substring(separator + 1).trim());
+        }
+        return link;
+    }
+
+    private static void putPart(Map<String, String> values, String key, String[] parts, int index) {
+        if (parts.length > index && !parts[index].trim().isEmpty()) {
+            values.put(key, parts[index].trim());
+        }
+    }
+
+    /**
+     * Splits line by commas outside double quotes, {@code ""} inside quotes is a quote.
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    /**
+     * Values of one line of input, or the reason they could not be read.
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    static class Record {
+        final String position;
+        final Map<String, Object> values;
+        final String error;
+
+        static Record of(String position, Map<String, Object> values) {
+            return new Record(position, values, null);
+        }
+
+        static Record invalid(String position, String error) {
+            return new Record(position, null, error);
+        }
+    }
+}
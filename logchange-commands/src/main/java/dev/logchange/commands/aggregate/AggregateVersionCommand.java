@@ -13,14 +13,14 @@ import dev.logchange.core.infrastructure.persistance.changelog.FileVersionSummar
 import dev.logchange.core.infrastructure.query.changelog.FileAggregatedVersionFinder;
 import dev.logchange.core.infrastructure.query.file.FileReader;
 import dev.logchange.core.infrastructure.query.file.TarGzExtractor;
+import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.java.Log;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-@Log
+@CustomLog
 @RequiredArgsConstructor(staticName = "of")
 public class AggregateVersionCommand {
 
@@ -57,7 +57,7 @@ public class AggregateVersionCommand {
     private static Config getConfig(String configPath) {
         return ConfigFile.find(configPath).orElseThrow(() -> {
             String msg = String.format("There is no config file: %s for this project, but it is required for this action!", configPath);
-            log.severe(msg);
+            log.error(msg);
             return new RuntimeException(msg);
         });
     }
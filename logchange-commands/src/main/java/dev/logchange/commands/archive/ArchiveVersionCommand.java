@@ -55,8 +55,12 @@ public class ArchiveVersionCommand {
         log.info("Archiving of version " + version + " successful!");
     }
 
-    private static File createIfNotExists(File changelogDirectory) {
-        File archive = new File(changelogDirectory.getPath() + "/"  + ARCHIVE_FILE);
+    static File archiveFile(File changelogDirectory) {
+        return new File(changelogDirectory.getPath() + "/"  + ARCHIVE_FILE);
+    }
+
+    static File createIfNotExists(File changelogDirectory) {
+        File archive = archiveFile(changelogDirectory);
         if (!archive.exists()) {
             try {
                 archive.createNewFile();
@@ -69,7 +73,7 @@ public class ArchiveVersionCommand {
         return archive;
     }
 
-    private static void deleteArchivedFiles(List<String> archivedFiles, File changelogDirectory) {
+    static void deleteArchivedFiles(List<String> archivedFiles, File changelogDirectory) {
         log.info("Deleting archived files..");
         archivedFiles.stream()
                 .filter(fn -> !ARCHIVE_FILE.equals(fn))
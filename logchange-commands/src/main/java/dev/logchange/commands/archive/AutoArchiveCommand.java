@@ -0,0 +1,64 @@
+package dev.logchange.commands.archive;
+
+import dev.logchange.core.application.changelog.repository.ChangelogPersistence;
+import dev.logchange.core.application.changelog.repository.ChangelogQuery;
+import dev.logchange.core.application.changelog.service.archive.ArchiveService;
+import dev.logchange.core.application.file.Dir;
+import dev.logchange.core.domain.changelog.command.ArchiveUseCase;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.md.changelog.version.MDChangelogVersion;
+import dev.logchange.core.infrastructure.persistance.archive.FileArchiveRepository;
+import dev.logchange.core.infrastructure.persistance.changelog.FileChangelogRepository;
+import dev.logchange.core.infrastructure.persistance.file.FileRepository;
+import dev.logchange.core.infrastructure.query.file.FileReader;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static dev.logchange.core.domain.changelog.command.ArchiveUseCase.ArchivePolicyCommand;
+
+/**
+ * Archives released versions outside of the archive policy from logchange-config.yml,
+ * the same way as {@link ArchiveVersionCommand} does for the version given explicitly.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class AutoArchiveCommand {
+
+    private final String rootPath;
+    private final String inputDir;
+    private final Config config;
+
+    /**
+     * @return names of archived version directories and merged archive files
+     */
+    public List<String> execute() {
+        log.info("Applying archive policy " + config.getArchive());
+
+        File changelogDirectory = Dir.find(rootPath + "/" + inputDir);
+        boolean archiveExisted = ArchiveVersionCommand.archiveFile(changelogDirectory).exists();
+        File archive = ArchiveVersionCommand.createIfNotExists(changelogDirectory);
+        FileRepository fr = FileRepository.of(archive);
+        ChangelogPersistence changelogPersistence = new FileArchiveRepository(fr, config);
+        ChangelogQuery changelogQuery = new FileChangelogRepository(rootPath, changelogDirectory, config, new FileReader(), fr, fr);
+
+        ArchiveUseCase archiveService = new ArchiveService(changelogPersistence, changelogQuery);
+        ArchivePolicyCommand command = ArchivePolicyCommand.of(config.getArchive(), OffsetDateTime.now(),
+                version -> new MDChangelogVersion(config, version).toMD().getBytes(StandardCharsets.UTF_8).length);
+
+        List<String> archivedFiles = archiveService.handle(command);
+        if (archivedFiles.isEmpty()) {
+            if (!archiveExisted && !archive.delete()) {
+                log.warn("Could not delete empty archive file: " + archive.getPath());
+            }
+            return archivedFiles;
+        }
+        ArchiveVersionCommand.deleteArchivedFiles(archivedFiles, changelogDirectory);
+        log.info("Archived according to archive policy: " + archivedFiles);
+        return archivedFiles;
+    }
+}
@@ -0,0 +1,88 @@
+package dev.logchange.commands.batch;
+
+import dev.logchange.core.application.profile.Profiler;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs a command for many project roots in one JVM using bounded number of threads.
+ * Failure of one root does not stop others, every root gets its own {@link RootResult}.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class MultiRootExecutor {
+
+    private final int threads;
+
+    /**
+     * Returns: Results in the same order as roots.
+     */
+    public List<RootResult> execute(List<File> roots, Consumer<File> action) {
+        if (roots.size() <= 1 || threads <= 1) {
+            List<RootResult> results = new ArrayList<>();
+            roots.forEach(root -> results.add(run(root, action)));
+            return results;
+        }
+
+        // profiled runs record the work of all roots
+        Function<File, RootResult> task = Profiler.propagate(root -> run(root, action));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, roots.size()), newThreadFactory());
+        try {
+            List<Future<RootResult>> futures = new ArrayList<>();
+            roots.forEach(root -> futures.add(executor.submit(() -> task.apply(root))));
+
+            List<RootResult> results = new ArrayList<>();
+            for (Future<RootResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing project roots", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Processing of project roots failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static RootResult run(File root, Consumer<File> action) {
+        long start = System.nanoTime();
+        try {
+            // projects may configure different entry types
+            ChangelogEntryType.isolated(() -> action.accept(root));
+            return RootResult.success(root, millisSince(start));
+        } catch (RuntimeException e) {
+            log.error(root.getPath() + ": " + e.getMessage());
+            log.debug(e);
+            return RootResult.failure(root, e.getMessage(), millisSince(start));
+        }
+    }
+
+    private static long millisSince(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "logchange-root-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package dev.logchange.commands.batch;
+
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resolves project root directories given as paths, glob patterns (f.e. {@code services/*}) or listed in a manifest file.
+ * Directories matched by a glob are used only when they contain changelog directory, explicitly given paths are always used,
+ * so their errors are reported.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class ProjectRoots {
+
+    private static final String GLOB_CHARACTERS = "*?[{";
+    private static final String MANIFEST_COMMENT = "#";
+
+    private final File baseDirectory;
+    private final String inputDir;
+
+    /**
+     * @param paths    paths or glob patterns relative to base directory
+     * @param manifest file with one path or glob pattern per line, relative to manifest directory, may be null
+     * @return Unique root directories in order of declaration, glob matches sorted by path.
+     */
+    public List<File> resolve(List<String> paths, File manifest) {
+        Set<File> roots = new LinkedHashSet<>();
+        for (String path : paths) {
+            roots.addAll(resolve(baseDirectory, path));
+        }
+        if (manifest != null) {
+            File manifestDirectory = manifest.getAbsoluteFile().getParentFile();
+            for (String path : readManifest(manifest)) {
+                roots.addAll(resolve(manifestDirectory, path));
+            }
+        }
+        return new ArrayList<>(roots);
+    }
+
+    private List<File> resolve(File directory, String path) {
+        if (!isGlob(path)) {
+            return Collections.singletonList(normalize(resolveFile(directory, path)));
+        }
+
+        List<File> matches = expand(directory, path);
+        if (matches.isEmpty()) {
+            log.warn("No project with " + inputDir + " directory matches: " + path);
+        }
+        return matches;
+    }
+
+    private List<File> expand(File directory, String pattern) {
+        String[] segments = pattern.replace('\\', '/').split("/");
+        int firstGlob = 0;
+        while (firstGlob < segments.length && !isGlob(segments[firstGlob])) {
+            firstGlob++;
+        }
+
+        String prefix = String.join("/", Arrays.copyOfRange(segments, 0, firstGlob));
+        String rest = String.join("/", Arrays.copyOfRange(segments, firstGlob, segments.length));
+        Path start = (prefix.isEmpty() ? directory : resolveFile(directory, prefix)).toPath();
+        if (!Files.isDirectory(start)) {
+            return Collections.emptyList();
+        }
+
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + rest);
+        int maxDepth = rest.contains("**") ? Integer.MAX_VALUE : segments.length - firstGlob;
+        try (Stream<Path> walk = Files.walk(start, maxDepth)) {
+            return walk.filter(Files::isDirectory)
+                    .filter(candidate -> matcher.matches(start.relativize(candidate)))
+                    .filter(candidate -> Files.isDirectory(candidate.resolve(inputDir)))
+                    .map(candidate -> normalize(candidate.toFile()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot search projects matching: " + pattern + " because: " + e.getMessage(), e);
+        }
+    }
+
+    private static List<String> readManifest(File manifest) {
+        try (Stream<String> lines = Files.lines(manifest.toPath(), StandardCharsets.UTF_8)) {
+            return lines.map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith(MANIFEST_COMMENT))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            String msg = "Cannot read list of projects from: " + manifest + " because: " + e.getMessage();
+            log.error(msg);
+            throw new IllegalArgumentException(msg, e);
+        }
+    }
+
+    private static boolean isGlob(String path) {
+        return path.chars().anyMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0);
+    }
+
+    private static File resolveFile(File directory, String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(directory, path);
+    }
+
+    private static File normalize(File file) {
+        return file.toPath().toAbsolutePath().normalize().toFile();
+    }
+}
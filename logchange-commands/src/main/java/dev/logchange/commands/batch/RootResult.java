@@ -0,0 +1,32 @@
+package dev.logchange.commands.batch;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.File;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RootResult {
+
+    private final File root;
+    private final boolean success;
+    private final String error;
+    private final long durationMillis;
+
+    public static RootResult success(File root, long durationMillis) {
+        return new RootResult(root, true, null, durationMillis);
+    }
+
+    public static RootResult failure(File root, String error, long durationMillis) {
+        return new RootResult(root, false, error, durationMillis);
+    }
+
+    @Override
+    public String toString() {
+        String status = success ? "OK" : "FAILED";
+        String result = status + " " + root.getPath() + " (" + durationMillis + " ms)";
+        return success ? result : result + ": " + error;
+    }
+}
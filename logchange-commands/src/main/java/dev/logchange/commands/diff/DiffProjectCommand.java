@@ -0,0 +1,83 @@
+package dev.logchange.commands.diff;
+
+import dev.logchange.core.application.changelog.service.diff.DiffVersionsService;
+import dev.logchange.core.application.config.ConfigFile;
+import dev.logchange.core.application.config.TemplateFile;
+import dev.logchange.core.application.file.Dir;
+import dev.logchange.core.domain.changelog.command.DiffVersionsUseCase;
+import dev.logchange.core.domain.changelog.command.DiffVersionsUseCase.DiffVersionsCommand;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.jinja.changelog.version.JinjaChangelogVersion;
+import dev.logchange.core.format.md.changelog.version.MDChangelogVersion;
+import dev.logchange.core.infrastructure.persistance.config.FileTemplateRepository;
+import dev.logchange.core.infrastructure.persistance.file.FileRepository;
+import dev.logchange.core.infrastructure.query.changelog.FileVersionRangeFinder;
+import dev.logchange.core.infrastructure.query.file.FileReader;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static dev.logchange.commands.release.ReleaseVersionCommand.getVersion;
+
+/**
+ * Merges all versions between two releases into one version, rendered like version summary, with markdown
+ * or with given Jinja template.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class DiffProjectCommand {
+
+    private final String rootPath;
+    private final String inputDir;
+    private final String configFile;
+
+    /**
+     * @param template   Jinja template from templates directory, markdown is rendered when blank
+     * @param outputFile file the result is saved to (relative to root path), when blank the result is only returned
+     * @return rendered changes
+     */
+    public String execute(String from, String to, String template, String outputFile) {
+        File changelogDirectory = Dir.find(rootPath + "/" + inputDir);
+        Config config = findConfig();
+
+        // entries are grouped and rendered on this thread, so it has to see custom entry types of the config
+        AtomicReference<String> rendered = new AtomicReference<>();
+        ChangelogEntryType.isolated(() -> {
+            ChangelogEntryType.setEntryTypes(config.getEntryTypes());
+            rendered.set(diff(changelogDirectory, config, from, to, template));
+        });
+
+        if (StringUtils.isNotBlank(outputFile)) {
+            File file = Paths.get(rootPath).resolve(outputFile).toFile();
+            FileRepository.of(file).write(rendered.get());
+            log.info("Saved changes from " + from + " to " + to + " to file: " + file.getPath());
+        }
+        return rendered.get();
+    }
+
+    private String diff(File changelogDirectory, Config config, String from, String to, String template) {
+        DiffVersionsCommand command = DiffVersionsCommand.of(version(from), version(to));
+        DiffVersionsUseCase diffVersionsService = new DiffVersionsService(new FileVersionRangeFinder(changelogDirectory, config, new FileReader()));
+        ChangelogVersion diff = diffVersionsService.handle(command);
+
+        return StringUtils.isBlank(template)
+                ? new MDChangelogVersion(config, diff).toMD()
+                : new JinjaChangelogVersion(new FileTemplateRepository(TemplateFile.getTemplatePath(changelogDirectory, template)).find(), diff, config.getTemplates().getLimits()).render();
+    }
+
+    private static Version version(String version) {
+        return Version.of(getVersion(StringUtils.removeStart(version, "v")));
+    }
+
+    private Config findConfig() {
+        String configPath = rootPath + "/" + inputDir + "/" + configFile;
+        return ConfigFile.find(configPath).orElse(Config.EMPTY);
+    }
+}
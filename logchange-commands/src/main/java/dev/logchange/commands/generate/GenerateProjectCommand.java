@@ -1,25 +1,35 @@
 package dev.logchange.commands.generate;
 
+import dev.logchange.commands.CachedChangelogRepository;
+import dev.logchange.commands.ProjectModelCache;
+import dev.logchange.commands.archive.AutoArchiveCommand;
+import dev.logchange.core.application.changelog.repository.ChangelogIndexRepository;
 import dev.logchange.core.application.changelog.repository.ChangelogRepository;
 import dev.logchange.core.application.changelog.repository.VersionSummaryRepository;
 import dev.logchange.core.application.changelog.service.generate.GenerateChangelogService;
 import dev.logchange.core.application.changelog.service.generate.GenerateChangelogXMLService;
 import dev.logchange.core.application.config.ConfigFile;
+import dev.logchange.core.application.config.TemplateLoader;
 import dev.logchange.core.application.file.Dir;
 import dev.logchange.core.domain.changelog.command.GenerateChangelogUseCase;
 import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.index.ChangelogIndexFormat;
 import dev.logchange.core.infrastructure.persistance.changelog.FileChangelogRepository;
 import dev.logchange.core.infrastructure.persistance.changelog.FileVersionSummaryRepository;
+import dev.logchange.core.infrastructure.persistance.config.FileTemplateRepository;
 import dev.logchange.core.infrastructure.persistance.file.FileRepository;
+import dev.logchange.core.infrastructure.persistance.index.FileChangelogIndexRepository;
 import dev.logchange.core.infrastructure.query.file.FileReader;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.java.Log;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.Set;
 
-@Log
+@CustomLog
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @RequiredArgsConstructor(staticName = "of")
 public class GenerateProjectCommand {
@@ -29,25 +39,62 @@ public class GenerateProjectCommand {
     private final String outputFile;
     private final String configFile;
     private String xmlOutputFile;
+    private Config config;
+    private ProjectModelCache cache = ProjectModelCache.NONE;
+    private Set<ChangelogIndexFormat> indexFormats = Collections.emptySet();
+    private String indexOutputFile;
+    private boolean archivePolicy = true;
 
     public GenerateProjectCommand withXml(String xmlOutputFile) {
-        return new GenerateProjectCommand(rootPath, inputDir, outputFile, configFile, xmlOutputFile);
+        return new GenerateProjectCommand(rootPath, inputDir, outputFile, configFile, xmlOutputFile, config, cache, indexFormats, indexOutputFile, archivePolicy);
+    }
+
+    /**
+     * Uses already parsed configuration instead of reading configFile, e.g. when it is cached by a build tool.
+     */
+    public GenerateProjectCommand withConfig(Config config) {
+        return new GenerateProjectCommand(rootPath, inputDir, outputFile, configFile, xmlOutputFile, config, cache, indexFormats, indexOutputFile, archivePolicy);
+    }
+
+    /**
+     * Reuses configuration and changelog parsed by previous commands in the same build.
+     */
+    public GenerateProjectCommand withCache(ProjectModelCache cache) {
+        return new GenerateProjectCommand(rootPath, inputDir, outputFile, configFile, xmlOutputFile, config, cache, indexFormats, indexOutputFile, archivePolicy);
+    }
+
+    /**
+     * Writes also changelog index in given formats ({@code none/json/binary/all}) from the same changelog model,
+     * {@code indexOutputFile} is relative to the project root and gets the extension of each format.
+     */
+    public GenerateProjectCommand withIndex(String formats, String indexOutputFile) {
+        return new GenerateProjectCommand(rootPath, inputDir, outputFile, configFile, xmlOutputFile, config, cache,
+                ChangelogIndexFormat.parse(formats), indexOutputFile, archivePolicy);
+    }
+
+    /**
+     * Does not apply archive policy of the config before generating, because it is done by a separate step,
+     * e.g. a build tool task that is not cached, as archiving modifies the changelog directory.
+     */
+    public GenerateProjectCommand withoutArchivePolicy() {
+        return new GenerateProjectCommand(rootPath, inputDir, outputFile, configFile, xmlOutputFile, config, cache, indexFormats, indexOutputFile, false);
     }
 
     public void execute(Boolean xml) {
         log.info("Started generating " + outputFile);
         File changelogDirectory = Dir.find(rootPath + "/" + inputDir);
 
-        String configPath = rootPath + "/" + inputDir + "/" + configFile;
-        Config config = ConfigFile.find(configPath).orElseGet(() -> {
-            log.info("There is no config file:  " + configPath + " for this project, using defaults");
-            return Config.EMPTY;
-        });
+        Config config = findConfig();
+        if (archivePolicy && config.getArchive().isEnabled()) {
+            AutoArchiveCommand.of(rootPath, inputDir, config).execute();
+        }
 
-        FileRepository fr = FileRepository.of(new File(outputFile));
-        ChangelogRepository repository = new FileChangelogRepository(rootPath, changelogDirectory, config, new FileReader(), fr, fr);
-        VersionSummaryRepository versionSummaryRepository = new FileVersionSummaryRepository(changelogDirectory, config);
-        GenerateChangelogUseCase generateChangelog = new GenerateChangelogService(repository, versionSummaryRepository);
+        FileRepository fr = FileRepository.of(resolve(outputFile));
+        TemplateLoader templates = templatePath -> cache.getTemplate(templatePath, () -> FileTemplateRepository.LOADER.load(templatePath));
+        ChangelogRepository repository = CachedChangelogRepository.of(
+                new FileChangelogRepository(rootPath, changelogDirectory, config, new FileReader(), fr, fr, templates), changelogDirectory, config, cache);
+        VersionSummaryRepository versionSummaryRepository = new FileVersionSummaryRepository(changelogDirectory, config, templates);
+        GenerateChangelogUseCase generateChangelog = new GenerateChangelogService(repository, versionSummaryRepository, getIndexRepository());
         GenerateChangelogUseCase.GenerateChangelogCommand command = GenerateChangelogUseCase.GenerateChangelogCommand.of();
 
         generateChangelog.handle(command);
@@ -61,10 +108,37 @@ public class GenerateProjectCommand {
 
     private void generateChangesXml(String xmlOutputFile, File changelogDirectory, Config config, GenerateChangelogUseCase.GenerateChangelogCommand command) {
         log.info("Started generating XML changelog file");
-        FileRepository fr = FileRepository.of(new File(xmlOutputFile));
+        FileRepository fr = FileRepository.of(resolve(xmlOutputFile));
         ChangelogRepository repository = new FileChangelogRepository(rootPath, changelogDirectory, config, new FileReader(), fr, fr);
         GenerateChangelogUseCase generateChangelogXml = new GenerateChangelogXMLService(repository);
         generateChangelogXml.handle(command);
         log.info("Generating " + xmlOutputFile + " successful");
     }
+
+    /**
+     * Output files are relative to the project root, so each of many roots generated in one run gets its own file.
+     */
+    private File resolve(String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(rootPath, path);
+    }
+
+    private ChangelogIndexRepository getIndexRepository() {
+        if (indexFormats.isEmpty()) {
+            return ChangelogIndexRepository.NONE;
+        }
+        return FileChangelogIndexRepository.of(new File(rootPath, indexOutputFile).getPath(), indexFormats);
+    }
+
+    private Config findConfig() {
+        if (config != null) {
+            return config;
+        }
+
+        String configPath = rootPath + "/" + inputDir + "/" + configFile;
+        return cache.getConfig(new File(configPath), () -> ConfigFile.find(configPath).orElseGet(() -> {
+            log.info("There is no config file:  " + configPath + " for this project, using defaults");
+            return Config.EMPTY;
+        }));
+    }
 }
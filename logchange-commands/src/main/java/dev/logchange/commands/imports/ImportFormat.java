@@ -0,0 +1,32 @@
+package dev.logchange.commands.imports;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum ImportFormat {
+
+    /**
+     * {@code CHANGELOG.md} in Keep a Changelog format, also generated by logchange
+     */
+    MARKDOWN,
+
+    /**
+     * Maven Changes {@code changes.xml}
+     */
+    CHANGES_XML;
+
+    /**
+     * @param format name of format (case-insensitive), when blank it is chosen by extension of {@code source},
+     *               {@code changes.xml} for {@code .xml} files and markdown otherwise
+     */
+    public static ImportFormat of(String format, String source) {
+        if (format != null && !format.trim().isEmpty()) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown import format: " + format + ", available: " + Arrays.toString(values()));
+            }
+        }
+        return source.toLowerCase(Locale.ROOT).endsWith(".xml") ? CHANGES_XML : MARKDOWN;
+    }
+}
@@ -0,0 +1,85 @@
+package dev.logchange.commands.imports;
+
+import dev.logchange.core.application.config.ConfigFile;
+import dev.logchange.core.application.file.Dir;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.changes_xml.ChangesXmlStreamReader;
+import dev.logchange.core.format.md.changelog.MDChangelogReader;
+import dev.logchange.core.infrastructure.persistance.changelog.FileImportedChangelogRepository;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts existing {@code CHANGELOG.md} or {@code changes.xml} into version directories with entry YML files.
+ * The source is streamed, entries are written in parallel while it is being read.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class ImportProjectCommand {
+
+    private final String rootPath;
+    private final String inputDir;
+    private final String unreleasedVersionDir;
+    private final String configFile;
+
+    /**
+     * @param source path of imported file, relative to root path
+     * @param format name of {@link ImportFormat}, when blank it is chosen by extension of source
+     * @return number of imported entries
+     */
+    public int execute(String source, String format) {
+        long start = System.nanoTime();
+        File changelogDirectory = Dir.find(rootPath + "/" + inputDir);
+        ChangelogEntryType.setEntryTypes(findConfig().getEntryTypes());
+
+        Path sourcePath = Paths.get(rootPath).resolve(source);
+        ImportFormat importFormat = ImportFormat.of(format, source);
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        FileImportedChangelogRepository repository = new FileImportedChangelogRepository(changelogDirectory, unreleasedVersionDir, threads);
+        try (FileImportedChangelogRepository ignored = repository) {
+            read(sourcePath, importFormat, repository);
+        }
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Imported " + repository.getEntries() + " entries of " + repository.getVersions() + " versions from "
+                + sourcePath + " to " + changelogDirectory.getPath() + " in " + millis + " ms");
+        return repository.getEntries();
+    }
+
+    private void read(Path source, ImportFormat format, FileImportedChangelogRepository repository) {
+        try {
+            if (format == ImportFormat.CHANGES_XML) {
+                try (InputStream in = new BufferedInputStream(Files.newInputStream(source))) {
+                    ChangesXmlStreamReader.of(in).read(repository);
+                }
+            } else {
+                try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+                    MDChangelogReader.of(reader).read(repository);
+                }
+            }
+        } catch (IOException | XMLStreamException e) {
+            String msg = "Could not import changelog from " + source + " because: " + e.getMessage();
+            log.error(msg);
+            throw new IllegalArgumentException(msg, e);
+        }
+    }
+
+    private Config findConfig() {
+        String configPath = rootPath + "/" + inputDir + "/" + configFile;
+        return ConfigFile.find(configPath).orElse(Config.EMPTY);
+    }
+}
@@ -0,0 +1,210 @@
+package dev.logchange.commands.lint;
+
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lists files changed in a git working tree, using the local {@code git} binary.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class GitChangedFiles {
+
+    private final File workingDirectory;
+    private Optional<Path> topLevel;
+
+    /**
+     * Returns: Absolute paths of files added, modified, renamed or deleted in the git index (staged files),
+     * or empty when git is not available or working directory is not a git repository.
+     */
+    public Optional<Set<Path>> staged() {
+        return find(Arrays.asList("diff", "--cached", "--name-only", "--no-renames", "--diff-filter=ACMRD"));
+    }
+
+    /**
+     * Returns: Absolute paths of files changed between given ref and working tree, including untracked files,
+     * or empty when git is not available, working directory is not a git repository or ref does not exist.
+     */
+    public Optional<Set<Path>> since(String ref) {
+        Optional<Set<Path>> changed = find(Arrays.asList("diff", "--name-only", "--no-renames", "--diff-filter=ACMRD", ref));
+        Optional<Set<Path>> untracked = find(Arrays.asList("ls-files", "--others", "--exclude-standard", "--full-name"));
+        if (!changed.isPresent() || !untracked.isPresent()) {
+            return Optional.empty();
+        }
+
+        Set<Path> all = new LinkedHashSet<>(changed.get());
+        all.addAll(untracked.get());
+        return Optional.of(all);
+    }
+
+    /**
+     * Returns: Content of given files in the git index, read by a single {@code git cat-file --batch},
+     * files which are not in the index (f.e. deleted) are skipped. Empty when git cannot be used.
+     */
+    public Optional<Map<Path, byte[]>> stagedContents(Collection<Path> files) {
+        Optional<Path> root = topLevel();
+        if (!root.isPresent()) {
+            return Optional.empty();
+        }
+        List<Path> paths = new ArrayList<>(files);
+        StringBuilder input = new StringBuilder();
+        for (Path path : paths) {
+            input.append(':').append(root.get().relativize(path).toString().replace('\\', '/')).append('\n');
+        }
+
+        return run(Arrays.asList("cat-file", "--batch"), input.toString().getBytes(StandardCharsets.UTF_8))
+                .map(output -> parseBatch(paths, output));
+    }
+
+    /**
+     * Output has an object for each requested path, in order: {@code <sha> blob <size>\n<content>\n}
+     * or {@code <name> missing\n}.
+     */
+    private static Map<Path, byte[]> parseBatch(List<Path> paths, byte[] output) {
+        Map<Path, byte[]> contents = new LinkedHashMap<>();
+        int position = 0;
+        for (Path path : paths) {
+            int lineEnd = indexOf(output, (byte) '\n', position);
+            String header = new String(output, position, lineEnd - position, StandardCharsets.UTF_8);
+            position = lineEnd + 1;
+            if (header.endsWith(" missing") || header.endsWith(" ambiguous")) {
+                continue;
+            }
+            int size = Integer.parseInt(header.substring(header.lastIndexOf(' ') + 1));
+            contents.put(path, Arrays.copyOfRange(output, position, position + size));
+            position += size + 1;
+        }
+        return contents;
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unexpected end of git cat-file output");
+    }
+
+    private Optional<Set<Path>> find(List<String> args) {
+        Optional<Path> root = topLevel();
+        if (!root.isPresent()) {
+            return Optional.empty();
+        }
+
+        return git(args).map(lines -> lines.stream()
+                .filter(line -> !line.isEmpty())
+                .map(line -> root.get().resolve(line).toAbsolutePath().normalize())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    /**
+     * Returns: Top level directory of the repository, resolved once for all git commands.
+     */
+    private synchronized Optional<Path> topLevel() {
+        if (topLevel == null) {
+            topLevel = git(Arrays.asList("rev-parse", "--show-toplevel"))
+                    .filter(lines -> !lines.isEmpty())
+                    .map(lines -> Paths.get(lines.get(0)));
+        }
+        return topLevel;
+    }
+
+    private Optional<List<String>> git(List<String> args) {
+        return run(args, new byte[0]).map(output -> Arrays.asList(new String(output, StandardCharsets.UTF_8).split("\\r?\\n")));
+    }
+
+    private Optional<byte[]> run(List<String> args, byte[] input) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(args);
+
+        try {
+            Process process = new ProcessBuilder(command)
+                    .directory(workingDirectory)
+                    .start();
+
+            // input is written in the background, so git never blocks on a full output pipe
+            Thread inputWriter = new Thread(() -> write(process.getOutputStream(), input), "logchange-git-input");
+            inputWriter.setDaemon(true);
+            inputWriter.start();
+
+            // output is not merged with errors, as it can be content of staged files,
+            // errors are read in the background too, so git never blocks on a full error pipe
+            ByteArrayOutputStream error = new ByteArrayOutputStream();
+            Thread errorReader = new Thread(() -> drain(process.getErrorStream(), error), "logchange-git-error");
+            errorReader.setDaemon(true);
+            errorReader.start();
+
+            byte[] output = readAll(process.getInputStream());
+
+            int exitCode = process.waitFor();
+            inputWriter.join();
+            errorReader.join();
+            if (exitCode != 0) {
+                log.warn("Command: " + String.join(" ", command) + " failed with exit code " + exitCode + ": "
+                        + new String(error.toByteArray(), StandardCharsets.UTF_8).trim());
+                return Optional.empty();
+            }
+            return Optional.of(output);
+        } catch (IOException e) {
+            log.warn("Cannot run git: " + e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for git");
+            return Optional.empty();
+        }
+    }
+
+    private static void write(OutputStream out, byte[] input) {
+        try (OutputStream output = out) {
+            output.write(input);
+        } catch (IOException e) {
+            log.warn("Cannot write input to git: " + e.getMessage());
+        }
+    }
+
+    private static void drain(InputStream in, ByteArrayOutputStream out) {
+        try {
+            copy(in, out);
+        } catch (IOException e) {
+            log.warn("Cannot read errors of git: " + e.getMessage());
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        copy(in, out);
+        return out.toByteArray();
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        try (InputStream input = in) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+}
@@ -1,22 +1,39 @@
 package dev.logchange.commands.lint;
 
+import dev.logchange.commands.CachedChangelogRepository;
+import dev.logchange.commands.ProjectModelCache;
 import dev.logchange.core.application.changelog.repository.ChangelogRepository;
 import dev.logchange.core.application.changelog.repository.VersionSummaryRepository;
 import dev.logchange.core.application.changelog.service.generate.GenerateChangelogService;
 import dev.logchange.core.application.config.ConfigFile;
 import dev.logchange.core.application.file.Dir;
+import dev.logchange.core.application.file.query.FileQuery;
 import dev.logchange.core.domain.changelog.command.ValidateChangelogUseCase;
 import dev.logchange.core.domain.config.model.Config;
 import dev.logchange.core.infrastructure.persistance.changelog.FileChangelogRepository;
 import dev.logchange.core.infrastructure.persistance.changelog.FileVersionSummaryRepository;
 import dev.logchange.core.infrastructure.persistance.file.FileRepository;
 import dev.logchange.core.infrastructure.query.file.FileReader;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static dev.logchange.core.Constants.TEMPLATES_DIR_NAME;
 
 @CustomLog
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @RequiredArgsConstructor(staticName = "of")
 public class LintProjectCommand {
 
@@ -24,23 +41,124 @@ public class LintProjectCommand {
     private final String inputDir;
     private final String outputFile;
     private final String configFile;
+    private ProjectModelCache cache = ProjectModelCache.NONE;
+
+    /**
+     * Reuses configuration and changelog parsed by previous commands in the same build.
+     */
+    public LintProjectCommand withCache(ProjectModelCache cache) {
+        return new LintProjectCommand(rootPath, inputDir, outputFile, configFile, cache);
+    }
 
     public void validate() {
         log.info("Started validation of " + inputDir + " and " + configFile);
         File changelogDirectory = Dir.find(rootPath + "/" + inputDir);
+        Config config = findConfig();
+
+        ValidateChangelogUseCase validateChangelog = createValidateUseCase(changelogDirectory, config, new FileReader());
+        ValidateChangelogUseCase.ValidateChangelogCommand command = ValidateChangelogUseCase.ValidateChangelogCommand.of();
+
+        validateChangelog.handle(command);
+        log.info("Validation of " + inputDir + " and " + configFile + " successful");
+    }
+
+    /**
+     * Validates only entries changed according to git, staged ones (content from the git index) when sinceRef is null,
+     * otherwise changed since given ref (content from the working tree). Falls back to {@link #validate()} when config or templates
+     * were changed or when git cannot be used.
+     */
+    public void validateChanged(String sinceRef) {
+        File changelogDirectory = Dir.find(rootPath + "/" + inputDir);
+        GitChangedFiles git = GitChangedFiles.of(changelogDirectory);
+        Optional<Set<Path>> changedFiles = sinceRef == null ? git.staged() : git.since(sinceRef);
+
+        if (!changedFiles.isPresent()) {
+            log.warn("Cannot find changed files using git, linting whole " + inputDir);
+            validate();
+            return;
+        }
+
+        Path changelogPath = realPath(changelogDirectory);
+        Set<Path> changedInChangelog = changedFiles.get().stream()
+                .filter(path -> path.startsWith(changelogPath))
+                .collect(Collectors.toSet());
+
+        if (changedInChangelog.stream().anyMatch(path -> isConfigOrTemplate(changelogPath, path))) {
+            log.info("Config or templates changed, linting whole " + inputDir);
+            validate();
+            return;
+        }
+
+        List<Path> changedEntryPaths = changedInChangelog.stream()
+                .filter(path -> isEntry(changelogPath, path))
+                .sorted()
+                .collect(Collectors.toList());
+
+        FileQuery reader;
+        List<File> changedEntries;
+        if (sinceRef == null) {
+            Optional<Map<Path, byte[]>> stagedContents = git.stagedContents(changedEntryPaths);
+            if (!stagedContents.isPresent()) {
+                log.warn("Cannot read staged files using git, linting whole " + inputDir);
+                validate();
+                return;
+            }
+            Map<File, byte[]> stagedFiles = new LinkedHashMap<>();
+            stagedContents.get().forEach((path, bytes) -> stagedFiles.put(path.toFile(), bytes));
+            reader = new StagedFileReader(stagedFiles);
+            changedEntries = new ArrayList<>(stagedFiles.keySet());
+        } else {
+            reader = new FileReader();
+            changedEntries = changedEntryPaths.stream()
+                    .map(Path::toFile)
+                    .filter(File::isFile)
+                    .collect(Collectors.toList());
+        }
+
+        log.info("Started validation of " + changedEntries.size() + " changed entries in " + inputDir);
+        changedEntries.forEach(entry -> log.debug(() -> "Validating: " + entry.getPath()));
+        Config config = findConfig();
+
+        ValidateChangelogUseCase validateChangelog = createValidateUseCase(changelogDirectory, config, reader);
+        ValidateChangelogUseCase.ValidateChangelogEntriesCommand command = ValidateChangelogUseCase.ValidateChangelogEntriesCommand.of(changedEntries);
+
+        validateChangelog.handle(command);
+        log.info("Validation of " + changedEntries.size() + " changed entries in " + inputDir + " successful");
+    }
+
+    private static Path realPath(File file) {
+        try {
+            // git reports paths with symlinks resolved
+            return file.toPath().toRealPath();
+        } catch (IOException e) {
+            return file.toPath().toAbsolutePath().normalize();
+        }
+    }
+
+    private boolean isConfigOrTemplate(Path changelogPath, Path path) {
+        return path.equals(changelogPath.resolve(configFile)) || path.startsWith(changelogPath.resolve(TEMPLATES_DIR_NAME));
+    }
+
+    private boolean isEntry(Path changelogPath, Path path) {
+        String fileName = path.getFileName().toString();
+        boolean isYml = fileName.contains(".yml") || fileName.contains(".yaml");
+        // entries are stored directly in version directories
+        return isYml && path.getParent() != null && changelogPath.equals(path.getParent().getParent());
+    }
+
+    private Config findConfig() {
         String configPath = rootPath + "/" + inputDir + "/" + configFile;
-        Config config = ConfigFile.find(configPath).orElseGet(() -> {
+        return cache.getConfig(new File(configPath), () -> ConfigFile.find(configPath).orElseGet(() -> {
             log.info("There is no config file:  " + configPath + " for this project, using defaults");
             return Config.EMPTY;
-        });
+        }));
+    }
 
+    private ValidateChangelogUseCase createValidateUseCase(File changelogDirectory, Config config, FileQuery reader) {
         FileRepository fr = FileRepository.of(new File(outputFile));
-        ChangelogRepository repository = new FileChangelogRepository(rootPath, changelogDirectory, config, new FileReader(), fr, fr);
+        ChangelogRepository repository = CachedChangelogRepository.of(
+                new FileChangelogRepository(rootPath, changelogDirectory, config, reader, fr, fr), changelogDirectory, config, cache);
         VersionSummaryRepository versionSummaryRepository = new FileVersionSummaryRepository(changelogDirectory, config);
-        ValidateChangelogUseCase validateChangelog = new GenerateChangelogService(repository, versionSummaryRepository);
-        ValidateChangelogUseCase.ValidateChangelogCommand command = ValidateChangelogUseCase.ValidateChangelogCommand.of();
-
-        validateChangelog.handle(command);
-        log.info("Validation of " + inputDir + " and " + configFile + " successful");
+        return new GenerateChangelogService(repository, versionSummaryRepository);
     }
 }
@@ -0,0 +1,26 @@
+package dev.logchange.commands.lint;
+
+import dev.logchange.core.infrastructure.query.file.FileReader;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * Reads entries from the git index instead of the working tree, so staged entries are linted
+ * exactly as they are going to be committed.
+ */
+@RequiredArgsConstructor
+class StagedFileReader extends FileReader {
+
+    private final Map<File, byte[]> stagedContents;
+
+    @Override
+    public byte[] readFileBytes(File entry) {
+        byte[] bytes = stagedContents.get(entry);
+        if (bytes == null) {
+            throw new IllegalArgumentException("Entry file: " + entry.getName() + " is not staged");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,201 @@
+package dev.logchange.commands.pack;
+
+import dev.logchange.core.application.config.ConfigFile;
+import dev.logchange.core.application.file.Dir;
+import dev.logchange.core.application.file.query.FileContent;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntry;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntryConfigException;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogInvalidConfigValuesException;
+import dev.logchange.core.format.yml.changelog.entry.YMLPackedEntries;
+import dev.logchange.core.format.yml.config.YMLChangelogException;
+import dev.logchange.core.infrastructure.query.file.FileReader;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static dev.logchange.core.Constants.TEMPLATES_DIR_NAME;
+
+/**
+ * Merges entries of released versions into single {@link YMLPackedEntries} file per version directory,
+ * so generating changelog reads one file per version instead of one per entry.
+ * Entries added to already packed version are merged into its packed file.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class PackVersionCommand {
+
+    private static final String STAGING_PREFIX = ".pack-";
+
+    private final String rootPath;
+    private final String inputDir;
+    private final String unreleasedVersionDir;
+    private final String configFile;
+
+    /**
+     * @param versions versions to pack, when empty all released versions are packed
+     * @return number of packed versions
+     */
+    public int execute(List<String> versions) {
+        File changelogDirectory = Dir.find(rootPath + "/" + inputDir);
+        ChangelogEntryType.setEntryTypes(findConfig().getEntryTypes());
+
+        List<File> directories = versions == null || versions.isEmpty()
+                ? findReleasedDirectories(changelogDirectory)
+                : findDirectories(changelogDirectory, versions);
+
+        FileReader reader = new FileReader();
+        int packed = 0;
+        for (File directory : directories) {
+            if (pack(directory, reader)) {
+                packed++;
+            }
+        }
+        log.info("Packed " + packed + " of " + directories.size() + " versions in " + changelogDirectory.getPath());
+        return packed;
+    }
+
+    private boolean pack(File directory, FileReader reader) {
+        List<File> looseFiles = reader.readYmlFiles(directory)
+                .filter(file -> !YMLPackedEntries.isPacked(file))
+                .collect(Collectors.toList());
+        if (looseFiles.isEmpty()) {
+            log.debug(() -> "Nothing to pack in " + directory.getPath());
+            return false;
+        }
+
+        List<FileContent> contents = reader.readYmlFilesContent(directory);
+        validate(contents);
+
+        File packedFile = new File(directory, YMLPackedEntries.FILE_NAME);
+        replace(directory, looseFiles, packedFile, YMLPackedEntries.pack(contents).getBytes(StandardCharsets.UTF_8));
+        log.info("Packed " + contents.size() + " entries to " + packedFile.getPath());
+        return true;
+    }
+
+    /**
+     * The packed file is written and loose files are moved aside to a staging directory, inside the version
+     * directory so every move is a rename. Only then the packed file replaces the previous one. When any step fails,
+     * loose files are moved back, so no entry is ever both packed and loose, or lost.
+     */
+    private static void replace(File directory, List<File> looseFiles, File packedFile, byte[] packed) {
+        Path staging;
+        try {
+            staging = Files.createTempDirectory(directory.toPath(), STAGING_PREFIX);
+        } catch (IOException e) {
+            throw packingFailed(directory, e);
+        }
+
+        List<File> staged = new ArrayList<>();
+        try {
+            Path stagedPackedFile = staging.resolve(packedFile.getName());
+            Files.write(stagedPackedFile, packed);
+            for (File file : looseFiles) {
+                Files.move(file.toPath(), staging.resolve(file.getName()));
+                staged.add(file);
+            }
+            Files.move(stagedPackedFile, packedFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (restore(staging, staged)) {
+                delete(staging);
+            }
+            throw packingFailed(directory, e);
+        }
+        delete(staging);
+    }
+
+    private static boolean restore(Path staging, List<File> staged) {
+        boolean restored = true;
+        for (File file : staged) {
+            try {
+                Files.move(staging.resolve(file.getName()), file.toPath());
+            } catch (IOException e) {
+                log.error("Could not restore entry " + file.getPath() + ", it is left in " + staging + " because: " + e.getMessage());
+                restored = false;
+            }
+        }
+        return restored;
+    }
+
+    private static void delete(Path staging) {
+        File[] files = staging.toFile().listFiles();
+        try {
+            if (files != null) {
+                for (File file : files) {
+                    Files.delete(file.toPath());
+                }
+            }
+            Files.delete(staging);
+        } catch (IOException e) {
+            log.warn("Could not delete " + staging + ", remove it manually, because: " + e.getMessage());
+        }
+    }
+
+    private static IllegalStateException packingFailed(File directory, IOException e) {
+        String msg = "Could not pack entries of " + directory.getPath() + " because: " + e.getMessage();
+        log.error(msg);
+        return new IllegalStateException(msg, e);
+    }
+
+    /**
+     * Packed file is written only when every entry is valid, so invalid entry is never hidden in it.
+     */
+    private static void validate(List<FileContent> contents) {
+        List<Exception> exceptions = new ArrayList<>();
+        for (FileContent content : contents) {
+            try {
+                YMLChangelogEntry.of(content.getBytes(), content.getPath()).to();
+            } catch (YMLChangelogEntryConfigException | YMLChangelogInvalidConfigValuesException e) {
+                exceptions.add(e);
+            }
+        }
+        if (!exceptions.isEmpty()) {
+            throw new YMLChangelogException(exceptions);
+        }
+    }
+
+    private List<File> findReleasedDirectories(File changelogDirectory) {
+        File[] files = changelogDirectory.listFiles(file -> file.isDirectory()
+                && !file.getName().equals(TEMPLATES_DIR_NAME)
+                && !file.getName().startsWith(unreleasedVersionDir));
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(files);
+        return Arrays.asList(files);
+    }
+
+    private List<File> findDirectories(File changelogDirectory, List<String> versions) {
+        List<File> directories = new ArrayList<>();
+        for (String version : versions) {
+            String dirName = Version.of(version.startsWith("v") ? version.substring(1) : version).getDirName();
+            if (dirName.startsWith(unreleasedVersionDir)) {
+                throw new IllegalArgumentException("Cannot pack " + version + ", only released versions can be packed");
+            }
+            Path directory = changelogDirectory.toPath().resolve(dirName);
+            if (!directory.toFile().isDirectory()) {
+                throw new IllegalArgumentException("Cannot find directory of version " + version + ": " + directory);
+            }
+            directories.add(directory.toFile());
+        }
+        return directories;
+    }
+
+    private Config findConfig() {
+        String configPath = rootPath + "/" + inputDir + "/" + configFile;
+        return ConfigFile.find(configPath).orElse(Config.EMPTY);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.logchange.commands.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.logchange.core.format.index.ChangelogIndex;
+import dev.logchange.core.format.index.ColumnarChangelogIndex;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public enum QueryOutputFormat {
+
+    JSON {
+        @Override
+        public String render(List<ColumnarChangelogIndex.Match> matches) {
+            try {
+                return JSON_MAPPER.writeValueAsString(matches);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not render query result as JSON because: " + e.getMessage(), e);
+            }
+        }
+    },
+
+    MD {
+        @Override
+        public String render(List<ColumnarChangelogIndex.Match> matches) {
+            StringBuilder md = new StringBuilder();
+            String version = null;
+            for (ColumnarChangelogIndex.Match match : matches) {
+                if (!match.getVersion().equals(version)) {
+                    version = match.getVersion();
+                    if (md.length() > 0) {
+                        md.append("\n");
+                    }
+                    md.append("## [").append(version).append("]");
+                    if (match.getReleaseDate() != null) {
+                        md.append(" - ").append(match.getReleaseDate());
+                    }
+                    md.append("\n\n");
+                }
+                md.append(line(match.getEntry())).append("\n");
+            }
+            return md.toString();
+        }
+
+        private String line(ChangelogIndex.Entry entry) {
+            StringBuilder line = new StringBuilder("- **").append(entry.getType()).append("** ").append(entry.getTitle());
+            if (!entry.getModules().isEmpty()) {
+                line.append(" [").append(String.join(", ", entry.getModules())).append("]");
+            }
+            for (Long issue : entry.getIssues()) {
+                line.append(" #").append(issue);
+            }
+            for (Long mergeRequest : entry.getMergeRequests()) {
+                line.append(" !").append(mergeRequest);
+            }
+            String authors = entry.getAuthors().stream()
+                    .map(author -> author.getNick() != null && !author.getNick().isEmpty() ? "@" + author.getNick() : author.getName())
+                    .filter(Objects::nonNull)
+                    .filter(author -> !author.isEmpty())
+                    .collect(Collectors.joining(", "));
+            if (!authors.isEmpty()) {
+                line.append(" (").append(authors).append(")");
+            }
+            return line.toString();
+        }
+    };
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public abstract String render(List<ColumnarChangelogIndex.Match> matches);
+}
@@ -0,0 +1,74 @@
+package dev.logchange.commands.query;
+
+import dev.logchange.core.application.config.ConfigFile;
+import dev.logchange.core.application.file.Dir;
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.index.BinaryChangelogIndex;
+import dev.logchange.core.format.index.ChangelogIndex;
+import dev.logchange.core.format.index.ChangelogIndexFormat;
+import dev.logchange.core.format.index.ChangelogIndexQuery;
+import dev.logchange.core.format.index.ColumnarChangelogIndex;
+import dev.logchange.core.infrastructure.persistance.changelog.FileChangelogRepository;
+import dev.logchange.core.infrastructure.query.file.FileReader;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers {@link ChangelogIndexQuery queries} over the whole changelog. The binary index written by generate
+ * ({@code <indexOutputFile>.bin}) is used when it is newer than every file in the changelog directory,
+ * otherwise YML files are parsed.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class QueryProjectCommand {
+
+    private final String rootPath;
+    private final String inputDir;
+    private final String configFile;
+    private final String indexOutputFile;
+
+    public String execute(String expression, QueryOutputFormat format) {
+        ChangelogIndexQuery query = ChangelogIndexQuery.parse(expression);
+        ColumnarChangelogIndex index = ColumnarChangelogIndex.of(loadIndex());
+
+        long start = System.nanoTime();
+        List<ColumnarChangelogIndex.Match> matches = index.query(query);
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        log.debug(() -> "Query matched " + matches.size() + " of " + index.size() + " entries in " + micros + " us");
+
+        return format.render(matches);
+    }
+
+    private ChangelogIndex loadIndex() {
+        File changelogDirectory = Dir.find(rootPath + "/" + inputDir);
+        File binaryIndex = new File(rootPath, indexOutputFile + "." + ChangelogIndexFormat.BINARY.getExtension());
+
+        if (isUpToDate(binaryIndex, changelogDirectory)) {
+            try {
+                log.debug(() -> "Reading changelog index: " + binaryIndex.getPath());
+                return BinaryChangelogIndex.open(binaryIndex).readAll();
+            } catch (IOException e) {
+                log.warn("Cannot read changelog index " + binaryIndex.getPath() + " because: " + e.getMessage() + ", parsing changelog instead");
+            }
+        }
+
+        Config config = findConfig();
+        Changelog changelog = FileChangelogRepository.readOnly(rootPath, changelogDirectory, config, new FileReader()).findMarkdown();
+        return ChangelogIndex.of(changelog);
+    }
+
+    private boolean isUpToDate(File binaryIndex, File changelogDirectory) {
+        return binaryIndex.isFile() && !Dir.isModifiedAfter(changelogDirectory, binaryIndex.lastModified());
+    }
+
+    private Config findConfig() {
+        String configPath = rootPath + "/" + inputDir + "/" + configFile;
+        return ConfigFile.find(configPath).orElse(Config.EMPTY);
+    }
+}
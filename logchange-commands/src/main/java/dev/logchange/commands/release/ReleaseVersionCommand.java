@@ -3,7 +3,10 @@ package dev.logchange.commands.release;
 import dev.logchange.commands.generate.GenerateProjectCommand;
 import dev.logchange.commands.init.InitProjectCommand;
 import dev.logchange.commands.lint.LintProjectCommand;
+import dev.logchange.commands.pack.PackVersionCommand;
 import dev.logchange.core.format.release_date.FileReleaseDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
@@ -14,11 +17,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.Collections;
 
 import static dev.logchange.commands.Constants.GIT_KEEP;
 import static dev.logchange.core.domain.changelog.model.version.Version.UNRELEASED_DIR_SEPARATOR;
 
 @CustomLog
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @RequiredArgsConstructor(staticName = "of")
 public class ReleaseVersionCommand {
 
@@ -30,6 +35,14 @@ public class ReleaseVersionCommand {
     private final String configFile;
     private final boolean isGenerateChangesXml;
     private final String xmlOutputFile;
+    private boolean isPack = false;
+
+    /**
+     * Packs entries of the released version into single file, before the changelog is generated.
+     */
+    public ReleaseVersionCommand withPack(boolean isPack) {
+        return new ReleaseVersionCommand(rootPath, version, unreleasedVersionDir, inputDir, outputFile, configFile, isGenerateChangesXml, xmlOutputFile, isPack);
+    }
 
     public static String getVersion(String version) {
         if (StringUtils.containsIgnoreCase(version, "-SNAPSHOT")) {
@@ -53,6 +66,10 @@ public class ReleaseVersionCommand {
         removeGitKeep(unreleasedDir);
         renameOrMoveDir(unreleasedDir, newDirName);
 
+        if (isPack) {
+            PackVersionCommand.of(rootPath, inputDir, unreleasedVersionDir, configFile).execute(Collections.singletonList(version));
+        }
+
         GenerateProjectCommand.of(rootPath, inputDir, outputFile, configFile).withXml(xmlOutputFile).execute(isGenerateChangesXml);
 
         InitProjectCommand.createUnreleased(rootPath, inputDir, unreleasedVersionDir);
@@ -0,0 +1,67 @@
+package dev.logchange.commands.search;
+
+import dev.logchange.core.application.config.ConfigFile;
+import dev.logchange.core.application.file.Dir;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.search.ChangelogSearchIndex;
+import dev.logchange.core.infrastructure.persistance.search.FileChangelogSearchIndexRepository;
+import dev.logchange.core.infrastructure.query.file.FileReader;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-text search over the whole changelog, including archives. The index is built from YML files, unless
+ * {@code searchIndexFile} is up to date, and saved to it when {@code saveIndex} is set.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class SearchProjectCommand {
+
+    private final String rootPath;
+    private final String inputDir;
+    private final String configFile;
+    private final String searchIndexFile;
+    private final boolean saveIndex;
+
+    public String execute(String query, int limit) {
+        File changelogDirectory = Dir.find(rootPath + "/" + inputDir);
+        FileChangelogSearchIndexRepository repository = FileChangelogSearchIndexRepository.of(rootPath,
+                changelogDirectory, findConfig(), new FileReader(), new File(rootPath, searchIndexFile));
+
+        ChangelogSearchIndex index = saveIndex ? repository.build() : repository.find();
+        if (saveIndex) {
+            repository.save(index);
+        }
+
+        long start = System.nanoTime();
+        List<ChangelogSearchIndex.Hit> hits = index.search(query, limit);
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        log.debug(() -> "Search matched " + hits.size() + " of " + index.size() + " documents ("
+                + index.termCount() + " terms) in " + micros + " us");
+        if (hits.isEmpty()) {
+            log.warn("No entries found for: " + query);
+        }
+
+        return render(hits);
+    }
+
+    private String render(List<ChangelogSearchIndex.Hit> hits) {
+        StringBuilder result = new StringBuilder();
+        for (ChangelogSearchIndex.Hit hit : hits) {
+            result.append("[").append(hit.getVersion()).append("] ").append(hit.getTitle()).append("\n")
+                    .append("    ").append(hit.getFile())
+                    .append(String.format(Locale.ROOT, " (score %.2f)", hit.getScore())).append("\n");
+        }
+        return result.toString();
+    }
+
+    private Config findConfig() {
+        String configPath = rootPath + "/" + inputDir + "/" + configFile;
+        return ConfigFile.find(configPath).orElse(Config.EMPTY);
+    }
+}
@@ -0,0 +1,138 @@
+package dev.logchange.commands.add;
+
+import dev.logchange.core.format.yml.config.YMLChangelogException;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkAddEntryCommandTest {
+
+    private static final String INPUT_DIR = "changelog";
+    private static final String UNRELEASED = "unreleased";
+    private static final String CONFIG_FILE = "logchange-config.yml";
+
+    @TempDir
+    File tempDir;
+
+    private File unreleasedDir;
+
+    @BeforeEach
+    void setUp() {
+        unreleasedDir = new File(tempDir, INPUT_DIR + "/" + UNRELEASED);
+        assertThat(unreleasedDir.mkdirs()).isTrue();
+    }
+
+    @Test
+    void shouldAddEntriesFromJsonLines() throws IOException {
+        // given:
+        write("entries.jsonl",
+                "{\"title\": \"Upgraded junit to 5.10.0\", \"type\": \"dependency_update\", \"authors\": [{\"nick\": \"renovate\"}]}",
+                "",
+                "{\"title\": \"Upgraded jackson\", \"type\": \"dependency_update\", \"issues\": [12], \"file\": \"renovate/jackson.yml\"}");
+
+        // when:
+        List<File> files = command().execute("entries.jsonl", null);
+
+        // then:
+        assertThat(files).extracting(File::getName).containsExactly("upgraded-junit-to-5-10-0.yml", "renovate_jackson.yml");
+        assertThat(read(files.get(0))).contains("title: Upgraded junit to 5.10.0", "nick: renovate", "type: dependency_update");
+        assertThat(read(files.get(1))).contains("title: Upgraded jackson", "- 12").doesNotContain("file: ");
+    }
+
+    @Test
+    void shouldAddEntriesFromCsv() throws IOException {
+        // given:
+        write("entries.csv",
+                "title,type,authors,issues,links",
+                "\"Fixed login, again\",fixed,John Doe;jdoe;https://github.com/jdoe|;bot,100|101,Issue;https://example.com/100",
+                "Added export,added,,,https://example.com/export");
+
+        // when:
+        List<File> files = command().execute("entries.csv", null);
+
+        // then:
+        assertThat(files).extracting(File::getName).containsExactly("fixed-login-again.yml", "added-export.yml");
+        assertThat(read(files.get(0))).contains(
+                "title: Fixed login, again", "name: John Doe", "nick: jdoe", "nick: bot", "- 100", "- 101",
+                "name: Issue", "url: https://example.com/100", "type: fixed");
+        assertThat(read(files.get(1))).contains("url: https://example.com/export", "type: added");
+    }
+
+    @Test
+    void shouldNotWriteAnyEntryWhenOneIsInvalid() throws IOException {
+        // given:
+        write("entries.jsonl",
+                "{\"title\": \"Valid\", \"type\": \"added\"}",
+                "{\"title\": \"Invalid type\", \"type\": \"not_existing\"}",
+                "{not json");
+
+        // when-then:
+        assertThatThrownBy(() -> command().execute("entries.jsonl", null))
+                .isInstanceOf(YMLChangelogException.class)
+                .hasMessageContaining("entries.jsonl:2")
+                .hasMessageContaining("entries.jsonl:3");
+        assertThat(unreleasedDir.list()).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteReservedFilesWhenFileCannotBeCreated() throws IOException {
+        // given:
+        write("entries.jsonl",
+                "{\"title\": \"Valid\", \"type\": \"added\"}",
+                "{\"title\": \"Too long name\", \"type\": \"added\", \"file\": \"" + StringUtils.repeat('a', 300) + "\"}");
+
+        // when-then:
+        assertThatThrownBy(() -> command().execute("entries.jsonl", null))
+                .hasMessageContaining("An error occurred while creating empty changelog entry file");
+        assertThat(unreleasedDir.list()).isEmpty();
+    }
+
+    @Test
+    void shouldNotOverwriteExistingEntries() throws IOException {
+        // given:
+        Files.write(new File(unreleasedDir, "upgraded-junit.yml").toPath(), "title: existing".getBytes(StandardCharsets.UTF_8));
+        write("entries.jsonl",
+                "{\"title\": \"Upgraded junit\", \"type\": \"dependency_update\"}",
+                "{\"title\": \"Upgraded junit\", \"type\": \"dependency_update\"}");
+
+        // when:
+        List<File> files = command().execute("entries.jsonl", "jsonl");
+
+        // then:
+        assertThat(files).extracting(File::getName).containsExactly("upgraded-junit-2.yml", "upgraded-junit-3.yml");
+        assertThat(read(new File(unreleasedDir, "upgraded-junit.yml"))).isEqualTo("title: existing");
+    }
+
+    @Test
+    void shouldRejectUnknownCsvColumn() throws IOException {
+        // given:
+        write("entries.csv", "title,type,author", "Title,added,John");
+
+        // when-then:
+        assertThatThrownBy(() -> command().execute("entries.csv", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown column: author");
+    }
+
+    private BulkAddEntryCommand command() {
+        return BulkAddEntryCommand.of(tempDir.getPath(), INPUT_DIR, UNRELEASED, CONFIG_FILE);
+    }
+
+    private void write(String name, String... lines) throws IOException {
+        Files.write(new File(tempDir, name).toPath(), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,96 @@
+package dev.logchange.commands.archive;
+
+import dev.logchange.commands.generate.GenerateProjectCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutoArchiveCommandTest {
+
+    private static final String INPUT_DIR = "changelog";
+    private static final String CONFIG_FILE = "logchange-config.yml";
+    private static final String OUTPUT_FILE = "CHANGELOG.md";
+    private static final String ARCHIVE_FILE = "archive.md";
+
+    @TempDir
+    File tempDir;
+
+    private File changelogDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        changelogDir = new File(tempDir, INPUT_DIR);
+        write("unreleased/next.yml", "title: Next feature", "type: added");
+        write("v1.0.0/release-date.txt", "2023-01-01");
+        write("v1.0.0/001-first.yml", "title: First release", "type: added");
+        write("v1.1.0/release-date.txt", "2023-03-05");
+        write("v1.1.0/001-login.yml", "title: Fixed login", "type: fixed");
+        write("v1.2.0/release-date.txt", "2023-05-07");
+        write("v1.2.0/001-export.yml", "title: Added export", "type: added");
+    }
+
+    @Test
+    void shouldArchiveVersionsOverLimitWhenGenerating() throws IOException {
+        // given:
+        write(CONFIG_FILE, "changelog:", "  archive:", "    keep_versions: 1");
+
+        // when:
+        String changelog = generate();
+
+        // then:
+        assertThat(changelogDir.list()).containsExactlyInAnyOrder("unreleased", "v1.2.0", CONFIG_FILE, ARCHIVE_FILE);
+        assertThat(read(ARCHIVE_FILE)).contains("First release", "Fixed login").doesNotContain("Added export");
+        assertThat(changelog).contains("Next feature", "Added export", "## Archived versions", "[archive.md](changelog/archive.md)")
+                .doesNotContain("First release", "Fixed login");
+    }
+
+    @Test
+    void shouldUseArchivedVersionsLabelFromConfig() throws IOException {
+        // given:
+        write(CONFIG_FILE, "changelog:", "  labels:", "    archived_versions: Zarchiwizowane wersje",
+                "  archive:", "    keep_versions: 1");
+
+        // when:
+        String changelog = generate();
+
+        // then:
+        assertThat(changelog).contains("## Zarchiwizowane wersje", "[archive.md](changelog/archive.md)")
+                .doesNotContain("Archived versions");
+    }
+
+    @Test
+    void shouldNotCreateArchiveWhenVersionsWithinLimit() throws IOException {
+        // given:
+        write(CONFIG_FILE, "changelog:", "  archive:", "    keep_versions: 3", "    max_size_kb: 1024");
+
+        // when:
+        String changelog = generate();
+
+        // then:
+        assertThat(changelogDir.list()).containsExactlyInAnyOrder("unreleased", "v1.0.0", "v1.1.0", "v1.2.0", CONFIG_FILE);
+        assertThat(changelog).contains("First release", "Fixed login", "Added export");
+    }
+
+    private String generate() throws IOException {
+        String outputFile = new File(tempDir, OUTPUT_FILE).getPath();
+        GenerateProjectCommand.of(tempDir.getPath(), INPUT_DIR, outputFile, CONFIG_FILE).execute(false);
+        return new String(Files.readAllBytes(new File(outputFile).toPath()), StandardCharsets.UTF_8);
+    }
+
+    private void write(String path, String... lines) throws IOException {
+        File file = new File(changelogDir, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(String path) throws IOException {
+        return new String(Files.readAllBytes(new File(changelogDir, path).toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,35 @@
+package dev.logchange.commands.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultiRootExecutorTest {
+
+    @Test
+    void givenFailingRoot_whenExecute_thenOtherRootsAreProcessedAndResultsKeepOrder() {
+        // given:
+        List<File> roots = Arrays.asList(new File("a"), new File("failing"), new File("c"), new File("d"));
+        Set<String> processed = ConcurrentHashMap.newKeySet();
+
+        // when:
+        List<RootResult> results = MultiRootExecutor.of(2).execute(roots, root -> {
+            if (root.getName().equals("failing")) {
+                throw new IllegalStateException("Broken changelog");
+            }
+            processed.add(root.getName());
+        });
+
+        // then:
+        assertThat(processed).containsExactlyInAnyOrder("a", "c", "d");
+        assertThat(results).extracting(RootResult::getRoot).containsExactlyElementsOf(roots);
+        assertThat(results).extracting(RootResult::isSuccess).containsExactly(true, false, true, true);
+        assertThat(results.get(1).getError()).isEqualTo("Broken changelog");
+    }
+}
@@ -0,0 +1,70 @@
+package dev.logchange.commands.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectRootsTest {
+
+    private static final String INPUT_DIR = "changelog";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void givenGlob_whenResolve_thenOnlyProjectsWithChangelogAreReturnedSorted() throws IOException {
+        // given:
+        createProject("services/b");
+        createProject("services/a");
+        Files.createDirectories(root.resolve("services/no-changelog"));
+
+        // when:
+        List<File> roots = ProjectRoots.of(root.toFile(), INPUT_DIR).resolve(Collections.singletonList("services/*"), null);
+
+        // then:
+        assertThat(roots).containsExactly(file("services/a"), file("services/b"));
+    }
+
+    @Test
+    void givenPathsAndManifest_whenResolve_thenRootsAreUniqueAndInDeclarationOrder() throws IOException {
+        // given:
+        createProject("services/a");
+        createProject("services/b");
+        createProject("libs/c");
+        Path manifest = root.resolve("projects.txt");
+        Files.write(manifest, Arrays.asList("# all services", "services/*", "", "libs/c"), StandardCharsets.UTF_8);
+
+        // when:
+        List<File> roots = ProjectRoots.of(root.toFile(), INPUT_DIR).resolve(Collections.singletonList(root.resolve("services/b").toString()), manifest.toFile());
+
+        // then:
+        assertThat(roots).containsExactly(file("services/b"), file("services/a"), file("libs/c"));
+    }
+
+    @Test
+    void givenMissingPath_whenResolve_thenItIsReturnedToReportError() {
+        // when:
+        List<File> roots = ProjectRoots.of(root.toFile(), INPUT_DIR).resolve(Collections.singletonList("missing"), null);
+
+        // then:
+        assertThat(roots).containsExactly(file("missing"));
+    }
+
+    private void createProject(String path) throws IOException {
+        Files.createDirectories(root.resolve(path).resolve(INPUT_DIR));
+    }
+
+    private File file(String path) {
+        return root.resolve(path).toAbsolutePath().normalize().toFile();
+    }
+}
@@ -0,0 +1,77 @@
+package dev.logchange.commands.diff;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DiffProjectCommandTest {
+
+    private static final String PATH = "src/test/resources/DiffProjectCommandTest";
+    private static final String CUSTOM_TYPES_PATH = PATH + "/custom-types";
+    private static final String INPUT_DIR = "changelog";
+    private static final String CONFIG_FILE = "logchange-config.yml";
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldMergeOnlyVersionsInRange() {
+        // when:
+        String diff = DiffProjectCommand.of(PATH, INPUT_DIR, CONFIG_FILE).execute("v1.0.0", "2.0.0", null, null);
+
+        // then:
+        assertThat(diff).startsWith("## [1.0.0..2.0.0] - 2023-01-01");
+        assertThat(diff).contains("Fixed login", "Removed legacy API", "Clear browser cache after upgrade", "LEGACY_API_ENABLED");
+        assertThat(diff).doesNotContain("Old feature", "Next feature");
+    }
+
+    @Test
+    void shouldIncludeUnreleasedVersion() {
+        // when:
+        String diff = DiffProjectCommand.of(PATH, INPUT_DIR, CONFIG_FILE).execute("1.1.0", "unreleased", null, null);
+
+        // then:
+        assertThat(diff).startsWith("## [1.1.0..unreleased] - 2023-01-01");
+        assertThat(diff).contains("Removed legacy API", "Next feature");
+        assertThat(diff).doesNotContain("Fixed login", "Old feature");
+    }
+
+    @Test
+    void shouldKeepEntriesOfCustomTypes() {
+        // when:
+        String diff = DiffProjectCommand.of(CUSTOM_TYPES_PATH, INPUT_DIR, CONFIG_FILE).execute("1.0.0", "1.1.0", null, null);
+
+        // then:
+        assertThat(diff).contains("### Added", "Export to PDF", "### Performance", "Faster startup");
+        assertThat(diff.indexOf("### Added")).isLessThan(diff.indexOf("### Performance"));
+        assertThat(diff).doesNotContain("Initial release");
+    }
+
+    @Test
+    void shouldRenderJinjaTemplateToFile() throws IOException {
+        // given:
+        File outputFile = new File(tempDir, "upgrade.md");
+
+        // when:
+        String diff = DiffProjectCommand.of(PATH, INPUT_DIR, CONFIG_FILE)
+                .execute("1.0.0", "1.1.0", "diff.jinja", outputFile.getAbsolutePath());
+
+        // then:
+        assertThat(diff.trim()).isEqualTo("1.0.0..1.1.0: Fixed login;");
+        assertThat(new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8)).isEqualTo(diff);
+    }
+
+    @Test
+    void shouldRejectReversedRange() {
+        assertThatThrownBy(() -> DiffProjectCommand.of(PATH, INPUT_DIR, CONFIG_FILE).execute("2.0.0", "1.0.0", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Version 2.0.0 has to be older than 1.0.0!");
+    }
+}
@@ -1,14 +1,20 @@
 package dev.logchange.commands.generate;
 
+import dev.logchange.commands.batch.MultiRootExecutor;
+import dev.logchange.commands.batch.RootResult;
 import org.codehaus.plexus.util.FileUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -38,7 +44,7 @@ class GenerateProjectCommandTest {
             assertTrue(expectedChangelog.exists());
 
             // when:
-            GenerateProjectCommand.of(TEST_PATH, INPUT_DIR, TEST_PATH + "/" + OUTPUT_FILE, CONFIG_FILE).execute(false);
+            GenerateProjectCommand.of(TEST_PATH, INPUT_DIR, OUTPUT_FILE, CONFIG_FILE).execute(false);
 
             // then:
             assertTrue(outputFile.exists());
@@ -64,7 +70,7 @@ class GenerateProjectCommandTest {
             assertTrue(expectedChangelog.exists());
 
             // when:
-            GenerateProjectCommand.of(TEST_PATH, INPUT_DIR, TEST_PATH + "/" + OUTPUT_FILE, CONFIG_FILE).execute(false);
+            GenerateProjectCommand.of(TEST_PATH, INPUT_DIR, OUTPUT_FILE, CONFIG_FILE).execute(false);
 
             // then:
             assertTrue(outputFile.exists());
@@ -89,7 +95,7 @@ class GenerateProjectCommandTest {
             assertTrue(expectedChangelog.exists());
 
             // when:
-            GenerateProjectCommand.of(TEST_PATH, INPUT_DIR, TEST_PATH + "/" + OUTPUT_FILE, CONFIG_FILE).execute(false);
+            GenerateProjectCommand.of(TEST_PATH, INPUT_DIR, OUTPUT_FILE, CONFIG_FILE).execute(false);
 
             // then:
             assertTrue(outputFile.exists());
@@ -101,6 +107,34 @@ class GenerateProjectCommandTest {
         }
     }
 
+    @Test
+    void eachOfManyRootsGetsItsOwnChangelog(@TempDir File tempDir) throws IOException {
+        // given:
+        File first = new File(tempDir, "first");
+        File second = new File(tempDir, "second");
+        writeEntry(first, "First project feature");
+        writeEntry(second, "Second project feature");
+
+        // when:
+        List<RootResult> results = MultiRootExecutor.of(2).execute(Arrays.asList(first, second), root ->
+                GenerateProjectCommand.of(root.getPath(), INPUT_DIR, OUTPUT_FILE, CONFIG_FILE).execute(false));
+
+        // then:
+        assertThat(results).extracting(RootResult::isSuccess).containsExactly(true, true);
+        assertThat(read(new File(first, OUTPUT_FILE))).contains("First project feature").doesNotContain("Second project feature");
+        assertThat(read(new File(second, OUTPUT_FILE))).contains("Second project feature").doesNotContain("First project feature");
+    }
+
+    private void writeEntry(File root, String title) throws IOException {
+        File entry = new File(root, INPUT_DIR + "/" + UNRELEASED + TEST_FILE);
+        entry.getParentFile().mkdirs();
+        Files.write(entry.toPath(), ("title: " + title + "\ntype: added").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
     private void cleanupMarkdownFiles(Path outputDir) throws IOException {
         try (DirectoryStream<Path> stream = Files.newDirectoryStream(outputDir, "*.md")) {
             for (Path file : stream) {
@@ -0,0 +1,122 @@
+package dev.logchange.commands.imports;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImportProjectCommandTest {
+
+    private static final String INPUT_DIR = "changelog";
+    private static final String UNRELEASED = "unreleased";
+    private static final String CONFIG_FILE = "logchange-config.yml";
+
+    @TempDir
+    File tempDir;
+
+    private File changelogDir;
+
+    @BeforeEach
+    void setUp() {
+        changelogDir = new File(tempDir, INPUT_DIR);
+        assertThat(new File(changelogDir, UNRELEASED).mkdirs()).isTrue();
+    }
+
+    @Test
+    void shouldImportMarkdown() throws IOException {
+        // given:
+        write("CHANGELOG.md",
+                "# Changelog",
+                "",
+                "## [Unreleased]",
+                "### Added",
+                "- New export",
+                "",
+                "## [1.1.0] - 2023-03-05",
+                "### Fixed",
+                "- Fixed login #12",
+                "- Fixed logout",
+                "",
+                "## [1.0.0] - 2023-01-01",
+                "### Added",
+                "- First release");
+
+        // when:
+        int entries = command().execute("CHANGELOG.md", null);
+
+        // then:
+        assertThat(entries).isEqualTo(4);
+        assertThat(new File(changelogDir, UNRELEASED).list()).containsExactly("00001-new-export.yml");
+        assertThat(new File(changelogDir, "v1.1.0").list())
+                .containsExactlyInAnyOrder("release-date.txt", "00001-fixed-login.yml", "00002-fixed-logout.yml");
+        assertThat(read("v1.1.0/release-date.txt")).isEqualTo("2023-03-05");
+        assertThat(read("v1.1.0/00001-fixed-login.yml")).contains("title: Fixed login", "- 12", "type: fixed");
+        assertThat(read("v1.0.0/00001-first-release.yml")).contains("title: First release", "type: added");
+    }
+
+    @Test
+    void shouldImportChangesXml() throws IOException {
+        // given:
+        write("changes.xml",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+                "<document xmlns=\"http://maven.apache.org/changes/1.0.0\">",
+                "  <body>",
+                "    <release version=\"2.0.0-SNAPSHOT\" date=\"unreleased\">",
+                "      <action dev=\"jdoe\" type=\"add\">Next feature</action>",
+                "    </release>",
+                "    <release version=\"1.0.0\" date=\"2023-01-01\" description=\"First\">",
+                "      <action dev=\"jdoe,asmith\" type=\"fix\" issue=\"42\" due-to=\"John Roe\">",
+                "        Fixed <![CDATA[<login>]]>",
+                "        page",
+                "      </action>",
+                "      <action type=\"update\">Changed defaults<fixes issue=\"43\"/></action>",
+                "    </release>",
+                "  </body>",
+                "</document>");
+
+        // when:
+        int entries = command().execute("changes.xml", null);
+
+        // then:
+        assertThat(entries).isEqualTo(3);
+        assertThat(read("unreleased/00001-next-feature.yml")).contains("title: Next feature", "nick: jdoe", "type: added");
+        assertThat(read("v1.0.0/release-date.txt")).isEqualTo("2023-01-01");
+        assertThat(read("v1.0.0/00001-fixed-login-page.yml")).contains(
+                "Fixed <login> page", "nick: jdoe", "nick: asmith", "name: John Roe", "- 42", "type: fixed");
+        assertThat(read("v1.0.0/00002-changed-defaults.yml")).contains("title: Changed defaults", "- 43", "type: changed");
+    }
+
+    @Test
+    void shouldNotImportVersionWithExistingEntries() throws IOException {
+        // given:
+        File existing = new File(changelogDir, "v1.0.0");
+        assertThat(existing.mkdirs()).isTrue();
+        Files.write(new File(existing, "entry.yml").toPath(), "title: existing".getBytes(StandardCharsets.UTF_8));
+        write("CHANGELOG.md", "## [1.0.0] - 2023-01-01", "### Added", "- First release");
+
+        // when-then:
+        assertThatThrownBy(() -> command().execute("CHANGELOG.md", "markdown"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("already contains entries");
+        assertThat(existing.list()).containsExactly("entry.yml");
+    }
+
+    private ImportProjectCommand command() {
+        return ImportProjectCommand.of(tempDir.getPath(), INPUT_DIR, UNRELEASED, CONFIG_FILE);
+    }
+
+    private void write(String name, String... lines) throws IOException {
+        Files.write(new File(tempDir, name).toPath(), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(String path) throws IOException {
+        return new String(Files.readAllBytes(new File(changelogDir, path).toPath()), StandardCharsets.UTF_8).trim();
+    }
+}
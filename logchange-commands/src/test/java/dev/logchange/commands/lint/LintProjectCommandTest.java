@@ -1,11 +1,21 @@
 package dev.logchange.commands.lint;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class LintProjectCommandTest {
 
@@ -118,4 +128,120 @@ class LintProjectCommandTest {
         // then:
         assertThat(exception.getMessage()).isEqualToIgnoringWhitespace(expectedOutput);
     }
+
+    @Test
+    void shouldLintOnlyStagedEntries(@TempDir Path tempDir) throws Exception {
+        // given:
+        assumeTrue(isGitAvailable());
+        Path unreleased = createGitChangelog(tempDir);
+        copy(PATH + "invalidSyntax/changelog/unreleased/invalid-entry.yml", unreleased.resolve("invalid-entry.yml"));
+        git(tempDir, "add", ".");
+        git(tempDir, "-c", "user.name=test", "-c", "user.email=test@logchange.dev", "commit", "-m", "init");
+        copy(PATH + "valid/changelog/unreleased/test-entry.yml", unreleased.resolve(TEST_FILE));
+        git(tempDir, "add", ".");
+
+        LintProjectCommand command = LintProjectCommand.of(tempDir.toString(), INPUT_DIR, tempDir + OUTPUT_FILE, CONFIG_FILE);
+
+        // when-then:
+        assertDoesNotThrow(() -> command.validateChanged(null));
+        assertThrows(RuntimeException.class, command::validate);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenStagedEntryIsInvalid(@TempDir Path tempDir) throws Exception {
+        // given:
+        assumeTrue(isGitAvailable());
+        Path unreleased = createGitChangelog(tempDir);
+        copy(PATH + "invalidSyntax/changelog/unreleased/invalid-entry.yml", unreleased.resolve("invalid-entry.yml"));
+        git(tempDir, "add", ".");
+
+        // when:
+        Exception exception = assertThrows(RuntimeException.class, () -> LintProjectCommand.of(tempDir.toString(), INPUT_DIR, tempDir + OUTPUT_FILE, CONFIG_FILE).validateChanged(null));
+
+        // then:
+        assertThat(exception.getMessage()).contains("Unknown property [issue] with value [100]");
+    }
+
+    @Test
+    void shouldLintStagedContentInsteadOfWorkingTree(@TempDir Path tempDir) throws Exception {
+        // given:
+        assumeTrue(isGitAvailable());
+        Path unreleased = createGitChangelog(tempDir);
+        copy(PATH + "valid/changelog/unreleased/test-entry.yml", unreleased.resolve(TEST_FILE));
+        git(tempDir, "add", ".");
+        replace(PATH + "invalidSyntax/changelog/unreleased/invalid-entry.yml", unreleased.resolve(TEST_FILE));
+
+        LintProjectCommand command = LintProjectCommand.of(tempDir.toString(), INPUT_DIR, tempDir + OUTPUT_FILE, CONFIG_FILE);
+
+        // when-then:
+        assertDoesNotThrow(() -> command.validateChanged(null));
+        assertThrows(RuntimeException.class, command::validate);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenStagedEntryIsInvalidButFixedInWorkingTree(@TempDir Path tempDir) throws Exception {
+        // given:
+        assumeTrue(isGitAvailable());
+        Path unreleased = createGitChangelog(tempDir);
+        copy(PATH + "invalidSyntax/changelog/unreleased/invalid-entry.yml", unreleased.resolve(TEST_FILE));
+        git(tempDir, "add", ".");
+        replace(PATH + "valid/changelog/unreleased/test-entry.yml", unreleased.resolve(TEST_FILE));
+
+        // when:
+        Exception exception = assertThrows(RuntimeException.class, () -> LintProjectCommand.of(tempDir.toString(), INPUT_DIR, tempDir + OUTPUT_FILE, CONFIG_FILE).validateChanged(null));
+
+        // then:
+        assertThat(exception.getMessage()).contains("Unknown property [issue] with value [100]");
+    }
+
+    @Test
+    void shouldLintWholeChangelogWhenConfigChangedSinceRef(@TempDir Path tempDir) throws Exception {
+        // given:
+        assumeTrue(isGitAvailable());
+        Path unreleased = createGitChangelog(tempDir);
+        copy(PATH + "invalidSyntax/changelog/unreleased/invalid-entry.yml", unreleased.resolve("invalid-entry.yml"));
+        git(tempDir, "add", ".");
+        git(tempDir, "-c", "user.name=test", "-c", "user.email=test@logchange.dev", "commit", "-m", "init");
+        copy(PATH + "valid/changelog/" + CONFIG_FILE, tempDir.resolve(INPUT_DIR).resolve(CONFIG_FILE));
+
+        // when-then:
+        assertThrows(RuntimeException.class, () -> LintProjectCommand.of(tempDir.toString(), INPUT_DIR, tempDir + OUTPUT_FILE, CONFIG_FILE).validateChanged("HEAD"));
+    }
+
+    private static Path createGitChangelog(Path root) throws Exception {
+        git(root, "init");
+        return Files.createDirectories(root.resolve(INPUT_DIR).resolve(UNRELEASED));
+    }
+
+    private static void copy(String source, Path target) throws IOException {
+        Files.copy(new File(source).toPath(), target);
+    }
+
+    private static void replace(String source, Path target) throws IOException {
+        Files.copy(new File(source).toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static boolean isGitAvailable() {
+        try {
+            return new ProcessBuilder("git", "--version").start().waitFor() == 0;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void git(Path workingDir, String... args) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(args));
+        Process process = new ProcessBuilder(command)
+                .directory(workingDir.toFile())
+                .redirectErrorStream(true)
+                .start();
+        try (InputStream output = process.getInputStream()) {
+            while (output.read() != -1) {
+                // drain output, so git never blocks on full pipe
+            }
+        }
+        assertEquals(0, process.waitFor(), "git command failed: " + command);
+    }
 }
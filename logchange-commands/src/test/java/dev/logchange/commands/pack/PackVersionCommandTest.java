@@ -0,0 +1,119 @@
+package dev.logchange.commands.pack;
+
+import dev.logchange.commands.generate.GenerateProjectCommand;
+import dev.logchange.core.format.yml.changelog.entry.YMLPackedEntries;
+import dev.logchange.core.format.yml.config.YMLChangelogException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackVersionCommandTest {
+
+    private static final String INPUT_DIR = "changelog";
+    private static final String UNRELEASED = "unreleased";
+    private static final String CONFIG_FILE = "logchange-config.yml";
+    private static final String OUTPUT_FILE = "CHANGELOG.md";
+
+    @TempDir
+    File tempDir;
+
+    private File changelogDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        changelogDir = new File(tempDir, INPUT_DIR);
+        write(UNRELEASED + "/next.yml", "title: Next feature", "type: added");
+        write("v1.0.0/release-date.txt", "2023-01-01");
+        write("v1.0.0/001-first.yml", "# heading of entry", "title: First release", "type: added");
+        write("v1.1.0/release-date.txt", "2023-03-05");
+        write("v1.1.0/001-login.yml", "title: Fixed login", "type: fixed", "issues:", "  - 12");
+        write("v1.1.0/002-junit.yml", "title: Upgraded junit", "type: dependency_update");
+    }
+
+    @Test
+    void shouldGenerateSameChangelogFromPackedVersions() throws IOException {
+        // given:
+        String unpackedChangelog = generate();
+
+        // when:
+        int packed = command().execute(Collections.emptyList());
+
+        // then:
+        assertThat(packed).isEqualTo(2);
+        assertThat(new File(changelogDir, "v1.1.0").list())
+                .containsExactlyInAnyOrder("release-date.txt", YMLPackedEntries.FILE_NAME);
+        assertThat(new File(changelogDir, UNRELEASED).list()).containsExactly("next.yml");
+        assertThat(read("v1.1.0/" + YMLPackedEntries.FILE_NAME)).contains(
+                "--- # 001-login.yml\ntitle: Fixed login", "--- # 002-junit.yml\ntitle: Upgraded junit");
+        assertThat(read("v1.0.0/" + YMLPackedEntries.FILE_NAME)).doesNotContain("heading of entry");
+        assertThat(generate()).isEqualTo(unpackedChangelog);
+    }
+
+    @Test
+    void shouldMergeEntriesAddedToPackedVersion() throws IOException {
+        // given:
+        command().execute(Collections.singletonList("1.1.0"));
+        write("v1.1.0/0015-logout.yml", "title: Fixed logout", "type: fixed");
+
+        // when:
+        int packed = command().execute(Collections.singletonList("v1.1.0"));
+
+        // then:
+        assertThat(packed).isEqualTo(1);
+        assertThat(new File(changelogDir, "v1.1.0").list())
+                .containsExactlyInAnyOrder("release-date.txt", YMLPackedEntries.FILE_NAME);
+        assertThat(read("v1.1.0/" + YMLPackedEntries.FILE_NAME))
+                .containsSubsequence("# 001-login.yml", "# 0015-logout.yml", "# 002-junit.yml");
+        assertThat(command().execute(Collections.emptyList())).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotPackInvalidEntries() throws IOException {
+        // given:
+        write("v1.0.0/002-invalid.yml", "title: Invalid", "type: unknown");
+
+        // when-then:
+        assertThatThrownBy(() -> command().execute(Collections.singletonList("1.0.0")))
+                .isInstanceOf(YMLChangelogException.class)
+                .hasMessageContaining("002-invalid.yml");
+        assertThat(new File(changelogDir, "v1.0.0").list())
+                .containsExactlyInAnyOrder("release-date.txt", "001-first.yml", "002-invalid.yml");
+    }
+
+    @Test
+    void shouldNotPackUnreleasedVersion() {
+        // when-then:
+        assertThatThrownBy(() -> command().execute(Collections.singletonList(UNRELEASED)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("only released versions can be packed");
+    }
+
+    private PackVersionCommand command() {
+        return PackVersionCommand.of(tempDir.getPath(), INPUT_DIR, UNRELEASED, CONFIG_FILE);
+    }
+
+    private String generate() throws IOException {
+        String outputFile = new File(tempDir, OUTPUT_FILE).getPath();
+        GenerateProjectCommand.of(tempDir.getPath(), INPUT_DIR, outputFile, CONFIG_FILE).execute(false);
+        return new String(Files.readAllBytes(new File(outputFile).toPath()), StandardCharsets.UTF_8);
+    }
+
+    private void write(String path, String... lines) throws IOException {
+        File file = new File(changelogDir, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(String path) throws IOException {
+        return new String(Files.readAllBytes(new File(changelogDir, path).toPath()), StandardCharsets.UTF_8);
+    }
+}
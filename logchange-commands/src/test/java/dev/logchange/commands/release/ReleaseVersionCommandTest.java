@@ -64,7 +64,7 @@ class ReleaseVersionCommandTest {
                 VERSION_TO_RELEASE,
                 UNRELEASED,
                 INPUT_DIR,
-                VALID_PATH + OUTPUT_FILE,
+                OUTPUT_FILE,
                 CONFIG_FILE,
                 false,
                 XML_OUTPUT_FILE).execute();
@@ -124,7 +124,7 @@ class ReleaseVersionCommandTest {
                 VERSION_TO_RELEASE,
                 UNRELEASED,
                 INPUT_DIR,
-                VALID_PATH + OUTPUT_FILE,
+                OUTPUT_FILE,
                 CONFIG_FILE,
                 false,
                 XML_OUTPUT_FILE).execute();
@@ -184,7 +184,7 @@ class ReleaseVersionCommandTest {
                 VERSION_TO_RELEASE,
                 UNRELEASED,
                 INPUT_DIR,
-                VALID_PATH + OUTPUT_FILE,
+                OUTPUT_FILE,
                 CONFIG_FILE,
                 false,
                 XML_OUTPUT_FILE).execute();
@@ -246,7 +246,7 @@ class ReleaseVersionCommandTest {
                 VERSION_TO_RELEASE,
                 UNRELEASED,
                 INPUT_DIR,
-                INVALID_PATH + OUTPUT_FILE,
+                OUTPUT_FILE,
                 CONFIG_FILE,
                 false,
                 XML_OUTPUT_FILE).execute());
@@ -304,7 +304,7 @@ class ReleaseVersionCommandTest {
                 VERSION_TO_RELEASE,
                 UNRELEASED,
                 INPUT_DIR,
-                INVALID_PATH + OUTPUT_FILE,
+                OUTPUT_FILE,
                 CONFIG_FILE,
                 false,
                 XML_OUTPUT_FILE).execute());
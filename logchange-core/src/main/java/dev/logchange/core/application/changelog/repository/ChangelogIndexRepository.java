@@ -0,0 +1,14 @@
+package dev.logchange.core.application.changelog.repository;
+
+import dev.logchange.core.domain.changelog.model.Changelog;
+
+/**
+ * Stores machine-readable index of the changelog, built from the same model that is rendered to markdown.
+ */
+public interface ChangelogIndexRepository {
+
+    ChangelogIndexRepository NONE = changelog -> {
+    };
+
+    void save(Changelog changelog);
+}
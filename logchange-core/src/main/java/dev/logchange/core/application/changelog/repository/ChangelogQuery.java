@@ -1,9 +1,15 @@
 package dev.logchange.core.application.changelog.repository;
 
 import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+
+import java.io.File;
+import java.util.List;
 
 public interface ChangelogQuery {
     Changelog findMarkdown();
 
     Changelog findXML();
+
+    List<ChangelogEntry> findEntries(List<File> entryFiles);
 }
@@ -1,4 +1,4 @@
 package dev.logchange.core.application.changelog.repository;
 
-public interface ChangelogRepository extends ChangelogPersistence, ChangelogQuery {
+public interface ChangelogRepository extends ChangelogPersistence, ChangelogXMLPersistence, ChangelogQuery {
 }
@@ -0,0 +1,11 @@
+package dev.logchange.core.application.changelog.repository;
+
+import dev.logchange.core.domain.changelog.model.Changelog;
+
+/**
+ * Stores the changelog as Maven Changes {@code changes.xml}, only the main changelog has this format.
+ */
+public interface ChangelogXMLPersistence {
+
+    void saveXML(Changelog changelog);
+}
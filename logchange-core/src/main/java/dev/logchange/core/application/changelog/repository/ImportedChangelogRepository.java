@@ -0,0 +1,22 @@
+package dev.logchange.core.application.changelog.repository;
+
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.version.Version;
+
+import java.time.LocalDate;
+
+/**
+ * Receives a changelog being imported from another format, version by version, each followed by its entries.
+ */
+public interface ImportedChangelogRepository {
+
+    /**
+     * @param releaseDate null for unreleased versions and versions without known release date
+     */
+    void saveVersion(Version version, LocalDate releaseDate);
+
+    /**
+     * Saves entry of the last saved version.
+     */
+    void saveEntry(ChangelogEntry entry);
+}
@@ -0,0 +1,14 @@
+package dev.logchange.core.application.changelog.repository;
+
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.Version;
+
+import java.util.List;
+
+public interface VersionRangeQuery {
+
+    /**
+     * @return versions newer than {@code from} and not newer than {@code to}, newest first
+     */
+    List<ChangelogVersion> find(Version from, Version to);
+}
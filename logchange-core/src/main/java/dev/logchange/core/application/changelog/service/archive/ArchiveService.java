@@ -6,13 +6,20 @@ import dev.logchange.core.domain.changelog.command.ArchiveUseCase;
 import dev.logchange.core.domain.changelog.model.Changelog;
 import dev.logchange.core.domain.changelog.model.archive.ChangelogArchive;
 import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
-import lombok.extern.java.Log;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import dev.logchange.core.domain.config.model.archive.ArchivePolicy;
+import lombok.CustomLog;
 
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-@Log
+@CustomLog
 public class ArchiveService implements ArchiveUseCase {
 
     private final ChangelogPersistence changelogPersistence;
@@ -27,10 +34,37 @@ public class ArchiveService implements ArchiveUseCase {
     public List<String> handle(ArchiveCommand command) {
         log.info("Fetching changelog...");
         Changelog changelog = changelogQuery.findMarkdown();
+        return archive(changelog, command.getVersion());
+    }
+
+    @Override
+    public List<String> handle(ArchivePolicyCommand command) {
+        log.info("Fetching changelog...");
+        Changelog changelog = changelogQuery.findMarkdown();
+
+        List<ChangelogVersion> released = changelog.getVersions().getVersions().stream()
+                .filter(v -> !v.getVersion().isUnreleased())
+                .collect(Collectors.toList());
+        Optional<Version> version = Stream.of(
+                        findOverVersionsLimit(command.getPolicy(), released),
+                        findOverMonthsLimit(command.getPolicy(), released, command.getNow()),
+                        findOverSizeLimit(command.getPolicy(), changelog.getVersions().getVersions(), command.getVersionSize()))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .max(Comparator.naturalOrder());
 
+        if (!version.isPresent()) {
+            log.info("All versions are within archive policy " + command.getPolicy());
+            return Collections.emptyList();
+        }
+        log.info("Archiving versions up to " + version.get() + " according to archive policy " + command.getPolicy());
+        return archive(changelog, version.get());
+    }
+
+    private List<String> archive(Changelog changelog, Version version) {
         log.info("Filtering versions to be archived...");
         List<ChangelogVersion> versionsToBeArchived = changelog.getVersions().getVersions().stream()
-                .filter(changelogVersion -> changelogVersion.getVersion().compareTo(command.getVersion()) <= 0)
+                .filter(changelogVersion -> changelogVersion.getVersion().compareTo(version) <= 0)
                 .filter(v -> !v.getVersion().isUnreleased())
                 .collect(Collectors.toList());
 
@@ -46,4 +80,52 @@ public class ArchiveService implements ArchiveUseCase {
                         versionsToBeArchived.stream().map(changelogVersion -> changelogVersion.getVersion().getDirName()))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * @param released released versions, the newest first
+     */
+    private static Optional<Version> findOverVersionsLimit(ArchivePolicy policy, List<ChangelogVersion> released) {
+        Integer keepVersions = policy.getKeepVersions();
+        if (keepVersions == null || released.size() <= keepVersions) {
+            return Optional.empty();
+        }
+        return Optional.of(released.get(keepVersions).getVersion());
+    }
+
+    private static Optional<Version> findOverMonthsLimit(ArchivePolicy policy, List<ChangelogVersion> released, OffsetDateTime now) {
+        if (policy.getKeepMonths() == null) {
+            return Optional.empty();
+        }
+        OffsetDateTime oldestKept = now.minusMonths(policy.getKeepMonths());
+        return released.stream()
+                .filter(v -> v.getReleaseDateTime() != null && v.getReleaseDateTime().getValue().isBefore(oldestKept))
+                .map(ChangelogVersion::getVersion)
+                .findFirst();
+    }
+
+    /**
+     * Sums sizes from the newest version (unreleased included, although it is never archived),
+     * the first released version exceeding the limit is archived with all older ones.
+     *
+     * @param versions all versions, the newest first
+     */
+    private static Optional<Version> findOverSizeLimit(ArchivePolicy policy, List<ChangelogVersion> versions, ToLongFunction<ChangelogVersion> versionSize) {
+        if (policy.getMaxSizeKb() == null) {
+            return Optional.empty();
+        }
+        long maxSize = policy.getMaxSizeKb() * 1024L;
+        long size = 0;
+        boolean newestReleased = true;
+        for (ChangelogVersion version : versions) {
+            size += versionSize.applyAsLong(version);
+            if (version.getVersion().isUnreleased()) {
+                continue;
+            }
+            if (size > maxSize && !newestReleased) {
+                return Optional.of(version.getVersion());
+            }
+            newestReleased = false;
+        }
+        return Optional.empty();
+    }
 }
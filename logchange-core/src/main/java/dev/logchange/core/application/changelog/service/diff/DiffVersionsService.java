@@ -0,0 +1,53 @@
+package dev.logchange.core.application.changelog.service.diff;
+
+import dev.logchange.core.application.changelog.repository.VersionRangeQuery;
+import dev.logchange.core.domain.changelog.command.DiffVersionsUseCase;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersionEntriesGroup;
+import dev.logchange.core.domain.changelog.model.version.ReleaseDateTime;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@CustomLog
+@RequiredArgsConstructor
+public class DiffVersionsService implements DiffVersionsUseCase {
+
+    private final VersionRangeQuery versionRangeQuery;
+
+    @Override
+    public ChangelogVersion handle(DiffVersionsCommand command) {
+        List<ChangelogVersion> versions = versionRangeQuery.find(command.getFrom(), command.getTo());
+        if (versions.isEmpty()) {
+            log.warn("There are no versions newer than " + command.getFrom() + " up to " + command.getTo());
+        } else {
+            log.info(() -> "Merging versions: " + versions.stream()
+                    .map(version -> version.getVersion().getValue())
+                    .collect(Collectors.joining(", ")));
+        }
+
+        // newest version first, so important notes and configurations keep the order of CHANGELOG.md,
+        // entries are copied because grouping renumbers them and they still belong to the merged versions
+        List<ChangelogEntry> mergedEntries = versions.stream()
+                .flatMap(ChangelogVersion::getEntriesWithOrder)
+                .map(entry -> entry.toBuilder().build())
+                .collect(Collectors.toList());
+
+        ReleaseDateTime latestReleaseDateTime = versions.stream()
+                .map(ChangelogVersion::getReleaseDateTime)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        return ChangelogVersion.builder()
+                .version(command.getRange())
+                .releaseDateTime(latestReleaseDateTime)
+                .entriesGroups(ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(mergedEntries))
+                .build();
+    }
+}
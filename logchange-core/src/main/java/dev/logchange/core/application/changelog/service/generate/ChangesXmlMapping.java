@@ -0,0 +1,64 @@
+package dev.logchange.core.application.changelog.service.generate;
+
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryAuthor;
+import dev.logchange.core.domain.changelog.model.entry.ChangesXMLEntryType;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Values of Maven Changes {@code release} and {@code action} elements written for the changelog versions.
+ */
+public final class ChangesXmlMapping {
+
+    private static final String UNRELEASED = "unreleased";
+
+    private ChangesXmlMapping() {
+    }
+
+    /**
+     * If list of entries are empty, assume the version directory is empty and skip the release.
+     */
+    public static boolean isSkipped(ChangelogVersion version) {
+        return version.getEntries().isEmpty();
+    }
+
+    public static String releaseDate(ChangelogVersion version) {
+        if (version.getReleaseDateTime() == null) {
+            return UNRELEASED;
+        }
+
+        return version.getReleaseDateTime().toString();
+    }
+
+    public static String actionType(ChangelogEntry entry) {
+        return ChangesXMLEntryType.getXmlTypeFromMarkdownEntryType(entry.getType()).getType();
+    }
+
+    public static String dev(List<ChangelogEntryAuthor> authors) {
+        StringBuilder builder = new StringBuilder();
+
+        Iterator<ChangelogEntryAuthor> iterator = authors.iterator();
+        while (iterator.hasNext()) {
+            ChangelogEntryAuthor author = iterator.next();
+            String authorName = "";
+
+            // prefer Nick, then Name, leave empty if both are missing
+            if (author.getNick() != null && !author.getNick().isEmpty()) {
+                authorName = author.getNick();
+            }
+            else if (author.getName() != null && !author.getName().isEmpty()) {
+                authorName = author.getName();
+            }
+
+
+            builder.append(authorName);
+            if (iterator.hasNext()) {
+                builder.append(",");
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -1,7 +1,10 @@
 package dev.logchange.core.application.changelog.service.generate;
 
+import dev.logchange.core.application.changelog.repository.ChangelogIndexRepository;
 import dev.logchange.core.application.changelog.repository.ChangelogRepository;
 import dev.logchange.core.application.changelog.repository.VersionSummaryRepository;
+import dev.logchange.core.application.profile.ProfileCounter;
+import dev.logchange.core.application.profile.Profiler;
 import dev.logchange.core.domain.changelog.command.GenerateChangelogUseCase;
 import dev.logchange.core.domain.changelog.command.ValidateChangelogUseCase;
 import dev.logchange.core.domain.changelog.model.Changelog;
@@ -11,25 +14,49 @@ public class GenerateChangelogService implements GenerateChangelogUseCase, Valid
 
     private final ChangelogRepository changelogRepository;
     private final VersionSummaryRepository versionSummaryRepository;
+    private final ChangelogIndexRepository changelogIndexRepository;
 
     public GenerateChangelogService(ChangelogRepository changelogRepository, VersionSummaryRepository versionSummaryRepository) {
+        this(changelogRepository, versionSummaryRepository, ChangelogIndexRepository.NONE);
+    }
+
+    public GenerateChangelogService(ChangelogRepository changelogRepository,
+                                    VersionSummaryRepository versionSummaryRepository,
+                                    ChangelogIndexRepository changelogIndexRepository) {
         this.changelogRepository = changelogRepository;
         this.versionSummaryRepository = versionSummaryRepository;
+        this.changelogIndexRepository = changelogIndexRepository;
     }
 
     @Override
     public void handle(GenerateChangelogCommand command) {
         Changelog changelog = changelogRepository.findMarkdown();
+        // markdown renders every version, reading all entries first reports invalid ones before anything is written
+        readEntries(changelog);
 
         for (ChangelogVersion version : changelog.getVersions()) {
             versionSummaryRepository.save(version);
+            Profiler.count(ProfileCounter.VERSIONS_RENDERED, 1);
         }
 
         changelogRepository.save(changelog);
+        changelogIndexRepository.save(changelog);
     }
 
     @Override
     public void handle(ValidateChangelogCommand command) {
-        changelogRepository.findMarkdown();
+        readEntries(changelogRepository.findMarkdown());
+    }
+
+    @Override
+    public void handle(ValidateChangelogEntriesCommand command) {
+        changelogRepository.findEntries(command.getEntryFiles());
+    }
+
+    /**
+     * Entries of versions are read on first access, this reads (and validates) entries of every version.
+     */
+    private static void readEntries(Changelog changelog) {
+        changelog.getVersions().forEach(ChangelogVersion::getEntriesGroups);
     }
 }
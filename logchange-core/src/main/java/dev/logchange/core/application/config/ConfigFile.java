@@ -2,14 +2,14 @@ package dev.logchange.core.application.config;
 
 import dev.logchange.core.domain.config.model.Config;
 import dev.logchange.core.infrastructure.persistance.config.FileConfigRepository;
-import lombok.extern.java.Log;
+import lombok.CustomLog;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
-@Log
+@CustomLog
 public class ConfigFile {
 
     private final Path path;
@@ -30,18 +30,18 @@ public class ConfigFile {
                 return changelogConfig;
             } else {
                 String msg = changelogConfig.getName() + " already exists";
-                log.warning(msg);
+                log.warn(msg);
                 if (changelogConfig.isFile()) {
                     return changelogConfig;
                 } else {
                     String msg2 = path.getFileName() + " is not a file! (probably it is directory)";
-                    log.severe(msg2);
+                    log.error(msg2);
                     throw new RuntimeException(msg + " and " + msg2);
                 }
             }
         } catch (IOException e) {
             String msg = String.format("An error occurred while creating %s in path: %s", path, e.getMessage());
-            log.severe(msg);
+            log.error(msg);
             throw new RuntimeException(msg);
         }
     }
@@ -55,7 +55,7 @@ public class ConfigFile {
 
         if (configFile.isDirectory()) {
             String msg = "File " + path + " is a directory !!!";
-            log.severe(msg);
+            log.error(msg);
             throw new RuntimeException(msg);
         }
 
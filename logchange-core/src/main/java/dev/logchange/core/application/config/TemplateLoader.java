@@ -0,0 +1,12 @@
+package dev.logchange.core.application.config;
+
+import java.io.File;
+
+/**
+ * Loads templates by path, so build tools can share loaded templates between projects and executions.
+ */
+@FunctionalInterface
+public interface TemplateLoader {
+
+    TemplateFile load(File templatePath);
+}
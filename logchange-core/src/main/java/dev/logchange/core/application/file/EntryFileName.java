@@ -0,0 +1,27 @@
+package dev.logchange.core.application.file;
+
+import java.util.Locale;
+
+/**
+ * Name of entry file (without extension) made of its title, f.e. {@code upgraded-junit-to-5-10-0}
+ * for {@code Upgraded junit to 5.10.0}.
+ */
+public class EntryFileName {
+
+    public static final String DEFAULT = "entry";
+
+    private static final int MAX_LENGTH = 60;
+
+    private EntryFileName() {
+    }
+
+    public static String of(String title) {
+        String name = title == null ? "" : title.toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("^-|-$", "");
+        if (name.length() > MAX_LENGTH) {
+            name = name.substring(0, MAX_LENGTH).replaceAll("-$", "");
+        }
+        return name.isEmpty() ? DEFAULT : name;
+    }
+}
@@ -0,0 +1,45 @@
+package dev.logchange.core.application.file.query;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Comparator;
+
+/**
+ * Content of a single file read eagerly into memory, so no file handle stays open after reading.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FileContent {
+
+    /**
+     * Order of entries in a version directory, entries of packed entries file are sorted together with loose ones.
+     */
+    public static final Comparator<FileContent> BY_ENTRY_NAME = Comparator.comparing(content -> content.getFile().getName());
+
+    private final File file;
+    private final byte[] bytes;
+
+    public static FileContent of(File file, byte[] bytes) {
+        if (file == null || bytes == null) {
+            throw new IllegalArgumentException("File and its content cannot be null!");
+        }
+        return new FileContent(file, bytes);
+    }
+
+    public String getPath() {
+        return file.getPath();
+    }
+
+    public int getSize() {
+        return bytes.length;
+    }
+
+    public InputStream asInputStream() {
+        return new ByteArrayInputStream(bytes);
+    }
+}
@@ -2,6 +2,7 @@ package dev.logchange.core.application.file.query;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.List;
 import java.util.stream.Stream;
 
 public interface FileQuery {
@@ -10,5 +11,21 @@ public interface FileQuery {
 
     Stream<File> readYmlFiles(File versionsDirectory);
 
+    /**
+     * Caller is responsible for closing returned stream.
+     */
     InputStream readFileContent(File entry);
+
+    byte[] readFileBytes(File entry);
+
+    /**
+     * Reads content of single YML file, packed entries file gives content of each entry it holds.
+     */
+    List<FileContent> readYmlFileContent(File entry);
+
+    /**
+     * Reads content of all YML files from given version directory in {@link FileContent#BY_ENTRY_NAME} order,
+     * so entries of packed entries file are placed among entries added to the directory after packing.
+     */
+    List<FileContent> readYmlFilesContent(File versionDirectory);
 }
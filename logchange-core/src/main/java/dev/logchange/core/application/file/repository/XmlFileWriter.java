@@ -1,8 +1,13 @@
 package dev.logchange.core.application.file.repository;
 
-import org.apache.maven.plugins.changes.model.ChangesDocument;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+
+import java.util.List;
 
 public interface XmlFileWriter {
 
-    void writeXml(ChangesDocument changesDocument);
+    /**
+     * Streams releases and actions of the given versions as Maven Changes document.
+     */
+    void writeXml(List<ChangelogVersion> versions);
 }
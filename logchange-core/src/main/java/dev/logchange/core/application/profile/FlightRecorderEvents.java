@@ -0,0 +1,53 @@
+package dev.logchange.core.application.profile;
+
+import dev.logchange.core.application.profile.jfr.JfrEvents;
+
+/**
+ * Emits Java Flight Recorder events of logchange work, so it can be seen next to GC and I/O in JDK Mission Control.
+ * JFR classes are loaded only when the runtime provides them, and events are created only while they are recorded,
+ * otherwise every method returns a no-op span.
+ */
+public class FlightRecorderEvents {
+
+    private static final boolean AVAILABLE = isAvailable();
+
+    private static final Span NOOP = () -> {
+    };
+
+    /**
+     * Duration of recorded operation, ends when closed.
+     */
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public static Span changelogScan(String directory) {
+        return AVAILABLE ? JfrEvents.changelogScan(directory) : NOOP;
+    }
+
+    public static Span entryParse(String path, long size) {
+        return AVAILABLE ? JfrEvents.entryParse(path, size) : NOOP;
+    }
+
+    public static Span versionRender(String version) {
+        return AVAILABLE ? JfrEvents.versionRender(version) : NOOP;
+    }
+
+    public static Span templateRender(String templatePath) {
+        return AVAILABLE ? JfrEvents.templateRender(templatePath) : NOOP;
+    }
+
+    public static Span archiveWrite(int versions) {
+        return AVAILABLE ? JfrEvents.archiveWrite(versions) : NOOP;
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
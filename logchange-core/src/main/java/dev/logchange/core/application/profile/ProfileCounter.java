@@ -0,0 +1,11 @@
+package dev.logchange.core.application.profile;
+
+public enum ProfileCounter {
+    FILES_READ,
+    BYTES_READ,
+    FILES_WRITTEN,
+    BYTES_WRITTEN,
+    ENTRIES_PARSED,
+    VERSIONS_RENDERED,
+    TEMPLATES_RENDERED
+}
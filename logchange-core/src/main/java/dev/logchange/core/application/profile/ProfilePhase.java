@@ -0,0 +1,14 @@
+package dev.logchange.core.application.profile;
+
+/**
+ * Parts of changelog processing measured separately by {@link Profiler}, they do not overlap.
+ */
+public enum ProfilePhase {
+    SCAN,
+    READ,
+    PARSE,
+    GROUP,
+    MARKDOWN_RENDER,
+    JINJA_RENDER,
+    WRITE
+}
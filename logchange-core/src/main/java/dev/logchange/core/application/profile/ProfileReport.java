@@ -0,0 +1,122 @@
+package dev.logchange.core.application.profile;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.CustomLog;
+import lombok.Getter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Result of profiling, printed as summary and saved as JSON, so it can be compared between CI builds.
+ */
+@CustomLog
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProfileReport {
+
+    private final long totalMillis;
+    private final Map<ProfilePhase, Phase> phases;
+    private final Map<ProfileCounter, Long> counters;
+    private final List<Item> slowestEntries;
+    private final List<Item> slowestTemplates;
+
+    static ProfileReport of(long totalNanos,
+                            Map<ProfilePhase, Profiler.PhaseTime> phaseTimes,
+                            Map<ProfileCounter, LongAdder> counterValues,
+                            Collection<Item> entries,
+                            Collection<Item> templates,
+                            int slowestLimit) {
+        Map<ProfilePhase, Phase> phases = new LinkedHashMap<>();
+        for (ProfilePhase phase : ProfilePhase.values()) {
+            Profiler.PhaseTime time = phaseTimes.get(phase);
+            if (time != null) {
+                phases.put(phase, new Phase(time.count.sum(), toMillis(time.wallNanos.sum()), toMillis(time.cpuNanos.sum())));
+            }
+        }
+
+        Map<ProfileCounter, Long> counters = new LinkedHashMap<>();
+        for (ProfileCounter counter : ProfileCounter.values()) {
+            LongAdder value = counterValues.get(counter);
+            counters.put(counter, value == null ? 0 : value.sum());
+        }
+
+        return new ProfileReport(toMillis(totalNanos), phases, counters, slowest(entries, slowestLimit), slowest(templates, slowestLimit));
+    }
+
+    public String toSummary() {
+        StringBuilder summary = new StringBuilder("Profile (total " + totalMillis + " ms):\n");
+        phases.forEach((phase, time) -> summary.append(String.format("  %-16s %8d ms wall %8d ms cpu %6d calls%n",
+                phase, time.getWallMillis(), time.getCpuMillis(), time.getCount())));
+        counters.forEach((counter, value) -> summary.append(String.format("  %-18s %10d%n", counter, value)));
+        appendItems(summary, "Slowest entries:", slowestEntries);
+        appendItems(summary, "Slowest templates:", slowestTemplates);
+        return summary.toString();
+    }
+
+    public void writeJson(File file) {
+        try {
+            if (file.getAbsoluteFile().getParentFile() != null) {
+                file.getAbsoluteFile().getParentFile().mkdirs();
+            }
+            new ObjectMapper()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(file, this);
+            log.info("Saved profile report to file: " + file.getPath());
+        } catch (IOException e) {
+            String message = "Could not save profile report to file: " + file + " because: " + e.getMessage();
+            log.error(message);
+            throw new IllegalStateException(message, e);
+        }
+    }
+
+    private static void appendItems(StringBuilder summary, String title, List<Item> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        summary.append("  ").append(title).append('\n');
+        items.forEach(item -> summary.append(String.format("    %8d us %s%n", item.getMicros(), item.getPath())));
+    }
+
+    private static List<Item> slowest(Collection<Item> items, int limit) {
+        return items.stream()
+                .sorted(Comparator.comparingLong(Item::getMicros).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Phase {
+        private final long count;
+        private final long wallMillis;
+        private final long cpuMillis;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Item {
+        private final String path;
+        private final long bytes;
+        private final long micros;
+
+        static Item of(String path, long bytes, long nanos) {
+            return new Item(path, bytes, TimeUnit.NANOSECONDS.toMicros(nanos));
+        }
+    }
+}
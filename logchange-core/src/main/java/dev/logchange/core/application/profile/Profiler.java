@@ -0,0 +1,158 @@
+package dev.logchange.core.application.profile;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Collects timings and counters of changelog processing when enabled (f.e. by --profile option).
+ * When disabled every method returns immediately, so instrumentation can stay in the code.
+ * <p>
+ * A profiler belongs to the run (thread) that enabled it, so runs sharing a JVM (f.e. modules of a parallel
+ * Maven build) do not mix their measurements. Work handed over to other threads has to be wrapped with
+ * {@link #propagate(Function)}; measurements of those threads are summed, so in batch mode report covers all projects.
+ */
+public class Profiler {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final Timer NOOP_TIMER = new Timer(null, null, 0, 0);
+
+    private static final ThreadLocal<Profiler> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<ProfilePhase, PhaseTime> phases = new ConcurrentHashMap<>();
+    private final Map<ProfileCounter, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Queue<ProfileReport.Item> entries = new ConcurrentLinkedQueue<>();
+    private final Queue<ProfileReport.Item> templates = new ConcurrentLinkedQueue<>();
+
+    private Profiler() {
+    }
+
+    /**
+     * Starts profiling of the run executed by the current thread.
+     *
+     * @throws IllegalStateException when the run is already profiled, as nested profiles would hide each other
+     */
+    public static void enable() {
+        if (CURRENT.get() != null) {
+            throw new IllegalStateException("Profiler is already enabled for this run");
+        }
+        CURRENT.set(new Profiler());
+    }
+
+    public static boolean isEnabled() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Disables profiling of the current run and returns: Report of everything recorded since {@link #enable()}.
+     */
+    public static ProfileReport finish(int slowestLimit) {
+        Profiler profiler = CURRENT.get();
+        CURRENT.remove();
+        if (profiler == null) {
+            throw new IllegalStateException("Profiler was not enabled");
+        }
+        return ProfileReport.of(System.nanoTime() - profiler.startNanos, profiler.phases, profiler.counters,
+                profiler.entries, profiler.templates, slowestLimit);
+    }
+
+    /**
+     * Returns: Function recording into the profiler of the current run, whichever thread it is applied on,
+     * or the given function itself when the run is not profiled.
+     */
+    public static <T, R> Function<T, R> propagate(Function<T, R> function) {
+        Profiler profiler = CURRENT.get();
+        if (profiler == null) {
+            return function;
+        }
+        return argument -> {
+            Profiler previous = CURRENT.get();
+            CURRENT.set(profiler);
+            try {
+                return function.apply(argument);
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns: Timer which adds time elapsed until {@link Timer#close()} to given phase.
+     */
+    public static Timer start(ProfilePhase phase) {
+        Profiler profiler = CURRENT.get();
+        if (profiler == null) {
+            return NOOP_TIMER;
+        }
+        return new Timer(profiler, phase, System.nanoTime(), cpuTime());
+    }
+
+    public static void count(ProfileCounter counter, long value) {
+        Profiler profiler = CURRENT.get();
+        if (profiler != null) {
+            profiler.counters.computeIfAbsent(counter, c -> new LongAdder()).add(value);
+        }
+    }
+
+    public static void entryParsed(String path, long bytes, long nanos) {
+        Profiler profiler = CURRENT.get();
+        if (profiler != null) {
+            profiler.counters.computeIfAbsent(ProfileCounter.ENTRIES_PARSED, c -> new LongAdder()).increment();
+            profiler.entries.add(ProfileReport.Item.of(path, bytes, nanos));
+        }
+    }
+
+    public static void templateRendered(String path, long nanos) {
+        Profiler profiler = CURRENT.get();
+        if (profiler != null) {
+            profiler.counters.computeIfAbsent(ProfileCounter.TEMPLATES_RENDERED, c -> new LongAdder()).increment();
+            profiler.templates.add(ProfileReport.Item.of(path, 0, nanos));
+        }
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    public static class Timer implements AutoCloseable {
+
+        private final Profiler profiler;
+        private final ProfilePhase phase;
+        private final long startNanos;
+        private final long startCpuNanos;
+
+        private Timer(Profiler profiler, ProfilePhase phase, long startNanos, long startCpuNanos) {
+            this.profiler = profiler;
+            this.phase = phase;
+            this.startNanos = startNanos;
+            this.startCpuNanos = startCpuNanos;
+        }
+
+        @Override
+        public void close() {
+            if (profiler == null) {
+                return;
+            }
+            PhaseTime time = profiler.phases.computeIfAbsent(phase, p -> new PhaseTime());
+            time.count.increment();
+            time.wallNanos.add(System.nanoTime() - startNanos);
+            time.cpuNanos.add(cpuTime() - startCpuNanos);
+        }
+    }
+
+    static class PhaseTime {
+        final LongAdder count = new LongAdder();
+        final LongAdder wallNanos = new LongAdder();
+        final LongAdder cpuNanos = new LongAdder();
+    }
+}
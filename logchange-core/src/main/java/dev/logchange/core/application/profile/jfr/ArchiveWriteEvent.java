@@ -0,0 +1,17 @@
+package dev.logchange.core.application.profile.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("dev.logchange.ArchiveWrite")
+@Label("Archive Write")
+@Category("logchange")
+@Description("Rendering and saving archive of versions")
+class ArchiveWriteEvent extends Event {
+
+    @Label("Versions")
+    int versions;
+}
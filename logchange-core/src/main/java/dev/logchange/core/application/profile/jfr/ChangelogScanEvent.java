@@ -0,0 +1,17 @@
+package dev.logchange.core.application.profile.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("dev.logchange.ChangelogScan")
+@Label("Changelog Scan")
+@Category("logchange")
+@Description("Listing of changelog directory")
+class ChangelogScanEvent extends Event {
+
+    @Label("Directory")
+    String directory;
+}
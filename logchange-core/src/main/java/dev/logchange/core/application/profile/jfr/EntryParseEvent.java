@@ -0,0 +1,22 @@
+package dev.logchange.core.application.profile.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("dev.logchange.EntryParse")
+@Label("Entry Parse")
+@Category("logchange")
+@Description("Parsing of YML changelog entry file")
+class EntryParseEvent extends Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+}
@@ -0,0 +1,70 @@
+package dev.logchange.core.application.profile.jfr;
+
+import dev.logchange.core.application.profile.FlightRecorderEvents;
+import dev.logchange.core.application.profile.FlightRecorderEvents.Span;
+import jdk.jfr.Event;
+
+/**
+ * Creates logchange JFR events, used only through {@link FlightRecorderEvents} when JFR is available.
+ */
+public class JfrEvents {
+
+    private static final Span NOOP = () -> {
+    };
+
+    public static Span changelogScan(String directory) {
+        ChangelogScanEvent event = new ChangelogScanEvent();
+        if (!event.isEnabled()) {
+            return NOOP;
+        }
+        event.directory = directory;
+        return begin(event);
+    }
+
+    public static Span entryParse(String path, long size) {
+        EntryParseEvent event = new EntryParseEvent();
+        if (!event.isEnabled()) {
+            return NOOP;
+        }
+        event.path = path;
+        event.size = size;
+        return begin(event);
+    }
+
+    public static Span versionRender(String version) {
+        VersionRenderEvent event = new VersionRenderEvent();
+        if (!event.isEnabled()) {
+            return NOOP;
+        }
+        event.version = version;
+        return begin(event);
+    }
+
+    public static Span templateRender(String templatePath) {
+        TemplateRenderEvent event = new TemplateRenderEvent();
+        if (!event.isEnabled()) {
+            return NOOP;
+        }
+        event.templatePath = templatePath;
+        return begin(event);
+    }
+
+    public static Span archiveWrite(int versions) {
+        ArchiveWriteEvent event = new ArchiveWriteEvent();
+        if (!event.isEnabled()) {
+            return NOOP;
+        }
+        event.versions = versions;
+        return begin(event);
+    }
+
+    private static Span begin(Event event) {
+        event.begin();
+        return () -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package dev.logchange.core.application.profile.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("dev.logchange.TemplateRender")
+@Label("Template Render")
+@Category("logchange")
+@Description("Rendering of Jinja template")
+class TemplateRenderEvent extends Event {
+
+    @Label("Template Path")
+    String templatePath;
+}
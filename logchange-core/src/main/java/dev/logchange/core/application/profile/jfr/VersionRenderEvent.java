@@ -0,0 +1,17 @@
+package dev.logchange.core.application.profile.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("dev.logchange.VersionRender")
+@Label("Version Render")
+@Category("logchange")
+@Description("Rendering and saving summaries of a version")
+class VersionRenderEvent extends Event {
+
+    @Label("Version")
+    String version;
+}
@@ -1,14 +1,23 @@
 package dev.logchange.core.domain.changelog.command;
 
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
 import dev.logchange.core.domain.changelog.model.version.Version;
+import dev.logchange.core.domain.config.model.archive.ArchivePolicy;
 import lombok.Getter;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 public interface ArchiveUseCase {
 
     List<String> handle(ArchiveCommand command);
 
+    /**
+     * @return archived files, empty when all versions are within the policy
+     */
+    List<String> handle(ArchivePolicyCommand command);
+
     @Getter
     class ArchiveCommand {
         private final Version version;
@@ -27,4 +36,27 @@ public interface ArchiveUseCase {
             return new ArchiveCommand(version);
         }
     }
+
+    @Getter
+    class ArchivePolicyCommand {
+        private final ArchivePolicy policy;
+        private final OffsetDateTime now;
+        private final ToLongFunction<ChangelogVersion> versionSize;
+
+        private ArchivePolicyCommand(ArchivePolicy policy, OffsetDateTime now, ToLongFunction<ChangelogVersion> versionSize) {
+            this.policy = policy;
+            this.now = now;
+            this.versionSize = versionSize;
+        }
+
+        /**
+         * @param versionSize size in bytes of the version rendered in changelog, used by max_size_kb rule
+         */
+        public static ArchivePolicyCommand of(ArchivePolicy policy, OffsetDateTime now, ToLongFunction<ChangelogVersion> versionSize) {
+            if (policy == null) {
+                throw new IllegalArgumentException("Archive policy cannot be null!");
+            }
+            return new ArchivePolicyCommand(policy, now, versionSize);
+        }
+    }
 }
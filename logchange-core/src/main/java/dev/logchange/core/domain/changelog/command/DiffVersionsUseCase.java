@@ -0,0 +1,41 @@
+package dev.logchange.core.domain.changelog.command;
+
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import lombok.Getter;
+
+public interface DiffVersionsUseCase {
+
+    /**
+     * @return single version with entries of all versions newer than {@code from} and not newer than {@code to}
+     */
+    ChangelogVersion handle(DiffVersionsCommand command);
+
+    @Getter
+    class DiffVersionsCommand {
+        private final Version from;
+        private final Version to;
+
+        private DiffVersionsCommand(Version from, Version to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        public static DiffVersionsCommand of(Version from, Version to) {
+            if (from == null || to == null) {
+                throw new IllegalArgumentException("Versions to compare cannot be null!");
+            }
+            if (from.compareTo(to) >= 0) {
+                throw new IllegalArgumentException("Version " + from + " has to be older than " + to + "!");
+            }
+            return new DiffVersionsCommand(from, to);
+        }
+
+        /**
+         * Label of the merged version, f.e. {@code 4.1.0..5.3.2}
+         */
+        public Version getRange() {
+            return Version.of(from.getValue() + ".." + to.getValue());
+        }
+    }
+}
@@ -2,11 +2,24 @@ package dev.logchange.core.domain.changelog.command;
 
 import lombok.Value;
 
+import java.io.File;
+import java.util.List;
+
 public interface ValidateChangelogUseCase {
 
     void handle(ValidateChangelogCommand command);
 
+    void handle(ValidateChangelogEntriesCommand command);
+
     @Value(staticConstructor = "of")
     class ValidateChangelogCommand {
     }
+
+    /**
+     * Validates only given entry files, without parsing whole changelog.
+     */
+    @Value(staticConstructor = "of")
+    class ValidateChangelogEntriesCommand {
+        List<File> entryFiles;
+    }
 }
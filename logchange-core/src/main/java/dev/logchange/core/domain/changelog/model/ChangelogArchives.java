@@ -3,13 +3,13 @@ package dev.logchange.core.domain.changelog.model;
 import dev.logchange.core.domain.changelog.model.archive.ChangelogArchive;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.CustomLog;
 import lombok.Getter;
-import lombok.extern.java.Log;
 
 import java.util.Collections;
 import java.util.List;
 
-@Log
+@CustomLog
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ChangelogArchives {
@@ -18,7 +18,7 @@ public class ChangelogArchives {
 
     static ChangelogArchives of(List<ChangelogArchive> archives) {
         if (archives == null) {
-            log.severe("Changelog archives versions cannot be null!");
+            log.error("Changelog archives versions cannot be null!");
             throw new IllegalArgumentException("Changelog archives versions cannot be null!");
         }
         return new ChangelogArchives(Collections.unmodifiableList(archives));
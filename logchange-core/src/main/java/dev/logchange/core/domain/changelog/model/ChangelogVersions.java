@@ -3,14 +3,14 @@ package dev.logchange.core.domain.changelog.model;
 import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.CustomLog;
 import lombok.Getter;
-import lombok.extern.java.Log;
 
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
-@Log
+@CustomLog
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ChangelogVersions implements Iterable<ChangelogVersion> {
@@ -19,7 +19,7 @@ public class ChangelogVersions implements Iterable<ChangelogVersion> {
 
     static ChangelogVersions of(List<ChangelogVersion> versions) {
         if (versions == null) {
-            log.severe("Changelog versions cannot be null!");
+            log.error("Changelog versions cannot be null!");
             throw new IllegalArgumentException("Changelog versions cannot be null!");
         }
         return new ChangelogVersions(Collections.unmodifiableList(versions));
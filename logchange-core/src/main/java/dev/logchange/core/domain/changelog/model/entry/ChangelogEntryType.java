@@ -26,6 +26,12 @@ public class ChangelogEntryType {
 
     private static List<ChangelogEntryType> entryTypes = new ArrayList<>();
 
+    /**
+     * Entry types of the project processed by the current thread, set only inside {@link #isolated(Runnable)}.
+     * Allows generating many projects with different configurations concurrently in one JVM.
+     */
+    private static final ThreadLocal<List<ChangelogEntryType>> isolatedEntryTypes = new ThreadLocal<>();
+
     static {
         defaultEntryTypes.add(new ChangelogEntryType(DEFAULT_ENTRY_TYPE_ADDED, 1));
         defaultEntryTypes.add(new ChangelogEntryType(DEFAULT_ENTRY_TYPE_CHANGED, 2));
@@ -63,6 +69,10 @@ public class ChangelogEntryType {
     }
 
     public static List<ChangelogEntryType> values() {
+        List<ChangelogEntryType> isolated = isolatedEntryTypes.get();
+        if (isolated != null) {
+            return isolated.isEmpty() ? defaultEntryTypes : isolated;
+        }
         if (entryTypes == null || entryTypes.isEmpty()) {
             return defaultEntryTypes;
         } else {
@@ -71,6 +81,15 @@ public class ChangelogEntryType {
     }
 
     public static void setEntryTypes(List<CustomChangelogEntryType> entryTypes) {
+        List<ChangelogEntryType> isolated = isolatedEntryTypes.get();
+        if (isolated != null) {
+            if (isolated.isEmpty() && entryTypes != null) {
+                for (CustomChangelogEntryType type : entryTypes) {
+                    isolated.add(type.to());
+                }
+            }
+            return;
+        }
         if (ChangelogEntryType.entryTypes == null || ChangelogEntryType.entryTypes.isEmpty()) {
             if (entryTypes != null && !entryTypes.isEmpty()) {
                 if (ChangelogEntryType.entryTypes == null) {
@@ -88,6 +107,24 @@ public class ChangelogEntryType {
         entryTypes = new ArrayList<>();
     }
 
+    /**
+     * Runs the action with entry types visible only to the current thread,
+     * so types set by one project do not leak into other projects handled by the same JVM.
+     */
+    public static void isolated(Runnable action) {
+        List<ChangelogEntryType> previous = isolatedEntryTypes.get();
+        isolatedEntryTypes.set(new ArrayList<>());
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                isolatedEntryTypes.remove();
+            } else {
+                isolatedEntryTypes.set(previous);
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return order + ". " + getKey().toLowerCase();
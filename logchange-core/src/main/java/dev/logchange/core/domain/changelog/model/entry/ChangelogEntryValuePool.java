@@ -0,0 +1,64 @@
+package dev.logchange.core.domain.changelog.model.entry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deduplicates authors, modules and links repeated across entries, so entries read in one run share
+ * single instance of f.e. the same author instead of keeping own copy of its name, nick and url.
+ * Pool should live as long as entries read with it, it is safe to use from many threads.
+ */
+public class ChangelogEntryValuePool {
+
+    /**
+     * Creates new value every time, for entries read one by one.
+     */
+    public static final ChangelogEntryValuePool NONE = new ChangelogEntryValuePool(false);
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final boolean pooled;
+    private final Map<String, ChangelogEntryAuthor> authors = new ConcurrentHashMap<>();
+    private final Map<String, ChangelogModule> modules = new ConcurrentHashMap<>();
+    private final Map<String, ChangelogEntryLink> links = new ConcurrentHashMap<>();
+
+    private ChangelogEntryValuePool(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    public static ChangelogEntryValuePool create() {
+        return new ChangelogEntryValuePool(true);
+    }
+
+    public ChangelogEntryAuthor author(String name, String nick, String url) {
+        ChangelogEntryAuthor author = ChangelogEntryAuthor.of(name, nick, url);
+        if (!pooled) {
+            return author;
+        }
+        String key = author.getName() + SEPARATOR + author.getNick() + SEPARATOR + author.getUrl();
+        ChangelogEntryAuthor pooledAuthor = authors.putIfAbsent(key, author);
+        return pooledAuthor == null ? author : pooledAuthor;
+    }
+
+    public ChangelogModule module(String name) {
+        if (!pooled) {
+            return new ChangelogModule(name);
+        }
+        return modules.computeIfAbsent(name, ChangelogModule::new);
+    }
+
+    public ChangelogEntryLink link(String name, String url) {
+        if (!pooled) {
+            return ChangelogEntryLink.of(name, url);
+        }
+        String key = name + SEPARATOR + url;
+        return links.computeIfAbsent(key, k -> ChangelogEntryLink.of(name, url));
+    }
+
+    /**
+     * @return number of distinct values kept by this pool
+     */
+    public int size() {
+        return authors.size() + modules.size() + links.size();
+    }
+}
@@ -1,13 +1,13 @@
 package dev.logchange.core.domain.changelog.model.entry;
 
 import lombok.AllArgsConstructor;
+import lombok.CustomLog;
 import lombok.Getter;
-import lombok.extern.java.Log;
 
 /**
  * Enum for types supported by Changes.xml.
  */
-@Log
+@CustomLog
 @Getter
 @AllArgsConstructor
 public enum ChangesXMLEntryType {
@@ -21,7 +21,7 @@ public enum ChangesXMLEntryType {
     private final Integer order;
 
     public static ChangesXMLEntryType getXmlTypeFromMarkdownEntryType(ChangelogEntryType markdownEntryType) {
-        log.info("Changelog entry key: " + markdownEntryType.getKey());
+        log.debug(() -> "Changelog entry key: " + markdownEntryType.getKey());
         if ("added".equals(markdownEntryType.getKey())) {
             return ADD;
         } else if ("fixed".equals(markdownEntryType.getKey()) || "changed".equals(markdownEntryType.getKey())) {
@@ -32,4 +32,22 @@ public enum ChangesXMLEntryType {
             return ChangesXMLEntryType.UPDATE;
         }
     }
+
+    /**
+     * Reverse of {@link #getXmlTypeFromMarkdownEntryType(ChangelogEntryType)}, {@code fix} is read as fixed,
+     * {@code update} as changed, unknown and missing types as other.
+     */
+    public static String getMarkdownEntryTypeKey(String xmlType) {
+        if (ADD.getType().equalsIgnoreCase(xmlType)) {
+            return ChangelogEntryType.DEFAULT_ENTRY_TYPE_ADDED;
+        } else if (FIX.getType().equalsIgnoreCase(xmlType)) {
+            return ChangelogEntryType.DEFAULT_ENTRY_TYPE_FIXED;
+        } else if (UPDATE.getType().equalsIgnoreCase(xmlType)) {
+            return ChangelogEntryType.DEFAULT_ENTRY_TYPE_CHANGED;
+        } else if (REMOVE.getType().equalsIgnoreCase(xmlType)) {
+            return ChangelogEntryType.DEFAULT_ENTRY_TYPE_REMOVED;
+        } else {
+            return ChangelogEntryType.DEFAULT_ENTRY_TYPE_OTHER;
+        }
+    }
 }
@@ -9,8 +9,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -21,45 +23,100 @@ public class ChangelogVersion implements Comparable<ChangelogVersion> {
 
     private final Version version;
     private final ReleaseDateTime releaseDateTime;
-    private final List<ChangelogVersionEntriesGroup> entriesGroups;
+    private List<ChangelogVersionEntriesGroup> entriesGroups;
+    // reads entries on first access, so versions that are never rendered (f.e. by templates) are never parsed
+    @Getter(AccessLevel.NONE)
+    private Supplier<List<ChangelogVersionEntriesGroup>> entriesGroupsLoader;
     private List<ChangelogEntry> sortedEntries;
+    @Getter(AccessLevel.NONE)
+    private EntriesView entriesView;
 
     @Override
     public int compareTo(ChangelogVersion o) {
         return version.compareTo(o.version);
     }
 
+    public synchronized List<ChangelogVersionEntriesGroup> getEntriesGroups() {
+        if (entriesGroups == null && entriesGroupsLoader != null) {
+            entriesGroups = entriesGroupsLoader.get();
+            entriesGroupsLoader = null;
+        }
+        return entriesGroups;
+    }
+
+    /**
+     * @return true when entries are already read
+     */
+    public synchronized boolean isLoaded() {
+        return entriesGroupsLoader == null;
+    }
+
     public Stream<DetachedImportantNote> getDetachedImportantNotes() {
-        return getEntriesWithOrder().flatMap(ChangelogEntry::getDetachedImportantNotes);
+        return entriesView().detachedImportantNotes.stream();
+    }
+
+    /**
+     * Important notes of all entries in order of entries, as a list which (unlike a stream) can be iterated by templates.
+     */
+    public List<DetachedImportantNote> getImportantNotes() {
+        return entriesView().detachedImportantNotes;
     }
 
     public Stream<DetachedConfiguration> getDetachedConfigurations() {
-        return getEntriesWithOrder().flatMap(ChangelogEntry::getDetachedConfigurations);
+        return entriesView().detachedConfigurations.stream();
     }
 
     public List<ChangelogEntryConfiguration> getConfigurations() {
-        return getEntriesWithOrder()
-                .map(ChangelogEntry::getConfigurations)
-                .flatMap(List::stream)
-                .sorted()
-                .collect(Collectors.toList());
+        return entriesView().configurations;
     }
 
     public List<ChangelogEntry> getEntries() {
-        return entriesGroups.stream()
-                .map(ChangelogVersionEntriesGroup::getEntries)
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
+        return entriesView().entries;
     }
 
     public Stream<ChangelogEntry> getEntriesWithOrder() {
-        if (sortedEntries == null) {
-            sortedEntries = entriesGroups.stream()
-                .map(ChangelogVersionEntriesGroup::getEntries)
-                .flatMap(List::stream)
-                .sorted(Comparator.comparingInt(ChangelogEntry::getId))
-                .collect(Collectors.toList());
+        return entriesView().sortedEntries.stream();
+    }
+
+    private synchronized EntriesView entriesView() {
+        if (entriesView == null) {
+            entriesView = new EntriesView(getEntriesGroups());
+            sortedEntries = entriesView.sortedEntries;
+        }
+        return entriesView;
+    }
+
+    /**
+     * Lists derived from entries of the version, built once, because markdown and templates
+     * (f.e. version summary rendered for every version) read them many times.
+     */
+    private static class EntriesView {
+
+        private final List<ChangelogEntry> entries;
+        private final List<ChangelogEntry> sortedEntries;
+        private final List<DetachedImportantNote> detachedImportantNotes;
+        private final List<DetachedConfiguration> detachedConfigurations;
+        private final List<ChangelogEntryConfiguration> configurations;
+
+        private EntriesView(List<ChangelogVersionEntriesGroup> entriesGroups) {
+            entries = Collections.unmodifiableList(entriesGroups.stream()
+                    .map(ChangelogVersionEntriesGroup::getEntries)
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList()));
+            sortedEntries = Collections.unmodifiableList(entries.stream()
+                    .sorted(Comparator.comparingInt(ChangelogEntry::getId))
+                    .collect(Collectors.toList()));
+            detachedImportantNotes = Collections.unmodifiableList(sortedEntries.stream()
+                    .flatMap(ChangelogEntry::getDetachedImportantNotes)
+                    .collect(Collectors.toList()));
+            detachedConfigurations = Collections.unmodifiableList(sortedEntries.stream()
+                    .flatMap(ChangelogEntry::getDetachedConfigurations)
+                    .collect(Collectors.toList()));
+            configurations = Collections.unmodifiableList(sortedEntries.stream()
+                    .map(ChangelogEntry::getConfigurations)
+                    .flatMap(List::stream)
+                    .sorted()
+                    .collect(Collectors.toList()));
         }
-        return sortedEntries.stream();
     }
 }
@@ -1,6 +1,7 @@
 package dev.logchange.core.domain.config.model;
 
 import dev.logchange.core.domain.config.model.aggregate.Aggregates;
+import dev.logchange.core.domain.config.model.archive.ArchivePolicy;
 import dev.logchange.core.domain.config.model.labels.Labels;
 import dev.logchange.core.domain.config.model.templates.Templates;
 import lombok.AllArgsConstructor;
@@ -21,6 +22,7 @@ public class Config {
             .labels(Labels.EMPTY)
             .templates(Templates.EMPTY)
             .aggregates(Aggregates.EMPTY)
+            .archive(ArchivePolicy.EMPTY)
             .build();
 
     private Heading heading;
@@ -28,5 +30,10 @@ public class Config {
     private Labels labels;
     private Templates templates;
     private Aggregates aggregates;
+    private ArchivePolicy archive;
+
+    public ArchivePolicy getArchive() {
+        return archive == null ? ArchivePolicy.EMPTY : archive;
+    }
 
 }
@@ -0,0 +1,50 @@
+package dev.logchange.core.domain.config.model.archive;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Retention of released versions in the changelog, versions outside any of the configured rules
+ * are archived automatically by generate (and release). Rule with null value is turned off.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArchivePolicy {
+
+    public static final ArchivePolicy EMPTY = new ArchivePolicy(null, null, null);
+
+    /**
+     * Number of the newest released versions kept in the changelog.
+     */
+    private final Integer keepVersions;
+
+    /**
+     * Released versions older than this number of months are archived.
+     */
+    private final Integer keepMonths;
+
+    /**
+     * Maximal size of versions in the changelog in kilobytes, the newest released version is always kept.
+     */
+    private final Integer maxSizeKb;
+
+    public static ArchivePolicy of(Integer keepVersions, Integer keepMonths, Integer maxSizeKb) {
+        checkNotNegative("keep_versions", keepVersions);
+        checkNotNegative("keep_months", keepMonths);
+        checkNotNegative("max_size_kb", maxSizeKb);
+        return new ArchivePolicy(keepVersions, keepMonths, maxSizeKb);
+    }
+
+    private static void checkNotNegative(String name, Integer value) {
+        if (value != null && value < 0) {
+            throw new IllegalArgumentException("Archive " + name + " cannot be negative!");
+        }
+    }
+
+    public boolean isEnabled() {
+        return keepVersions != null || keepMonths != null || maxSizeKb != null;
+    }
+}
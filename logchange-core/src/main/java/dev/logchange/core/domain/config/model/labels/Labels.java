@@ -14,6 +14,7 @@ public class Labels {
 
     public static final String DEFAULT_UNRELEASED_LABEL = "unreleased";
     public static final String DEFAULT_IMPORTANT_NOTES_LABEL = "Important notes";
+    public static final String DEFAULT_ARCHIVED_VERSIONS_LABEL = "Archived versions";
 
     public static final Labels EMPTY = Labels.builder()
             .types(TypesLabels.EMPTY)
@@ -24,6 +25,7 @@ public class Labels {
     private String importantNotes;
     private TypesLabels types;
     private ConfigurationLabels configuration;
+    private String archivedVersions;
 
     public String getUnreleased() {
         return defaultIfBlank(unreleased, DEFAULT_UNRELEASED_LABEL);
@@ -32,4 +34,8 @@ public class Labels {
     public String getImportantNotes() {
         return defaultIfBlank(importantNotes, DEFAULT_IMPORTANT_NOTES_LABEL);
     }
+
+    public String getArchivedVersions() {
+        return defaultIfBlank(archivedVersions, DEFAULT_ARCHIVED_VERSIONS_LABEL);
+    }
 }
@@ -0,0 +1,53 @@
+package dev.logchange.core.domain.config.model.templates;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Guards against runaway Jinja templates (f.e. an accidental nested loop), so rendering fails fast
+ * instead of exhausting heap or hanging the build. Value 0 turns a limit off.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TemplateLimits {
+
+    public static final long DEFAULT_MAX_OUTPUT_SIZE = 64L * 1024 * 1024;
+    public static final long DEFAULT_MAX_RENDER_TIME = 120;
+    public static final TemplateLimits DEFAULT = new TemplateLimits(DEFAULT_MAX_OUTPUT_SIZE, DEFAULT_MAX_RENDER_TIME);
+
+    /**
+     * Maximal number of characters rendered by single template.
+     */
+    private final long maxOutputSize;
+
+    /**
+     * Maximal time of rendering single template in seconds.
+     */
+    private final long maxRenderTime;
+
+    /**
+     * @param maxOutputSize when null {@link #DEFAULT_MAX_OUTPUT_SIZE}
+     * @param maxRenderTime when null {@link #DEFAULT_MAX_RENDER_TIME}
+     */
+    public static TemplateLimits of(Long maxOutputSize, Long maxRenderTime) {
+        long outputSize = maxOutputSize == null ? DEFAULT_MAX_OUTPUT_SIZE : maxOutputSize;
+        long renderTime = maxRenderTime == null ? DEFAULT_MAX_RENDER_TIME : maxRenderTime;
+        if (outputSize < 0 || renderTime < 0) {
+            throw new IllegalArgumentException("Template limits cannot be negative, use 0 to turn a limit off!");
+        }
+        return new TemplateLimits(outputSize, renderTime);
+    }
+
+    public boolean isOutputSizeLimited() {
+        return maxOutputSize > 0;
+    }
+
+    public boolean isRenderTimeLimited() {
+        return maxRenderTime > 0;
+    }
+}
@@ -19,6 +19,7 @@ public class Templates {
     private String authorFormat;
     private List<VersionSummaryTemplate> versionSummaryTemplates;
     private List<ChangelogTemplate> changelogTemplates;
+    private TemplateLimits limits;
 
     public String getEntryFormat() {
         return defaultIfBlank(entryFormat, DEFAULT_ENTRY_FORMAT);
@@ -35,4 +36,8 @@ public class Templates {
     public List<ChangelogTemplate> getChangelogTemplates() {
         return changelogTemplates == null ? Collections.emptyList() : changelogTemplates;
     }
+
+    public TemplateLimits getLimits() {
+        return limits == null ? TemplateLimits.DEFAULT : limits;
+    }
 }
@@ -0,0 +1,177 @@
+package dev.logchange.core.format.changes_xml;
+
+import dev.logchange.core.application.changelog.repository.ImportedChangelogRepository;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryAuthor;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryTitle;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.entry.ChangesXMLEntryType;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.plugins.changes.model.Action;
+import org.apache.maven.plugins.changes.model.FixedIssue;
+import org.apache.maven.plugins.changes.model.Release;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Reads Maven Changes {@code changes.xml} with StAX, element by element. Only the current {@link Release}
+ * (without its actions) and {@link Action} are held in memory, each action is passed to
+ * {@link ImportedChangelogRepository} as soon as its element ends, so documents of any size are read in constant memory.
+ * <p>
+ * Action types are mapped back as in {@link ChangesXMLEntryType#getMarkdownEntryTypeKey(String)},
+ * {@code dev} and {@code due-to} become authors and numeric {@code issue} attributes become issues.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class ChangesXmlStreamReader {
+
+    private static final String UNRELEASED = "unreleased";
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final InputStream in;
+
+    /**
+     * Does not close the stream.
+     *
+     * @return number of read actions
+     */
+    public int read(ImportedChangelogRepository repository) throws XMLStreamException {
+        XMLStreamReader xml = INPUT_FACTORY.createXMLStreamReader(in);
+        int actions = 0;
+        try {
+            Release release = null;
+            Action action = null;
+            StringBuilder text = new StringBuilder();
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String element = xml.getLocalName();
+                    if ("release".equals(element)) {
+                        release = readRelease(xml);
+                        repository.saveVersion(toVersion(release), toReleaseDate(release));
+                    } else if ("action".equals(element) && release != null) {
+                        action = readAction(xml);
+                        text.setLength(0);
+                    } else if ("fixes".equals(element) && action != null) {
+                        FixedIssue fixedIssue = new FixedIssue();
+                        fixedIssue.setIssue(xml.getAttributeValue(null, "issue"));
+                        action.addFixedIssue(fixedIssue);
+                    }
+                } else if (action != null && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                    text.append(xml.getText());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("action".equals(xml.getLocalName()) && action != null) {
+                        action.setAction(text.toString());
+                        repository.saveEntry(toEntry(action, release));
+                        actions++;
+                        action = null;
+                    } else if ("release".equals(xml.getLocalName())) {
+                        release = null;
+                    }
+                }
+            }
+        } finally {
+            xml.close();
+        }
+        return actions;
+    }
+
+    private static Release readRelease(XMLStreamReader xml) {
+        Release release = new Release();
+        release.setVersion(xml.getAttributeValue(null, "version"));
+        release.setDateRelease(xml.getAttributeValue(null, "date"));
+        release.setDescription(xml.getAttributeValue(null, "description"));
+        return release;
+    }
+
+    private static Action readAction(XMLStreamReader xml) {
+        Action action = new Action();
+        action.setDev(xml.getAttributeValue(null, "dev"));
+        action.setType(xml.getAttributeValue(null, "type"));
+        action.setIssue(xml.getAttributeValue(null, "issue"));
+        action.setDueTo(xml.getAttributeValue(null, "due-to"));
+        return action;
+    }
+
+    private static Version toVersion(Release release) {
+        if (StringUtils.isBlank(release.getVersion())) {
+            throw new IllegalArgumentException("Release without version in changes.xml");
+        }
+        String version = release.getVersion().trim();
+        if (version.startsWith(Version.UNRELEASED)) {
+            return Version.of(version);
+        }
+        if (UNRELEASED.equalsIgnoreCase(release.getDateRelease()) || version.endsWith("-SNAPSHOT")) {
+            return Version.of(Version.UNRELEASED);
+        }
+        return Version.of(version.startsWith("v") ? version.substring(1) : version);
+    }
+
+    private static LocalDate toReleaseDate(Release release) {
+        String date = release.getDateRelease();
+        if (StringUtils.isBlank(date) || UNRELEASED.equalsIgnoreCase(date)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim().substring(0, Math.min(10, date.trim().length())));
+        } catch (DateTimeParseException e) {
+            log.warn("Cannot read release date: " + date + " of version " + release.getVersion() + ", it will be skipped");
+            return null;
+        }
+    }
+
+    private static ChangelogEntry toEntry(Action action, Release release) {
+        String title = StringUtils.normalizeSpace(action.getAction());
+        if (StringUtils.isBlank(title)) {
+            throw new IllegalArgumentException("Action without description in release " + release.getVersion() + " of changes.xml");
+        }
+
+        ChangelogEntry.ChangelogEntryBuilder entry = ChangelogEntry.builder()
+                .title(ChangelogEntryTitle.of(title))
+                .type(ChangelogEntryType.fromNameIgnoreCase(ChangesXMLEntryType.getMarkdownEntryTypeKey(action.getType())));
+
+        for (String dev : StringUtils.split(StringUtils.defaultString(action.getDev()), ',')) {
+            if (StringUtils.isNotBlank(dev)) {
+                entry.author(ChangelogEntryAuthor.of(null, dev.trim(), null));
+            }
+        }
+        if (StringUtils.isNotBlank(action.getDueTo())) {
+            entry.author(ChangelogEntryAuthor.of(action.getDueTo().trim(), null, null));
+        }
+
+        addIssue(entry, action.getIssue());
+        for (FixedIssue fixedIssue : action.getFixedIssues()) {
+            addIssue(entry, fixedIssue.getIssue());
+        }
+        return entry.build();
+    }
+
+    private static void addIssue(ChangelogEntry.ChangelogEntryBuilder entry, String issue) {
+        if (issue == null) {
+            return;
+        }
+        String number = issue.trim().startsWith("#") ? issue.trim().substring(1) : issue.trim();
+        if (StringUtils.isNumeric(number)) {
+            entry.issue(Long.parseLong(number));
+        } else if (StringUtils.isNotBlank(number)) {
+            log.debug(() -> "Skipping not numeric issue: " + issue);
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
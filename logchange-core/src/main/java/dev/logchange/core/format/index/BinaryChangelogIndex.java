@@ -0,0 +1,257 @@
+package dev.logchange.core.format.index;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compact binary form of {@link ChangelogIndex}. Every string is stored once in a string table and referenced by id,
+ * the version table holds the absolute offset of each version's entries, so a single version can be read
+ * without decoding the others. All numbers are big-endian.
+ * <pre>
+ * magic            4 bytes "LCIX"
+ * formatVersion    short
+ * stringCount      int, then per string: int byteLength, UTF-8 bytes
+ * versionCount     int, then per version (20 bytes): int version, int releaseDate, int entryCount, long entriesOffset
+ * entries          per entry: int title, int type,
+ *                  int count + int[] modules,
+ *                  int count + (int name, int nick, int url)[] authors,
+ *                  int count + long[] issues,
+ *                  int count + long[] mergeRequests,
+ *                  int count + (int name, int url)[] links
+ * </pre>
+ * String ids are indexes in the string table, {@code -1} stands for null (e.g. release date of unreleased version).
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BinaryChangelogIndex {
+
+    private static final byte[] MAGIC = {'L', 'C', 'I', 'X'};
+    private static final int NULL_ID = -1;
+    private static final int VERSION_TABLE_ROW_SIZE = 4 + 4 + 4 + 8;
+
+    private final ByteBuffer buffer;
+    private final String[] strings;
+    private final List<VersionRow> versionTable;
+
+    public static void write(ChangelogIndex index, OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        ByteArrayOutputStream entriesBytes = new ByteArrayOutputStream();
+        DataOutputStream entries = new DataOutputStream(entriesBytes);
+
+        List<VersionRow> rows = new ArrayList<>();
+        for (ChangelogIndex.Version version : index.getVersions()) {
+            rows.add(new VersionRow(strings.id(version.getVersion()), strings.id(version.getReleaseDate()),
+                    version.getEntries().size(), entries.size()));
+            for (ChangelogIndex.Entry entry : version.getEntries()) {
+                writeEntry(entry, strings, entries);
+            }
+        }
+        entries.flush();
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeShort(index.getFormatVersion());
+        data.writeInt(strings.size());
+        for (byte[] value : strings.encoded()) {
+            data.writeInt(value.length);
+            data.write(value);
+        }
+        data.writeInt(rows.size());
+
+        long entriesStart = data.size() + (long) rows.size() * VERSION_TABLE_ROW_SIZE;
+        for (VersionRow row : rows) {
+            data.writeInt(row.version);
+            data.writeInt(row.releaseDate);
+            data.writeInt(row.entryCount);
+            data.writeLong(entriesStart + row.entriesOffset);
+        }
+        entriesBytes.writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * Maps the file and reads string and version tables only, entries are decoded on demand.
+     */
+    public static BinaryChangelogIndex open(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    static BinaryChangelogIndex read(ByteBuffer buffer) throws IOException {
+        ByteBuffer header = buffer.duplicate();
+        byte[] magic = new byte[MAGIC.length];
+        header.get(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) {
+                throw new IOException("Not a logchange binary changelog index");
+            }
+        }
+        short formatVersion = header.getShort();
+        if (formatVersion != ChangelogIndex.FORMAT_VERSION) {
+            throw new IOException("Unsupported changelog index format version: " + formatVersion);
+        }
+
+        String[] strings = new String[header.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] value = new byte[header.getInt()];
+            header.get(value);
+            strings[i] = new String(value, StandardCharsets.UTF_8);
+        }
+
+        int versionCount = header.getInt();
+        List<VersionRow> versionTable = new ArrayList<>(versionCount);
+        for (int i = 0; i < versionCount; i++) {
+            versionTable.add(new VersionRow(header.getInt(), header.getInt(), header.getInt(), header.getLong()));
+        }
+
+        return new BinaryChangelogIndex(buffer, strings, Collections.unmodifiableList(versionTable));
+    }
+
+    public List<String> getVersions() {
+        List<String> versions = new ArrayList<>(versionTable.size());
+        for (VersionRow row : versionTable) {
+            versions.add(strings[row.version]);
+        }
+        return versions;
+    }
+
+    /**
+     * Decodes only the entries of the requested version, using its offset from the version table.
+     */
+    public Optional<ChangelogIndex.Version> findVersion(String version) {
+        for (VersionRow row : versionTable) {
+            if (strings[row.version].equals(version)) {
+                return Optional.of(readVersion(row));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public ChangelogIndex readAll() {
+        List<ChangelogIndex.Version> versions = new ArrayList<>(versionTable.size());
+        for (VersionRow row : versionTable) {
+            versions.add(readVersion(row));
+        }
+        return new ChangelogIndex(ChangelogIndex.FORMAT_VERSION, versions);
+    }
+
+    private ChangelogIndex.Version readVersion(VersionRow row) {
+        ByteBuffer data = buffer.duplicate();
+        // cast keeps the call binary compatible with Java 8, where position(int) is declared on Buffer only
+        ((Buffer) data).position((int) row.entriesOffset);
+
+        List<ChangelogIndex.Entry> entries = new ArrayList<>(row.entryCount);
+        for (int i = 0; i < row.entryCount; i++) {
+            entries.add(readEntry(data));
+        }
+        return new ChangelogIndex.Version(string(row.version), string(row.releaseDate), entries);
+    }
+
+    private ChangelogIndex.Entry readEntry(ByteBuffer data) {
+        String title = string(data.getInt());
+        String type = string(data.getInt());
+
+        List<String> modules = new ArrayList<>();
+        for (int i = data.getInt(); i > 0; i--) {
+            modules.add(string(data.getInt()));
+        }
+        List<ChangelogIndex.Author> authors = new ArrayList<>();
+        for (int i = data.getInt(); i > 0; i--) {
+            authors.add(new ChangelogIndex.Author(string(data.getInt()), string(data.getInt()), string(data.getInt())));
+        }
+        List<Long> issues = new ArrayList<>();
+        for (int i = data.getInt(); i > 0; i--) {
+            issues.add(data.getLong());
+        }
+        List<Long> mergeRequests = new ArrayList<>();
+        for (int i = data.getInt(); i > 0; i--) {
+            mergeRequests.add(data.getLong());
+        }
+        List<ChangelogIndex.Link> links = new ArrayList<>();
+        for (int i = data.getInt(); i > 0; i--) {
+            links.add(new ChangelogIndex.Link(string(data.getInt()), string(data.getInt())));
+        }
+
+        return new ChangelogIndex.Entry(title, type, modules, authors, issues, mergeRequests, links);
+    }
+
+    private String string(int id) {
+        return id == NULL_ID ? null : strings[id];
+    }
+
+    private static void writeEntry(ChangelogIndex.Entry entry, StringTable strings, DataOutputStream out) throws IOException {
+        out.writeInt(strings.id(entry.getTitle()));
+        out.writeInt(strings.id(entry.getType()));
+
+        out.writeInt(entry.getModules().size());
+        for (String module : entry.getModules()) {
+            out.writeInt(strings.id(module));
+        }
+        out.writeInt(entry.getAuthors().size());
+        for (ChangelogIndex.Author author : entry.getAuthors()) {
+            out.writeInt(strings.id(author.getName()));
+            out.writeInt(strings.id(author.getNick()));
+            out.writeInt(strings.id(author.getUrl()));
+        }
+        out.writeInt(entry.getIssues().size());
+        for (Long issue : entry.getIssues()) {
+            out.writeLong(issue);
+        }
+        out.writeInt(entry.getMergeRequests().size());
+        for (Long mergeRequest : entry.getMergeRequests()) {
+            out.writeLong(mergeRequest);
+        }
+        out.writeInt(entry.getLinks().size());
+        for (ChangelogIndex.Link link : entry.getLinks()) {
+            out.writeInt(strings.id(link.getName()));
+            out.writeInt(strings.id(link.getUrl()));
+        }
+    }
+
+    @AllArgsConstructor
+    private static class VersionRow {
+        private final int version;
+        private final int releaseDate;
+        private final int entryCount;
+        private final long entriesOffset;
+    }
+
+    private static class StringTable {
+        private final Map<String, Integer> ids = new LinkedHashMap<>();
+
+        int id(String value) {
+            if (value == null) {
+                return NULL_ID;
+            }
+            return ids.computeIfAbsent(value, key -> ids.size());
+        }
+
+        int size() {
+            return ids.size();
+        }
+
+        List<byte[]> encoded() {
+            List<byte[]> encoded = new ArrayList<>(ids.size());
+            ids.keySet().forEach(value -> encoded.add(value.getBytes(StandardCharsets.UTF_8)));
+            return encoded;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package dev.logchange.core.format.index;
+
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryAuthor;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryLink;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryMergeRequest;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogModule;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Flat, machine-readable view of a {@link Changelog}, written next to CHANGELOG.md as JSON and/or
+ * {@link BinaryChangelogIndex binary}, so other tools can query versions and entries without running logchange.
+ * Versions keep the changelog order (newest first) and entries keep their order within a version.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class ChangelogIndex {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private final int formatVersion;
+    private final List<Version> versions;
+
+    public static ChangelogIndex of(Changelog changelog) {
+        List<Version> versions = changelog.getVersions().getVersions().stream()
+                .map(ChangelogIndex::version)
+                .collect(Collectors.toList());
+        return new ChangelogIndex(FORMAT_VERSION, versions);
+    }
+
+    private static Version version(ChangelogVersion version) {
+        String releaseDate = version.getReleaseDateTime() == null ? null : version.getReleaseDateTime().toString();
+        List<Entry> entries = version.getEntriesWithOrder()
+                .map(ChangelogIndex::entry)
+                .collect(Collectors.toList());
+        return new Version(version.getVersion().getValue(), releaseDate, entries);
+    }
+
+    private static Entry entry(ChangelogEntry entry) {
+        return new Entry(
+                entry.getTitle().getValue(),
+                entry.getType().getKey(),
+                entry.getModules().stream().map(ChangelogModule::getName).collect(Collectors.toList()),
+                entry.getAuthors().stream().map(ChangelogIndex::author).collect(Collectors.toList()),
+                entry.getIssues(),
+                entry.getMergeRequests().stream().map(ChangelogEntryMergeRequest::getValue).collect(Collectors.toList()),
+                entry.getLinks().stream().map(ChangelogIndex::link).collect(Collectors.toList()));
+    }
+
+    private static Author author(ChangelogEntryAuthor author) {
+        return new Author(author.getName(), author.getNick(), author.getUrl());
+    }
+
+    private static Link link(ChangelogEntryLink link) {
+        return new Link(link.getName(), link.getUrl());
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static class Version {
+        private final String version;
+        // null for unreleased version
+        private final String releaseDate;
+        private final List<Entry> entries;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static class Entry {
+        private final String title;
+        private final String type;
+        private final List<String> modules;
+        private final List<Author> authors;
+        private final List<Long> issues;
+        private final List<Long> mergeRequests;
+        private final List<Link> links;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static class Author {
+        private final String name;
+        private final String nick;
+        private final String url;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static class Link {
+        private final String name;
+        private final String url;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.logchange.core.format.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public enum ChangelogIndexFormat {
+
+    JSON("json"),
+    BINARY("bin");
+
+    private final String extension;
+
+    /**
+     * @param formats {@code none}, {@code json}, {@code binary} or {@code all}, case-insensitive
+     * @return formats to write, empty when the index is disabled
+     */
+    public static Set<ChangelogIndexFormat> parse(String formats) {
+        if (formats == null || formats.trim().isEmpty() || "none".equalsIgnoreCase(formats.trim())) {
+            return Collections.emptySet();
+        }
+        if ("all".equalsIgnoreCase(formats.trim())) {
+            return EnumSet.allOf(ChangelogIndexFormat.class);
+        }
+
+        Set<ChangelogIndexFormat> result = EnumSet.noneOf(ChangelogIndexFormat.class);
+        for (String format : formats.split(",")) {
+            result.add(Arrays.stream(values())
+                    .filter(value -> value.name().equalsIgnoreCase(format.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown changelog index format: " + format.trim()
+                            + ", use one of: none, json, binary, all")));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,189 @@
+package dev.logchange.core.format.index;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Filter over {@link ColumnarChangelogIndex}, parsed from an expression of conditions joined with {@code and}, f.e.
+ * {@code type=security module=core version>=3.2} or {@code author=nick and last=10}.
+ * <ul>
+ *     <li>{@code type=}, {@code module=}, {@code author=} (nick or name), {@code issue=} accept many values separated
+ *     by commas, an entry matches when it has any of them, values are case-insensitive</li>
+ *     <li>{@code version} and {@code date} (release date, {@code yyyy-MM-dd}) accept {@code = > >= < <=},
+ *     versions are compared the same way as in changelog, so unreleased versions are the newest</li>
+ *     <li>{@code last=N} limits the result to N newest released versions</li>
+ * </ul>
+ * Empty expression matches every entry.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChangelogIndexQuery {
+
+    private static final Pattern CONDITION = Pattern.compile("([a-zA-Z]+)\\s*(>=|<=|=|>|<)\\s*(\\S+)");
+    private static final Pattern AND = Pattern.compile("(?i)\\s+and\\s+|\\s*&&\\s*");
+
+    private final List<String> types;
+    private final List<String> modules;
+    private final List<String> authors;
+    private final List<Long> issues;
+    private final List<Range<String>> versions;
+    private final List<Range<LocalDate>> dates;
+    private final Integer last;
+
+    public static ChangelogIndexQuery parse(String expression) {
+        List<String> types = new ArrayList<>();
+        List<String> modules = new ArrayList<>();
+        List<String> authors = new ArrayList<>();
+        List<Long> issues = new ArrayList<>();
+        List<Range<String>> versions = new ArrayList<>();
+        List<Range<LocalDate>> dates = new ArrayList<>();
+        Integer last = null;
+
+        String normalized = expression == null ? "" : AND.matcher(expression.trim()).replaceAll(" ");
+        Matcher matcher = CONDITION.matcher(normalized);
+        int position = 0;
+        while (position < normalized.length()) {
+            if (!matcher.find(position) || !normalized.substring(position, matcher.start()).trim().isEmpty()) {
+                throw invalid(expression, normalized.substring(position).trim());
+            }
+            String field = matcher.group(1).toLowerCase(Locale.ROOT);
+            String operator = matcher.group(2);
+            String value = matcher.group(3);
+            position = matcher.end();
+
+            switch (field) {
+                case "type":
+                    types.addAll(values(expression, field, operator, value));
+                    break;
+                case "module":
+                    modules.addAll(values(expression, field, operator, value));
+                    break;
+                case "author":
+                    authors.addAll(values(expression, field, operator, value));
+                    break;
+                case "issue":
+                    for (String issue : values(expression, field, operator, value)) {
+                        issues.add(number(expression, issue));
+                    }
+                    break;
+                case "version":
+                    versions.add(new Range<>(Operator.of(operator), value));
+                    break;
+                case "date":
+                    dates.add(new Range<>(Operator.of(operator), date(expression, value)));
+                    break;
+                case "last":
+                    if (!"=".equals(operator)) {
+                        throw invalid(expression, field + operator + value);
+                    }
+                    last = (int) number(expression, value);
+                    break;
+                default:
+                    throw invalid(expression, field + operator + value);
+            }
+            position = skipWhitespace(normalized, position);
+        }
+
+        return new ChangelogIndexQuery(unmodifiable(types), unmodifiable(modules), unmodifiable(authors),
+                unmodifiable(issues), unmodifiable(versions), unmodifiable(dates), last);
+    }
+
+    private static List<String> values(String expression, String field, String operator, String value) {
+        if (!"=".equals(operator)) {
+            throw invalid(expression, field + operator + value);
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(v -> !v.isEmpty())
+                .map(v -> v.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+
+    private static long number(String expression, String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw invalid(expression, value);
+        }
+    }
+
+    private static LocalDate date(String expression, String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw invalid(expression, value);
+        }
+    }
+
+    private static int skipWhitespace(String value, int position) {
+        while (position < value.length() && Character.isWhitespace(value.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static <T> List<T> unmodifiable(List<T> values) {
+        return Collections.unmodifiableList(values);
+    }
+
+    private static IllegalArgumentException invalid(String expression, String part) {
+        return new IllegalArgumentException("Invalid query: " + expression + " near: " + part
+                + ", expected f.e. type=security module=core version>=3.2 date>=2024-01-01 author=nick issue=123 last=10");
+    }
+
+    public enum Operator {
+        EQ, GT, GE, LT, LE;
+
+        static Operator of(String operator) {
+            switch (operator) {
+                case ">":
+                    return GT;
+                case ">=":
+                    return GE;
+                case "<":
+                    return LT;
+                case "<=":
+                    return LE;
+                default:
+                    return EQ;
+            }
+        }
+
+        /**
+         * @param comparison result of comparing tested value to the value from the query
+         */
+        public boolean matches(int comparison) {
+            switch (this) {
+                case GT:
+                    return comparison > 0;
+                case GE:
+                    return comparison >= 0;
+                case LT:
+                    return comparison < 0;
+                case LE:
+                    return comparison <= 0;
+                default:
+                    return comparison == 0;
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Range<T> {
+        private final Operator operator;
+        private final T value;
+    }
+}
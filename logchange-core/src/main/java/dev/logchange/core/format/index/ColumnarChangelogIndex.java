@@ -0,0 +1,182 @@
+package dev.logchange.core.format.index;
+
+import dev.logchange.core.domain.changelog.model.version.Version;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Column-oriented, in-memory form of {@link ChangelogIndex} for answering {@link ChangelogIndexQuery queries}.
+ * Entries are ordered by version (oldest first), so each version is a contiguous range of entry numbers and
+ * version and date conditions become ranges. Types, modules, authors and issues are dictionary encoded,
+ * with a bitset of matching entries per value. A query is evaluated as intersection of bitsets,
+ * without touching entry objects until the matches are returned.
+ */
+public class ColumnarChangelogIndex {
+
+    private static final int UNRELEASED_DAY = Integer.MIN_VALUE;
+
+    private final Version[] versions;
+    private final String[] releaseDates;
+    private final int[] versionReleaseDays;
+    // entries of version v are [versionFirstEntry[v], versionFirstEntry[v + 1])
+    private final int[] versionFirstEntry;
+    private final int releasedVersions;
+
+    private final ChangelogIndex.Entry[] entries;
+    private final int[] entryVersion;
+
+    private final Map<String, BitSet> typeEntries = new HashMap<>();
+    private final Map<String, BitSet> moduleEntries = new HashMap<>();
+    private final Map<String, BitSet> authorEntries = new HashMap<>();
+    private final Map<Long, BitSet> issueEntries = new HashMap<>();
+
+    private ColumnarChangelogIndex(List<ChangelogIndex.Version> sortedVersions, int entryCount) {
+        int versionCount = sortedVersions.size();
+        this.versions = new Version[versionCount];
+        this.releaseDates = new String[versionCount];
+        this.versionReleaseDays = new int[versionCount];
+        this.versionFirstEntry = new int[versionCount + 1];
+        this.entries = new ChangelogIndex.Entry[entryCount];
+        this.entryVersion = new int[entryCount];
+
+        int released = 0;
+        int entry = 0;
+        for (int v = 0; v < versionCount; v++) {
+            ChangelogIndex.Version version = sortedVersions.get(v);
+            versions[v] = Version.of(version.getVersion());
+            releaseDates[v] = version.getReleaseDate();
+            versionReleaseDays[v] = version.getReleaseDate() == null
+                    ? UNRELEASED_DAY
+                    : (int) LocalDate.parse(version.getReleaseDate()).toEpochDay();
+            if (!versions[v].isUnreleased()) {
+                released++;
+            }
+
+            versionFirstEntry[v] = entry;
+            for (ChangelogIndex.Entry indexEntry : version.getEntries()) {
+                entries[entry] = indexEntry;
+                entryVersion[entry] = v;
+                addEntry(entry, indexEntry);
+                entry++;
+            }
+        }
+        versionFirstEntry[versionCount] = entry;
+        this.releasedVersions = released;
+    }
+
+    public static ColumnarChangelogIndex of(ChangelogIndex index) {
+        List<ChangelogIndex.Version> sortedVersions = new ArrayList<>(index.getVersions());
+        sortedVersions.sort(Comparator.comparing(version -> Version.of(version.getVersion())));
+        int entryCount = sortedVersions.stream().mapToInt(version -> version.getEntries().size()).sum();
+        return new ColumnarChangelogIndex(sortedVersions, entryCount);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * @return matching entries, newest version first, entries of a version in their changelog order
+     */
+    public List<Match> query(ChangelogIndexQuery query) {
+        BitSet result = new BitSet(entries.length);
+        result.set(0, entries.length);
+
+        and(result, typeEntries, query.getTypes());
+        and(result, moduleEntries, query.getModules());
+        and(result, authorEntries, query.getAuthors());
+        and(result, issueEntries, query.getIssues());
+
+        for (ChangelogIndexQuery.Range<String> range : query.getVersions()) {
+            Version value = Version.of(range.getValue());
+            result.and(versionsMatching(v -> range.getOperator().matches(versions[v].compareTo(value))));
+        }
+        for (ChangelogIndexQuery.Range<LocalDate> range : query.getDates()) {
+            long day = range.getValue().toEpochDay();
+            result.and(versionsMatching(v -> versionReleaseDays[v] != UNRELEASED_DAY
+                    && range.getOperator().matches(Long.compare(versionReleaseDays[v], day))));
+        }
+        if (query.getLast() != null) {
+            int first = Math.max(0, releasedVersions - query.getLast());
+            result.and(versionsMatching(v -> v >= first && v < releasedVersions));
+        }
+
+        return matches(result);
+    }
+
+    private void addEntry(int entry, ChangelogIndex.Entry indexEntry) {
+        add(typeEntries, key(indexEntry.getType()), entry);
+        indexEntry.getModules().forEach(module -> add(moduleEntries, key(module), entry));
+        indexEntry.getAuthors().forEach(author -> {
+            add(authorEntries, key(author.getNick()), entry);
+            add(authorEntries, key(author.getName()), entry);
+        });
+        indexEntry.getIssues().forEach(issue -> add(issueEntries, issue, entry));
+    }
+
+    private static <K> void add(Map<K, BitSet> column, K key, int entry) {
+        if (key != null) {
+            column.computeIfAbsent(key, k -> new BitSet()).set(entry);
+        }
+    }
+
+    private static String key(String value) {
+        return value == null || value.isEmpty() ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> void and(BitSet result, Map<K, BitSet> column, List<K> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        BitSet any = new BitSet();
+        for (K value : values) {
+            BitSet entries = column.get(value);
+            if (entries != null) {
+                any.or(entries);
+            }
+        }
+        result.and(any);
+    }
+
+    private BitSet versionsMatching(IntPredicate version) {
+        BitSet matching = new BitSet(entries.length);
+        for (int v = 0; v < versions.length; v++) {
+            if (version.test(v)) {
+                matching.set(versionFirstEntry[v], versionFirstEntry[v + 1]);
+            }
+        }
+        return matching;
+    }
+
+    private List<Match> matches(BitSet result) {
+        List<Match> matches = new ArrayList<>(result.cardinality());
+        for (int v = versions.length - 1; v >= 0; v--) {
+            for (int entry = result.nextSetBit(versionFirstEntry[v]);
+                 entry >= 0 && entry < versionFirstEntry[v + 1];
+                 entry = result.nextSetBit(entry + 1)) {
+                matches.add(new Match(versions[entryVersion[entry]].getValue(), releaseDates[v], entries[entry]));
+            }
+        }
+        return matches;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Match {
+        private final String version;
+        // null for unreleased version
+        private final String releaseDate;
+        private final ChangelogIndex.Entry entry;
+    }
+}
@@ -0,0 +1,39 @@
+package dev.logchange.core.format.jinja;
+
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.lib.tag.Tag;
+import com.hubspot.jinjava.tree.TagNode;
+
+/**
+ * Replaces built-in tag (f.e. {@code for}), so before it is interpreted {@link RenderDeadline} of the current render
+ * is checked. Nested loops interpret the inner tag on every iteration of the outer one, so they are stopped too.
+ */
+class DeadlineTag implements Tag {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Tag delegate;
+
+    DeadlineTag(Tag delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public String getEndTagName() {
+        return delegate.getEndTagName();
+    }
+
+    @Override
+    public String interpret(TagNode tagNode, JinjavaInterpreter interpreter) {
+        Object deadline = interpreter.getContext().get(RenderDeadline.CONTEXT_KEY);
+        if (deadline instanceof RenderDeadline) {
+            ((RenderDeadline) deadline).check();
+        }
+        return delegate.interpret(tagNode, interpreter);
+    }
+}
@@ -2,15 +2,48 @@ package dev.logchange.core.format.jinja;
 
 import com.hubspot.jinjava.Jinjava;
 import com.hubspot.jinjava.JinjavaConfig;
+import com.hubspot.jinjava.lib.tag.ForTag;
+import com.hubspot.jinjava.lib.tag.IfTag;
+import dev.logchange.core.domain.config.model.templates.TemplateLimits;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class JinJavaProvider {
 
+    /**
+     * {@link Jinjava} creates a fresh context for every render call,
+     * so one instance can be shared between threads and projects.
+     */
+    private static final Jinjava JINJAVA = create(0);
+
+    /**
+     * Output size is part of {@link JinjavaConfig}, so there is one instance per configured limit.
+     */
+    private static final Map<Long, Jinjava> LIMITED = new ConcurrentHashMap<>();
+
     public static Jinjava get() {
+        return JINJAVA;
+    }
+
+    public static Jinjava get(TemplateLimits limits) {
+        if (!limits.isOutputSizeLimited()) {
+            return JINJAVA;
+        }
+        return LIMITED.computeIfAbsent(limits.getMaxOutputSize(), JinJavaProvider::create);
+    }
+
+    private static Jinjava create(long maxOutputSize) {
         JinjavaConfig config = JinjavaConfig.newBuilder()
                 .withTrimBlocks(true)
                 .withLstripBlocks(true)
+                .withMaxOutputSize(maxOutputSize)
                 .build();
 
-        return new Jinjava(config);
+        Jinjava jinjava = new Jinjava(config);
+        // loops and conditions check the render deadline, see JinjaRenderer
+        jinjava.getGlobalContext().registerTag(new DeadlineTag(new ForTag()));
+        jinjava.getGlobalContext().registerTag(new DeadlineTag(new IfTag()));
+        return jinjava;
     }
 }
@@ -0,0 +1,49 @@
+package dev.logchange.core.format.jinja;
+
+import dev.logchange.core.domain.config.model.templates.TemplateLimits;
+import lombok.CustomLog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders template within {@link TemplateLimits}. Output size is checked by Jinjava itself while rendering,
+ * render time by {@link DeadlineTag} before every loop and condition, both on the calling thread.
+ */
+@CustomLog
+public class JinjaRenderer {
+
+    private JinjaRenderer() {
+    }
+
+    public static String render(String template, Map<String, Object> context, TemplateLimits limits) throws Exception {
+        if (!limits.isRenderTimeLimited()) {
+            return JinJavaProvider.get(limits).render(template, context);
+        }
+
+        RenderDeadline deadline = RenderDeadline.inSeconds(limits.getMaxRenderTime());
+        Map<String, Object> bindings = new HashMap<>(context);
+        bindings.put(RenderDeadline.CONTEXT_KEY, deadline);
+        String rendered;
+        try {
+            rendered = JinJavaProvider.get(limits).render(template, bindings);
+        } catch (RuntimeException e) {
+            if (deadline.isExceeded()) {
+                throw renderTimeExceeded(limits, e);
+            }
+            throw e;
+        }
+        // Jinjava may report the stopped tag as non fatal error and still return partial output
+        if (deadline.isExceeded()) {
+            throw renderTimeExceeded(limits, null);
+        }
+        return rendered;
+    }
+
+    private static IllegalStateException renderTimeExceeded(TemplateLimits limits, Exception cause) {
+        String msg = "Rendering of template took longer than " + limits.getMaxRenderTime() + " seconds, " +
+                "check the template for endless loops or raise templates.limits.max_render_time in config";
+        log.error(msg);
+        return new IllegalStateException(msg, cause);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.logchange.core.format.jinja;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End of the time given to a single render, it is put into the render context and checked by {@link DeadlineTag}
+ * every time a loop or a condition is interpreted, so a runaway template stops on the thread that renders it.
+ */
+class RenderDeadline {
+
+    static final String CONTEXT_KEY = "__logchange_render_deadline";
+
+    private final long deadlineNanos;
+    private volatile boolean exceeded;
+
+    private RenderDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    static RenderDeadline inSeconds(long seconds) {
+        return new RenderDeadline(System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    void check() {
+        if (exceeded || System.nanoTime() - deadlineNanos > 0) {
+            exceeded = true;
+            throw new RenderTimeExceededException();
+        }
+    }
+
+    boolean isExceeded() {
+        return exceeded;
+    }
+
+    static class RenderTimeExceededException extends RuntimeException {
+        RenderTimeExceededException() {
+            super("Render time limit exceeded", null, false, false);
+        }
+    }
+}
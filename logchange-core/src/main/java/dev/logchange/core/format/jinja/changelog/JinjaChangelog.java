@@ -1,10 +1,10 @@
 package dev.logchange.core.format.jinja.changelog;
 
 import com.google.common.collect.Maps;
-import com.hubspot.jinjava.Jinjava;
 import dev.logchange.core.application.config.TemplateFile;
 import dev.logchange.core.domain.changelog.model.Changelog;
-import dev.logchange.core.format.jinja.JinJavaProvider;
+import dev.logchange.core.domain.config.model.templates.TemplateLimits;
+import dev.logchange.core.format.jinja.JinjaRenderer;
 import lombok.SneakyThrows;
 
 import java.util.Map;
@@ -13,19 +13,23 @@ public class JinjaChangelog {
 
     private final TemplateFile templateFile;
     private final Changelog changelog;
+    private final TemplateLimits limits;
 
     public JinjaChangelog(TemplateFile templateFile, Changelog changelog) {
+        this(templateFile, changelog, TemplateLimits.DEFAULT);
+    }
+
+    public JinjaChangelog(TemplateFile templateFile, Changelog changelog, TemplateLimits limits) {
         this.templateFile = templateFile;
         this.changelog = changelog;
+        this.limits = limits;
     }
 
     @SneakyThrows
     public String render() {
-        Jinjava jinjava = JinJavaProvider.get();
-
         Map<String, Object> context = Maps.newHashMap();
         context.put("changelog", changelog);
 
-        return jinjava.render(templateFile.getContent(), context);
+        return JinjaRenderer.render(templateFile.getContent(), context, limits);
     }
 }
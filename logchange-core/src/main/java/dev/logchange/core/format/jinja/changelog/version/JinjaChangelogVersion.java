@@ -1,10 +1,10 @@
 package dev.logchange.core.format.jinja.changelog.version;
 
 import com.google.common.collect.Maps;
-import com.hubspot.jinjava.Jinjava;
 import dev.logchange.core.application.config.TemplateFile;
 import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
-import dev.logchange.core.format.jinja.JinJavaProvider;
+import dev.logchange.core.domain.config.model.templates.TemplateLimits;
+import dev.logchange.core.format.jinja.JinjaRenderer;
 import lombok.SneakyThrows;
 
 import java.util.Map;
@@ -13,19 +13,23 @@ public class JinjaChangelogVersion {
 
     private final TemplateFile templateFile;
     private final ChangelogVersion version;
+    private final TemplateLimits limits;
 
     public JinjaChangelogVersion(TemplateFile templateFile, ChangelogVersion version) {
+        this(templateFile, version, TemplateLimits.DEFAULT);
+    }
+
+    public JinjaChangelogVersion(TemplateFile templateFile, ChangelogVersion version, TemplateLimits limits) {
         this.templateFile = templateFile;
         this.version = version;
+        this.limits = limits;
     }
 
     @SneakyThrows
     public String render() {
-        Jinjava jinjava = JinJavaProvider.get();
-
         Map<String, Object> context = Maps.newHashMap();
         context.put("version", version);
 
-        return jinjava.render(templateFile.getContent(), context);
+        return JinjaRenderer.render(templateFile.getContent(), context, limits);
     }
 }
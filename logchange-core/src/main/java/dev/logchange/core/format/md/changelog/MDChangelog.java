@@ -13,11 +13,20 @@ public class MDChangelog extends Configurable implements MD {
     private final MDChangelogArchives archives;
 
     public MDChangelog(Config config, Changelog changelog) {
+        this(config, changelog, null);
+    }
+
+    /**
+     * @param archivesDirectory directory of archive files relative to the changelog, when archive policy is enabled
+     *                          archives are linked from there instead of copied, so the changelog stays small
+     */
+    public MDChangelog(Config config, Changelog changelog, String archivesDirectory) {
         super(config);
         this.meta = new MDMeta();
         this.heading = new MDChangelogHeading(config.getHeading());
         this.versions = new MDChangelogVersions(getConfig(), changelog.getVersions());
-        this.archives = new MDChangelogArchives(changelog.getArchives());
+        this.archives = new MDChangelogArchives(changelog.getArchives(),
+                config.getArchive().isEnabled() ? archivesDirectory : null, config.getLabels().getArchivedVersions());
     }
 
     @Override
@@ -4,19 +4,42 @@ import dev.logchange.core.domain.changelog.model.ChangelogArchives;
 import dev.logchange.core.domain.changelog.model.archive.ChangelogArchive;
 import dev.logchange.core.format.md.MD;
 import dev.logchange.core.format.md.changelog.archive.MDChangelogArchive;
-import lombok.AllArgsConstructor;
 
-@AllArgsConstructor
+import static dev.logchange.md.MarkdownBasics.heading;
+
 public class MDChangelogArchives implements MD {
 
     private final ChangelogArchives archives;
 
+    /**
+     * Directory of archive files relative to the changelog, when set archives are linked instead of copied.
+     */
+    private final String linkDirectory;
+
+    /**
+     * Heading of the list of linked archives.
+     */
+    private final String linksHeading;
+
+    public MDChangelogArchives(ChangelogArchives archives) {
+        this(archives, null, null);
+    }
+
+    public MDChangelogArchives(ChangelogArchives archives, String linkDirectory, String linksHeading) {
+        this.archives = archives;
+        this.linkDirectory = linkDirectory;
+        this.linksHeading = linksHeading;
+    }
+
     @Override
     public String toString() {
         return getChangelogArchives();
     }
 
     private String getChangelogArchives() {
+        if (linkDirectory != null) {
+            return getChangelogArchivesLinks();
+        }
         StringBuilder mdArchives = new StringBuilder();
         for (ChangelogArchive archive : archives.getArchives()) {
             mdArchives.append(new MDChangelogArchive(archive))
@@ -24,4 +47,16 @@ public class MDChangelogArchives implements MD {
         }
         return mdArchives.toString();
     }
+
+    private String getChangelogArchivesLinks() {
+        if (archives.getArchives().isEmpty()) {
+            return "";
+        }
+        StringBuilder mdArchives = new StringBuilder(heading(linksHeading, 2)).append("\n\n");
+        for (ChangelogArchive archive : archives.getArchives()) {
+            String path = linkDirectory.isEmpty() ? archive.getFileName() : linkDirectory + "/" + archive.getFileName();
+            mdArchives.append("- [").append(archive.getFileName()).append("](").append(path).append(")\n");
+        }
+        return mdArchives.toString();
+    }
 }
@@ -0,0 +1,168 @@
+package dev.logchange.core.format.md.changelog;
+
+import dev.logchange.core.application.changelog.repository.ImportedChangelogRepository;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryAuthor;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryMergeRequest;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryTitle;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.LinkedList;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Line-oriented reader of {@code CHANGELOG.md} in <a href="https://keepachangelog.com">Keep a Changelog</a> format,
+ * including files generated by logchange:
+ * <ul>
+ *     <li>{@code ## [1.2.0] - 2023-01-31} (or the same line underlined with {@code ---}) starts a version,
+ *     {@code [Unreleased]} starts the unreleased one</li>
+ *     <li>{@code ### Fixed} (optionally followed by {@code (3 changes)}) sets type of following entries,
+ *     sections which are not entry types, f.e. important notes, are skipped</li>
+ *     <li>{@code - title} is an entry, indented lines which are not list items continue its title. Trailing
+ *     {@code #123} and {@code !45} become issues and merge requests, and {@code ([name](url) @nick)}
+ *     becomes authors, as generated by logchange.</li>
+ * </ul>
+ * Only the current entry is held in memory, so files of any size are read in constant memory.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class MDChangelogReader {
+
+    private static final Pattern VERSION = Pattern.compile("^(?:#{1,2}\\s*)?\\[\\s*(v?\\d[^\\]]*|unreleased[^\\]]*)\\](?!:)(.*)$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern RELEASE_DATE = Pattern.compile("(\\d{4}-\\d{2}-\\d{2})");
+    private static final Pattern SECTION = Pattern.compile("^#{3,4}\\s+([^(]+).*$");
+    private static final Pattern ENTRY = Pattern.compile("^ ?[-*+]\\s+(.+)$");
+    private static final Pattern CONTINUATION = Pattern.compile("^\\s{2,}(?![-*+]\\s)(\\S.*)$");
+    private static final Pattern AUTHORS = Pattern.compile("\\s*\\(((?:\\[[^\\]]*\\]\\([^)]*\\)\\s*@[^\\s,)]+(?:,\\s*)?)+)\\)$");
+    private static final Pattern AUTHOR = Pattern.compile("\\[([^\\]]*)\\]\\(([^)]*)\\)\\s*@([^\\s,)]+)");
+    private static final Pattern REFERENCE = Pattern.compile("\\s+([!#])(\\d+)$");
+
+    private final BufferedReader reader;
+
+    private boolean inVersion;
+    private ChangelogEntryType type;
+    private boolean skippedSection;
+    private StringBuilder title;
+    private int entries;
+
+    /**
+     * Does not close the reader.
+     *
+     * @return number of read entries
+     */
+    public int read(ImportedChangelogRepository repository) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            Matcher version = VERSION.matcher(line);
+            Matcher section = SECTION.matcher(line);
+            Matcher entry = ENTRY.matcher(line);
+            Matcher continuation = CONTINUATION.matcher(line);
+
+            if (version.matches()) {
+                flush(repository);
+                repository.saveVersion(toVersion(version.group(1)), toReleaseDate(version.group(2)));
+                inVersion = true;
+                type = null;
+                skippedSection = false;
+            } else if (section.matches() && inVersion) {
+                flush(repository);
+                type = toType(section.group(1));
+                skippedSection = type == null;
+                if (skippedSection) {
+                    String heading = line.trim();
+                    log.debug(() -> "Skipping section: " + heading);
+                }
+            } else if (entry.matches() && inVersion && !skippedSection) {
+                flush(repository);
+                title = new StringBuilder(entry.group(1).trim());
+            } else if (continuation.matches() && title != null) {
+                title.append(' ').append(continuation.group(1).trim());
+            } else {
+                flush(repository);
+            }
+        }
+        flush(repository);
+        return entries;
+    }
+
+    private void flush(ImportedChangelogRepository repository) {
+        if (title == null) {
+            return;
+        }
+        String value = title.toString();
+        title = null;
+        repository.saveEntry(toEntry(value));
+        entries++;
+    }
+
+    private ChangelogEntry toEntry(String value) {
+        ChangelogEntry.ChangelogEntryBuilder entry = ChangelogEntry.builder()
+                .type(type != null ? type : ChangelogEntryType.fromNameIgnoreCase(ChangelogEntryType.DEFAULT_ENTRY_TYPE_OTHER));
+
+        Matcher authors = AUTHORS.matcher(value);
+        if (authors.find()) {
+            Matcher author = AUTHOR.matcher(authors.group(1));
+            while (author.find()) {
+                entry.author(ChangelogEntryAuthor.of(author.group(1), author.group(3), author.group(2)));
+            }
+            value = value.substring(0, authors.start());
+        }
+
+        // references are at the end of the title, read backwards, but kept in their order
+        LinkedList<Long> issues = new LinkedList<>();
+        LinkedList<Long> mergeRequests = new LinkedList<>();
+        Matcher reference = REFERENCE.matcher(value);
+        while (reference.find()) {
+            long number = Long.parseLong(reference.group(2));
+            if ("#".equals(reference.group(1))) {
+                issues.addFirst(number);
+            } else {
+                mergeRequests.addFirst(number);
+            }
+            value = value.substring(0, reference.start());
+            reference = REFERENCE.matcher(value);
+        }
+        issues.forEach(entry::issue);
+        mergeRequests.forEach(mergeRequest -> entry.mergeRequest(ChangelogEntryMergeRequest.of(mergeRequest)));
+
+        return entry.title(ChangelogEntryTitle.of(value.trim())).build();
+    }
+
+    private static Version toVersion(String value) {
+        String version = value.trim();
+        if (version.toLowerCase(Locale.ROOT).startsWith(Version.UNRELEASED)) {
+            return Version.of(version.toLowerCase(Locale.ROOT));
+        }
+        return Version.of(version.startsWith("v") ? version.substring(1) : version);
+    }
+
+    private static LocalDate toReleaseDate(String rest) {
+        Matcher date = RELEASE_DATE.matcher(rest);
+        return date.find() ? LocalDate.parse(date.group(1)) : null;
+    }
+
+    /**
+     * @return type matching heading, f.e. {@code Dependency updates} is {@code dependency_update},
+     * or null if heading is not a type
+     */
+    private static ChangelogEntryType toType(String heading) {
+        String key = heading.trim().toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9 _]", "")
+                .trim()
+                .replaceAll("\\s+", "_");
+        for (ChangelogEntryType type : ChangelogEntryType.values()) {
+            if (type.getKey().equalsIgnoreCase(key) || (type.getKey() + "s").equalsIgnoreCase(key)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -9,9 +9,17 @@ import org.apache.commons.text.StringSubstitutor;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 class MDChangelogEntryAuthor extends Configurable implements MD {
 
+    private static final Pattern EMPTY_URL = Pattern.compile("\\[([^]]*)]\\(\\s*\\)");
+    private static final Pattern EMPTY_NAME = Pattern.compile("\\[\\s*]\\(([^)]+)\\)");
+    private static final Pattern LONE_AT = Pattern.compile("\\s*@\\)");
+    private static final Pattern SPACES_AFTER_OPENING = Pattern.compile("\\(\\s*");
+    private static final Pattern SPACES_BEFORE_CLOSING = Pattern.compile("\\s*\\)");
+    private static final Pattern MULTIPLE_SPACES = Pattern.compile("\\s{2,}");
+
     private final ChangelogEntryAuthor author;
 
     MDChangelogEntryAuthor(ChangelogEntryAuthor author, Config config) {
@@ -25,6 +33,10 @@ class MDChangelogEntryAuthor extends Configurable implements MD {
     }
 
     private String getAuthor() {
+        return MDChangelogEntryFragments.of(getConfig()).author(author, this::render);
+    }
+
+    private String render(ChangelogEntryAuthor author) {
         Map<String, String> valuesMap = new HashMap<>();
         String authorFormat = getConfig().getTemplates().getAuthorFormat();
         valuesMap.put("name", StringUtils.defaultString(author.getName()));
@@ -36,18 +48,19 @@ class MDChangelogEntryAuthor extends Configurable implements MD {
 
     private String format(String text) {
         // 1. Remove empty square brackets with empty parentheses or unnecessary spaces.
-        text = text.replaceAll("\\[([^]]*)]\\(\\s*\\)", "$1");
+        text = EMPTY_URL.matcher(text).replaceAll("$1");
 
         // 2. Replace empty square brackets with the word "LINK" if there is a URL in parentheses.
-        text = text.replaceAll("\\[\\s*]\\(([^)]+)\\)", "[LINK]($1)");
+        text = EMPTY_NAME.matcher(text).replaceAll("[LINK]($1)");
 
         // 3. Remove the lone "@" before a closing parenthesis.
-        text = text.replaceAll("\\s*@\\)", ")");
+        text = LONE_AT.matcher(text).replaceAll(")");
 
         // 4. Remove leading and trailing spaces around parentheses (both opening and closing).
-        text = text.replaceAll("\\(\\s*", "(").replaceAll("\\s*\\)", ")");
+        text = SPACES_AFTER_OPENING.matcher(text).replaceAll("(");
+        text = SPACES_BEFORE_CLOSING.matcher(text).replaceAll(")");
 
         // 5. Replace multiple spaces with a single space.
-        return text.replaceAll("\\s{2,}", " ").trim();
+        return MULTIPLE_SPACES.matcher(text).replaceAll(" ").trim();
     }
 }
@@ -0,0 +1,30 @@
+package dev.logchange.core.format.md.changelog.entry;
+
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryAuthor;
+import dev.logchange.core.domain.config.model.Config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Markdown of authors rendered once per {@link Config}, the same authors appear in thousands of entries,
+ * and their markdown depends only on the author and the author format from config.
+ * Cache is dropped together with its config.
+ */
+class MDChangelogEntryFragments {
+
+    private static final Map<Config, MDChangelogEntryFragments> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<ChangelogEntryAuthor, String> authors = new ConcurrentHashMap<>();
+
+    static MDChangelogEntryFragments of(Config config) {
+        return CACHE.computeIfAbsent(config, key -> new MDChangelogEntryFragments());
+    }
+
+    String author(ChangelogEntryAuthor author, Function<ChangelogEntryAuthor, String> render) {
+        return authors.computeIfAbsent(author, render);
+    }
+}
@@ -2,14 +2,10 @@ package dev.logchange.core.format.md.changelog.entry;
 
 import dev.logchange.core.format.md.MD;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.text.StringSubstitutor;
-
-import java.util.HashMap;
-import java.util.Map;
 
 class MDChangelogEntryIssue implements MD {
 
-    private static final String issueFormat = "#${issue}";
+    private static final String PREFIX = "#";
 
     private final Long issue;
 
@@ -27,9 +23,6 @@ class MDChangelogEntryIssue implements MD {
             return StringUtils.EMPTY;
         }
 
-        Map<String, Long> valuesMap = new HashMap<>();
-        valuesMap.put("issue", issue);
-        StringSubstitutor sub = new StringSubstitutor(valuesMap);
-        return sub.replace(issueFormat);
+        return PREFIX + issue;
     }
 }
@@ -4,6 +4,7 @@ import dev.logchange.core.domain.changelog.model.DetachedConfiguration;
 import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryConfiguration;
 import dev.logchange.core.domain.changelog.model.entry.ChangelogModule;
 import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.domain.config.model.labels.ConfigurationLabels;
 import dev.logchange.core.format.md.MD;
 import dev.logchange.core.format.md.MDList;
 import dev.logchange.core.format.md.changelog.Configurable;
@@ -13,9 +14,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static dev.logchange.md.MarkdownBasics.code;
 import static dev.logchange.md.MarkdownBasics.heading;
@@ -40,55 +40,51 @@ class MDChangelogVersionConfiguration extends Configurable implements MD {
         }
 
         MDModuleStructure<DetachedConfiguration> structure = MDModuleStructure.build(configurations, Comparator.naturalOrder());
+        Map<String, MarkdownTableBuilder> tables = getConfigurationTables(structure);
 
         StringBuilder markdownConfiguration = new StringBuilder(heading(getConfig().getLabels().getConfiguration().getHeading(), 3) + "\n\n");
-        Set<String> types = getConfigurationsTypes();
-
-        for (String type : types) {
-            markdownConfiguration.append(getConfigurationTable(structure, type)).append("\n\n");
+        for (MarkdownTableBuilder table : tables.values()) {
+            table.appendTo(markdownConfiguration);
+            markdownConfiguration.append("\n\n");
         }
 
         return markdownConfiguration.toString();
     }
 
-    private Set<String> getConfigurationsTypes() {
-        return configurations.stream()
-                .map(DetachedConfiguration::getType)
-                .collect(Collectors.toSet());
-    }
-
-    private String getConfigurationTable(MDModuleStructure<DetachedConfiguration> structure, String type) {
-        MarkdownTableBuilder tableBuilder = new MarkdownTableBuilder(getConfig().getLabels().getConfiguration().getType() + ": " + type);
-
-        structure.getNoModules().forEach(configuration -> {
-            if (type.equals(configuration.getType())) {
-                MDList line = renderLine(configuration.getConfiguration(), Optional.empty());
-                tableBuilder.addRow(line);
+    /**
+     * Puts every configuration into the table of its type in one pass, tables are ordered by type.
+     */
+    private Map<String, MarkdownTableBuilder> getConfigurationTables(MDModuleStructure<DetachedConfiguration> structure) {
+        Map<String, MarkdownTableBuilder> tables = new TreeMap<>();
+        for (DetachedConfiguration configuration : structure.getNoModules()) {
+            getConfigurationTable(tables, configuration.getType()).addRow(renderLine(configuration.getConfiguration(), null));
+        }
+        for (Map.Entry<ChangelogModule, List<DetachedConfiguration>> group : structure.getGroups().entrySet()) {
+            for (DetachedConfiguration configuration : group.getValue()) {
+                getConfigurationTable(tables, configuration.getType()).addRow(renderLine(configuration.getConfiguration(), group.getKey()));
             }
-        });
-        structure.getGroups().forEach((module, configurations) -> {
-            configurations.forEach(configuration -> {
-                if (type.equals(configuration.getType())) {
-                    MDList line = renderLine(configuration.getConfiguration(), Optional.of(module));
-                    tableBuilder.addRow(line);
-                }
-            });
-        });
+        }
+        return tables;
+    }
 
-        return tableBuilder.build();
+    private MarkdownTableBuilder getConfigurationTable(Map<String, MarkdownTableBuilder> tables, String type) {
+        return tables.computeIfAbsent(type, key ->
+                new MarkdownTableBuilder(getConfig().getLabels().getConfiguration().getType() + ": " + key));
     }
 
-    private MDList renderLine(ChangelogEntryConfiguration configuration, Optional<ChangelogModule> maybeModule) {
+    private MDList renderLine(ChangelogEntryConfiguration configuration, ChangelogModule module) {
+        ConfigurationLabels labels = getConfig().getLabels().getConfiguration();
         MDList configDetails = new MDList();
-        maybeModule.ifPresent(module -> {
-            String prefix = module.getName();
-            configDetails.add(prefix);
-        });
-        configDetails.add(getConfig().getLabels().getConfiguration().getActions().getAction(configuration.getAction()) + " "
-                + code(configuration.getKey()) + " "
-                + getConfig().getLabels().getConfiguration().getWithDefaultValue() + ": "
-                + code(configuration.getDefaultValue()));
-        configDetails.add(getConfig().getLabels().getConfiguration().getDescription() + ": " + configuration.getDescription());
+        if (module != null) {
+            configDetails.add(module.getName());
+        }
+        configDetails.add(new StringBuilder()
+                .append(labels.getActions().getAction(configuration.getAction())).append(' ')
+                .append(code(configuration.getKey())).append(' ')
+                .append(labels.getWithDefaultValue()).append(": ")
+                .append(code(configuration.getDefaultValue()))
+                .toString());
+        configDetails.add(labels.getDescription() + ": " + configuration.getDescription());
         configDetails.add(configuration.getMoreInfo());
         return configDetails;
     }
@@ -33,12 +33,16 @@ public class FileReleaseDateTime {
                 .orElse(null);
     }
 
-    @SneakyThrows
     public static void addToDir(Path unreleasedDir) {
-        File releaseDateFile = new File(unreleasedDir + "/" + RELEASE_DATE_FILENAME);
+        addToDir(unreleasedDir, LocalDate.now());
+    }
+
+    @SneakyThrows
+    public static void addToDir(Path versionDir, LocalDate releaseDate) {
+        File releaseDateFile = new File(versionDir + "/" + RELEASE_DATE_FILENAME);
 
         FileWriter fileWriter = new FileWriter(releaseDateFile);
-        fileWriter.write(LocalDate.now().toString());
+        fileWriter.write(releaseDate.toString());
         fileWriter.close();
     }
 
@@ -0,0 +1,330 @@
+package dev.logchange.core.format.search;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index for full-text {@link #search(String, int) search} over changelog entries and archives.
+ * Every entry, and every entry line of an archive (indexed as its title), is a document pointing to its version
+ * and file. Each term has a posting list of increasing document numbers stored as variable-length deltas,
+ * each followed by the weight of the term in the document (sum of {@link Field} weights of its occurrences),
+ * so a posting usually takes two bytes.
+ * <p>
+ * A document matches when it contains every term of the query, a term ending with {@code *} matches every term
+ * with that prefix. Matches are ranked by saturated term weight times inverse document frequency (like BM25),
+ * ties are resolved by document order, so documents added first (newer versions) win.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChangelogSearchIndex {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = {'L', 'C', 'S', 'I'};
+    private static final double SATURATION = 1.2;
+
+    private final String[] versions;
+    private final String[] files;
+    private final String[] titles;
+    // sorted, so terms sharing a prefix are a contiguous range
+    private final TreeMap<String, byte[]> postings;
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return versions.length;
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * @return at most {@code limit} best matching documents, best first
+     */
+    public List<Hit> search(String query, int limit) {
+        List<Collection<byte[]>> terms = queryTerms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        double[] scores = new double[versions.length];
+        // number of query terms found in a document, terms are processed in order, so a document missing
+        // any term stays behind and is skipped by the following ones
+        int[] matchedTerms = new int[versions.length];
+        for (int term = 0; term < terms.size(); term++) {
+            for (byte[] termPostings : terms.get(term)) {
+                score(termPostings, term, scores, matchedTerms);
+            }
+        }
+
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, ranking(scores).reversed());
+        for (int document = 0; document < versions.length; document++) {
+            if (matchedTerms[document] == terms.size()) {
+                best.add(document);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<Integer> documents = new ArrayList<>(best);
+        documents.sort(ranking(scores));
+        List<Hit> hits = new ArrayList<>(documents.size());
+        for (int document : documents) {
+            hits.add(new Hit(versions[document], files[document], titles[document], scores[document]));
+        }
+        return hits;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+        data.writeInt(versions.length);
+        for (int document = 0; document < versions.length; document++) {
+            writeString(data, versions[document]);
+            writeString(data, files[document]);
+            writeString(data, titles[document]);
+        }
+        data.writeInt(postings.size());
+        for (Map.Entry<String, byte[]> term : postings.entrySet()) {
+            writeString(data, term.getKey());
+            data.writeInt(term.getValue().length);
+            data.write(term.getValue());
+        }
+        data.flush();
+    }
+
+    public static ChangelogSearchIndex read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a logchange search index");
+        }
+        short formatVersion = data.readShort();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported search index format version: " + formatVersion);
+        }
+
+        int documentCount = data.readInt();
+        String[] versions = new String[documentCount];
+        String[] files = new String[documentCount];
+        String[] titles = new String[documentCount];
+        for (int document = 0; document < documentCount; document++) {
+            versions[document] = readString(data);
+            files[document] = readString(data);
+            titles[document] = readString(data);
+        }
+        TreeMap<String, byte[]> postings = new TreeMap<>();
+        for (int term = data.readInt(); term > 0; term--) {
+            String value = readString(data);
+            byte[] termPostings = new byte[data.readInt()];
+            data.readFully(termPostings);
+            postings.put(value, termPostings);
+        }
+        return new ChangelogSearchIndex(versions, files, titles, postings);
+    }
+
+    private List<Collection<byte[]>> queryTerms(String query) {
+        Set<String> exact = new LinkedHashSet<>();
+        Set<String> prefixes = new LinkedHashSet<>();
+        for (String part : query == null ? new String[0] : query.trim().split("\\s+")) {
+            List<String> tokens = SearchTokens.tokenize(part);
+            if (tokens.isEmpty()) {
+                continue;
+            }
+            boolean prefix = part.charAt(part.length() - 1) == SearchTokens.PREFIX_WILDCARD;
+            exact.addAll(tokens.subList(0, prefix ? tokens.size() - 1 : tokens.size()));
+            if (prefix) {
+                prefixes.add(tokens.get(tokens.size() - 1));
+            }
+        }
+
+        List<Collection<byte[]>> terms = new ArrayList<>();
+        for (String term : exact) {
+            byte[] termPostings = postings.get(term);
+            terms.add(termPostings == null ? Collections.emptyList() : Collections.singletonList(termPostings));
+        }
+        for (String prefix : prefixes) {
+            terms.add(postings.subMap(prefix, prefix + Character.MAX_VALUE).values());
+        }
+        return terms;
+    }
+
+    private void score(byte[] termPostings, int term, double[] scores, int[] matchedTerms) {
+        int[] position = {0};
+        int documentFrequency = readVarInt(termPostings, position);
+        double idf = Math.log(1 + (versions.length - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+        int document = 0;
+        while (position[0] < termPostings.length) {
+            document += readVarInt(termPostings, position);
+            int weight = readVarInt(termPostings, position);
+            if (matchedTerms[document] < term) {
+                continue;
+            }
+            // prefix terms may add to the same document, but it matches the query term once
+            matchedTerms[document] = term + 1;
+            scores[document] += idf * weight * (SATURATION + 1) / (weight + SATURATION);
+        }
+    }
+
+    private static Comparator<Integer> ranking(double[] scores) {
+        return Comparator.<Integer>comparingDouble(document -> scores[document]).reversed()
+                .thenComparingInt(document -> document);
+    }
+
+    private static int readVarInt(byte[] bytes, int[] position) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Part of a document the text comes from, matches in titles rank higher than in configuration descriptions.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Field {
+        TITLE(4),
+        IMPORTANT_NOTE(2),
+        CONFIGURATION(1);
+
+        private final int weight;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Hit {
+        private final String version;
+        private final String file;
+        private final String title;
+        private final double score;
+    }
+
+    public static class Builder {
+
+        private final List<String> versions = new ArrayList<>();
+        private final List<String> files = new ArrayList<>();
+        private final List<String> titles = new ArrayList<>();
+        private final Map<String, PostingsWriter> postings = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a document, title is indexed as {@link Field#TITLE}.
+         *
+         * @param texts other texts of the document, f.e. important notes
+         */
+        public Builder add(String version, String file, String title, Map<Field, List<String>> texts) {
+            int document = versions.size();
+            versions.add(version);
+            files.add(file);
+            titles.add(title);
+
+            Map<String, Integer> weights = new LinkedHashMap<>();
+            addWeights(weights, Field.TITLE, title);
+            texts.forEach((field, values) -> values.forEach(value -> addWeights(weights, field, value)));
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new PostingsWriter()).add(document, weight));
+            return this;
+        }
+
+        public ChangelogSearchIndex build() {
+            TreeMap<String, byte[]> encoded = new TreeMap<>();
+            postings.forEach((term, writer) -> encoded.put(term, writer.toByteArray()));
+            return new ChangelogSearchIndex(versions.toArray(new String[0]), files.toArray(new String[0]),
+                    titles.toArray(new String[0]), encoded);
+        }
+
+        private static void addWeights(Map<String, Integer> weights, Field field, String text) {
+            for (String term : SearchTokens.tokenize(text)) {
+                weights.merge(term, field.getWeight(), Integer::sum);
+            }
+        }
+    }
+
+    private static class PostingsWriter {
+        private byte[] bytes = new byte[8];
+        private int length;
+        private int documentFrequency;
+        private int lastDocument;
+
+        void add(int document, int weight) {
+            writeVarInt(document - lastDocument);
+            writeVarInt(weight);
+            lastDocument = document;
+            documentFrequency++;
+        }
+
+        byte[] toByteArray() {
+            byte[] header = new byte[5];
+            int headerLength = 0;
+            int value = documentFrequency;
+            while ((value & ~0x7F) != 0) {
+                header[headerLength++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            header[headerLength++] = (byte) value;
+
+            byte[] result = new byte[headerLength + length];
+            System.arraycopy(header, 0, result, 0, headerLength);
+            System.arraycopy(bytes, 0, result, headerLength, length);
+            return result;
+        }
+
+        private void writeVarInt(int value) {
+            if (length + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+    }
+}
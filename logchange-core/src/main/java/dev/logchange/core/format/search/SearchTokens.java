@@ -0,0 +1,41 @@
+package dev.logchange.core.format.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into search terms: runs of letters and digits, case-folded. Single letters are skipped
+ * as they match almost every entry, single digits are kept (f.e. {@code java 8}).
+ */
+final class SearchTokens {
+
+    static final char PREFIX_WILDCARD = '*';
+
+    private SearchTokens() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean partOfToken = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (partOfToken && start < 0) {
+                start = i;
+            } else if (!partOfToken && start >= 0) {
+                addToken(tokens, text.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, String token) {
+        if (token.length() > 1 || Character.isDigit(token.charAt(0))) {
+            tokens.add(token.toLowerCase(Locale.ROOT));
+        }
+    }
+}
@@ -10,7 +10,17 @@ import org.yaml.snakeyaml.DumperOptions;
 
 public class ObjectMapperProvider {
 
+    /**
+     * Configured {@link ObjectMapper} is thread-safe, so a single instance is shared
+     * by all readers and writers instead of building a new YAML factory for every entry.
+     */
+    private static final ObjectMapper MAPPER = create();
+
     public static ObjectMapper get() {
+        return MAPPER;
+    }
+
+    private static ObjectMapper create() {
         DumperOptions dumperOptions = new DumperOptions();
         dumperOptions.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
         dumperOptions.setPrettyFlow(true);
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import dev.logchange.core.domain.changelog.model.entry.*;
 import dev.logchange.core.format.yml.ObjectMapperProvider;
 import lombok.*;
@@ -14,6 +15,7 @@ import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,6 +29,9 @@ public class YMLChangelogEntry {
             "# Visit https://github.com/logchange/logchange and leave a star \uD83C\uDF1F \n" +
             "# More info about configuration you can find https://github.com/logchange/logchange#yaml-format ⬅️⬅ ️\n";
 
+    // resolved once, instead of looking up serializer of this type for every written entry
+    private static final ObjectWriter WRITER = ObjectMapperProvider.get().writerFor(YMLChangelogEntry.class);
+
     @JsonProperty(index = 0)
     public String title;
 
@@ -80,12 +85,46 @@ public class YMLChangelogEntry {
         YMLChangelogEntry res;
         try {
             res = mapper.readValue(input, YMLChangelogEntry.class);
-            res.setPath(path);
         } catch (Exception e) {
             String msg = (e.getCause() != null) ? e.getCause().getMessage() : e.getMessage();
             throw new YMLChangelogInvalidConfigValuesException(path, Collections.singleton(msg));
         }
 
+        return validated(res, path);
+    }
+
+    @SneakyThrows
+    public static YMLChangelogEntry of(byte[] content, String path) {
+        ObjectMapper mapper = ObjectMapperProvider.get();
+        YMLChangelogEntry res;
+        try {
+            res = mapper.readValue(content, YMLChangelogEntry.class);
+        } catch (Exception e) {
+            String msg = (e.getCause() != null) ? e.getCause().getMessage() : e.getMessage();
+            throw new YMLChangelogInvalidConfigValuesException(path, Collections.singleton(msg));
+        }
+
+        return validated(res, path);
+    }
+
+    /**
+     * Reads entry from already parsed values (f.e. a line of JSON or a row of CSV), with the same keys and
+     * validation as YML files.
+     */
+    public static YMLChangelogEntry of(Map<String, ?> values, String path) {
+        YMLChangelogEntry res;
+        try {
+            res = ObjectMapperProvider.get().convertValue(values, YMLChangelogEntry.class);
+        } catch (Exception e) {
+            String msg = (e.getCause() != null) ? e.getCause().getMessage() : e.getMessage();
+            throw new YMLChangelogInvalidConfigValuesException(path, Collections.singleton(msg));
+        }
+
+        return validated(res, path);
+    }
+
+    private static YMLChangelogEntry validated(YMLChangelogEntry res, String path) {
+        res.setPath(path);
         if (!res.invalidProperties.isEmpty()) {
             throw new YMLChangelogEntryConfigException(path, res.invalidProperties);
         }
@@ -109,8 +148,7 @@ public class YMLChangelogEntry {
 
     @SneakyThrows
     public String toYMLString() {
-        return YML_HEADING + ObjectMapperProvider.get()
-                .writeValueAsString(this);
+        return YML_HEADING + WRITER.writeValueAsString(this);
     }
 
     @JsonAnySetter
@@ -119,6 +157,13 @@ public class YMLChangelogEntry {
     }
 
     public ChangelogEntry to() {
+        return to(ChangelogEntryValuePool.NONE);
+    }
+
+    /**
+     * @param pool shares authors, modules and links with other entries read in the same run
+     */
+    public ChangelogEntry to(ChangelogEntryValuePool pool) {
         ChangelogEntryTitle changelogEntryTitle = title();
         ChangelogEntryType changelogEntryType = type();
         if (!invalidProperties.isEmpty()) {
@@ -130,11 +175,11 @@ public class YMLChangelogEntry {
                 .type(changelogEntryType)
                 .mergeRequests(mergeRequests())
                 .issues(issues())
-                .links(links())
-                .authors(authors())
+                .links(links(pool))
+                .authors(authors(pool))
                 .importantNotes(importantNotes())
                 .configurations(changelogEntryConfiguration())
-                .modules(modules())
+                .modules(modules(pool))
                 .build();
     }
 
@@ -160,11 +205,11 @@ public class YMLChangelogEntry {
         }
     }
 
-    private List<ChangelogModule>  modules() {
+    private List<ChangelogModule>  modules(ChangelogEntryValuePool pool) {
         if(modules == null) {
             return Collections.emptyList();
         }
-        return modules.stream().map(YMLChangelogModule::to).collect(Collectors.toList());
+        return modules.stream().map(module -> module.to(pool)).collect(Collectors.toList());
     }
 
     private List<ChangelogEntryMergeRequest> mergeRequests() {
@@ -185,22 +230,22 @@ public class YMLChangelogEntry {
         }
     }
 
-    private List<ChangelogEntryLink> links() {
+    private List<ChangelogEntryLink> links(ChangelogEntryValuePool pool) {
         if (links == null) {
             return Collections.emptyList();
         } else {
             return links.stream()
-                    .map(YMLChangelogEntryLink::to)
+                    .map(link -> link.to(pool))
                     .collect(Collectors.toList());
         }
     }
 
-    private List<ChangelogEntryAuthor> authors() {
+    private List<ChangelogEntryAuthor> authors(ChangelogEntryValuePool pool) {
         if (authors == null) {
             return Collections.emptyList();
         } else {
             return authors.stream()
-                    .map(YMLChangelogEntryAuthor::to)
+                    .map(author -> author.to(pool))
                     .collect(Collectors.toList());
         }
     }
@@ -4,13 +4,14 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryAuthor;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryValuePool;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.CustomLog;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.extern.java.Log;
 
-@Log
+@CustomLog
 @Data
 @Builder
 @NoArgsConstructor
@@ -37,13 +38,13 @@ public class YMLChangelogEntryAuthor {
                 .build();
     }
 
-    ChangelogEntryAuthor to() {
-        return ChangelogEntryAuthor.of(name, nick, url);
+    ChangelogEntryAuthor to(ChangelogEntryValuePool pool) {
+        return pool.author(name, nick, url);
     }
 
     @JsonAnySetter
     public void anySetter(String key, Object value) {
-        log.warning("Unknown property: " + key + " with value " + value);
+        log.warn("Unknown property: " + key + " with value " + value);
     }
 
 }
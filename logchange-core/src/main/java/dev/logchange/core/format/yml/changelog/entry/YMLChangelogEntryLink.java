@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryLink;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryValuePool;
 import lombok.*;
 
 @Data
@@ -28,8 +29,8 @@ public class YMLChangelogEntryLink {
                 .build();
     }
 
-    ChangelogEntryLink to() {
-        return ChangelogEntryLink.of(name, url);
+    ChangelogEntryLink to(ChangelogEntryValuePool pool) {
+        return pool.link(name, url);
     }
 
     @JsonAnySetter
@@ -2,6 +2,7 @@ package dev.logchange.core.format.yml.changelog.entry;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryValuePool;
 import dev.logchange.core.domain.changelog.model.entry.ChangelogModule;
 
 public class YMLChangelogModule {
@@ -28,4 +29,8 @@ public class YMLChangelogModule {
     public ChangelogModule to() {
         return new ChangelogModule(name);
     }
+
+    public ChangelogModule to(ChangelogEntryValuePool pool) {
+        return pool.module(name);
+    }
 }
@@ -0,0 +1,103 @@
+package dev.logchange.core.format.yml.changelog.entry;
+
+import dev.logchange.core.application.file.query.FileContent;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * All entries of a released version packed into one multi-document YML file, so a version directory holds
+ * a single file instead of one per entry. Every document starts with a {@code --- # <entry file name>} line,
+ * documents are kept in order of entry file names:
+ * <pre>
+ * --- # 00001-fixed-login.yml
+ * title: Fixed login
+ * type: fixed
+ * --- # 00002-upgraded-junit.yml
+ * title: Upgraded junit
+ * type: dependency_update
+ * </pre>
+ * Reading splits the file back into {@link FileContent} of the original entry files (which no longer exist),
+ * so entries are parsed and validated exactly like unpacked ones, and errors point to the original file names.
+ */
+public class YMLPackedEntries {
+
+    public static final String FILE_NAME = "entries.packed.yml";
+
+    private static final String DOCUMENT_START = "--- # ";
+    private static final String HEADING = "# This file is used by logchange tool to generate CHANGELOG.md 🌳 🪓 => 🪵\n" +
+            "# Entries of this version, packed by logchange pack, each document is one entry.\n";
+
+    private YMLPackedEntries() {
+    }
+
+    public static boolean isPacked(File file) {
+        return FILE_NAME.equals(file.getName());
+    }
+
+    /**
+     * @param entries content of entry files, in the order they should be read
+     */
+    public static String pack(List<FileContent> entries) {
+        StringBuilder packed = new StringBuilder(HEADING);
+        for (FileContent entry : entries) {
+            packed.append(DOCUMENT_START).append(entry.getFile().getName()).append('\n');
+            appendWithoutHeading(packed, new String(entry.getBytes(), StandardCharsets.UTF_8));
+        }
+        return packed.toString();
+    }
+
+    /**
+     * @param packedFile {@link #FILE_NAME} file, entries are placed in its directory
+     * @param content    whole content of the packed file, read at once
+     */
+    public static List<FileContent> unpack(File packedFile, byte[] content) {
+        File directory = packedFile.getParentFile();
+        String text = new String(content, StandardCharsets.UTF_8);
+        List<FileContent> entries = new ArrayList<>();
+
+        String name = null;
+        int documentStart = 0;
+        int lineStart = 0;
+        while (lineStart < text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            int nextLine = lineEnd < 0 ? text.length() : lineEnd + 1;
+            if (text.startsWith(DOCUMENT_START, lineStart)) {
+                addEntry(entries, directory, name, text, documentStart, lineStart);
+                name = text.substring(lineStart + DOCUMENT_START.length(), lineEnd < 0 ? text.length() : lineEnd).trim();
+                documentStart = nextLine;
+            }
+            lineStart = nextLine;
+        }
+        addEntry(entries, directory, name, text, documentStart, text.length());
+        return entries;
+    }
+
+    private static void addEntry(List<FileContent> entries, File directory, String name, String text, int start, int end) {
+        if (name == null) {
+            // heading before the first document
+            return;
+        }
+        byte[] bytes = text.substring(start, end).getBytes(StandardCharsets.UTF_8);
+        entries.add(FileContent.of(new File(directory, name), bytes));
+    }
+
+    /**
+     * Skips comment lines at the beginning of entry file (the heading written to each entry),
+     * and makes sure the document ends with new line.
+     */
+    private static void appendWithoutHeading(StringBuilder packed, String entry) {
+        int start = 0;
+        while (start < entry.length() && entry.startsWith("#", start)) {
+            int lineEnd = entry.indexOf('\n', start);
+            start = lineEnd < 0 ? entry.length() : lineEnd + 1;
+        }
+        String body = entry.substring(start);
+        packed.append(body);
+        if (!body.endsWith("\n")) {
+            packed.append('\n');
+        }
+    }
+}
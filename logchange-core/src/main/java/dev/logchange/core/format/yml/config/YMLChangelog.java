@@ -6,8 +6,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.logchange.core.domain.config.model.Config;
 import dev.logchange.core.domain.config.model.CustomChangelogEntryType;
 import dev.logchange.core.domain.config.model.Heading;
+import dev.logchange.core.domain.config.model.archive.ArchivePolicy;
 import dev.logchange.core.domain.config.model.labels.Labels;
 import dev.logchange.core.domain.config.model.templates.Templates;
+import dev.logchange.core.format.yml.config.archive.YMLArchivePolicy;
 import dev.logchange.core.format.yml.config.labels.YMLLabels;
 import dev.logchange.core.format.yml.config.templates.YMLTemplates;
 import lombok.*;
@@ -35,6 +37,10 @@ public class YMLChangelog {
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     public YMLTemplates templates;
 
+    @JsonProperty(index = 4)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public YMLArchivePolicy archive;
+
     public static YMLChangelog of(Config config) {
         return YMLChangelog.builder()
                 .heading(config.getHeading().getValue())
@@ -63,6 +69,13 @@ public class YMLChangelog {
         return templates.to();
     }
 
+    public ArchivePolicy toArchive() {
+        if (archive == null) {
+            return ArchivePolicy.EMPTY;
+        }
+        return archive.to();
+    }
+
     public Heading toHeading() {
         if (heading == null) {
             return Heading.EMPTY;
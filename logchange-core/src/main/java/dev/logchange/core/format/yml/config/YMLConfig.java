@@ -8,6 +8,7 @@ import dev.logchange.core.domain.config.model.Config;
 import dev.logchange.core.domain.config.model.CustomChangelogEntryType;
 import dev.logchange.core.domain.config.model.Heading;
 import dev.logchange.core.domain.config.model.aggregate.Aggregates;
+import dev.logchange.core.domain.config.model.archive.ArchivePolicy;
 import dev.logchange.core.domain.config.model.labels.Labels;
 import dev.logchange.core.domain.config.model.templates.Templates;
 import dev.logchange.core.format.yml.ObjectMapperProvider;
@@ -70,6 +71,7 @@ public class YMLConfig {
                 .labels(toLabels())
                 .templates(toTemplates())
                 .aggregates(toAggregates())
+                .archive(toArchive())
                 .build();
     }
 
@@ -89,6 +91,13 @@ public class YMLConfig {
         }
     }
 
+    private ArchivePolicy toArchive() {
+        if (changelog == null) {
+            return ArchivePolicy.EMPTY;
+        }
+        return changelog.toArchive();
+    }
+
     private Labels toLabels() {
         if (changelog == null) {
             return Labels.EMPTY;
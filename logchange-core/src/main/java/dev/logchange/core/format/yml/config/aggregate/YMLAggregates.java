@@ -8,15 +8,15 @@ import dev.logchange.core.domain.config.model.aggregate.Aggregates;
 import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntryLink;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.CustomLog;
 import lombok.NoArgsConstructor;
 import lombok.Singular;
-import lombok.extern.java.Log;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-@Log
+@CustomLog
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,7 +29,7 @@ public class YMLAggregates {
 
     @JsonAnySetter
     public void anySetter(String key, Object value) {
-        log.warning("Unknown property: " + key + " with value " + value);
+        log.warn("Unknown property: " + key + " with value " + value);
     }
 
     public Aggregates to() {
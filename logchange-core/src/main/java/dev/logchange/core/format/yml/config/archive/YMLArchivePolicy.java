@@ -0,0 +1,38 @@
+package dev.logchange.core.format.yml.config.archive;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.logchange.core.domain.config.model.archive.ArchivePolicy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.CustomLog;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@CustomLog
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class YMLArchivePolicy {
+
+    @JsonProperty(value = "keep_versions", index = 0)
+    private Integer keepVersions;
+
+    @JsonProperty(value = "keep_months", index = 1)
+    private Integer keepMonths;
+
+    @JsonProperty(value = "max_size_kb", index = 2)
+    private Integer maxSizeKb;
+
+    @JsonAnySetter
+    public void anySetter(String key, Object value) {
+        log.warn("Unknown property: " + key + " with value " + value);
+    }
+
+    public ArchivePolicy to() {
+        return ArchivePolicy.of(keepVersions, keepMonths, maxSizeKb);
+    }
+}
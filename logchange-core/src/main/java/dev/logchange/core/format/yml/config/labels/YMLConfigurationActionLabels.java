@@ -7,10 +7,10 @@ import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryConfigurati
 import dev.logchange.core.domain.config.model.labels.ConfigurationActionLabels;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.CustomLog;
 import lombok.NoArgsConstructor;
-import lombok.extern.java.Log;
 
-@Log
+@CustomLog
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,7 +37,7 @@ public class YMLConfigurationActionLabels {
 
     @JsonAnySetter
     public void anySetter(String key, Object value) {
-        log.warning("Unknown property: " + key + " with value " + value);
+        log.warn("Unknown property: " + key + " with value " + value);
     }
 
     public ConfigurationActionLabels to() {
@@ -5,10 +5,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.logchange.core.domain.config.model.labels.Labels;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.CustomLog;
 import lombok.NoArgsConstructor;
-import lombok.extern.java.Log;
 
-@Log
+@CustomLog
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,18 +26,22 @@ public class YMLLabels {
     @JsonProperty(index = 3)
     public YMLConfigurationLabels configuration;
 
+    @JsonProperty(value = "archived_versions", index = 4)
+    public String archivedVersions;
+
     public static YMLLabels of(Labels labels) {
         return YMLLabels.builder()
                 .unreleased(labels.getUnreleased())
                 .importantNotes(labels.getImportantNotes())
                 .types(YMLTypesLabels.of(labels.getTypes()))
                 .configuration(YMLConfigurationLabels.of(labels.getConfiguration()))
+                .archivedVersions(labels.getArchivedVersions())
                 .build();
     }
 
     @JsonAnySetter
     public void anySetter(String key, Object value) {
-        log.warning("Unknown property: " + key + " with value " + value);
+        log.warn("Unknown property: " + key + " with value " + value);
     }
 
     public Labels to() {
@@ -46,6 +50,7 @@ public class YMLLabels {
                 .importantNotes(importantNotes)
                 .types(getTypes().to())
                 .configuration(getConfiguration().to())
+                .archivedVersions(archivedVersions)
                 .build();
     }
 
@@ -0,0 +1,42 @@
+package dev.logchange.core.format.yml.config.templates;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.logchange.core.domain.config.model.templates.TemplateLimits;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.CustomLog;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@CustomLog
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class YMLTemplateLimits {
+
+    @JsonProperty(value = "max_output_size", index = 0)
+    private Long maxOutputSize;
+
+    @JsonProperty(value = "max_render_time", index = 1)
+    private Long maxRenderTime;
+
+    @JsonAnySetter
+    public void anySetter(String key, Object value) {
+        log.warn("Unknown property: " + key + " with value " + value);
+    }
+
+    static YMLTemplateLimits of(TemplateLimits limits) {
+        return YMLTemplateLimits.builder()
+                .maxOutputSize(limits.getMaxOutputSize())
+                .maxRenderTime(limits.getMaxRenderTime())
+                .build();
+    }
+
+    TemplateLimits to() {
+        return TemplateLimits.of(maxOutputSize, maxRenderTime);
+    }
+}
@@ -4,19 +4,20 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.logchange.core.domain.config.model.templates.ChangelogTemplate;
+import dev.logchange.core.domain.config.model.templates.TemplateLimits;
 import dev.logchange.core.domain.config.model.templates.Templates;
 import dev.logchange.core.domain.config.model.templates.VersionSummaryTemplate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.CustomLog;
 import lombok.NoArgsConstructor;
 import lombok.Singular;
-import lombok.extern.java.Log;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-@Log
+@CustomLog
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,6 +39,10 @@ public class YMLTemplates {
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     public List<YMLChangelogTemplate> changelogTemplates;
 
+    @JsonProperty(index = 4)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public YMLTemplateLimits limits;
+
     public static YMLTemplates of(Templates templates) {
         return YMLTemplates.builder()
                 .entry(templates.getEntryFormat())
@@ -48,12 +53,13 @@ public class YMLTemplates {
                 .changelogTemplates(templates.getChangelogTemplates().stream()
                         .map(YMLChangelogTemplate::of)
                         .collect(Collectors.toList()))
+                .limits(TemplateLimits.DEFAULT.equals(templates.getLimits()) ? null : YMLTemplateLimits.of(templates.getLimits()))
                 .build();
     }
 
     @JsonAnySetter
     public void anySetter(String key, Object value) {
-        log.warning("Unknown property: " + key + " with value " + value);
+        log.warn("Unknown property: " + key + " with value " + value);
     }
 
     public Templates to() {
@@ -62,6 +68,7 @@ public class YMLTemplates {
                 .authorFormat(author)
                 .versionSummaryTemplates(getVersionSummaryTemplates())
                 .changelogTemplates(getChangelogTemplates())
+                .limits(limits == null ? null : limits.to())
                 .build();
     }
 
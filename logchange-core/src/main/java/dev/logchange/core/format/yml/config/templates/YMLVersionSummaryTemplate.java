@@ -5,11 +5,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.logchange.core.domain.config.model.templates.VersionSummaryTemplate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.CustomLog;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.extern.java.Log;
 
-@Log
+@CustomLog
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,7 +21,7 @@ public class YMLVersionSummaryTemplate {
 
     @JsonAnySetter
     public void anySetter(String key, Object value) {
-        log.warning("Unknown property: " + key + " with value " + value);
+        log.warn("Unknown property: " + key + " with value " + value);
     }
 
     static YMLVersionSummaryTemplate of(VersionSummaryTemplate versionSummaryTemplate) {
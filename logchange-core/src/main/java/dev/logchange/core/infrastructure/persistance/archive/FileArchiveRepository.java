@@ -2,13 +2,13 @@ package dev.logchange.core.infrastructure.persistance.archive;
 
 import dev.logchange.core.application.changelog.repository.ChangelogPersistence;
 import dev.logchange.core.application.file.repository.FileWriter;
+import dev.logchange.core.application.profile.FlightRecorderEvents;
 import dev.logchange.core.domain.changelog.model.Changelog;
 import dev.logchange.core.domain.config.model.Config;
 import dev.logchange.core.format.md.archive.MDArchive;
-import lombok.extern.java.Log;
-import org.apache.maven.plugins.changes.model.ChangesDocument;
+import lombok.CustomLog;
 
-@Log
+@CustomLog
 public class FileArchiveRepository implements ChangelogPersistence {
 
     private final FileWriter writer;
@@ -21,14 +21,11 @@ public class FileArchiveRepository implements ChangelogPersistence {
 
     @Override
     public void save(Changelog changelog) {
-        log.info("Creating archive markdown content...");
-        String md = new MDArchive(config, changelog).toMD();
-        log.info("Saving changelog archive to file...");
-        writer.write(md);
-    }
-
-    @Override
-    public void saveXML(ChangesDocument changesDocument) {
-        throw new UnsupportedOperationException("Not supported.");
+        try (FlightRecorderEvents.Span span = FlightRecorderEvents.archiveWrite(changelog.getVersions().getVersions().size())) {
+            log.info("Creating archive markdown content...");
+            String md = new MDArchive(config, changelog).toMD();
+            log.info("Saving changelog archive to file...");
+            writer.write(md);
+        }
     }
 }
@@ -1,15 +1,21 @@
 package dev.logchange.core.infrastructure.persistance.changelog;
 
+import dev.logchange.core.application.changelog.repository.ChangelogQuery;
 import dev.logchange.core.application.changelog.repository.ChangelogRepository;
 import dev.logchange.core.application.config.TemplateFile;
-import dev.logchange.core.application.config.TemplateRepository;
+import dev.logchange.core.application.config.TemplateLoader;
+import dev.logchange.core.application.file.query.FileContent;
 import dev.logchange.core.application.file.query.FileQuery;
 import dev.logchange.core.application.file.repository.FileWriter;
 import dev.logchange.core.application.file.repository.XmlFileWriter;
+import dev.logchange.core.application.profile.FlightRecorderEvents;
+import dev.logchange.core.application.profile.ProfilePhase;
+import dev.logchange.core.application.profile.Profiler;
 import dev.logchange.core.domain.changelog.model.Changelog;
 import dev.logchange.core.domain.changelog.model.archive.ChangelogArchive;
 import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
 import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryValuePool;
 import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
 import dev.logchange.core.domain.changelog.model.version.ChangelogVersionEntriesGroup;
 import dev.logchange.core.domain.changelog.model.version.Version;
@@ -24,21 +30,20 @@ import dev.logchange.core.format.yml.changelog.entry.YMLChangelogInvalidConfigVa
 import dev.logchange.core.format.yml.config.YMLChangelogException;
 import dev.logchange.core.infrastructure.persistance.config.FileTemplateRepository;
 import dev.logchange.core.infrastructure.persistance.file.FileRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.java.Log;
-import org.apache.maven.plugins.changes.model.ChangesDocument;
+import lombok.CustomLog;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static dev.logchange.core.Constants.TEMPLATES_DIR_NAME;
 
-@Log
-@RequiredArgsConstructor
+@CustomLog
 public class FileChangelogRepository implements ChangelogRepository {
 
     private final String rootPath;
@@ -48,6 +53,31 @@ public class FileChangelogRepository implements ChangelogRepository {
     private final FileQuery reader;
     private final FileWriter writer;
     private final XmlFileWriter xmlWriter;
+    private final TemplateLoader templates;
+    // authors, modules and links repeated across versions are kept once per repository
+    private final ChangelogEntryValuePool values = ChangelogEntryValuePool.create();
+
+    public FileChangelogRepository(String rootPath, File inputDirectory, Config config, FileQuery reader, FileWriter writer, XmlFileWriter xmlWriter) {
+        this(rootPath, inputDirectory, config, reader, writer, xmlWriter, FileTemplateRepository.LOADER);
+    }
+
+    public FileChangelogRepository(String rootPath, File inputDirectory, Config config, FileQuery reader, FileWriter writer,
+                                   XmlFileWriter xmlWriter, TemplateLoader templates) {
+        this.rootPath = rootPath;
+        this.inputDirectory = inputDirectory;
+        this.config = config;
+        this.reader = reader;
+        this.writer = writer;
+        this.xmlWriter = xmlWriter;
+        this.templates = templates;
+    }
+
+    /**
+     * Returns: Repository for commands that only read the changelog, without any writer behind it.
+     */
+    public static ChangelogQuery readOnly(String rootPath, File inputDirectory, Config config, FileQuery reader) {
+        return new FileChangelogRepository(rootPath, inputDirectory, config, reader, null, null);
+    }
 
     @Override
     public Changelog findMarkdown() {
@@ -55,7 +85,7 @@ public class FileChangelogRepository implements ChangelogRepository {
         List<ChangelogArchive> archives = new LinkedList<>();
 
         log.info("Querying changelog files...");
-        this.reader.readFiles(inputDirectory).forEach(file -> {
+        scan().forEach(file -> {
             if (isVersionDirectory(file)) {
                 versions.add(getChangelogVersion(file));
             }
@@ -73,7 +103,7 @@ public class FileChangelogRepository implements ChangelogRepository {
         List<ChangelogVersion> versions = new LinkedList<>();
         List<ChangelogArchive> archives = new LinkedList<>();
 
-        this.reader.readFiles(inputDirectory).forEach(file -> {
+        scan().forEach(file -> {
             if (isVersionDirectory(file)) {
                 versions.add(getChangelogVersion(file));
             }
@@ -85,6 +115,18 @@ public class FileChangelogRepository implements ChangelogRepository {
         return Changelog.of(versions, archives);
     }
 
+    @Override
+    public List<ChangelogEntry> findEntries(List<File> entryFiles) {
+        // entries are grouped by version directory and sorted like in generate, so both report them in the same order
+        Map<File, List<FileContent>> contentsByDirectory = entryFiles.stream()
+                .flatMap(file -> reader.readYmlFileContent(file).stream())
+                .collect(Collectors.groupingBy(content -> content.getFile().getAbsoluteFile().getParentFile(), LinkedHashMap::new, Collectors.toList()));
+        List<FileContent> contents = contentsByDirectory.values().stream()
+                .flatMap(directoryContents -> directoryContents.stream().sorted(FileContent.BY_ENTRY_NAME))
+                .collect(Collectors.toList());
+        return parseEntries(contents);
+    }
+
     @Override
     public void save(Changelog changelog) {
         saveMD(changelog);
@@ -92,34 +134,66 @@ public class FileChangelogRepository implements ChangelogRepository {
     }
 
     private void saveMD(Changelog changelog) {
-        String md = new MDChangelog(config, changelog).toMD();
-        writer.write(md);
+        String md;
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.MARKDOWN_RENDER)) {
+            md = new MDChangelog(config, changelog, getArchivesDirectory()).toMD();
+        }
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.WRITE)) {
+            writer.write(md);
+        }
+    }
+
+    /**
+     * Archives are in the changelog directory, the changelog is written relatively to the project root.
+     */
+    private String getArchivesDirectory() {
+        if (!config.getArchive().isEnabled()) {
+            return null;
+        }
+        Path root = Paths.get(rootPath).toAbsolutePath().normalize();
+        return root.relativize(inputDirectory.toPath().toAbsolutePath().normalize()).toString().replace(File.separatorChar, '/');
     }
 
     private void saveJinja(Changelog changelog) {
-        List<ChangelogTemplate> templates = config.getTemplates().getChangelogTemplates();
-        for (ChangelogTemplate template : templates) {
+        List<ChangelogTemplate> changelogTemplates = config.getTemplates().getChangelogTemplates();
+        for (ChangelogTemplate template : changelogTemplates) {
             log.info("Generating from changelog template: " + template);
             File templatePath = TemplateFile.getTemplatePath(inputDirectory, template.getPath());
-            TemplateRepository templateRepository = new FileTemplateRepository(templatePath);
-            TemplateFile templateFile = templateRepository.find();
-            String rendered = new JinjaChangelog(templateFile, changelog).render();
+            TemplateFile templateFile = templates.load(templatePath);
+            long start = System.nanoTime();
+            String rendered;
+            try (Profiler.Timer ignored = Profiler.start(ProfilePhase.JINJA_RENDER);
+                 FlightRecorderEvents.Span span = FlightRecorderEvents.templateRender(templatePath.getPath())) {
+                rendered = new JinjaChangelog(templateFile, changelog, config.getTemplates().getLimits()).render();
+            }
+            Profiler.templateRendered(templatePath.getPath(), System.nanoTime() - start);
             saveToFile(rendered, template.getOutputFileName());
         }
     }
 
     private void saveToFile(String content, String fileName) {
-        String outputFilePath = rootPath + fileName;
-        File outputFile = new File(outputFilePath);
+        File outputFile = new File(rootPath, fileName);
+        String outputFilePath = outputFile.getPath();
 
         FileRepository fileRepository = FileRepository.of(outputFile);
-        fileRepository.write(content);
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.WRITE)) {
+            fileRepository.write(content);
+        }
         log.info("Saved changelog to file: " + outputFilePath);
     }
 
     @Override
-    public void saveXML(ChangesDocument changesDocument) {
-        this.xmlWriter.writeXml(changesDocument);
+    public void saveXML(Changelog changelog) {
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.WRITE)) {
+            this.xmlWriter.writeXml(changelog.getVersions().getVersions());
+        }
+    }
+
+    private List<File> scan() {
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.SCAN);
+             FlightRecorderEvents.Span span = FlightRecorderEvents.changelogScan(inputDirectory.getPath())) {
+            return this.reader.readFiles(inputDirectory).collect(Collectors.toList());
+        }
     }
 
     private boolean isVersionDirectory(File file) {
@@ -140,7 +214,7 @@ public class FileChangelogRepository implements ChangelogRepository {
                 // used to skip "v" from directories names
                 // we can use "(?!\.)(\d+(\.\d+)+)([-.][A-Z]+)?(?![\d.])$" to get version and skipp all letters before version number
                 // but we have to make exception for "unreleased" string as it is not matching this regexp
-                .entriesGroups(getEntries(versionDirectory))
+                .entriesGroupsLoader(() -> getEntries(versionDirectory))
                 .releaseDateTime(FileReleaseDateTime.getFromDir(versionDirectory))
                 .build();
     }
@@ -149,7 +223,7 @@ public class FileChangelogRepository implements ChangelogRepository {
         try {
             return ChangelogArchive.of(file.getName(), Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
         } catch (IOException e) {
-            log.severe("Error while getting changelog archive from file: " + e.getMessage());
+            log.error("Error while getting changelog archive from file: " + e.getMessage());
             throw new IllegalStateException(e.getMessage());
         }
     }
@@ -159,33 +233,44 @@ public class FileChangelogRepository implements ChangelogRepository {
     }
 
     private List<ChangelogVersionEntriesGroup> getEntries(File versionDirectory) {
+        List<FileContent> contents;
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.READ)) {
+            contents = reader.readYmlFilesContent(versionDirectory);
+        }
+        List<ChangelogEntry> entries = parseEntries(contents);
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.GROUP)) {
+            return ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(entries);
+        }
+    }
+
+    private List<ChangelogEntry> parseEntries(List<FileContent> contents) {
         ChangelogEntryType.setEntryTypes(config.getEntryTypes());
         List<Exception> exceptions = new ArrayList<>();
 
-        List<ChangelogEntry> entries = reader.readYmlFiles(versionDirectory)
-                .map((file) -> {
-                    try {
-                        return YMLChangelogEntry.of(reader.readFileContent(file), file.getPath());
-                    } catch (YMLChangelogEntryConfigException e) {
-                        exceptions.add(e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .map(ymlChangelogEntry ->  {
-                    try {
-                        return ymlChangelogEntry.to();
-                    } catch (YMLChangelogInvalidConfigValuesException e) {
-                        exceptions.add(e);
-                        return null;
-                    }
-                })
-                .collect(Collectors.toList());
+        List<ChangelogEntry> entries;
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.PARSE)) {
+            entries = contents.stream()
+                    .map(content -> parseEntry(content, exceptions))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
 
         if (!exceptions.isEmpty()) {
             throw new YMLChangelogException(exceptions);
         }
 
-        return ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(entries);
+        return entries;
+    }
+
+    private ChangelogEntry parseEntry(FileContent content, List<Exception> exceptions) {
+        long start = System.nanoTime();
+        try (FlightRecorderEvents.Span span = FlightRecorderEvents.entryParse(content.getPath(), content.getSize())) {
+            return YMLChangelogEntry.of(content.getBytes(), content.getPath()).to(values);
+        } catch (YMLChangelogEntryConfigException | YMLChangelogInvalidConfigValuesException e) {
+            exceptions.add(e);
+            return null;
+        } finally {
+            Profiler.entryParsed(content.getPath(), content.getSize(), System.nanoTime() - start);
+        }
     }
 }
@@ -0,0 +1,134 @@
+package dev.logchange.core.infrastructure.persistance.changelog;
+
+import dev.logchange.core.application.changelog.repository.ImportedChangelogRepository;
+import dev.logchange.core.application.file.EntryFileName;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import dev.logchange.core.format.release_date.FileReleaseDateTime;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntry;
+import dev.logchange.core.format.yml.config.YMLChangelogException;
+import lombok.CustomLog;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes imported versions as version directories with {@code release-date.txt} and entries as YML files
+ * numbered in order of the source, f.e. {@code v1.2.0/00003-fixed-login.yml}.
+ * <p>
+ * Entries are serialized and written by a pool of threads. The queue of pending writes is bounded,
+ * when it is full the reading thread writes the entry itself, so memory does not grow with the size of the source.
+ * {@link #close()} waits for all writes and reports every failed one.
+ */
+@CustomLog
+public class FileImportedChangelogRepository implements ImportedChangelogRepository, Closeable {
+
+    private static final int QUEUED_WRITES_PER_THREAD = 64;
+    private static final String YML_EXTENSION = ".yml";
+
+    private final File inputDirectory;
+    private final String unreleasedVersionDir;
+    private final ThreadPoolExecutor executor;
+    private final Queue<Exception> errors = new ConcurrentLinkedQueue<>();
+    private final Set<String> versionDirectories = new HashSet<>();
+
+    private File versionDirectory;
+    private int versionEntries;
+
+    @Getter
+    private int versions;
+    @Getter
+    private int entries;
+
+    public FileImportedChangelogRepository(File inputDirectory, String unreleasedVersionDir, int threads) {
+        this.inputDirectory = inputDirectory;
+        this.unreleasedVersionDir = unreleasedVersionDir;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * QUEUED_WRITES_PER_THREAD),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public void saveVersion(Version version, LocalDate releaseDate) {
+        String dirName = Version.UNRELEASED.equals(version.getValue()) ? unreleasedVersionDir : version.getDirName();
+        if (!versionDirectories.add(dirName)) {
+            throw new IllegalArgumentException("Version " + version + " occurs more than once in imported changelog");
+        }
+
+        File directory = new File(inputDirectory, dirName);
+        if (containsEntries(directory)) {
+            throw new IllegalArgumentException("Cannot import version " + version + ", because " + directory.getPath() + " already contains entries");
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalArgumentException("Cannot create directory: " + directory.getPath());
+        }
+        if (releaseDate != null) {
+            FileReleaseDateTime.addToDir(directory.toPath(), releaseDate);
+        }
+
+        log.debug(() -> "Importing version: " + version);
+        versionDirectory = directory;
+        versionEntries = 0;
+        versions++;
+    }
+
+    @Override
+    public void saveEntry(ChangelogEntry entry) {
+        if (versionDirectory == null) {
+            throw new IllegalStateException("Entry " + entry.getTitle().getValue() + " does not belong to any version");
+        }
+        String name = String.format("%05d-%s%s", ++versionEntries, EntryFileName.of(entry.getTitle().getValue()), YML_EXTENSION);
+        File file = new File(versionDirectory, name);
+        entries++;
+        executor.execute(() -> write(file, entry));
+    }
+
+    /**
+     * Waits until every entry is written.
+     *
+     * @throws YMLChangelogException with all failed writes
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("Waiting for imported entries to be written...");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing imported entries", e);
+        }
+        if (!errors.isEmpty()) {
+            throw new YMLChangelogException(new ArrayList<>(errors));
+        }
+    }
+
+    private void write(File file, ChangelogEntry entry) {
+        try {
+            String content = YMLChangelogEntry.of(entry).toYMLString() + System.lineSeparator();
+            Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE_NEW);
+        } catch (IOException | RuntimeException e) {
+            errors.add(new IllegalArgumentException("Could not save entry to file: " + file + " because: " + e.getMessage(), e));
+        }
+    }
+
+    private static boolean containsEntries(File directory) {
+        String[] entries = directory.list((dir, name) -> name.endsWith(YML_EXTENSION) || name.endsWith(".yaml"));
+        return entries != null && entries.length > 0;
+    }
+}
@@ -2,7 +2,10 @@ package dev.logchange.core.infrastructure.persistance.changelog;
 
 import dev.logchange.core.application.changelog.repository.VersionSummaryRepository;
 import dev.logchange.core.application.config.TemplateFile;
-import dev.logchange.core.application.config.TemplateRepository;
+import dev.logchange.core.application.config.TemplateLoader;
+import dev.logchange.core.application.profile.FlightRecorderEvents;
+import dev.logchange.core.application.profile.ProfilePhase;
+import dev.logchange.core.application.profile.Profiler;
 import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
 import dev.logchange.core.domain.config.model.Config;
 import dev.logchange.core.domain.config.model.templates.VersionSummaryTemplate;
@@ -12,38 +15,54 @@ import dev.logchange.core.format.md.changelog.version.MDChangelogVersion;
 import dev.logchange.core.infrastructure.persistance.config.FileTemplateRepository;
 import dev.logchange.core.infrastructure.persistance.file.FileRepository;
 import lombok.AllArgsConstructor;
-import lombok.extern.java.Log;
+import lombok.CustomLog;
 
 import java.io.File;
 import java.util.List;
 
-@Log
+@CustomLog
 @AllArgsConstructor
 public class FileVersionSummaryRepository implements VersionSummaryRepository {
 
     private final File inputDirectory;
     private final Config config;
+    private final TemplateLoader templates;
+
+    public FileVersionSummaryRepository(File inputDirectory, Config config) {
+        this(inputDirectory, config, FileTemplateRepository.LOADER);
+    }
 
     @Override
     public void save(ChangelogVersion version) {
-        saveMD(version);
-        saveJinja(version);
+        try (FlightRecorderEvents.Span span = FlightRecorderEvents.versionRender(version.getVersion().getValue())) {
+            saveMD(version);
+            saveJinja(version);
+        }
     }
 
     private void saveMD(ChangelogVersion version) {
-        String meta = new MDMeta().toMD();
-        String md = new MDChangelogVersion(config, version).toMD();
+        String meta;
+        String md;
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.MARKDOWN_RENDER)) {
+            meta = new MDMeta().toMD();
+            md = new MDChangelogVersion(config, version).toMD();
+        }
         saveToFile(version, meta + md, "version-summary.md");
     }
 
     private void saveJinja(ChangelogVersion version) {
-        List<VersionSummaryTemplate> templates = config.getTemplates().getVersionSummaryTemplates();
-        for (VersionSummaryTemplate template : templates) {
+        List<VersionSummaryTemplate> versionSummaryTemplates = config.getTemplates().getVersionSummaryTemplates();
+        for (VersionSummaryTemplate template : versionSummaryTemplates) {
             log.info("Generating from version-summary template: " + template);
             File templatePath = TemplateFile.getTemplatePath(inputDirectory, template.getPath());
-            TemplateRepository templateRepository = new FileTemplateRepository(templatePath);
-            TemplateFile templateFile = templateRepository.find();
-            String rendered = new JinjaChangelogVersion(templateFile, version).render();
+            TemplateFile templateFile = templates.load(templatePath);
+            long start = System.nanoTime();
+            String rendered;
+            try (Profiler.Timer ignored = Profiler.start(ProfilePhase.JINJA_RENDER);
+                 FlightRecorderEvents.Span span = FlightRecorderEvents.templateRender(templatePath.getPath())) {
+                rendered = new JinjaChangelogVersion(templateFile, version, config.getTemplates().getLimits()).render();
+            }
+            Profiler.templateRendered(templatePath.getPath(), System.nanoTime() - start);
             saveToFile(version, rendered, template.getOutputFileName());
         }
     }
@@ -53,7 +72,9 @@ public class FileVersionSummaryRepository implements VersionSummaryRepository {
         File outputFile = new File(outputFilePath);
 
         FileRepository fileRepository = FileRepository.of(outputFile);
-        fileRepository.write(content);
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.WRITE)) {
+            fileRepository.write(content);
+        }
         log.info("Saved version summary to file: " + outputFilePath);
     }
 }
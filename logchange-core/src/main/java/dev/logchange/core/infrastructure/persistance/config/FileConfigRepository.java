@@ -23,7 +23,13 @@ public class FileConfigRepository implements ConfigRepository {
 
     @Override
     public Config find() {
-        return YMLConfig.of(getConfigInputStream(configFile)).to();
+        try (InputStream input = getConfigInputStream(configFile)) {
+            return YMLConfig.of(input).to();
+        } catch (IOException e) {
+            String message = "Could not read config file: " + configFile + " because: " + e.getMessage();
+            log.error(message);
+            throw new IllegalArgumentException(message);
+        }
     }
 
     @Override
@@ -44,7 +50,7 @@ public class FileConfigRepository implements ConfigRepository {
 
     private InputStream getConfigInputStream(File entryFile) {
         try {
-            return new FileInputStream(entryFile);
+            return new BufferedInputStream(new FileInputStream(entryFile));
         } catch (FileNotFoundException e) {
             String message = "Cannot find entry file: " + entryFile.getAbsolutePath();
             log.error(message);
@@ -1,18 +1,25 @@
 package dev.logchange.core.infrastructure.persistance.config;
 
 import dev.logchange.core.application.config.TemplateFile;
+import dev.logchange.core.application.config.TemplateLoader;
 import dev.logchange.core.application.config.TemplateRepository;
 import lombok.CustomLog;
 import org.apache.commons.io.IOUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 
 @CustomLog
 public class FileTemplateRepository implements TemplateRepository {
 
+    /**
+     * Reads template file on every call.
+     */
+    public static final TemplateLoader LOADER = templatePath -> new FileTemplateRepository(templatePath).find();
+
     private final File file;
 
     public FileTemplateRepository(File file) {
@@ -26,8 +33,8 @@ public class FileTemplateRepository implements TemplateRepository {
 
 
     private String getContent() {
-        try {
-            return IOUtils.toString(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8);
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            return IOUtils.toString(input, StandardCharsets.UTF_8);
         } catch (IOException e) {
             String msg = "Could not read file: " + file.getAbsolutePath() + " msg: " + e.getMessage();
             log.error(msg);
@@ -0,0 +1,95 @@
+package dev.logchange.core.infrastructure.persistance.file;
+
+import dev.logchange.core.application.changelog.service.generate.ChangesXmlMapping;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import lombok.RequiredArgsConstructor;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes Maven Changes {@code changes.xml} with StAX, element by element, straight from the changelog versions.
+ * The document is the same as the one written by {@code ChangesXpp3Writer} for the Maven Changes model,
+ * including its two-space indentation, but no intermediate object graph is built.
+ */
+@RequiredArgsConstructor(staticName = "of")
+class ChangesXmlStreamWriter {
+
+    private static final String ENCODING = "UTF-8";
+    private static final String INDENT = "  ";
+    private static final String LINE_SEPARATOR = "\n";
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final OutputStream out;
+
+    /**
+     * Does not close the stream, the caller is expected to pass (and close) a buffered one.
+     */
+    void write(List<ChangelogVersion> versions) throws XMLStreamException {
+        XMLStreamWriter xml = OUTPUT_FACTORY.createXMLStreamWriter(out, ENCODING);
+        try {
+            xml.writeStartDocument(ENCODING, "1.0");
+            newLine(xml, 0);
+            xml.writeStartElement("document");
+            newLine(xml, 1);
+
+            if (versions.stream().allMatch(ChangesXmlMapping::isSkipped)) {
+                xml.writeEmptyElement("body");
+            } else {
+                xml.writeStartElement("body");
+                for (ChangelogVersion version : versions) {
+                    if (!ChangesXmlMapping.isSkipped(version)) {
+                        writeRelease(xml, version);
+                    }
+                }
+                newLine(xml, 1);
+                xml.writeEndElement();
+            }
+
+            newLine(xml, 0);
+            xml.writeEndElement();
+            xml.writeCharacters(LINE_SEPARATOR);
+            xml.writeEndDocument();
+            xml.flush();
+        } finally {
+            xml.close();
+        }
+    }
+
+    private void writeRelease(XMLStreamWriter xml, ChangelogVersion version) throws XMLStreamException {
+        newLine(xml, 2);
+        xml.writeStartElement("release");
+        xml.writeAttribute("version", version.getVersion().getValue());
+        xml.writeAttribute("date", ChangesXmlMapping.releaseDate(version));
+
+        for (ChangelogEntry entry : version.getEntriesWithOrder()) {
+            writeAction(xml, entry);
+        }
+
+        newLine(xml, 2);
+        xml.writeEndElement();
+    }
+
+    private void writeAction(XMLStreamWriter xml, ChangelogEntry entry) throws XMLStreamException {
+        newLine(xml, 3);
+        xml.writeStartElement("action");
+        xml.writeAttribute("dev", ChangesXmlMapping.dev(entry.getAuthors()));
+        xml.writeAttribute("type", ChangesXmlMapping.actionType(entry));
+        if (entry.getTitle() != null && entry.getTitle().getValue() != null) {
+            xml.writeCharacters(entry.getTitle().getValue());
+        }
+        xml.writeEndElement();
+    }
+
+    private void newLine(XMLStreamWriter xml, int depth) throws XMLStreamException {
+        StringBuilder indent = new StringBuilder(LINE_SEPARATOR);
+        for (int i = 0; i < depth; i++) {
+            indent.append(INDENT);
+        }
+        xml.writeCharacters(indent.toString());
+    }
+}
@@ -2,19 +2,24 @@ package dev.logchange.core.infrastructure.persistance.file;
 
 import dev.logchange.core.application.file.repository.FileWriter;
 import dev.logchange.core.application.file.repository.XmlFileWriter;
+import dev.logchange.core.application.profile.ProfileCounter;
+import dev.logchange.core.application.profile.Profiler;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.java.Log;
-import org.apache.maven.plugins.changes.model.ChangesDocument;
-import org.apache.maven.plugins.changes.model.io.xpp3.ChangesXpp3Writer;
 
+import javax.xml.stream.XMLStreamException;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.List;
 
-@Log
+@CustomLog
 @RequiredArgsConstructor(staticName = "of")
 public class FileRepository implements FileWriter, XmlFileWriter {
 
+    private static final int XML_BUFFER_SIZE = 64 * 1024;
+
     private final File outputFile;
 
     @Override
@@ -24,25 +29,30 @@ public class FileRepository implements FileWriter, XmlFileWriter {
              PrintWriter out = new PrintWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8))) {
 
             out.println(content);
+            if (Profiler.isEnabled()) {
+                Profiler.count(ProfileCounter.FILES_WRITTEN, 1);
+                Profiler.count(ProfileCounter.BYTES_WRITTEN, content.getBytes(StandardCharsets.UTF_8).length + System.lineSeparator().length());
+            }
 
         } catch (IOException e) {
             String message = "Could not save markdown to file: " + outputFile + " because: " + e.getMessage();
-            log.severe(message);
+            log.error(message);
             throw new IllegalArgumentException(message);
         }
     }
 
-
     @Override
-    public void writeXml(ChangesDocument changesDocument) {
-        ChangesXpp3Writer changesXmlWriter = new ChangesXpp3Writer();
-
-        try (Writer writer = new java.io.FileWriter(outputFile)) {
-            changesXmlWriter.write(writer, changesDocument);
-        } catch (IOException e) {
+    public void writeXml(List<ChangelogVersion> versions) {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(outputFile.toPath()), XML_BUFFER_SIZE)) {
+            ChangesXmlStreamWriter.of(out).write(versions);
+            Profiler.count(ProfileCounter.FILES_WRITTEN, 1);
+        } catch (IOException | XMLStreamException e) {
             String message = "Could not save changes document to file: " + outputFile + " because: " + e.getMessage();
-            log.severe(message);
+            log.error(message);
             throw new IllegalArgumentException(message);
         }
+        if (Profiler.isEnabled()) {
+            Profiler.count(ProfileCounter.BYTES_WRITTEN, outputFile.length());
+        }
     }
 }
@@ -0,0 +1,70 @@
+package dev.logchange.core.infrastructure.persistance.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.logchange.core.application.changelog.repository.ChangelogIndexRepository;
+import dev.logchange.core.application.profile.ProfileCounter;
+import dev.logchange.core.application.profile.ProfilePhase;
+import dev.logchange.core.application.profile.Profiler;
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.format.index.BinaryChangelogIndex;
+import dev.logchange.core.format.index.ChangelogIndex;
+import dev.logchange.core.format.index.ChangelogIndexFormat;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Set;
+
+/**
+ * Writes {@link ChangelogIndex} to {@code <basePath>.json} and/or {@code <basePath>.bin}.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class FileChangelogIndexRepository implements ChangelogIndexRepository {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String basePath;
+    private final Set<ChangelogIndexFormat> formats;
+
+    @Override
+    public void save(Changelog changelog) {
+        if (formats.isEmpty()) {
+            return;
+        }
+
+        ChangelogIndex index = ChangelogIndex.of(changelog);
+        for (ChangelogIndexFormat format : formats) {
+            File file = new File(basePath + "." + format.getExtension());
+            try (Profiler.Timer ignored = Profiler.start(ProfilePhase.WRITE);
+                 OutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
+                write(format, index, out);
+            } catch (IOException e) {
+                String message = "Could not save changelog index to file: " + file + " because: " + e.getMessage();
+                log.error(message);
+                throw new IllegalArgumentException(message);
+            }
+            Profiler.count(ProfileCounter.FILES_WRITTEN, 1);
+            log.info("Saved changelog index to file: " + file.getPath());
+        }
+    }
+
+    private void write(ChangelogIndexFormat format, ChangelogIndex index, OutputStream out) throws IOException {
+        switch (format) {
+            case JSON:
+                JSON_MAPPER.writeValue(out, index);
+                break;
+            case BINARY:
+                BinaryChangelogIndex.write(index, out);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported changelog index format: " + format);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package dev.logchange.core.infrastructure.persistance.search;
+
+import dev.logchange.core.application.file.Dir;
+import dev.logchange.core.application.file.query.FileContent;
+import dev.logchange.core.application.file.query.FileQuery;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryConfiguration;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryImportantNote;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.search.ChangelogSearchIndex;
+import dev.logchange.core.format.search.ChangelogSearchIndex.Field;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntry;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntryConfigException;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogInvalidConfigValuesException;
+import lombok.AllArgsConstructor;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static dev.logchange.core.Constants.TEMPLATES_DIR_NAME;
+
+/**
+ * Builds {@link ChangelogSearchIndex} from entry files and archives of the changelog directory, newest version
+ * first, and stores it in {@code indexFile}. A stored index is reused while it is newer than every file
+ * in the changelog directory.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class FileChangelogSearchIndexRepository {
+
+    private static final Pattern ARCHIVE_VERSION = Pattern.compile("^#*\\s*\\[([^\\]]+)\\]");
+    private static final Pattern ARCHIVE_ENTRY = Pattern.compile("^\\s*[-*]\\s+(.+)$");
+
+    private final String rootPath;
+    private final File inputDirectory;
+    private final Config config;
+    private final FileQuery reader;
+    private final File indexFile;
+
+    public ChangelogSearchIndex find() {
+        if (indexFile.isFile() && !Dir.isModifiedAfter(inputDirectory, indexFile.lastModified())) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(indexFile.toPath()))) {
+                log.debug(() -> "Reading search index: " + indexFile.getPath());
+                return ChangelogSearchIndex.read(in);
+            } catch (IOException e) {
+                log.warn("Cannot read search index " + indexFile.getPath() + " because: " + e.getMessage() + ", building it again");
+            }
+        }
+        return build();
+    }
+
+    public ChangelogSearchIndex build() {
+        ChangelogEntryType.setEntryTypes(config.getEntryTypes());
+        List<File> files = reader.readFiles(inputDirectory).collect(Collectors.toList());
+
+        List<File> versionDirectories = files.stream()
+                .filter(file -> file.isDirectory() && !file.getName().equals(TEMPLATES_DIR_NAME))
+                .sorted(Comparator.comparing(this::getVersion).reversed())
+                .collect(Collectors.toList());
+        List<File> archives = files.stream()
+                .filter(file -> file.getName().startsWith("archive") && file.getName().endsWith(".md"))
+                .sorted(Comparator.comparing(File::getName).reversed())
+                .collect(Collectors.toList());
+
+        // entries are parsed on the calling thread, entry types may be isolated to it (see ChangelogEntryType.isolated)
+        ChangelogSearchIndex.Builder builder = ChangelogSearchIndex.builder();
+        versionDirectories.forEach(directory -> versionDocuments(directory).forEach(document -> document.addTo(builder)));
+        archives.forEach(archive -> archiveDocuments(archive).forEach(document -> document.addTo(builder)));
+        return builder.build();
+    }
+
+    public void save(ChangelogSearchIndex index) {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(indexFile.toPath()))) {
+            index.write(out);
+        } catch (IOException e) {
+            String message = "Could not save search index to file: " + indexFile + " because: " + e.getMessage();
+            log.error(message);
+            throw new IllegalArgumentException(message);
+        }
+        log.info("Saved search index to file: " + indexFile.getPath());
+    }
+
+    private List<Document> versionDocuments(File versionDirectory) {
+        String version = getVersion(versionDirectory).getValue();
+        return reader.readYmlFilesContent(versionDirectory).stream()
+                .map(content -> entryDocument(version, content))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Document entryDocument(String version, FileContent content) {
+        ChangelogEntry entry;
+        try {
+            entry = YMLChangelogEntry.of(content.getBytes(), content.getPath()).to();
+        } catch (YMLChangelogEntryConfigException | YMLChangelogInvalidConfigValuesException e) {
+            log.warn("Skipping invalid entry " + content.getPath() + " in search index: " + e.getMessage());
+            return null;
+        }
+
+        Map<Field, List<String>> texts = new EnumMap<>(Field.class);
+        texts.put(Field.IMPORTANT_NOTE, entry.getImportantNotes().stream()
+                .map(ChangelogEntryImportantNote::getValue)
+                .collect(Collectors.toList()));
+        texts.put(Field.CONFIGURATION, entry.getConfigurations().stream()
+                .map(FileChangelogSearchIndexRepository::configurationText)
+                .collect(Collectors.toList()));
+        return new Document(version, relativePath(content.getFile()), entry.getTitle().getValue(), texts);
+    }
+
+    private List<Document> archiveDocuments(File archive) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(archive.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("Skipping archive " + archive.getPath() + " in search index: " + e.getMessage());
+            return Collections.emptyList();
+        }
+
+        String file = relativePath(archive);
+        String version = archive.getName();
+        List<Document> documents = new ArrayList<>();
+        for (String line : lines) {
+            Matcher versionHeader = ARCHIVE_VERSION.matcher(line);
+            Matcher entry = ARCHIVE_ENTRY.matcher(line);
+            if (versionHeader.find()) {
+                version = versionHeader.group(1).trim();
+            } else if (entry.matches()) {
+                documents.add(new Document(version, file, entry.group(1).trim(), Collections.emptyMap()));
+            }
+        }
+        return documents;
+    }
+
+    private static String configurationText(ChangelogEntryConfiguration configuration) {
+        return configuration.getDescription() == null
+                ? configuration.getKey()
+                : configuration.getKey() + " " + configuration.getDescription();
+    }
+
+    private Version getVersion(File versionDirectory) {
+        return Version.of(versionDirectory.getName().replace("v", ""));
+    }
+
+    private String relativePath(File file) {
+        Path root = Paths.get(rootPath).toAbsolutePath().normalize();
+        return root.relativize(file.toPath().toAbsolutePath().normalize()).toString().replace(File.separatorChar, '/');
+    }
+
+    @AllArgsConstructor
+    private static class Document {
+        private final String version;
+        private final String file;
+        private final String title;
+        private final Map<Field, List<String>> texts;
+
+        void addTo(ChangelogSearchIndex.Builder builder) {
+            builder.add(version, file, title, texts);
+        }
+    }
+}
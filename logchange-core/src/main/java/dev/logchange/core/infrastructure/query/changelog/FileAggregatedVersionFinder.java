@@ -11,8 +11,8 @@ import dev.logchange.core.format.release_date.FileReleaseDateTime;
 import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntry;
 import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntryConfigException;
 import dev.logchange.core.format.yml.config.YMLChangelogException;
+import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.java.Log;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -22,7 +22,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-@Log
+@CustomLog
 @RequiredArgsConstructor
 public class FileAggregatedVersionFinder implements AggregatedVersionQuery {
 
@@ -53,10 +53,10 @@ public class FileAggregatedVersionFinder implements AggregatedVersionQuery {
     private List<ChangelogVersionEntriesGroup> getEntries(File versionDirectory, String projectName) {
         List<Exception> exceptions = new ArrayList<>();
         ChangelogModule module = new ChangelogModule(projectName);
-        List<ChangelogEntry> entries = reader.readYmlFiles(versionDirectory)
-                .map((file) -> {
+        List<ChangelogEntry> entries = reader.readYmlFilesContent(versionDirectory).stream()
+                .map((content) -> {
                     try {
-                        return YMLChangelogEntry.of(reader.readFileContent(file), file.getPath());
+                        return YMLChangelogEntry.of(content.getBytes(), content.getPath());
                     } catch (YMLChangelogEntryConfigException e) {
                         exceptions.add(e);
                         return null;
@@ -0,0 +1,105 @@
+package dev.logchange.core.infrastructure.query.changelog;
+
+import dev.logchange.core.application.changelog.repository.VersionRangeQuery;
+import dev.logchange.core.application.file.query.FileContent;
+import dev.logchange.core.application.file.query.FileQuery;
+import dev.logchange.core.application.profile.Profiler;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryValuePool;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersionEntriesGroup;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.release_date.FileReleaseDateTime;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntry;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogEntryConfigException;
+import dev.logchange.core.format.yml.changelog.entry.YMLChangelogInvalidConfigValuesException;
+import dev.logchange.core.format.yml.config.YMLChangelogException;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static dev.logchange.core.Constants.TEMPLATES_DIR_NAME;
+
+/**
+ * Selects version directories by name only, so files of versions out of the range are never read,
+ * and loads the selected ones in parallel.
+ */
+@CustomLog
+@RequiredArgsConstructor
+public class FileVersionRangeFinder implements VersionRangeQuery {
+
+    private final File inputDirectory;
+    private final Config config;
+    private final FileQuery reader;
+    // shared by all versions of the range, which are parsed in parallel
+    private final ChangelogEntryValuePool values = ChangelogEntryValuePool.create();
+
+    @Override
+    public List<ChangelogVersion> find(Version from, Version to) {
+        List<File> versionDirectories = reader.readFiles(inputDirectory)
+                .filter(file -> file.isDirectory() && !file.getName().equals(TEMPLATES_DIR_NAME))
+                .filter(file -> isInRange(getVersion(file), from, to))
+                .sorted(Comparator.comparing(this::getVersion).reversed())
+                .collect(Collectors.toList());
+        log.debug(() -> "Versions in range: " + versionDirectories.stream().map(File::getName).collect(Collectors.toList()));
+
+        // collect keeps the encounter order of the sorted list
+        return versionDirectories.parallelStream()
+                .map(Profiler.propagate(this::getChangelogVersion))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isInRange(Version version, Version from, Version to) {
+        return version.compareTo(from) > 0 && version.compareTo(to) <= 0;
+    }
+
+    private Version getVersion(File versionDirectory) {
+        return Version.of(versionDirectory.getName().replace("v", ""));
+    }
+
+    private ChangelogVersion getChangelogVersion(File versionDirectory) {
+        return ChangelogVersion.builder()
+                .version(getVersion(versionDirectory))
+                .releaseDateTime(FileReleaseDateTime.getFromDir(versionDirectory))
+                .entriesGroups(ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(getEntries(versionDirectory)))
+                .build();
+    }
+
+    private List<ChangelogEntry> getEntries(File versionDirectory) {
+        List<FileContent> contents = reader.readYmlFilesContent(versionDirectory);
+        List<Exception> exceptions = new ArrayList<>();
+        AtomicReference<List<ChangelogEntry>> entries = new AtomicReference<>();
+
+        // worker threads do not see entry types isolated to the caller, so each sets types from the config
+        ChangelogEntryType.isolated(() -> {
+            ChangelogEntryType.setEntryTypes(config.getEntryTypes());
+            entries.set(contents.stream()
+                    .map(content -> parseEntry(content, exceptions))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()));
+        });
+
+        if (!exceptions.isEmpty()) {
+            throw new YMLChangelogException(exceptions);
+        }
+        return entries.get();
+    }
+
+    private ChangelogEntry parseEntry(FileContent content, List<Exception> exceptions) {
+        try {
+            return YMLChangelogEntry.of(content.getBytes(), content.getPath()).to(values);
+        } catch (YMLChangelogEntryConfigException | YMLChangelogInvalidConfigValuesException e) {
+            exceptions.add(e);
+            return null;
+        }
+    }
+}
@@ -1,19 +1,36 @@
 package dev.logchange.core.infrastructure.query.file;
 
+import dev.logchange.core.application.file.query.FileContent;
 import dev.logchange.core.application.file.query.FileQuery;
-import lombok.extern.java.Log;
+import dev.logchange.core.application.profile.ProfileCounter;
+import dev.logchange.core.application.profile.Profiler;
+import dev.logchange.core.format.yml.changelog.entry.YMLPackedEntries;
+import lombok.CustomLog;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-@Log
+@CustomLog
 public class FileReader implements FileQuery {
 
+    /**
+     * Below this number of files, reading in parallel costs more than it saves.
+     */
+    private static final int PARALLEL_READ_THRESHOLD = 16;
+
     /**
      * Returns: The returning stream of files is not sorted.
      */
@@ -37,20 +54,73 @@ public class FileReader implements FileQuery {
     public Stream<File> readYmlFiles(File versionDirectory) {
         return readFiles(versionDirectory)
                 .filter(file -> file.getName().contains(".yml") || file.getName().contains(".yaml"))
-                .sorted((f1, f2) -> Comparator.comparing(File::getName).compare(f1, f2));
+                .sorted(Comparator.comparing(File::getName));
     }
 
     /**
-     * Returns: Input stream of file content.
+     * Returns: Buffered input stream of file content, which has to be closed by the caller.
      */
     @Override
     public InputStream readFileContent(File entry) {
         try {
-            return new FileInputStream(entry);
+            return new BufferedInputStream(new FileInputStream(entry));
         } catch (FileNotFoundException e) {
             String message = "Cannot find entry file: " + entry.getName();
-            log.severe(message);
+            log.error(message);
             throw new IllegalArgumentException(message);
         }
     }
+
+    /**
+     * Returns: Whole content of the file, the file is closed before returning.
+     */
+    @Override
+    public byte[] readFileBytes(File entry) {
+        try {
+            byte[] bytes = Files.readAllBytes(entry.toPath());
+            Profiler.count(ProfileCounter.FILES_READ, 1);
+            Profiler.count(ProfileCounter.BYTES_READ, bytes.length);
+            return bytes;
+        } catch (NoSuchFileException e) {
+            String message = "Cannot find entry file: " + entry.getName();
+            log.error(message);
+            throw new IllegalArgumentException(message);
+        } catch (IOException e) {
+            String message = "Cannot read entry file: " + entry.getName() + " because: " + e.getMessage();
+            log.error(message);
+            throw new IllegalStateException(message, e);
+        }
+    }
+
+    /**
+     * Returns: Content of sorted and filtered YML files, bigger directories are read in parallel.
+     * Packed entries file ({@link YMLPackedEntries}) is read at once and split into contents of entries it holds,
+     * sorted together with entries added to the directory after packing.
+     */
+    @Override
+    public List<FileContent> readYmlFilesContent(File versionDirectory) {
+        List<File> files = readYmlFiles(versionDirectory).collect(Collectors.toList());
+
+        Function<File, List<FileContent>> read = Profiler.propagate(this::readYmlFileContent);
+        Stream<File> stream = files.size() < PARALLEL_READ_THRESHOLD ? files.stream() : files.parallelStream();
+        List<FileContent> contents = stream
+                .flatMap(file -> read.apply(file).stream())
+                .collect(Collectors.toList());
+        if (files.stream().anyMatch(YMLPackedEntries::isPacked)) {
+            contents.sort(FileContent.BY_ENTRY_NAME);
+        }
+        return contents;
+    }
+
+    /**
+     * Returns: Content of the entry file, or contents of all entries when it is packed entries file.
+     */
+    @Override
+    public List<FileContent> readYmlFileContent(File file) {
+        byte[] bytes = readFileBytes(file);
+        if (YMLPackedEntries.isPacked(file)) {
+            return YMLPackedEntries.unpack(file, bytes);
+        }
+        return Collections.singletonList(FileContent.of(file, bytes));
+    }
 }
@@ -1,8 +1,8 @@
 package dev.logchange.core.infrastructure.query.file;
 
 import dev.logchange.core.application.file.query.TarGzQuery;
+import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.java.Log;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 
@@ -10,12 +10,16 @@ import java.io.*;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
 
-@Log
+@CustomLog
 @RequiredArgsConstructor
 public class TarGzExtractor implements TarGzQuery {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private final Path extractionPath;
 
     public Path get(String projectUrl, String projectInputDir) throws IOException {
@@ -37,16 +41,27 @@ public class TarGzExtractor implements TarGzQuery {
         return tempFile;
     }
 
+    /**
+     * Progress is reported at most once per {@link #PROGRESS_INTERVAL_NANOS}, not per chunk,
+     * so a large archive does not flood the output with thousands of lines.
+     */
     private void copyStreamWithProgress(InputStream in, OutputStream out) throws IOException {
-        byte[] buffer = new byte[10 * 1024];
+        byte[] buffer = new byte[BUFFER_SIZE];
         int bytesRead;
-        int totalBytesRead = 0;
+        long totalBytesRead = 0;
+        long lastReport = System.nanoTime();
 
         while ((bytesRead = in.read(buffer)) != -1) {
             out.write(buffer, 0, bytesRead);
             totalBytesRead += bytesRead;
-            log.info("Downloaded " + totalBytesRead + " bytes...");
+
+            long now = System.nanoTime();
+            if (now - lastReport >= PROGRESS_INTERVAL_NANOS) {
+                lastReport = now;
+                log.info("Downloaded " + totalBytesRead + " bytes...");
+            }
         }
+        log.info("Downloaded " + totalBytesRead + " bytes in total");
     }
 
     private Path extractTarGz(File tarGzFile, String projectChangelogDir) throws IOException {
@@ -61,7 +76,7 @@ public class TarGzExtractor implements TarGzQuery {
             log.info("Deleting downloaded archive file");
             boolean deleted = tarGzFile.delete();
             if (!deleted) {
-                log.warning("Cannot delete downloaded archive file: " + tarGzFile.getAbsolutePath());
+                log.warn("Cannot delete downloaded archive file: " + tarGzFile.getAbsolutePath());
             }
         }
     }
@@ -79,8 +94,9 @@ public class TarGzExtractor implements TarGzQuery {
     }
 
     private void extractEntries(TarArchiveInputStream tis, String changelogDirPath) throws IOException {
-        System.out.println("Started extracting from " + changelogDirPath);
+        log.info("Started extracting from " + changelogDirPath);
         TarArchiveEntry entry;
+        int extractedFiles = 0;
 
         while ((entry = tis.getNextEntry()) != null) {
             String entryName = entry.getName();
@@ -92,17 +108,18 @@ public class TarGzExtractor implements TarGzQuery {
                     createDirectoryIfNotExists(outputFile);
                 } else {
                     extractFile(tis, outputFile);
+                    extractedFiles++;
                 }
 
             }
         }
-        log.info("Extraction completed successfully.");
+        log.info("Extraction completed successfully, extracted " + extractedFiles + " files.");
     }
 
     private void createDirectoryIfNotExists(File dir) {
         if (!dir.exists()) {
             dir.mkdirs();
-            log.info("Created directory: " + dir.getAbsolutePath());
+            log.debug(() -> "Created directory: " + dir.getAbsolutePath());
         }
     }
 
@@ -111,13 +128,13 @@ public class TarGzExtractor implements TarGzQuery {
 
         try (FileOutputStream fos = new FileOutputStream(outputFile);
              BufferedOutputStream bos = new BufferedOutputStream(fos)) {
-            byte[] buffer = new byte[1024];
+            byte[] buffer = new byte[BUFFER_SIZE];
             int len;
 
             while ((len = tis.read(buffer)) != -1) {
                 bos.write(buffer, 0, len);
             }
-            log.info("Extracted file: " + outputFile.getAbsolutePath());
+            log.debug(() -> "Extracted file: " + outputFile.getAbsolutePath());
         }
     }
 }
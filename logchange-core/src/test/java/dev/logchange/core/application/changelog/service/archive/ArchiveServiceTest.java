@@ -0,0 +1,191 @@
+package dev.logchange.core.application.changelog.service.archive;
+
+import dev.logchange.core.application.changelog.repository.ChangelogPersistence;
+import dev.logchange.core.application.changelog.repository.ChangelogQuery;
+import dev.logchange.core.domain.changelog.command.ArchiveUseCase.ArchivePolicyCommand;
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.ReleaseDateTime;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import dev.logchange.core.domain.config.model.archive.ArchivePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchiveServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2024, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private final Map<String, Long> sizes = new HashMap<>();
+    private final InMemoryChangelogPersistence persistence = new InMemoryChangelogPersistence();
+
+    @Test
+    void shouldArchiveVersionsReleasedBeforeMonthsLimit() {
+        // given:
+        Changelog changelog = changelog(
+                version("unreleased", null),
+                version("1.2.0", NOW.minusMonths(3)),
+                version("1.1.0", NOW.minusMonths(6).minusDays(1)),
+                version("1.0.0", NOW.minusMonths(12)));
+
+        // when:
+        List<String> archived = archive(changelog, ArchivePolicy.of(null, 6, null));
+
+        // then:
+        assertThat(archived).containsExactly("v1.1.0", "v1.0.0");
+        assertThat(archivedVersions()).containsExactly("1.1.0", "1.0.0");
+    }
+
+    @Test
+    void shouldKeepVersionReleasedExactlyAtMonthsLimit() {
+        // given:
+        Changelog changelog = changelog(
+                version("1.1.0", NOW.minusMonths(1)),
+                version("1.0.0", NOW.minusMonths(6)));
+
+        // when:
+        List<String> archived = archive(changelog, ArchivePolicy.of(null, 6, null));
+
+        // then:
+        assertThat(archived).isEmpty();
+        assertThat(persistence.saved).isNull();
+    }
+
+    @Test
+    void shouldArchiveOlderVersionsWhenSizeExceedsLimit() {
+        // given:
+        Changelog changelog = changelog(
+                version("unreleased", null, 300),
+                version("1.2.0", NOW.minusMonths(1), 500),
+                version("1.1.0", NOW.minusMonths(2), 500),
+                version("1.0.0", NOW.minusMonths(3), 100));
+
+        // when:
+        List<String> archived = archive(changelog, ArchivePolicy.of(null, null, 1));
+
+        // then:
+        assertThat(archived).containsExactly("v1.1.0", "v1.0.0");
+        assertThat(archivedVersions()).containsExactly("1.1.0", "1.0.0");
+    }
+
+    @Test
+    void shouldNeverArchiveNewestReleasedVersionBecauseOfSize() {
+        // given:
+        Changelog changelog = changelog(
+                version("unreleased", null, 2048),
+                version("1.0.0", NOW.minusMonths(1), 2048));
+
+        // when:
+        List<String> archived = archive(changelog, ArchivePolicy.of(null, null, 1));
+
+        // then:
+        assertThat(archived).isEmpty();
+        assertThat(persistence.saved).isNull();
+    }
+
+    @Test
+    void shouldArchiveOlderVersionsWhenNewestReleasedExceedsSizeAlone() {
+        // given:
+        Changelog changelog = changelog(
+                version("1.1.0", NOW.minusMonths(1), 2048),
+                version("1.0.0", NOW.minusMonths(2), 10));
+
+        // when:
+        List<String> archived = archive(changelog, ArchivePolicy.of(null, null, 1));
+
+        // then:
+        assertThat(archived).containsExactly("v1.0.0");
+        assertThat(archivedVersions()).containsExactly("1.0.0");
+    }
+
+    @Test
+    void shouldArchiveAllReleasedVersionsWhenKeepVersionsIsZero() {
+        // given:
+        Changelog changelog = changelog(
+                version("unreleased", null),
+                version("1.1.0", NOW.minusMonths(1)),
+                version("1.0.0", NOW.minusMonths(2)));
+
+        // when:
+        List<String> archived = archive(changelog, ArchivePolicy.of(0, null, null));
+
+        // then:
+        assertThat(archived).containsExactly("v1.1.0", "v1.0.0");
+        assertThat(archivedVersions()).containsExactly("1.1.0", "1.0.0");
+    }
+
+    private List<String> archive(Changelog changelog, ArchivePolicy policy) {
+        ChangelogQuery query = new InMemoryChangelogQuery(changelog);
+        ArchivePolicyCommand command = ArchivePolicyCommand.of(policy, NOW,
+                version -> sizes.getOrDefault(version.getVersion().getValue(), 0L));
+        return new ArchiveService(persistence, query).handle(command);
+    }
+
+    private List<String> archivedVersions() {
+        return persistence.saved.getVersions().getVersions().stream()
+                .map(version -> version.getVersion().getValue())
+                .collect(Collectors.toList());
+    }
+
+    private ChangelogVersion version(String version, OffsetDateTime releaseDateTime, long size) {
+        sizes.put(version, size);
+        return version(version, releaseDateTime);
+    }
+
+    private static ChangelogVersion version(String version, OffsetDateTime releaseDateTime) {
+        return ChangelogVersion.builder()
+                .version(Version.of(version))
+                .releaseDateTime(releaseDateTime == null ? null : ReleaseDateTime.of(releaseDateTime))
+                .entriesGroups(Collections.emptyList())
+                .build();
+    }
+
+    private static Changelog changelog(ChangelogVersion... versions) {
+        return Changelog.of(Arrays.asList(versions), Collections.emptyList());
+    }
+
+    private static class InMemoryChangelogQuery implements ChangelogQuery {
+
+        private final Changelog changelog;
+
+        private InMemoryChangelogQuery(Changelog changelog) {
+            this.changelog = changelog;
+        }
+
+        @Override
+        public Changelog findMarkdown() {
+            return changelog;
+        }
+
+        @Override
+        public Changelog findXML() {
+            return changelog;
+        }
+
+        @Override
+        public List<ChangelogEntry> findEntries(List<File> entryFiles) {
+            return Collections.emptyList();
+        }
+    }
+
+    private static class InMemoryChangelogPersistence implements ChangelogPersistence {
+
+        private Changelog saved;
+
+        @Override
+        public void save(Changelog changelog) {
+            this.saved = changelog;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package dev.logchange.core.application.profile;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenRecording_whenSpanClosed_thenEventWithPathAndSizeIsRecorded() throws IOException {
+        // given:
+        Path dump = tempDir.resolve("recording.jfr");
+
+        // when:
+        try (Recording recording = new Recording()) {
+            recording.enable("dev.logchange.EntryParse").withThreshold(Duration.ZERO);
+            recording.start();
+            try (FlightRecorderEvents.Span span = FlightRecorderEvents.entryParse("changelog/unreleased/task.yml", 123)) {
+                // parsing
+            }
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // then:
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("path")).isEqualTo("changelog/unreleased/task.yml");
+        assertThat(events.get(0).getLong("size")).isEqualTo(123);
+    }
+
+    @Test
+    void givenNoRecording_whenSpanClosed_thenNothingFails() {
+        // when-then:
+        try (FlightRecorderEvents.Span span = FlightRecorderEvents.templateRender("changelog/.templates/template.md")) {
+            assertThat(span).isNotNull();
+        }
+    }
+}
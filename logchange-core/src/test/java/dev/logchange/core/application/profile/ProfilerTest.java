@@ -0,0 +1,143 @@
+package dev.logchange.core.application.profile;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProfilerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void cleanUp() {
+        if (Profiler.isEnabled()) {
+            Profiler.finish(1);
+        }
+    }
+
+    @Test
+    void givenDisabledProfiler_whenRecording_thenNothingIsRecordedAndFinishFails() {
+        // when:
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.PARSE)) {
+            Profiler.entryParsed("entry.yml", 10, 1000);
+        }
+
+        // then:
+        assertThat(Profiler.isEnabled()).isFalse();
+        assertThrows(IllegalStateException.class, () -> Profiler.finish(1));
+    }
+
+    @Test
+    void givenEnabledProfiler_whenFinish_thenReportContainsPhasesCountersAndSlowestEntries() {
+        // given:
+        Profiler.enable();
+
+        // when:
+        try (Profiler.Timer ignored = Profiler.start(ProfilePhase.PARSE)) {
+            Profiler.entryParsed("fast.yml", 10, 1_000);
+            Profiler.entryParsed("slow.yml", 20, 9_000_000);
+            Profiler.entryParsed("medium.yml", 30, 5_000_000);
+        }
+        Profiler.count(ProfileCounter.BYTES_READ, 60);
+        ProfileReport report = Profiler.finish(2);
+
+        // then:
+        assertThat(Profiler.isEnabled()).isFalse();
+        assertThat(report.getPhases()).containsOnlyKeys(ProfilePhase.PARSE);
+        assertThat(report.getPhases().get(ProfilePhase.PARSE).getCount()).isEqualTo(1);
+        assertThat(report.getCounters()).containsEntry(ProfileCounter.ENTRIES_PARSED, 3L)
+                .containsEntry(ProfileCounter.BYTES_READ, 60L)
+                .containsEntry(ProfileCounter.FILES_WRITTEN, 0L);
+        assertThat(report.getSlowestEntries()).extracting(ProfileReport.Item::getPath).containsExactly("slow.yml", "medium.yml");
+        assertThat(report.toSummary()).contains("PARSE", "slow.yml");
+    }
+
+    @Test
+    void givenEnabledProfiler_whenEnableAgain_thenFails() {
+        // given:
+        Profiler.enable();
+
+        // when-then:
+        assertThrows(IllegalStateException.class, Profiler::enable);
+    }
+
+    @Test
+    void givenProfiledRun_whenOtherRunRecordsOnItsThread_thenReportContainsOnlyProfiledRun() throws Exception {
+        // given:
+        Profiler.enable();
+
+        // when:
+        Thread otherRun = new Thread(() -> {
+            Profiler.entryParsed("other.yml", 10, 1_000);
+            Profiler.count(ProfileCounter.BYTES_READ, 10);
+        });
+        otherRun.start();
+        otherRun.join();
+        Profiler.entryParsed("own.yml", 20, 2_000);
+        ProfileReport report = Profiler.finish(10);
+
+        // then:
+        assertThat(report.getCounters()).containsEntry(ProfileCounter.ENTRIES_PARSED, 1L)
+                .containsEntry(ProfileCounter.BYTES_READ, 0L);
+        assertThat(report.getSlowestEntries()).extracting(ProfileReport.Item::getPath).containsExactly("own.yml");
+    }
+
+    @Test
+    void givenPropagatedFunction_whenAppliedOnWorkerThread_thenItIsRecordedInRunReport() throws Exception {
+        // given:
+        Profiler.enable();
+        Function<String, Boolean> parse = Profiler.propagate(path -> {
+            Profiler.entryParsed(path, 10, 1_000);
+            return Profiler.isEnabled();
+        });
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+
+        // when:
+        boolean enabledOnWorker;
+        boolean enabledOnWorkerAfterwards;
+        try {
+            enabledOnWorker = CompletableFuture.supplyAsync(() -> parse.apply("worker.yml"), worker).get();
+            enabledOnWorkerAfterwards = CompletableFuture.supplyAsync(Profiler::isEnabled, worker).get();
+        } finally {
+            worker.shutdownNow();
+        }
+        ProfileReport report = Profiler.finish(10);
+
+        // then:
+        assertThat(enabledOnWorker).isTrue();
+        assertThat(enabledOnWorkerAfterwards).isFalse();
+        assertThat(report.getSlowestEntries()).extracting(ProfileReport.Item::getPath).containsExactly("worker.yml");
+    }
+
+    @Test
+    void givenReport_whenWriteJson_thenFileContainsReport() throws IOException {
+        // given:
+        Profiler.enable();
+        Profiler.templateRendered("template.md.jinja", 2_000_000);
+        ProfileReport report = Profiler.finish(10);
+        File json = tempDir.resolve("reports/profile.json").toFile();
+
+        // when:
+        report.writeJson(json);
+
+        // then:
+        JsonNode node = new ObjectMapper().readTree(json);
+        assertThat(node.get("counters").get("TEMPLATES_RENDERED").asLong()).isEqualTo(1);
+        assertThat(node.get("slowestTemplates").get(0).get("path").asText()).isEqualTo("template.md.jinja");
+        assertThat(node.get("slowestTemplates").get(0).get("micros").asLong()).isEqualTo(2000);
+    }
+}
@@ -0,0 +1,71 @@
+package dev.logchange.core.domain.changelog.model.entry;
+
+import dev.logchange.core.domain.config.model.CustomChangelogEntryType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangelogEntryTypeTest {
+
+    @AfterEach
+    void cleanUp() {
+        ChangelogEntryType.clear();
+    }
+
+    @Test
+    void givenIsolatedEntryTypes_whenActionFinished_thenGlobalEntryTypesAreNotChanged() {
+        //given:
+        List<CustomChangelogEntryType> types = Collections.singletonList(CustomChangelogEntryType.of("feature", 1));
+        AtomicReference<List<ChangelogEntryType>> isolatedValues = new AtomicReference<>();
+
+        //when:
+        ChangelogEntryType.isolated(() -> {
+            ChangelogEntryType.setEntryTypes(types);
+            isolatedValues.set(ChangelogEntryType.values());
+        });
+
+        //then:
+        assertThat(isolatedValues.get()).extracting(ChangelogEntryType::getKey).containsExactly("feature");
+        assertThat(ChangelogEntryType.values()).isEqualTo(ChangelogEntryType.getDefaultEntryTypes());
+    }
+
+    @Test
+    void givenTwoThreadsWithDifferentEntryTypes_whenIsolated_thenEachThreadSeesOwnTypes() throws InterruptedException {
+        //given:
+        CountDownLatch bothSet = new CountDownLatch(2);
+        List<String> firstKeys = new ArrayList<>();
+        List<String> secondKeys = new ArrayList<>();
+
+        //when:
+        Thread first = new Thread(() -> runWithTypes("feature", bothSet, firstKeys));
+        Thread second = new Thread(() -> runWithTypes("bugfix", bothSet, secondKeys));
+        first.start();
+        second.start();
+        first.join();
+        second.join();
+
+        //then:
+        assertThat(firstKeys).containsExactly("feature");
+        assertThat(secondKeys).containsExactly("bugfix");
+    }
+
+    private static void runWithTypes(String key, CountDownLatch bothSet, List<String> keys) {
+        ChangelogEntryType.isolated(() -> {
+            ChangelogEntryType.setEntryTypes(Collections.singletonList(CustomChangelogEntryType.of(key, 1)));
+            bothSet.countDown();
+            try {
+                bothSet.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ChangelogEntryType.values().forEach(type -> keys.add(type.getKey()));
+        });
+    }
+}
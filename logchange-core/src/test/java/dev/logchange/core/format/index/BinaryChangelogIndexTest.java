@@ -0,0 +1,149 @@
+package dev.logchange.core.format.index;
+
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryAuthor;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryLink;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryMergeRequest;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryTitle;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogModule;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersionEntriesGroup;
+import dev.logchange.core.domain.changelog.model.version.ReleaseDateTime;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryChangelogIndexTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldReadWholeIndexWrittenFromChangelog() throws IOException {
+        // given:
+        ChangelogIndex index = ChangelogIndex.of(prepareChangelog());
+        File file = new File(tempDir, "changelog-index.bin");
+
+        // when:
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            BinaryChangelogIndex.write(index, out);
+        }
+        ChangelogIndex read = BinaryChangelogIndex.open(file).readAll();
+
+        // then:
+        assertThat(read).usingRecursiveComparison().isEqualTo(index);
+        assertThat(read.getVersions().get(0).getReleaseDate()).isNull();
+        assertThat(read.getVersions().get(1).getReleaseDate()).isEqualTo("2024-10-30");
+    }
+
+    @Test
+    void shouldReadSingleVersionUsingOffset() throws IOException {
+        // given:
+        ChangelogIndex index = ChangelogIndex.of(prepareChangelog());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryChangelogIndex.write(index, out);
+
+        // when:
+        BinaryChangelogIndex binary = BinaryChangelogIndex.read(ByteBuffer.wrap(out.toByteArray()));
+
+        // then:
+        assertThat(binary.getVersions()).containsExactly("unreleased", "1.0.0");
+        assertThat(binary.findVersion("1.0.0")).hasValueSatisfying(version -> {
+            assertThat(version.getEntries()).hasSize(1);
+            ChangelogIndex.Entry entry = version.getEntries().get(0);
+            assertThat(entry.getTitle()).isEqualTo("Zażółć gęślą jaźń");
+            assertThat(entry.getType()).isEqualTo("added");
+            assertThat(entry.getModules()).containsExactly("core");
+            assertThat(entry.getIssues()).containsExactly(890L);
+            assertThat(entry.getMergeRequests()).containsExactly(567L);
+            assertThat(entry.getAuthors()).extracting(ChangelogIndex.Author::getNick).containsExactly("nick");
+            assertThat(entry.getLinks()).extracting(ChangelogIndex.Link::getUrl).containsExactly("https://logchange.dev");
+        });
+        assertThat(binary.findVersion("2.0.0")).isEmpty();
+    }
+
+    @Test
+    void shouldStoreRepeatedStringsOnce() throws IOException {
+        // given:
+        ChangelogEntry entry = entry("Same title", "fixed");
+        Changelog changelog = Changelog.of(Arrays.asList(
+                version("1.0.1", entry, entry, entry),
+                version("1.0.0", entry)
+        ), Collections.emptyList());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when:
+        BinaryChangelogIndex.write(ChangelogIndex.of(changelog), out);
+
+        // then:
+        String content = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertThat(content.split("Same title", -1)).hasSize(2);
+        assertThat(content.split("fixed", -1)).hasSize(2);
+    }
+
+    @Test
+    void shouldRejectOtherFiles() {
+        // given:
+        ByteBuffer buffer = ByteBuffer.wrap("# Changelog".getBytes(StandardCharsets.UTF_8));
+
+        // when-then:
+        assertThatThrownBy(() -> BinaryChangelogIndex.read(buffer))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Not a logchange binary changelog index");
+    }
+
+    private Changelog prepareChangelog() {
+        ChangelogEntry released = ChangelogEntry.builder()
+                .title(ChangelogEntryTitle.of("Zażółć gęślą jaźń"))
+                .type(ChangelogEntryType.fromNameIgnoreCase("added"))
+                .mergeRequest(ChangelogEntryMergeRequest.of(567L))
+                .issue(890L)
+                .link(new ChangelogEntryLink("Some link", "https://logchange.dev"))
+                .author(ChangelogEntryAuthor.of("Some Name", "nick", ""))
+                .module(new ChangelogModule("core"))
+                .build();
+
+        ChangelogVersion releasedVersion = ChangelogVersion.builder()
+                .version(Version.of("1.0.0"))
+                .releaseDateTime(ReleaseDateTime.of(OffsetDateTime.of(2024, 10, 30, 0, 0, 0, 0, UTC)))
+                .entriesGroups(ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(new ArrayList<>(Collections.singletonList(released))))
+                .build();
+
+        return Changelog.of(Arrays.asList(
+                version("unreleased", entry("First", "fixed"), entry("Second", "removed")),
+                releasedVersion
+        ), Collections.emptyList());
+    }
+
+    private ChangelogVersion version(String version, ChangelogEntry... entries) {
+        return ChangelogVersion.builder()
+                .version(Version.of(version))
+                .entriesGroups(ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(new ArrayList<>(Arrays.asList(entries))))
+                .build();
+    }
+
+    private ChangelogEntry entry(String title, String type) {
+        return ChangelogEntry.builder()
+                .title(ChangelogEntryTitle.of(title))
+                .type(ChangelogEntryType.fromNameIgnoreCase(type))
+                .build();
+    }
+}
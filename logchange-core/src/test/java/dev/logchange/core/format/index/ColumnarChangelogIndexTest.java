@@ -0,0 +1,111 @@
+package dev.logchange.core.format.index;
+
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryAuthor;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryTitle;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogModule;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersionEntriesGroup;
+import dev.logchange.core.domain.changelog.model.version.ReleaseDateTime;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarChangelogIndexTest {
+
+    private final ColumnarChangelogIndex index = ColumnarChangelogIndex.of(ChangelogIndex.of(prepareChangelog()));
+
+    @Test
+    void shouldReturnAllEntriesNewestFirstForEmptyQuery() {
+        assertThat(titles("")).containsExactly("Next", "Login timeout", "Add core API", "Fix OAuth", "First");
+    }
+
+    @Test
+    void shouldFilterByTypeAndModuleSinceVersion() {
+        assertThat(titles("type=security,fixed and module=core version>=3.2")).containsExactly("Fix OAuth");
+    }
+
+    @Test
+    void shouldFilterByAuthorNickOrNameInLastReleases() {
+        assertThat(titles("author=JOHN last=2")).containsExactly("Login timeout", "Fix OAuth");
+        assertThat(titles("author=jdoe")).containsExactly("Next", "Login timeout", "Fix OAuth");
+        assertThat(titles("author=nobody")).isEmpty();
+    }
+
+    @Test
+    void shouldFilterByIssueAndReleaseDate() {
+        assertThat(titles("issue=12,13")).containsExactly("Login timeout", "Add core API");
+        assertThat(titles("date>=2024-01-01 date<2024-06-01")).containsExactly("Add core API", "Fix OAuth");
+        assertThat(titles("date<2030-01-01")).doesNotContain("Next");
+    }
+
+    @Test
+    void shouldCompareVersionsLikeChangelog() {
+        assertThat(titles("version>3.10")).containsExactly("Next");
+        assertThat(titles("version=3.2.0")).containsExactly("Add core API", "Fix OAuth");
+        assertThat(titles("version<3.2")).containsExactly("First");
+    }
+
+    @Test
+    void shouldRejectInvalidQuery() {
+        assertThatThrownBy(() -> ChangelogIndexQuery.parse("color=red"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid query: color=red near: color=red");
+        assertThatThrownBy(() -> ChangelogIndexQuery.parse("type>added"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChangelogIndexQuery.parse("date>=yesterday"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> titles(String query) {
+        return index.query(ChangelogIndexQuery.parse(query)).stream()
+                .map(match -> match.getEntry().getTitle())
+                .collect(Collectors.toList());
+    }
+
+    private Changelog prepareChangelog() {
+        ChangelogEntryAuthor john = ChangelogEntryAuthor.of("John", "jdoe", "");
+        return Changelog.of(Arrays.asList(
+                version("unreleased", null, entry("Next", "added", null, john)),
+                version("3.10.0", OffsetDateTime.of(2024, 9, 1, 0, 0, 0, 0, UTC), entry("Login timeout", "fixed", 12L, john)),
+                version("3.2.0", OffsetDateTime.of(2024, 3, 1, 0, 0, 0, 0, UTC),
+                        entry("Add core API", "added", 13L, null, new ChangelogModule("core")),
+                        entry("Fix OAuth", "security", null, john, new ChangelogModule("Core"))),
+                version("3.1.0", OffsetDateTime.of(2023, 3, 1, 0, 0, 0, 0, UTC), entry("First", "added", null, null))
+        ), Collections.emptyList());
+    }
+
+    private ChangelogVersion version(String version, OffsetDateTime releaseDateTime, ChangelogEntry... entries) {
+        return ChangelogVersion.builder()
+                .version(Version.of(version))
+                .releaseDateTime(releaseDateTime == null ? null : ReleaseDateTime.of(releaseDateTime))
+                .entriesGroups(ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(new ArrayList<>(Arrays.asList(entries))))
+                .build();
+    }
+
+    private ChangelogEntry entry(String title, String type, Long issue, ChangelogEntryAuthor author, ChangelogModule... modules) {
+        ChangelogEntry.ChangelogEntryBuilder builder = ChangelogEntry.builder()
+                .title(ChangelogEntryTitle.of(title))
+                .type(ChangelogEntryType.fromNameIgnoreCase(type))
+                .modules(Arrays.asList(modules));
+        if (issue != null) {
+            builder.issue(issue);
+        }
+        if (author != null) {
+            builder.author(author);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,96 @@
+package dev.logchange.core.format.jinja.changelog;
+
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import dev.logchange.core.application.config.TemplateFile;
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryTitle;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersionEntriesGroup;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import dev.logchange.core.domain.config.model.templates.TemplateLimits;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JinjaChangelogTest {
+
+    @Test
+    void shouldReadEntriesOnlyOfRenderedVersions() {
+        // given:
+        List<String> loaded = new ArrayList<>();
+        Changelog changelog = Changelog.of(Arrays.asList(
+                version("1.2.0", "Fixed login", loaded),
+                version("1.1.0", "Added export", loaded),
+                version("1.0.0", "First release", loaded)), Collections.emptyList());
+        TemplateFile template = TemplateFile.of("{% for version in changelog.versions %}" +
+                "{% if loop.first %}{{ version.version.value }}:{% for entry in version.entries %} {{ entry.title.value }}{% endfor %}{% endif %}" +
+                "{% endfor %}");
+
+        // when:
+        String result = new JinjaChangelog(template, changelog).render();
+
+        // then:
+        assertThat(result).isEqualTo("1.2.0: Fixed login");
+        assertThat(loaded).containsExactly("1.2.0");
+        assertThat(changelog.getVersions().getVersions().get(1).isLoaded()).isFalse();
+    }
+
+    @Test
+    void shouldFailWhenOutputExceedsLimit() {
+        // given:
+        Changelog changelog = Changelog.of(Collections.singletonList(
+                version("1.0.0", "First release", new ArrayList<>())), Collections.emptyList());
+        TemplateFile template = TemplateFile.of("{% for i in range(100) %}{% for version in changelog.versions %}" +
+                "{{ version.version.value }}{% endfor %}{% endfor %}");
+        TemplateLimits limits = TemplateLimits.of(100L, null);
+
+        // when-then:
+        assertThatThrownBy(() -> new JinjaChangelog(template, changelog, limits).render())
+                .isInstanceOf(FatalTemplateErrorsException.class);
+        assertThat(new JinjaChangelog(template, changelog).render()).hasSize(500);
+    }
+
+    @Test
+    void shouldStopRunawayTemplateWhenRenderTimeExceedsLimit() {
+        // given:
+        Changelog changelog = Changelog.of(Collections.singletonList(
+                version("1.0.0", "First release", new ArrayList<>())), Collections.emptyList());
+        TemplateFile template = TemplateFile.of("{% for i in range(1000) %}{% for j in range(1000) %}" +
+                "{% for k in range(1000) %}{% if k %}{% endif %}{% endfor %}{% endfor %}{% endfor %}");
+        TemplateLimits limits = TemplateLimits.of(0L, 1L);
+        long start = System.nanoTime();
+
+        // when-then:
+        assertThatThrownBy(() -> new JinjaChangelog(template, changelog, limits).render())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("templates.limits.max_render_time");
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(30));
+        assertThat(Thread.getAllStackTraces().entrySet())
+                .filteredOn(thread -> thread.getKey() != Thread.currentThread())
+                .allSatisfy(thread -> assertThat(thread.getValue())
+                        .noneMatch(frame -> frame.getClassName().startsWith("com.hubspot.jinjava")));
+    }
+
+    private static ChangelogVersion version(String version, String title, List<String> loaded) {
+        return ChangelogVersion.builder()
+                .version(Version.of(version))
+                .entriesGroupsLoader(() -> {
+                    loaded.add(version);
+                    ChangelogEntry entry = ChangelogEntry.builder()
+                            .title(ChangelogEntryTitle.of(title))
+                            .type(ChangelogEntryType.fromNameIgnoreCase("added"))
+                            .build();
+                    return ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(Collections.singletonList(entry));
+                })
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package dev.logchange.core.format.jinja.changelog.version;
+
+import dev.logchange.core.application.config.TemplateFile;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryImportantNote;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryTitle;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersionEntriesGroup;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JinjaChangelogVersionTest {
+
+    @Test
+    void shouldRenderEntriesAndImportantNotesComputedOncePerVersion() {
+        // given:
+        ChangelogVersion version = ChangelogVersion.builder()
+                .version(Version.of("1.2.0"))
+                .entriesGroups(ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(Arrays.asList(
+                        entry("Fixed login", "fixed", "Clear cache"),
+                        entry("Added export", "added", "Export needs new role"))))
+                .build();
+        TemplateFile template = TemplateFile.of("{{ version.version }}: {{ version.entries|length }} changes | " +
+                "{% for entry in version.entries %}{{ entry }};{% endfor %} | " +
+                "{% for note in version.importantNotes %}{{ note.value }};{% endfor %}");
+
+        // when:
+        String result = new JinjaChangelogVersion(template, version).render();
+
+        // then:
+        assertThat(result).isEqualTo("1.2.0: 2 changes | " +
+                "added - Added export;fixed - Fixed login; | " +
+                "Clear cache;Export needs new role;");
+        assertThat(version.getEntries()).isSameAs(version.getEntries());
+        assertThat(version.getImportantNotes()).isSameAs(version.getImportantNotes());
+    }
+
+    private static ChangelogEntry entry(String title, String type, String importantNote) {
+        return ChangelogEntry.builder()
+                .title(ChangelogEntryTitle.of(title))
+                .type(ChangelogEntryType.fromNameIgnoreCase(type))
+                .importantNote(ChangelogEntryImportantNote.of(importantNote))
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package dev.logchange.core.format.md.changelog;
+
+import dev.logchange.core.application.changelog.repository.ImportedChangelogRepository;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryMergeRequest;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MDChangelogReaderTest {
+
+    @Test
+    void shouldReadKeepAChangelogFormat() throws IOException {
+        // given:
+        String changelog = "# Changelog\n" +
+                "\n" +
+                "All notable changes to this project will be documented in this file.\n" +
+                "\n" +
+                "## [Unreleased]\n" +
+                "\n" +
+                "### Added\n" +
+                "- New export\n" +
+                "\n" +
+                "## [1.1.0] - 2023-03-05\n" +
+                "\n" +
+                "### Fixed\n" +
+                "- Fixed login when password\n" +
+                "  contains spaces\n" +
+                "* Fixed logout\n" +
+                "\n" +
+                "### Security\n" +
+                "- Upgraded log4j\n" +
+                "\n" +
+                "[unreleased]: https://github.com/olivierlacan/keep-a-changelog/compare/v1.1.0...HEAD\n" +
+                "[1.1.0]: https://github.com/olivierlacan/keep-a-changelog/compare/v1.0.0...v1.1.0\n";
+        RecordingRepository repository = new RecordingRepository();
+
+        // when:
+        int entries = MDChangelogReader.of(new BufferedReader(new StringReader(changelog))).read(repository);
+
+        // then:
+        assertThat(entries).isEqualTo(4);
+        assertThat(repository.events).containsExactly(
+                "version unreleased null",
+                "entry added New export",
+                "version 1.1.0 2023-03-05",
+                "entry fixed Fixed login when password contains spaces",
+                "entry fixed Fixed logout",
+                "entry security Upgraded log4j");
+    }
+
+    @Test
+    void shouldReadChangelogGeneratedByLogchange() throws IOException {
+        // given:
+        String changelog = "<!-- This file is automatically generate by logchange tool -->\n" +
+                "\n" +
+                "[1.19.7] - 2025-07-18\n" +
+                "---------------------\n" +
+                "\n" +
+                "### Dependency updates (1 change)\n" +
+                "\n" +
+                "- Upgraded junit !503 #540 #541 ([Peter](https://github.com/marwin1991) @marwin1991, [Bot](team@logchange.dev) @bot)\n" +
+                "\n" +
+                "### Important notes\n" +
+                "\n" +
+                "- Clear cache after upgrade\n";
+        RecordingRepository repository = new RecordingRepository();
+
+        // when:
+        MDChangelogReader.of(new BufferedReader(new StringReader(changelog))).read(repository);
+
+        // then:
+        assertThat(repository.events).containsExactly(
+                "version 1.19.7 2025-07-18",
+                "entry dependency_update Upgraded junit");
+        ChangelogEntry entry = repository.entries.get(0);
+        assertThat(entry.getIssues()).containsExactly(540L, 541L);
+        assertThat(entry.getMergeRequests()).extracting(ChangelogEntryMergeRequest::getValue).containsExactly(503L);
+        assertThat(entry.getAuthors()).hasSize(2);
+        assertThat(entry.getAuthors().get(0).getName()).isEqualTo("Peter");
+        assertThat(entry.getAuthors().get(0).getNick()).isEqualTo("marwin1991");
+        assertThat(entry.getAuthors().get(0).getUrl()).isEqualTo("https://github.com/marwin1991");
+        assertThat(entry.getAuthors().get(1).getNick()).isEqualTo("bot");
+    }
+
+    private static class RecordingRepository implements ImportedChangelogRepository {
+        private final List<String> events = new ArrayList<>();
+        private final List<ChangelogEntry> entries = new ArrayList<>();
+
+        @Override
+        public void saveVersion(Version version, LocalDate releaseDate) {
+            events.add("version " + version.getValue() + " " + releaseDate);
+        }
+
+        @Override
+        public void saveEntry(ChangelogEntry entry) {
+            events.add("entry " + entry.getType().getKey() + " " + entry.getTitle().getValue());
+            entries.add(entry);
+        }
+    }
+}
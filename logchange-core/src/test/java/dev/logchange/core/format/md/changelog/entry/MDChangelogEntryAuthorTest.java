@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import static dev.logchange.core.domain.config.model.templates.Templates.DEFAULT_ENTRY_FORMAT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class MDChangelogEntryAuthorTest {
 
@@ -170,4 +171,24 @@ class MDChangelogEntryAuthorTest {
         //then:
         assertEquals(result2, result1);
     }
+
+    @Test
+    void givenEqualAuthorsAndDifferentConfigs_whenToString_thenRenderedOncePerConfig() {
+        //given:
+        ChangelogEntryAuthor author1 = ChangelogEntryAuthor.of("FirstName LastName", "NickName", "https://google.com");
+        ChangelogEntryAuthor author2 = ChangelogEntryAuthor.of("FirstName LastName", "NickName", "https://google.com");
+        Config config = Config.builder()
+                .templates(Templates.builder().authorFormat("@${nick}").build())
+                .build();
+
+        //when:
+        String result1 = new MDChangelogEntryAuthor(author1, Config.EMPTY).toString();
+        String result2 = new MDChangelogEntryAuthor(author2, Config.EMPTY).toString();
+        String customResult = new MDChangelogEntryAuthor(author2, config).toString();
+
+        //then:
+        assertSame(result1, result2);
+        assertEquals("([FirstName LastName](https://google.com) @NickName)", result1);
+        assertEquals("@NickName", customResult);
+    }
 }
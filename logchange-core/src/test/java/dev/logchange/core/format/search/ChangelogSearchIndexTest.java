@@ -0,0 +1,110 @@
+package dev.logchange.core.format.search;
+
+import dev.logchange.core.format.search.ChangelogSearchIndex.Field;
+import dev.logchange.core.format.search.ChangelogSearchIndex.Hit;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangelogSearchIndexTest {
+
+    private final ChangelogSearchIndex index = ChangelogSearchIndex.builder()
+            .add("2.0.0", "changelog/v2.0.0/timeout.yml", "Fixed login timeout",
+                    texts(Field.IMPORTANT_NOTE, "Increase OAuth timeout on proxies"))
+            .add("2.0.0", "changelog/v2.0.0/oauth.yml", "OAuth token refresh",
+                    texts(Field.CONFIGURATION, "oauth.refresh.enabled Enables token refresh"))
+            .add("1.0.0", "changelog/v1.0.0/oauth.yml", "Added OAuth login", Collections.emptyMap())
+            .add("0.1.0", "changelog/archive-0.1.0.md", "Timeouts are configurable", Collections.emptyMap())
+            .build();
+
+    @Test
+    void shouldFindDocumentsContainingAllTermsIgnoringCase() {
+        // when:
+        List<Hit> hits = index.search("OAUTH Login", 10);
+
+        // then:
+        assertThat(hits).extracting(Hit::getFile)
+                .containsExactly("changelog/v1.0.0/oauth.yml", "changelog/v2.0.0/timeout.yml");
+        assertThat(hits.get(0).getVersion()).isEqualTo("1.0.0");
+        assertThat(hits.get(0).getTitle()).isEqualTo("Added OAuth login");
+    }
+
+    @Test
+    void shouldRankTitleMatchesAboveOtherFields() {
+        // when:
+        List<Hit> hits = index.search("refresh", 10);
+
+        // then:
+        assertThat(hits).extracting(Hit::getTitle).containsExactly("OAuth token refresh");
+        assertThat(index.search("timeout", 10)).extracting(Hit::getTitle).containsExactly("Fixed login timeout");
+        assertThat(index.search("oauth", 10)).extracting(Hit::getTitle)
+                .containsExactly("OAuth token refresh", "Added OAuth login", "Fixed login timeout");
+    }
+
+    @Test
+    void shouldMatchPrefixOnce() {
+        // when:
+        List<Hit> hits = index.search("timeout*", 10);
+
+        // then:
+        assertThat(hits).extracting(Hit::getTitle).containsExactly("Fixed login timeout", "Timeouts are configurable");
+        assertThat(index.search("time* login", 1)).extracting(Hit::getTitle).containsExactly("Fixed login timeout");
+    }
+
+    @Test
+    void shouldReturnNothingForUnknownOrEmptyQuery() {
+        assertThat(index.search("oauth saml", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search("oauth", 0)).isEmpty();
+    }
+
+    @Test
+    void shouldReadWrittenIndex() throws IOException {
+        // given:
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when:
+        index.write(out);
+        ChangelogSearchIndex read = ChangelogSearchIndex.read(new ByteArrayInputStream(out.toByteArray()));
+
+        // then:
+        assertThat(read.size()).isEqualTo(4);
+        assertThat(read.termCount()).isEqualTo(index.termCount());
+        assertThat(read.search("oauth", 10)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(index.search("oauth", 10));
+    }
+
+    @Test
+    void shouldRejectOtherFiles() {
+        // given:
+        ByteArrayInputStream in = new ByteArrayInputStream("LCIX".getBytes(StandardCharsets.UTF_8));
+
+        // when-then:
+        assertThatThrownBy(() -> ChangelogSearchIndex.read(in))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Not a logchange search index");
+    }
+
+    @Test
+    void shouldTokenizeLettersAndDigits() {
+        assertThat(SearchTokens.tokenize("Upgrade to Java 8 (JDK-1234), a Zażółć!"))
+                .containsExactly("upgrade", "to", "java", "8", "jdk", "1234", "zażółć");
+    }
+
+    private static Map<Field, List<String>> texts(Field field, String... values) {
+        Map<Field, List<String>> texts = new EnumMap<>(Field.class);
+        texts.put(field, asList(values));
+        return texts;
+    }
+}
@@ -1,8 +1,14 @@
 package dev.logchange.core.format.yml.changelog.entry;
 
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryValuePool;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class YMLChangelogEntryTest {
 
@@ -42,6 +48,35 @@ class YMLChangelogEntryTest {
                 "    more_info: some more info\n", result);
     }
 
+    @Test
+    void sharesRepeatedValuesOfEntriesReadWithTheSamePool() {
+        //given:
+        String yml = "title: Some title\n" +
+                "authors:\n" +
+                "  - name: Ala\n" +
+                "    nick: Ma\n" +
+                "modules:\n" +
+                "  - core\n" +
+                "links:\n" +
+                "  - name: Issue\n" +
+                "    url: https://github.com/logchange/logchange/issues/1\n" +
+                "type: added\n";
+        byte[] content = yml.getBytes(StandardCharsets.UTF_8);
+        ChangelogEntryValuePool pool = ChangelogEntryValuePool.create();
+
+        //when:
+        ChangelogEntry first = YMLChangelogEntry.of(content, "first.yml").to(pool);
+        ChangelogEntry second = YMLChangelogEntry.of(content, "second.yml").to(pool);
+        ChangelogEntry notPooled = YMLChangelogEntry.of(content, "third.yml").to();
+
+        //then:
+        assertSame(first.getAuthors().get(0), second.getAuthors().get(0));
+        assertSame(first.getModules().get(0), second.getModules().get(0));
+        assertSame(first.getLinks().get(0), second.getLinks().get(0));
+        assertNotSame(first.getAuthors().get(0), notPooled.getAuthors().get(0));
+        assertEquals(3, pool.size());
+    }
+
     @Test
     void canCovertToSimpleYAMLString() {
         //given:
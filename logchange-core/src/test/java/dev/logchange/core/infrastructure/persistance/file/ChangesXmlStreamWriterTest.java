@@ -0,0 +1,120 @@
+package dev.logchange.core.infrastructure.persistance.file;
+
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryAuthor;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryTitle;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersionEntriesGroup;
+import dev.logchange.core.domain.changelog.model.version.ReleaseDateTime;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import org.junit.jupiter.api.Test;
+import org.xmlunit.assertj3.XmlAssert;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangesXmlStreamWriterTest {
+
+    @Test
+    void shouldWriteReleasesAndActionsOfVersionsWithEntries() throws Exception {
+        // given:
+        Changelog changelog = Changelog.of(Arrays.asList(
+                version("unreleased", null,
+                        entry("Escaped <title> & \"quotes\"", "fixed", ChangelogEntryAuthor.of("Name", "nick", "")),
+                        entry("Zażółć gęślą jaźń", "removed", ChangelogEntryAuthor.of("Only Name", "", ""), ChangelogEntryAuthor.of("", "second", ""))),
+                version("1.1.0", OffsetDateTime.of(2024, 11, 2, 0, 0, 0, 0, UTC)),
+                version("1.0.0", OffsetDateTime.of(2024, 10, 30, 0, 0, 0, 0, UTC),
+                        entry("Some Title", "added"),
+                        entry("Other Title", "security"))
+        ), Collections.emptyList());
+
+        // when:
+        String streamed = writeStreaming(changelog);
+
+        // then:
+        XmlAssert.assertThat(streamed)
+                .and("<document>" +
+                        "<body>" +
+                        "<release version=\"unreleased\" date=\"unreleased\">" +
+                        "<action dev=\"nick\" type=\"fix\">Escaped &lt;title&gt; &amp; \"quotes\"</action>" +
+                        "<action dev=\"Only Name,second\" type=\"remove\">Zażółć gęślą jaźń</action>" +
+                        "</release>" +
+                        "<release version=\"1.0.0\" date=\"2024-10-30\">" +
+                        "<action dev=\"\" type=\"add\">Some Title</action>" +
+                        "<action dev=\"\" type=\"update\">Other Title</action>" +
+                        "</release>" +
+                        "</body>" +
+                        "</document>")
+                .ignoreWhitespace()
+                .areIdentical();
+    }
+
+    @Test
+    void shouldWriteEmptyBodyWhenThereAreNoEntries() throws Exception {
+        // given:
+        Changelog changelog = Changelog.of(Collections.singletonList(version("unreleased", null)), Collections.emptyList());
+
+        // when:
+        String streamed = writeStreaming(changelog);
+
+        // then:
+        XmlAssert.assertThat(streamed)
+                .and("<document><body/></document>")
+                .ignoreWhitespace()
+                .areIdentical();
+    }
+
+    @Test
+    void shouldWriteUtf8WithIndentation() throws Exception {
+        // given:
+        Changelog changelog = Changelog.of(Collections.singletonList(
+                version("1.0.0", OffsetDateTime.of(2024, 10, 30, 0, 0, 0, 0, UTC), entry("Zażółć", "added"))
+        ), Collections.emptyList());
+
+        // when:
+        String streamed = writeStreaming(changelog);
+
+        // then:
+        assertThat(streamed).isEqualTo("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<document>\n" +
+                "  <body>\n" +
+                "    <release version=\"1.0.0\" date=\"2024-10-30\">\n" +
+                "      <action dev=\"\" type=\"add\">Zażółć</action>\n" +
+                "    </release>\n" +
+                "  </body>\n" +
+                "</document>\n");
+    }
+
+    private String writeStreaming(Changelog changelog) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChangesXmlStreamWriter.of(out).write(changelog.getVersions().getVersions());
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private ChangelogVersion version(String version, OffsetDateTime releaseDateTime, ChangelogEntry... entries) {
+        List<ChangelogEntry> versionEntries = new ArrayList<>(Arrays.asList(entries));
+        return ChangelogVersion.builder()
+                .version(Version.of(version))
+                .releaseDateTime(releaseDateTime == null ? null : ReleaseDateTime.of(releaseDateTime))
+                .entriesGroups(ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(versionEntries))
+                .build();
+    }
+
+    private ChangelogEntry entry(String title, String type, ChangelogEntryAuthor... authors) {
+        return ChangelogEntry.builder()
+                .title(ChangelogEntryTitle.of(title))
+                .type(ChangelogEntryType.fromNameIgnoreCase(type))
+                .authors(Arrays.asList(authors))
+                .build();
+    }
+}
@@ -12,7 +12,6 @@ import dev.logchange.core.domain.changelog.model.version.ReleaseDateTime;
 import dev.logchange.core.domain.changelog.model.version.Version;
 import dev.logchange.core.domain.config.model.Config;
 import dev.logchange.core.format.md.changelog.MDChangelog;
-import org.apache.maven.plugins.changes.model.ChangesDocument;
 import org.codehaus.plexus.util.FileUtils;
 import org.junit.jupiter.api.Test;
 import org.xmlunit.assertj3.XmlAssert;
@@ -25,7 +24,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import static dev.logchange.core.application.changelog.service.generate.GenerateChangelogXMLService.mapChangelogToChangesDocument;
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -60,11 +58,11 @@ class FileRepositoryTest {
         File changesXmlOutputFile = new File(PATH + "CHANGELOG.md");
         File expectedChangesXmlOutputFile = new File(PATH + "EXPECTED_CHANGES.xml");
 
-        ChangesDocument changesDocument = mapChangelogToChangesDocument(prepareChangelog());
+        List<ChangelogVersion> versions = prepareChangelog().getVersions().getVersions();
         XmlFileWriter xmlFileWriter = FileRepository.of(changesXmlOutputFile);
 
         // when:
-        xmlFileWriter.writeXml(changesDocument);
+        xmlFileWriter.writeXml(versions);
 
         // then:
         XmlAssert.assertThat(Input.fromFile(changesXmlOutputFile))
@@ -0,0 +1,96 @@
+package dev.logchange.core.infrastructure.persistance.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryAuthor;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryTitle;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersion;
+import dev.logchange.core.domain.changelog.model.version.ChangelogVersionEntriesGroup;
+import dev.logchange.core.domain.changelog.model.version.ReleaseDateTime;
+import dev.logchange.core.domain.changelog.model.version.Version;
+import dev.logchange.core.format.index.BinaryChangelogIndex;
+import dev.logchange.core.format.index.ChangelogIndexFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileChangelogIndexRepositoryTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldWriteJsonAndBinaryIndex() throws IOException {
+        // given:
+        String basePath = new File(tempDir, "changelog-index").getPath();
+
+        // when:
+        FileChangelogIndexRepository.of(basePath, ChangelogIndexFormat.parse("all")).save(prepareChangelog());
+
+        // then:
+        JsonNode json = new ObjectMapper().readTree(new File(basePath + ".json"));
+        assertThat(json.get("formatVersion").asInt()).isEqualTo(1);
+        JsonNode version = json.get("versions").get(0);
+        assertThat(version.get("version").asText()).isEqualTo("1.0.0");
+        assertThat(version.get("releaseDate").asText()).isEqualTo("2024-10-30");
+        JsonNode entry = version.get("entries").get(0);
+        assertThat(entry.get("title").asText()).isEqualTo("Some Title");
+        assertThat(entry.get("type").asText()).isEqualTo("added");
+        assertThat(entry.get("issues").get(0).asLong()).isEqualTo(890L);
+        assertThat(entry.get("authors").get(0).get("nick").asText()).isEqualTo("nick");
+
+        assertThat(BinaryChangelogIndex.open(new File(basePath + ".bin")).getVersions()).containsExactly("1.0.0");
+    }
+
+    @Test
+    void shouldWriteNothingWhenIndexIsDisabled() {
+        // given:
+        String basePath = new File(tempDir, "changelog-index").getPath();
+
+        // when:
+        FileChangelogIndexRepository.of(basePath, ChangelogIndexFormat.parse("none")).save(prepareChangelog());
+
+        // then:
+        assertThat(tempDir.listFiles()).isEmpty();
+    }
+
+    @Test
+    void shouldParseFormats() {
+        assertThat(ChangelogIndexFormat.parse("json")).containsExactly(ChangelogIndexFormat.JSON);
+        assertThat(ChangelogIndexFormat.parse("Binary, json")).isEqualTo(EnumSet.allOf(ChangelogIndexFormat.class));
+        assertThat(ChangelogIndexFormat.parse(null)).isEmpty();
+        assertThatThrownBy(() -> ChangelogIndexFormat.parse("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown changelog index format: xml, use one of: none, json, binary, all");
+    }
+
+    private Changelog prepareChangelog() {
+        ChangelogEntry entry = ChangelogEntry.builder()
+                .title(ChangelogEntryTitle.of("Some Title"))
+                .type(ChangelogEntryType.fromNameIgnoreCase("added"))
+                .issue(890L)
+                .author(ChangelogEntryAuthor.of("Some Name", "nick", ""))
+                .build();
+
+        ChangelogVersion version = ChangelogVersion.builder()
+                .version(Version.of("1.0.0"))
+                .releaseDateTime(ReleaseDateTime.of(OffsetDateTime.of(2024, 10, 30, 0, 0, 0, 0, UTC)))
+                .entriesGroups(ChangelogVersionEntriesGroup.ofEntriesKeepingOrder(new ArrayList<>(Collections.singletonList(entry))))
+                .build();
+
+        return Changelog.of(Collections.singletonList(version), Collections.emptyList());
+    }
+}
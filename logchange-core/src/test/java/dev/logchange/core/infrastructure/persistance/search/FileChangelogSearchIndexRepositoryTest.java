@@ -0,0 +1,96 @@
+package dev.logchange.core.infrastructure.persistance.search;
+
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.search.ChangelogSearchIndex;
+import dev.logchange.core.format.search.ChangelogSearchIndex.Hit;
+import dev.logchange.core.infrastructure.query.file.FileReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class FileChangelogSearchIndexRepositoryTest {
+
+    @TempDir
+    File tempDir;
+
+    private File changelogDir;
+    private FileChangelogSearchIndexRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        changelogDir = new File(tempDir, "changelog");
+        write("v1.0.0/oauth.yml", "title: Added OAuth login\ntype: added\n");
+        write("unreleased/timeout.yml", "title: Fixed login timeout\n" +
+                "type: fixed\n" +
+                "important_notes:\n" +
+                "  - Increase proxy timeout\n" +
+                "configurations:\n" +
+                "  - type: environment variable\n" +
+                "    action: add\n" +
+                "    key: LOGIN_TIMEOUT\n" +
+                "    description: Login timeout in seconds\n");
+        write("archive-0.1.0.md", "[0.1.0] - 2021-03-17\n" +
+                "--------------------\n" +
+                "\n" +
+                "### Added (1 change)\n" +
+                "\n" +
+                "- Added basic login form ([LINK](https://github.com/logchange) @nick)\n");
+
+        repository = FileChangelogSearchIndexRepository.of(tempDir.getPath(), changelogDir, Config.EMPTY,
+                new FileReader(), new File(tempDir, "changelog-search-index.bin"));
+    }
+
+    @Test
+    void shouldIndexEntriesAndArchivesNewestVersionFirst() {
+        // when:
+        ChangelogSearchIndex index = repository.build();
+
+        // then:
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("login", 10)).extracting(Hit::getVersion, Hit::getFile)
+                .containsExactly(
+                        tuple("unreleased", "changelog/unreleased/timeout.yml"),
+                        tuple("1.0.0", "changelog/v1.0.0/oauth.yml"),
+                        tuple("0.1.0", "changelog/archive-0.1.0.md"));
+        assertThat(index.search("proxy", 10)).extracting(Hit::getTitle).containsExactly("Fixed login timeout");
+        assertThat(index.search("seconds", 10)).extracting(Hit::getTitle).containsExactly("Fixed login timeout");
+        assertThat(index.search("form", 10)).extracting(Hit::getTitle)
+                .containsExactly("Added basic login form ([LINK](https://github.com/logchange) @nick)");
+    }
+
+    @Test
+    void shouldReuseSavedIndexUntilChangelogChanges() throws IOException {
+        // given:
+        repository.save(repository.build());
+        File indexFile = new File(tempDir, "changelog-search-index.bin");
+        assertThat(indexFile.setLastModified(System.currentTimeMillis() + 60_000)).isTrue();
+
+        // when:
+        File entry = write("unreleased/saml.yml", "title: Added SAML login\ntype: added\n");
+        assertThat(entry.setLastModified(System.currentTimeMillis())).isTrue();
+
+        // then:
+        assertThat(repository.find().search("saml", 10)).isEmpty();
+
+        // when:
+        assertThat(entry.setLastModified(indexFile.lastModified() + 1_000)).isTrue();
+
+        // then:
+        assertThat(repository.find().search("saml", 10)).extracting(Hit::getTitle).containsExactly("Added SAML login");
+    }
+
+    private File write(String path, String content) throws IOException {
+        File file = new File(changelogDir, path);
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
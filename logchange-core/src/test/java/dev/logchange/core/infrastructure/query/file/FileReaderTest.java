@@ -1,5 +1,7 @@
 package dev.logchange.core.infrastructure.query.file;
 
+import dev.logchange.core.application.file.query.FileContent;
+import dev.logchange.core.format.yml.changelog.entry.YMLPackedEntries;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -117,4 +119,70 @@ class FileReaderTest {
 
         assertEquals("Cannot find entry file: non_existent_file.txt", exception.getMessage());
     }
+
+    @Test
+    void testReadFileBytesReturnsWholeContent(@TempDir Path tempDir) throws IOException {
+        // given:
+        File file = Files.write(tempDir.resolve("entry.yml"), "title: Test".getBytes()).toFile();
+
+        // when:
+        byte[] content = fileReader.readFileBytes(file);
+
+        // then:
+        assertEquals("title: Test", new String(content));
+    }
+
+    @Test
+    void testReadFileBytesThrowsExceptionWhenFileNotFound() {
+        // given:
+        File nonExistentFile = new File("non_existent_file.txt");
+
+        // when-then:
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> fileReader.readFileBytes(nonExistentFile));
+
+        assertEquals("Cannot find entry file: non_existent_file.txt", exception.getMessage());
+    }
+
+    @Test
+    void testReadYmlFilesContentKeepsSortedOrder(@TempDir Path tempDir) throws IOException {
+        // given:
+        for (int i = 0; i < 40; i++) {
+            Files.write(tempDir.resolve(String.format("%03d-entry.yml", i)), ("title: " + i).getBytes());
+        }
+        Files.createFile(tempDir.resolve("other.txt"));
+
+        // when:
+        List<FileContent> contents = fileReader.readYmlFilesContent(tempDir.toFile());
+
+        // then:
+        assertEquals(40, contents.size());
+        for (int i = 0; i < 40; i++) {
+            assertEquals(String.format("%03d-entry.yml", i), contents.get(i).getFile().getName());
+            assertEquals("title: " + i, new String(contents.get(i).getBytes()));
+        }
+    }
+
+    @Test
+    void testReadYmlFilesContentUnpacksPackedEntriesInSortedOrder(@TempDir Path tempDir) throws IOException {
+        // given:
+        String packed = "# packed heading\n" +
+                "--- # 001-entry.yml\n" +
+                "title: 1\n" +
+                "--- # 003-entry.yml\n" +
+                "title: 3\n";
+        Files.write(tempDir.resolve(YMLPackedEntries.FILE_NAME), packed.getBytes());
+        Files.write(tempDir.resolve("002-entry.yml"), "title: 2".getBytes());
+
+        // when:
+        List<FileContent> contents = fileReader.readYmlFilesContent(tempDir.toFile());
+
+        // then:
+        assertEquals(3, contents.size());
+        assertEquals(tempDir.resolve("001-entry.yml").toFile(), contents.get(0).getFile());
+        assertEquals("title: 1\n", new String(contents.get(0).getBytes()));
+        assertEquals("002-entry.yml", contents.get(1).getFile().getName());
+        assertEquals("003-entry.yml", contents.get(2).getFile().getName());
+        assertEquals("title: 3\n", new String(contents.get(2).getBytes()));
+    }
 }
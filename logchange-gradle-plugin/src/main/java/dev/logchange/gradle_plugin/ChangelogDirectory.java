@@ -0,0 +1,119 @@
+package dev.logchange.gradle_plugin;
+
+import dev.logchange.core.application.config.ConfigFile;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.domain.config.model.templates.ChangelogTemplate;
+import dev.logchange.core.domain.config.model.templates.VersionSummaryTemplate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import org.gradle.api.file.ConfigurableFileTree;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.model.ObjectFactory;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static dev.logchange.core.Constants.TEMPLATES_DIR_NAME;
+
+/**
+ * Describes files read and written by logchange in a project, so Gradle tasks can declare them as inputs and outputs.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChangelogDirectory {
+
+    public static final String VERSION_SUMMARY_FILE = "version-summary.md";
+
+    private final File rootDirectory;
+    private final File directory;
+    private final String configFile;
+    private final Function<File, Config> configLoader;
+
+    public static ChangelogDirectory of(File rootDirectory, String inputDir, String configFile) {
+        return of(rootDirectory, inputDir, configFile, file -> ConfigFile.find(file.getPath()).orElse(Config.EMPTY));
+    }
+
+    public static ChangelogDirectory of(File rootDirectory, String inputDir, String configFile, Function<File, Config> configLoader) {
+        return new ChangelogDirectory(rootDirectory, new File(rootDirectory, inputDir), configFile, configLoader);
+    }
+
+    /**
+     * Returns: YML entries, config, templates, release dates and archives, without files generated by logchange,
+     * which are stored in the same directories.
+     */
+    public FileTree getSourceFiles(ObjectFactory objects) {
+        return getSourceFiles(objects, getVersionSummaryFileNames());
+    }
+
+    /**
+     * @param versionSummaryFileNames names of files generated in every version directory, which are excluded
+     */
+    public FileTree getSourceFiles(ObjectFactory objects, List<String> versionSummaryFileNames) {
+        ConfigurableFileTree files = objects.fileTree().from(directory);
+        versionSummaryFileNames.forEach(name -> files.exclude("*/" + name));
+        return files;
+    }
+
+    /**
+     * Returns: Files generated by logchange besides main changelog file, keyed by path relative to root directory.
+     * Only version directories are listed, names of generated files are given, so the config is not read.
+     *
+     * @param versionSummaryFileNames names of files generated in every version directory
+     * @param templateOutputFiles     paths of files generated from changelog templates, relative to root directory
+     */
+    public Map<String, File> getGeneratedFiles(List<String> versionSummaryFileNames, List<String> templateOutputFiles) {
+        Map<String, File> files = new LinkedHashMap<>();
+
+        for (File versionDirectory : getVersionDirectories()) {
+            for (String fileName : versionSummaryFileNames) {
+                files.put(directory.getName() + "/" + versionDirectory.getName() + "/" + fileName, new File(versionDirectory, fileName));
+            }
+        }
+
+        for (String outputFile : templateOutputFiles) {
+            files.put(outputFile, new File(rootDirectory, outputFile));
+        }
+        return files;
+    }
+
+    /**
+     * Returns: Names of files generated in every version directory, the default version summary
+     * and outputs of version summary templates from the config.
+     */
+    public List<String> getVersionSummaryFileNames() {
+        List<String> names = findConfig().getTemplates().getVersionSummaryTemplates().stream()
+                .map(VersionSummaryTemplate::getOutputFileName)
+                .collect(Collectors.toList());
+        names.add(0, VERSION_SUMMARY_FILE);
+        return names;
+    }
+
+    /**
+     * Returns: Outputs of changelog templates from the config, relative to root directory.
+     */
+    public List<String> getChangelogTemplateOutputFiles() {
+        return findConfig().getTemplates().getChangelogTemplates().stream()
+                .map(ChangelogTemplate::getOutputFileName)
+                .collect(Collectors.toList());
+    }
+
+    private List<File> getVersionDirectories() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(files)
+                .filter(file -> file.isDirectory() && !file.getName().equals(TEMPLATES_DIR_NAME))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private Config findConfig() {
+        return configLoader.apply(new File(directory, configFile));
+    }
+}
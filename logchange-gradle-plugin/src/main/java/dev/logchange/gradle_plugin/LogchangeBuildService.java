@@ -0,0 +1,77 @@
+package dev.logchange.gradle_plugin;
+
+import dev.logchange.commands.ProjectModelCache;
+import dev.logchange.core.application.config.ConfigFile;
+import dev.logchange.core.application.config.TemplateFile;
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.config.model.Config;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.CustomLog;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shared by logchange tasks of all projects in a build, so configuration files and templates are read once
+ * instead of once per task, per input fingerprint and per version. Each project has its own changelog directory,
+ * which is read by one task, so changelogs are not cached.
+ */
+@CustomLog
+public abstract class LogchangeBuildService implements BuildService<BuildServiceParameters.None>, ProjectModelCache {
+
+    public static final String NAME = "logchange";
+
+    private final Map<File, Cached<Config>> configs = new ConcurrentHashMap<>();
+    private final Map<File, Cached<TemplateFile>> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Returns: Parsed config file or {@link Config#EMPTY} when it does not exist,
+     * parsed again only when the file was modified since the last call.
+     */
+    public Config findConfig(File configFile) {
+        return getConfig(configFile, () -> {
+            log.debug(() -> "Reading config file: " + configFile);
+            return ConfigFile.find(configFile.getPath()).orElse(Config.EMPTY);
+        });
+    }
+
+    @Override
+    public Config getConfig(File configFile, Supplier<Config> loader) {
+        return get(configs, configFile, loader);
+    }
+
+    @Override
+    public Changelog getChangelog(File changelogDirectory, Config config, Supplier<Changelog> loader) {
+        return loader.get();
+    }
+
+    @Override
+    public TemplateFile getTemplate(File templateFile, Supplier<TemplateFile> loader) {
+        return get(templates, templateFile, loader);
+    }
+
+    private static <T> T get(Map<File, Cached<T>> cache, File file, Supplier<T> loader) {
+        long lastModified = file.lastModified();
+        long length = file.length();
+        // projects sharing a template refer to it by different relative paths
+        File key = file.toPath().toAbsolutePath().normalize().toFile();
+        return cache.compute(key, (ignored, cached) -> {
+            if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+                return cached;
+            }
+            return new Cached<>(lastModified, length, loader.get());
+        }).value;
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class Cached<T> {
+        private final long lastModified;
+        private final long length;
+        private final T value;
+    }
+}
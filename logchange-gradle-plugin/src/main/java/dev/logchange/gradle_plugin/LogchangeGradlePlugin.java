@@ -2,6 +2,8 @@ package dev.logchange.gradle_plugin;
 
 import dev.logchange.gradle_plugin.add.AddChangelogEntryTask;
 import dev.logchange.gradle_plugin.add.AddExampleChangelogEntryTask;
+import dev.logchange.gradle_plugin.aggregate.AggregateProjectsTask;
+import dev.logchange.gradle_plugin.archive.ApplyArchivePolicyTask;
 import dev.logchange.gradle_plugin.archive.ArchiveVersionTask;
 import dev.logchange.gradle_plugin.generate.GenerateChangelogTask;
 import dev.logchange.gradle_plugin.init.InitTask;
@@ -10,6 +12,10 @@ import dev.logchange.gradle_plugin.release.ReleaseVersionTask;
 import org.apache.commons.lang3.StringUtils;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.TaskProvider;
+
+import java.io.File;
 
 import static dev.logchange.commands.Constants.*;
 
@@ -18,11 +24,16 @@ public class LogchangeGradlePlugin implements Plugin<Project> {
     private static final String GRADLE_CONFIG = "logchange";
     private static final String TASK_PREFIX = "logchange";
     private static final String TASK_GROUP = "logchange";
+    private static final String LINT_RESULT_FILE = "logchange/lint-result.txt";
 
     @Override
     public void apply(Project project) {
         LogchangePluginExtension extension = project.getExtensions()
                 .create(GRADLE_CONFIG, LogchangePluginExtension.class);
+        File projectDirectory = project.getProjectDir();
+        Provider<LogchangeBuildService> buildService = project.getGradle().getSharedServices()
+                .registerIfAbsent(LogchangeBuildService.NAME, LogchangeBuildService.class, spec -> {
+                });
 
         project.getTasks().register(getTaskName(ADD_COMMAND), AddChangelogEntryTask.class, task -> {
             task.setExtension(extension);
@@ -49,33 +60,66 @@ public class LogchangeGradlePlugin implements Plugin<Project> {
         });
 
         project.getTasks().register(getTaskName(LINT_COMMAND), LintChangelogTask.class, task -> {
-            task.setExtension(extension);
+            task.getRootDirectory().set(project.getLayout().getProjectDirectory());
+            task.getInputDir().set(project.provider(extension::getInputDir));
+            task.getConfigFile().set(project.provider(extension::getConfigFile));
+            task.getOutputFile().set(project.provider(extension::getOutputFile));
+            task.getResultFile().set(project.getLayout().getBuildDirectory().file(LINT_RESULT_FILE));
             task.setDescription(LINT_COMMAND_DESCRIPTION);
             task.setGroup(TASK_GROUP);
         });
 
+        TaskProvider<ApplyArchivePolicyTask> archivePolicy = project.getTasks().register(getTaskName(ARCHIVE_POLICY_COMMAND), ApplyArchivePolicyTask.class, task -> {
+            task.getRootDirectory().set(project.getLayout().getProjectDirectory());
+            task.getInputDir().set(project.provider(extension::getInputDir));
+            task.getConfigFile().set(project.provider(extension::getConfigFile));
+            task.getBuildService().set(buildService);
+            task.usesService(buildService);
+            task.setDescription(ARCHIVE_POLICY_COMMAND_DESCRIPTION);
+            task.setGroup(TASK_GROUP);
+        });
+
         project.getTasks().register(getTaskName(GENERATE_COMMAND), GenerateChangelogTask.class, task -> {
-            task.setExtension(extension);
+            task.getRootDirectory().set(project.getLayout().getProjectDirectory());
+            task.getInputDir().set(project.provider(extension::getInputDir));
+            task.getConfigFile().set(project.provider(extension::getConfigFile));
+            task.getOutputFile().set(project.getLayout().getProjectDirectory().file(project.provider(extension::getOutputFile)));
+            task.getIndex().set(project.provider(extension::getIndex));
+            task.getIndexOutputFile().set(project.provider(extension::getIndexOutputFile));
+            task.getVersionSummaryFiles().convention(project.provider(() ->
+                    getChangelogDirectory(projectDirectory, extension, buildService).getVersionSummaryFileNames()));
+            task.getTemplateOutputFiles().convention(project.provider(() ->
+                    getChangelogDirectory(projectDirectory, extension, buildService).getChangelogTemplateOutputFiles()));
+            task.getBuildService().set(buildService);
+            task.usesService(buildService);
+            task.dependsOn(archivePolicy);
             task.setDescription(GENERATE_COMMAND_DESCRIPTION);
             task.setGroup(TASK_GROUP);
         });
 
         project.getTasks().register(getTaskName(RELEASE_COMMAND), ReleaseVersionTask.class, task -> {
             task.setExtension(extension);
-            task.setProject(project);
+            task.getProjectVersion().set(project.provider(() -> project.getVersion().toString()));
             task.setDescription(RELEASE_COMMAND_DESCRIPTION);
             task.setGroup(TASK_GROUP);
         });
 
-        project.getTasks().register(getTaskName(AGGREGATE_COMMAND), ReleaseVersionTask.class, task -> {
+        project.getTasks().register(getTaskName(AGGREGATE_COMMAND), AggregateProjectsTask.class, task -> {
             task.setExtension(extension);
-            task.setProject(project);
             task.setDescription(AGGREGATE_COMMAND_DESCRIPTION);
             task.setGroup(TASK_GROUP);
         });
 
     }
 
+    /**
+     * Reads the config through the build service, so it is parsed once per build for all tasks and properties.
+     */
+    private static ChangelogDirectory getChangelogDirectory(File projectDirectory, LogchangePluginExtension extension,
+                                                            Provider<LogchangeBuildService> buildService) {
+        return ChangelogDirectory.of(projectDirectory, extension.getInputDir(), extension.getConfigFile(), buildService.get()::findConfig);
+    }
+
     private static String getTaskName(String taskName) {
         return TASK_PREFIX + StringUtils.capitalize(taskName);
     }
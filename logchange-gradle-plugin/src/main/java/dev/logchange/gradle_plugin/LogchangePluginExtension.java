@@ -18,5 +18,7 @@ public class LogchangePluginExtension {
     private String configFile = DEFAULT_CONFIG_FILE;
     private boolean generateChangesXml = false;
     private String xmlOutputFile = DEFAULT_XML_OUTPUT_FILE;
+    private String index = DEFAULT_INDEX;
+    private String indexOutputFile = DEFAULT_INDEX_OUTPUT_FILE;
 
 }
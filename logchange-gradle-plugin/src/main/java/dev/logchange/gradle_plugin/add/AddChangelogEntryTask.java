@@ -7,6 +7,7 @@ import lombok.CustomLog;
 import lombok.Setter;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
 import org.gradle.api.tasks.options.Option;
 
 import java.util.Arrays;
@@ -15,6 +16,7 @@ import java.util.List;
 import static dev.logchange.commands.Constants.*;
 
 @CustomLog
+@UntrackedTask(because = "Creates new entry in changelog directory")
 public abstract class AddChangelogEntryTask extends DefaultTask {
 
     private String fileName;
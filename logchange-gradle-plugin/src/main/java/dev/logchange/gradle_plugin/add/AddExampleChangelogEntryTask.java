@@ -8,11 +8,13 @@ import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
 import org.gradle.api.tasks.options.Option;
 
 import static dev.logchange.commands.Constants.*;
 
 @CustomLog
+@UntrackedTask(because = "Creates new entry in changelog directory")
 public class AddExampleChangelogEntryTask extends DefaultTask {
 
     private String fileName;
@@ -7,11 +7,13 @@ import lombok.CustomLog;
 import lombok.Setter;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
 import org.gradle.api.tasks.options.Option;
 
 import static dev.logchange.commands.Constants.*;
 
 @CustomLog
+@UntrackedTask(because = "Downloads changelogs of other projects")
 public abstract class AggregateProjectsTask extends DefaultTask {
 
     @Setter
@@ -0,0 +1,52 @@
+package dev.logchange.gradle_plugin.archive;
+
+import dev.logchange.commands.archive.AutoArchiveCommand;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.gradle_plugin.LogchangeBuildService;
+import lombok.CustomLog;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
+
+import java.io.File;
+
+import static dev.logchange.commands.Constants.*;
+
+/**
+ * Applies archive policy before generating changelog, so generate task can be cached,
+ * as it only reads changelog directory modified by this task.
+ */
+@CustomLog
+@UntrackedTask(because = "Moves versions outside of archive policy from changelog directory to archive")
+public abstract class ApplyArchivePolicyTask extends DefaultTask {
+
+    @Internal
+    public abstract DirectoryProperty getRootDirectory();
+
+    @Internal
+    public abstract Property<String> getInputDir();
+
+    @Internal
+    public abstract Property<String> getConfigFile();
+
+    @Internal
+    public abstract Property<LogchangeBuildService> getBuildService();
+
+    @TaskAction
+    public void doArchive() {
+        File rootDirectory = getRootDirectory().get().getAsFile();
+        File configFile = new File(new File(rootDirectory, getInputDir().get()), getConfigFile().get());
+        Config config = getBuildService().get().findConfig(configFile);
+        if (!config.getArchive().isEnabled()) {
+            return;
+        }
+
+        log.info(ARCHIVE_POLICY_COMMAND_START_LOG);
+        ChangelogEntryType.isolated(() -> AutoArchiveCommand.of(rootDirectory.getPath(), getInputDir().get(), config).execute());
+        log.info(ARCHIVE_POLICY_COMMAND_END_LOG);
+    }
+}
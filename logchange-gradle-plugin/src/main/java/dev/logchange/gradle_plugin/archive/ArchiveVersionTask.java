@@ -6,11 +6,13 @@ import lombok.CustomLog;
 import lombok.Setter;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
 import org.gradle.api.tasks.options.Option;
 
 import static dev.logchange.commands.Constants.*;
 
 @CustomLog
+@UntrackedTask(because = "Moves versions from changelog directory to archive")
 public abstract class ArchiveVersionTask extends DefaultTask {
 
     @Setter
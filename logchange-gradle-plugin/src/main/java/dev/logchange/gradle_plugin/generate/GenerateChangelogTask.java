@@ -1,29 +1,105 @@
 package dev.logchange.gradle_plugin.generate;
 
-import dev.logchange.commands.generate.GenerateProjectCommand;
-import dev.logchange.gradle_plugin.LogchangePluginExtension;
+import dev.logchange.core.format.index.ChangelogIndexFormat;
+import dev.logchange.gradle_plugin.ChangelogDirectory;
+import dev.logchange.gradle_plugin.LogchangeBuildService;
 import lombok.CustomLog;
-import lombok.Setter;
 import org.gradle.api.DefaultTask;
-import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.*;
+import org.gradle.workers.WorkerExecutor;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
 
 import static dev.logchange.commands.Constants.*;
 
 @CustomLog
+@CacheableTask
 public abstract class GenerateChangelogTask extends DefaultTask {
 
-    @Setter
-    private LogchangePluginExtension extension;
+    @Internal
+    public abstract DirectoryProperty getRootDirectory();
+
+    @Input
+    public abstract Property<String> getInputDir();
+
+    @Input
+    public abstract Property<String> getConfigFile();
+
+    @OutputFile
+    public abstract RegularFileProperty getOutputFile();
+
+    @Input
+    public abstract Property<String> getIndex();
+
+    @Input
+    public abstract Property<String> getIndexOutputFile();
+
+    /**
+     * Names of files generated in every version directory, by convention read from the config.
+     */
+    @Input
+    public abstract ListProperty<String> getVersionSummaryFiles();
+
+    /**
+     * Paths of files generated from changelog templates relative to root directory, by convention read from the config.
+     */
+    @Input
+    public abstract ListProperty<String> getTemplateOutputFiles();
+
+    @Internal
+    public abstract Property<LogchangeBuildService> getBuildService();
+
+    @Inject
+    protected abstract ObjectFactory getObjects();
+
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public FileTree getChangelogFiles() {
+        return getChangelogDirectory().getSourceFiles(getObjects(), getVersionSummaryFiles().get());
+    }
+
+    @OutputFiles
+    public Map<String, File> getGeneratedFiles() {
+        return getChangelogDirectory().getGeneratedFiles(getVersionSummaryFiles().get(), getTemplateOutputFiles().get());
+    }
+
+    @OutputFiles
+    public Map<String, File> getIndexFiles() {
+        Map<String, File> indexFiles = new HashMap<>();
+        for (ChangelogIndexFormat format : ChangelogIndexFormat.parse(getIndex().get())) {
+            String fileName = getIndexOutputFile().get() + "." + format.getExtension();
+            indexFiles.put(fileName, new File(getRootDirectory().get().getAsFile(), fileName));
+        }
+        return indexFiles;
+    }
 
     @TaskAction
     public void doGenerate() {
         log.info(GENERATE_COMMAND_START_LOG);
-        GenerateProjectCommand.of(
-                DEFAULT_PATH,
-                extension.getInputDir(),
-                extension.getOutputFile(),
-                extension.getConfigFile()
-        ).execute(false);
-        log.info(GENERATE_COMMAND_END_LOG);
+        getWorkerExecutor().noIsolation().submit(GenerateChangelogWorkAction.class, parameters -> {
+            parameters.getRootDirectory().set(getRootDirectory());
+            parameters.getInputDir().set(getInputDir());
+            parameters.getConfigFile().set(getConfigFile());
+            parameters.getOutputFile().set(getOutputFile());
+            parameters.getIndex().set(getIndex());
+            parameters.getIndexOutputFile().set(getIndexOutputFile());
+            parameters.getBuildService().set(getBuildService());
+        });
+    }
+
+    private ChangelogDirectory getChangelogDirectory() {
+        return ChangelogDirectory.of(getRootDirectory().get().getAsFile(), getInputDir().get(), getConfigFile().get());
     }
 }
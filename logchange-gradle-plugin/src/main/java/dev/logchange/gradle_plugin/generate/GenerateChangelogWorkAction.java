@@ -0,0 +1,62 @@
+package dev.logchange.gradle_plugin.generate;
+
+import dev.logchange.commands.generate.GenerateProjectCommand;
+import dev.logchange.core.domain.changelog.model.entry.ChangelogEntryType;
+import dev.logchange.gradle_plugin.LogchangeBuildService;
+import lombok.CustomLog;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+
+import java.io.File;
+
+import static dev.logchange.commands.Constants.GENERATE_COMMAND_END_LOG;
+
+/**
+ * Generates changelog of a single project, executed by Gradle workers,
+ * so generation of many subprojects can run in parallel.
+ */
+@CustomLog
+public abstract class GenerateChangelogWorkAction implements WorkAction<GenerateChangelogWorkAction.Parameters> {
+
+    public interface Parameters extends WorkParameters {
+
+        DirectoryProperty getRootDirectory();
+
+        Property<String> getInputDir();
+
+        Property<String> getConfigFile();
+
+        RegularFileProperty getOutputFile();
+
+        Property<String> getIndex();
+
+        Property<String> getIndexOutputFile();
+
+        Property<LogchangeBuildService> getBuildService();
+    }
+
+    @Override
+    public void execute() {
+        Parameters parameters = getParameters();
+        File rootDirectory = parameters.getRootDirectory().get().getAsFile();
+        LogchangeBuildService buildService = parameters.getBuildService().get();
+        File configFile = new File(new File(rootDirectory, parameters.getInputDir().get()), parameters.getConfigFile().get());
+
+        GenerateProjectCommand command = GenerateProjectCommand.of(
+                rootDirectory.getPath(),
+                parameters.getInputDir().get(),
+                parameters.getOutputFile().get().getAsFile().getPath(),
+                parameters.getConfigFile().get()
+        ).withConfig(buildService.findConfig(configFile))
+                .withCache(buildService)
+                .withIndex(parameters.getIndex().get(), parameters.getIndexOutputFile().get())
+                // applied by ApplyArchivePolicyTask, before inputs of this task are snapshotted
+                .withoutArchivePolicy();
+
+        ChangelogEntryType.isolated(() -> command.execute(false));
+        log.info(GENERATE_COMMAND_END_LOG);
+    }
+}
@@ -6,11 +6,13 @@ import lombok.CustomLog;
 import lombok.Setter;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
 
 import static dev.logchange.commands.Constants.INIT_COMMAND_END_LOG;
 import static dev.logchange.commands.Constants.INIT_COMMAND_START_LOG;
 
 @CustomLog
+@UntrackedTask(because = "Creates changelog directory structure")
 public abstract class InitTask extends DefaultTask {
 
     @Setter
@@ -1,29 +1,75 @@
 package dev.logchange.gradle_plugin.lint;
 
 import dev.logchange.commands.lint.LintProjectCommand;
-import dev.logchange.gradle_plugin.LogchangePluginExtension;
+import dev.logchange.gradle_plugin.ChangelogDirectory;
 import lombok.CustomLog;
-import lombok.Setter;
 import org.gradle.api.DefaultTask;
-import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.*;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import static dev.logchange.commands.Constants.*;
 
 @CustomLog
+@CacheableTask
 public abstract class LintChangelogTask extends DefaultTask {
 
-    @Setter
-    private LogchangePluginExtension extension;
+    @Internal
+    public abstract DirectoryProperty getRootDirectory();
+
+    @Input
+    public abstract Property<String> getInputDir();
+
+    @Input
+    public abstract Property<String> getConfigFile();
+
+    @Internal
+    public abstract Property<String> getOutputFile();
+
+    /**
+     * Written after successful lint, so Gradle can consider the task up-to-date when changelog did not change.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getResultFile();
+
+    @Inject
+    protected abstract ObjectFactory getObjects();
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public FileTree getChangelogFiles() {
+        return ChangelogDirectory.of(getRootDirectory().get().getAsFile(), getInputDir().get(), getConfigFile().get())
+                .getSourceFiles(getObjects());
+    }
 
     @TaskAction
     public void doLint() {
         log.info(LINT_COMMAND_START_LOG);
-        LintProjectCommand.of(DEFAULT_PATH,
-                extension.getInputDir(),
-                extension.getOutputFile(),
-                extension.getConfigFile()
+        LintProjectCommand.of(getRootDirectory().get().getAsFile().getPath(),
+                getInputDir().get(),
+                getOutputFile().get(),
+                getConfigFile().get()
         ).validate();
+        writeResult();
         log.info(LINT_COMMAND_END_LOG);
+    }
 
+    private void writeResult() {
+        File resultFile = getResultFile().get().getAsFile();
+        try {
+            Files.createDirectories(resultFile.getParentFile().toPath());
+            Files.write(resultFile.toPath(), LINT_COMMAND_END_LOG.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot write lint result to: " + resultFile + " because: " + e.getMessage(), e);
+        }
     }
 }
@@ -7,22 +7,29 @@ import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.Project;
+import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
 import org.gradle.api.tasks.options.Option;
 
 import static dev.logchange.commands.Constants.*;
 
-@Setter
 @CustomLog
+@UntrackedTask(because = "Moves entries of unreleased version in changelog directory")
 public abstract class ReleaseVersionTask extends DefaultTask {
 
+    @Setter
     private LogchangePluginExtension extension;
 
-    private Project project;
-
     private String versionToRelease;
 
+    /**
+     * Version of the project, stored instead of the project itself to keep the task configuration cache compatible.
+     */
+    @Internal
+    public abstract Property<String> getProjectVersion();
+
     @Option(option = VERSION_TO_RELEASE_PROPERTY, description = VERSION_TO_RELEASE_OPTION_DESCRIPTION_EMPTY)
     public void setVersionToRelease(String versionToRelease) {
         this.versionToRelease = versionToRelease;
@@ -47,21 +54,22 @@ public abstract class ReleaseVersionTask extends DefaultTask {
 
     @Internal
     public String getVersion() {
-        log.info("versionToRelease: " + versionToRelease + " projectVersion: " + project.getVersion());
+        String projectVersion = getProjectVersion().getOrElse(Project.DEFAULT_VERSION);
+        log.info("versionToRelease: " + versionToRelease + " projectVersion: " + projectVersion);
         if (StringUtils.isNotBlank(versionToRelease)) {
             return versionToRelease;
         }
 
-        if (isVersionDefined(project)) {
-            return project.getVersion().toString();
+        if (isVersionDefined(projectVersion)) {
+            return projectVersion;
         }
 
-        throw new IllegalStateException("No version defined for projectVersion: " + project.getVersion() + " nor --versionToRelease used");
+        throw new IllegalStateException("No version defined for projectVersion: " + projectVersion + " nor --versionToRelease used");
     }
 
 
-    boolean isVersionDefined(Project project) {
-        return Project.DEFAULT_VERSION != project.getVersion();
+    boolean isVersionDefined(String projectVersion) {
+        return !Project.DEFAULT_VERSION.equals(projectVersion);
     }
 }
 
@@ -0,0 +1,184 @@
+package dev.logchange.gradle_plugin.generate;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gradle.testkit.runner.TaskOutcome.FROM_CACHE;
+import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE;
+
+class GenerateChangelogTaskIT {
+
+    private static final String GENERATE_TASK = "logchangeGenerate";
+
+    @TempDir
+    Path projectDir;
+
+    @Test
+    void shouldGenerateSubprojectsWithDifferentEntryTypesInParallel() throws IOException {
+        // given:
+        write("settings.gradle", "include 'app', 'lib'");
+        write("build.gradle", "");
+        createProject("app", "performance", "Faster startup");
+        createProject("lib", "tooling", "New build script");
+
+        // when:
+        BuildResult result = run(GENERATE_TASK, "--parallel");
+
+        // then:
+        assertThat(result.task(":app:" + GENERATE_TASK).getOutcome()).isEqualTo(SUCCESS);
+        assertThat(result.task(":lib:" + GENERATE_TASK).getOutcome()).isEqualTo(SUCCESS);
+        assertThat(read("app/CHANGELOG.md")).contains("### Performance", "Faster startup")
+                .doesNotContain("Tooling", "New build script");
+        assertThat(read("lib/CHANGELOG.md")).contains("### Tooling", "New build script")
+                .doesNotContain("Performance", "Faster startup");
+    }
+
+    @Test
+    void shouldGenerateManySubprojectsFromSharedTemplateInParallel() throws IOException {
+        // given:
+        List<String> projects = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            projects.add("project" + i);
+        }
+        write("settings.gradle", "include " + projects.stream().map(name -> "'" + name + "'").collect(Collectors.joining(", ")));
+        write("build.gradle", "");
+        write("shared/changelog.txt",
+                "{% for version in changelog.versions.versions %}{% for entry in version.entries %}",
+                "{{ entry.title.value }}",
+                "{% endfor %}{% endfor %}");
+        for (String name : projects) {
+            createProject(name, "performance", "Change of " + name);
+            write(name + "/changelog/logchange-config.yml",
+                    "changelog:",
+                    "  entryTypes:",
+                    "    - key: performance",
+                    "      order: 1",
+                    "  templates:",
+                    "    changelog_templates:",
+                    "      - path: ../../../shared/changelog.txt");
+            Files.createDirectories(projectDir.resolve(name + "/changelog/.templates"));
+        }
+
+        // when:
+        BuildResult result = run(GENERATE_TASK, "--parallel", "--max-workers=" + projects.size());
+
+        // then:
+        for (String name : projects) {
+            assertThat(result.task(":" + name + ":" + GENERATE_TASK).getOutcome()).isEqualTo(SUCCESS);
+            assertThat(read(name + "/changelog.txt").trim()).isEqualTo("Change of " + name);
+            assertThat(read(name + "/CHANGELOG.md")).contains("### Performance", "Change of " + name);
+        }
+    }
+
+    @Test
+    void shouldBeUpToDateWhenChangelogDidNotChange() throws IOException {
+        // given:
+        createSingleProject();
+        run(GENERATE_TASK);
+
+        // when:
+        BuildResult result = run(GENERATE_TASK);
+
+        // then:
+        assertThat(result.task(":" + GENERATE_TASK).getOutcome()).isEqualTo(UP_TO_DATE);
+    }
+
+    @Test
+    void shouldGenerateAgainWhenEntryIsEdited() throws IOException {
+        // given:
+        createSingleProject();
+        run(GENERATE_TASK);
+        write("changelog/unreleased/entry.yml", "title: Edited title", "type: added");
+
+        // when:
+        BuildResult result = run(GENERATE_TASK);
+
+        // then:
+        assertThat(result.task(":" + GENERATE_TASK).getOutcome()).isEqualTo(SUCCESS);
+        assertThat(read("CHANGELOG.md")).contains("Edited title").doesNotContain("First title");
+    }
+
+    @Test
+    void shouldRestoreGeneratedFilesFromBuildCache() throws IOException {
+        // given:
+        createSingleProject();
+        run(GENERATE_TASK, "--build-cache");
+        String generated = read("CHANGELOG.md");
+        Files.delete(projectDir.resolve("CHANGELOG.md"));
+
+        // when:
+        BuildResult result = run(GENERATE_TASK, "--build-cache");
+
+        // then:
+        assertThat(result.task(":" + GENERATE_TASK).getOutcome()).isEqualTo(FROM_CACHE);
+        assertThat(read("CHANGELOG.md")).isEqualTo(generated);
+    }
+
+    /**
+     * Project with its own local build cache, so results of other builds are never reused.
+     */
+    private void createSingleProject() throws IOException {
+        write("settings.gradle",
+                "rootProject.name = 'single'",
+                "buildCache { local { directory = new File(rootDir, 'build-cache') } }");
+        write("build.gradle", "plugins { id 'dev.logchange' }");
+        write("changelog/unreleased/entry.yml", "title: First title", "type: added");
+    }
+
+    private void createProject(String name, String entryType, String title) throws IOException {
+        write(name + "/build.gradle", "plugins { id 'dev.logchange' }");
+        write(name + "/changelog/logchange-config.yml",
+                "changelog:",
+                "  entryTypes:",
+                "    - key: added",
+                "      order: 1",
+                "    - key: " + entryType,
+                "      order: 2");
+        write(name + "/changelog/unreleased/entry.yml", "title: " + title, "type: " + entryType);
+    }
+
+    private BuildResult run(String... arguments) {
+        return GradleRunner.create()
+                .withGradleVersion(System.getProperty("gradle.version", "8.10.2"))
+                .withProjectDir(projectDir.toFile())
+                .withPluginClasspath(pluginClasspath())
+                .withArguments(arguments)
+                .build();
+    }
+
+    /**
+     * Classes of the plugin and its dependencies, without Gradle API provided by the Gradle running the build.
+     */
+    private static List<File> pluginClasspath() {
+        String gradleJars = File.separator + "org" + File.separator + "gradle" + File.separator;
+        String groovyJars = File.separator + "org" + File.separator + "apache" + File.separator + "groovy" + File.separator;
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(path -> !path.contains(gradleJars) && !path.contains(groovyJars))
+                .map(File::new)
+                .collect(Collectors.toList());
+    }
+
+    private void write(String path, String... lines) throws IOException {
+        Path file = projectDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(String path) throws IOException {
+        return new String(Files.readAllBytes(projectDir.resolve(path)), StandardCharsets.UTF_8);
+    }
+}
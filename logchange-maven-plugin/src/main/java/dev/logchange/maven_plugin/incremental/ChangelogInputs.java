@@ -0,0 +1,113 @@
+package dev.logchange.maven_plugin.incremental;
+
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.domain.config.model.templates.ChangelogTemplate;
+import dev.logchange.core.domain.config.model.templates.VersionSummaryTemplate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fingerprint of files read by logchange in a project. Files generated by logchange contribute only their presence,
+ * so regenerating them does not change the fingerprint, but deleting them does.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChangelogInputs {
+
+    private static final String VERSION_SUMMARY_FILE = "version-summary.md";
+
+    private final String fingerprint;
+
+    /**
+     * Newest modification time of input files, 0 if there are none.
+     */
+    private final long lastModified;
+
+    public static ChangelogInputs of(File rootDirectory, File changelogDirectory, Config config, String... parameters) {
+        MessageDigest digest = sha256();
+        for (String parameter : parameters) {
+            update(digest, "param|" + parameter);
+        }
+
+        Set<String> generatedNames = getVersionSummaryFileNames(config);
+        long lastModified = 0;
+        for (File file : listFiles(changelogDirectory)) {
+            String relativePath = changelogDirectory.toPath().relativize(file.toPath()).toString().replace('\\', '/');
+            if (generatedNames.contains(file.getName()) && isInVersionDirectory(changelogDirectory, file)) {
+                update(digest, "generated|" + relativePath);
+                continue;
+            }
+            lastModified = Math.max(lastModified, file.lastModified());
+            update(digest, "input|" + relativePath + "|" + file.length() + "|" + file.lastModified());
+        }
+
+        for (ChangelogTemplate template : config.getTemplates().getChangelogTemplates()) {
+            update(digest, "generated|" + template.getOutputFileName() + "|" + new File(rootDirectory, template.getOutputFileName()).isFile());
+        }
+
+        return new ChangelogInputs(toHex(digest.digest()), lastModified);
+    }
+
+    private static Set<String> getVersionSummaryFileNames(Config config) {
+        Set<String> names = config.getTemplates().getVersionSummaryTemplates().stream()
+                .map(VersionSummaryTemplate::getOutputFileName)
+                .collect(Collectors.toCollection(HashSet::new));
+        names.add(VERSION_SUMMARY_FILE);
+        return names;
+    }
+
+    private static boolean isInVersionDirectory(File changelogDirectory, File file) {
+        File parent = file.getParentFile();
+        return parent != null && changelogDirectory.equals(parent.getParentFile());
+    }
+
+    private static List<File> listFiles(File directory) {
+        if (!directory.isDirectory()) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            return paths.filter(Files::isRegularFile)
+                    .map(Path::toFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot list files in: " + directory + " because: " + e.getMessage(), e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package dev.logchange.maven_plugin.incremental;
+
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Fingerprint of inputs stored after successful execution, so next build can skip the work when nothing changed.
+ */
+@CustomLog
+@RequiredArgsConstructor(staticName = "of")
+public class InputsFingerprintFile {
+
+    private final File file;
+
+    /**
+     * Returns: true if stored fingerprint equals given one and every output exists and is not older than inputs.
+     */
+    public boolean isUpToDate(ChangelogInputs inputs, File... outputs) {
+        for (File output : outputs) {
+            if (!output.isFile() || output.lastModified() < inputs.getLastModified()) {
+                return false;
+            }
+        }
+        return inputs.getFingerprint().equals(read());
+    }
+
+    public void write(ChangelogInputs inputs) {
+        try {
+            Files.createDirectories(file.getParentFile().toPath());
+            Files.write(file.toPath(), inputs.getFingerprint().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // only next build will be slower
+            log.warn("Cannot store inputs fingerprint in: " + file + " because: " + e.getMessage());
+        }
+    }
+
+    private String read() {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            log.warn("Cannot read inputs fingerprint from: " + file + " because: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package dev.logchange.maven_plugin.incremental;
+
+import dev.logchange.commands.ProjectModelCache;
+import dev.logchange.core.application.config.ConfigFile;
+import dev.logchange.core.application.config.TemplateFile;
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.config.model.Config;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import org.apache.maven.execution.MavenSession;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Parsed configuration and changelog shared by all mojo executions of one Maven session, also in parallel (-T) builds.
+ * Aggregator mojos bound to a lifecycle phase run for every module of the reactor, but all of them read the same
+ * changelog directory, so it is parsed once and reused as long as input files do not change.
+ */
+public class LogchangeSessionCache implements ProjectModelCache {
+
+    private final Map<File, Cached<Config>> configs = new ConcurrentHashMap<>();
+    // configs are cached by file, so the same config instance identifies the same, unchanged config file
+    private final Map<File, Map<Config, Cached<Changelog>>> changelogs = new ConcurrentHashMap<>();
+    private final Map<File, Cached<TemplateFile>> templates = new ConcurrentHashMap<>();
+    private final Map<File, Object> locks = new ConcurrentHashMap<>();
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Returns: Cache stored in session data, so it lives exactly as long as the build.
+     */
+    public static LogchangeSessionCache of(MavenSession session) {
+        return (LogchangeSessionCache) session.getRepositorySession().getData()
+                .computeIfAbsent(LogchangeSessionCache.class, LogchangeSessionCache::new);
+    }
+
+    @Override
+    public Config getConfig(File configFile, Supplier<Config> loader) {
+        String key = configFile.lastModified() + "|" + configFile.length();
+        return configs.compute(normalize(configFile), (file, cached) ->
+                cached != null && cached.key.equals(key) ? cached : new Cached<>(key, loader.get())).value;
+    }
+
+    @Override
+    public Changelog getChangelog(File changelogDirectory, Config config, Supplier<Changelog> loader) {
+        File directory = normalize(changelogDirectory);
+        String key = ChangelogInputs.of(directory.getParentFile(), directory, config).getFingerprint();
+        return changelogs.computeIfAbsent(directory, file -> Collections.synchronizedMap(new IdentityHashMap<>()))
+                .compute(config, (c, cached) ->
+                        cached != null && cached.key.equals(key) ? cached : new Cached<>(key, loader.get())).value;
+    }
+
+    @Override
+    public TemplateFile getTemplate(File templateFile, Supplier<TemplateFile> loader) {
+        String key = templateFile.lastModified() + "|" + templateFile.length();
+        return templates.compute(normalize(templateFile), (file, cached) ->
+                cached != null && cached.key.equals(key) ? cached : new Cached<>(key, loader.get())).value;
+    }
+
+    /**
+     * Returns: Monitor for given changelog directory, so executions working on the same files do not run concurrently.
+     */
+    public Object lock(File changelogDirectory) {
+        return locks.computeIfAbsent(normalize(changelogDirectory), file -> new Object());
+    }
+
+    /**
+     * Returns: Parsed config file or {@link Config#EMPTY} when it does not exist.
+     */
+    public Config findConfig(File configFile) {
+        return getConfig(configFile, () -> ConfigFile.find(configFile.getPath()).orElse(Config.EMPTY));
+    }
+
+    /**
+     * Returns: true if goal was already executed in this session with given inputs fingerprint.
+     */
+    public boolean isCompleted(String goal, String fingerprint) {
+        return completed.contains(goal + "|" + fingerprint);
+    }
+
+    public void markCompleted(String goal, String fingerprint) {
+        completed.add(goal + "|" + fingerprint);
+    }
+
+    private static File normalize(File file) {
+        return file.toPath().toAbsolutePath().normalize().toFile();
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class Cached<T> {
+        private final String key;
+        private final T value;
+    }
+}
@@ -2,6 +2,7 @@ package dev.logchange.maven_plugin.mojo.add;
 
 import dev.logchange.commands.add.AddChangelogEntryBatchModeParams;
 import dev.logchange.commands.add.AddEntryCommand;
+import dev.logchange.commands.add.BulkAddEntryCommand;
 import dev.logchange.commands.add.ChangelogEntryProviderFactory;
 import dev.logchange.commands.add.OutputFileNameProvider;
 import dev.logchange.core.domain.changelog.model.entry.ChangelogEntry;
@@ -32,6 +33,15 @@ public class AddChangelogEntryMojo extends AbstractMojo {
     @Parameter(defaultValue = DEFAULT_UNRELEASED_VERSION_DIR, property = UNRELEASED_VERSION_DIR_PROPERTY)
     private String unreleasedVersionDir;
 
+    @Parameter(defaultValue = DEFAULT_CONFIG_FILE, property = CONFIG_FILE_PROPERTY)
+    private String configFile;
+
+    @Parameter(property = BULK_FROM_PROPERTY)
+    private String from;
+
+    @Parameter(property = BULK_FORMAT_PROPERTY)
+    private String fromFormat;
+
     @Parameter(property = FILENAME_PROPERTY)
     private String fileName;
 
@@ -66,6 +76,12 @@ public class AddChangelogEntryMojo extends AbstractMojo {
     public void execute() {
         getLog().info(ADD_COMMAND_START_LOG);
 
+        if (from != null) {
+            BulkAddEntryCommand.of(DEFAULT_PATH, inputDir, unreleasedVersionDir, configFile).execute(from, fromFormat);
+            getLog().info(ADD_COMMAND_END_LOG);
+            return;
+        }
+
         MavenAddEntryPrompter mavenPrompter = MavenAddEntryPrompter.of(prompter);
         AddEntryCommand addEntryCommand = AddEntryCommand.of(DEFAULT_PATH, inputDir, unreleasedVersionDir);
         fileName = new OutputFileNameProvider(empty, mavenPrompter, fileName).get();
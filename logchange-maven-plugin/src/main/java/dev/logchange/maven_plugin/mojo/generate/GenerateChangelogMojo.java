@@ -1,12 +1,25 @@
 package dev.logchange.maven_plugin.mojo.generate;
 
 import dev.logchange.commands.generate.GenerateProjectCommand;
+import dev.logchange.core.application.profile.ProfileReport;
+import dev.logchange.core.application.profile.Profiler;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.format.index.ChangelogIndexFormat;
+import dev.logchange.maven_plugin.incremental.ChangelogInputs;
+import dev.logchange.maven_plugin.incremental.InputsFingerprintFile;
+import dev.logchange.maven_plugin.incremental.LogchangeSessionCache;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 
+import java.io.File;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
 import static dev.logchange.commands.Constants.*;
 
 @Mojo(name = GENERATE_COMMAND,
@@ -18,6 +31,15 @@ import static dev.logchange.commands.Constants.*;
 )
 public class GenerateChangelogMojo extends AbstractMojo {
 
+    @Parameter(defaultValue = "${session}", readonly = true, required = true)
+    private MavenSession session;
+
+    @Parameter(defaultValue = "${project.build.directory}/logchange", readonly = true)
+    private File stateDirectory;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String pluginVersion;
+
     @Parameter(defaultValue = DEFAULT_INPUT_DIR, property = INPUT_DIR_PROPERTY)
     private String inputDir;
 
@@ -27,10 +49,81 @@ public class GenerateChangelogMojo extends AbstractMojo {
     @Parameter(defaultValue = DEFAULT_CONFIG_FILE, property = CONFIG_FILE_PROPERTY)
     private String configFile;
 
+    @Parameter(defaultValue = DEFAULT_INDEX, property = INDEX_PROPERTY)
+    private String index;
+
+    @Parameter(defaultValue = DEFAULT_INDEX_OUTPUT_FILE, property = INDEX_OUTPUT_FILE_PROPERTY)
+    private String indexOutputFile;
+
+    @Parameter(defaultValue = "false", property = FORCE_PROPERTY)
+    private boolean force;
+
+    @Parameter(defaultValue = "false", property = PROFILE_PROPERTY)
+    private boolean profile;
+
     @Override
     public void execute() {
         getLog().info(GENERATE_COMMAND_START_LOG);
-        GenerateProjectCommand.of(DEFAULT_PATH, inputDir, outputFile, configFile).execute(false);
+        LogchangeSessionCache cache = LogchangeSessionCache.of(session);
+        File rootDirectory = new File(DEFAULT_PATH);
+        File changelogDirectory = new File(rootDirectory, inputDir);
+        InputsFingerprintFile fingerprintFile = InputsFingerprintFile.of(new File(stateDirectory, GENERATE_COMMAND + ".sha256"));
+
+        synchronized (cache.lock(changelogDirectory)) {
+            ChangelogInputs inputs = getInputs(cache, rootDirectory, changelogDirectory);
+            if (!force && (cache.isCompleted(GENERATE_COMMAND, inputs.getFingerprint())
+                    || fingerprintFile.isUpToDate(inputs, getOutputs(rootDirectory)))) {
+                getLog().info(UP_TO_DATE_LOG);
+                return;
+            }
+
+            generate(cache);
+
+            // generated files are part of the fingerprint, so it is calculated again
+            ChangelogInputs generated = getInputs(cache, rootDirectory, changelogDirectory);
+            fingerprintFile.write(generated);
+            cache.markCompleted(GENERATE_COMMAND, generated.getFingerprint());
+        }
         getLog().info(GENERATE_COMMAND_END_LOG);
     }
+
+    private void generate(LogchangeSessionCache cache) {
+        if (profile) {
+            Profiler.enable();
+        }
+        try {
+            GenerateProjectCommand.of(DEFAULT_PATH, inputDir, outputFile, configFile)
+                    .withCache(cache)
+                    .withIndex(index, indexOutputFile)
+                    .execute(false);
+        } finally {
+            if (profile) {
+                ProfileReport report = Profiler.finish(PROFILE_SLOWEST_LIMIT);
+                getLog().info(report.toSummary());
+                report.writeJson(new File(stateDirectory, DEFAULT_PROFILE_FILE));
+            }
+        }
+    }
+
+    private ChangelogInputs getInputs(LogchangeSessionCache cache, File rootDirectory, File changelogDirectory) {
+        Config config = cache.findConfig(new File(changelogDirectory, configFile));
+        return ChangelogInputs.of(rootDirectory, changelogDirectory, config,
+                pluginVersion, getArchiveDate(config), outputFile, configFile, index, indexOutputFile);
+    }
+
+    /**
+     * Versions are archived by their age when keep_months is set, so the same inputs can give another changelog next day.
+     */
+    private String getArchiveDate(Config config) {
+        return config.getArchive().getKeepMonths() != null ? LocalDate.now().toString() : "";
+    }
+
+    private File[] getOutputs(File rootDirectory) {
+        List<File> outputs = new ArrayList<>();
+        outputs.add(new File(rootDirectory, outputFile));
+        for (ChangelogIndexFormat format : ChangelogIndexFormat.parse(index)) {
+            outputs.add(new File(rootDirectory, indexOutputFile + "." + format.getExtension()));
+        }
+        return outputs.toArray(new File[0]);
+    }
 }
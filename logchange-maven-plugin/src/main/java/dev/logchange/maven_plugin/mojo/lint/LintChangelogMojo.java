@@ -1,12 +1,19 @@
 package dev.logchange.maven_plugin.mojo.lint;
 
 import dev.logchange.commands.lint.LintProjectCommand;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.maven_plugin.incremental.ChangelogInputs;
+import dev.logchange.maven_plugin.incremental.InputsFingerprintFile;
+import dev.logchange.maven_plugin.incremental.LogchangeSessionCache;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 
+import java.io.File;
+
 import static dev.logchange.commands.Constants.*;
 
 @Mojo(name = LINT_COMMAND,
@@ -18,6 +25,15 @@ import static dev.logchange.commands.Constants.*;
 )
 public class LintChangelogMojo extends AbstractMojo {
 
+    @Parameter(defaultValue = "${session}", readonly = true, required = true)
+    private MavenSession session;
+
+    @Parameter(defaultValue = "${project.build.directory}/logchange", readonly = true)
+    private File stateDirectory;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String pluginVersion;
+
     @Parameter(defaultValue = DEFAULT_INPUT_DIR, property = INPUT_DIR_PROPERTY)
     private String inputDir;
 
@@ -27,11 +43,29 @@ public class LintChangelogMojo extends AbstractMojo {
     @Parameter(defaultValue = DEFAULT_CONFIG_FILE, property = CONFIG_FILE_PROPERTY)
     private String configFile;
 
+    @Parameter(defaultValue = "false", property = FORCE_PROPERTY)
+    private boolean force;
 
     @Override
     public void execute() {
         getLog().info(LINT_COMMAND_START_LOG);
-        LintProjectCommand.of(DEFAULT_PATH, inputDir, outputFile, configFile).validate();
+        LogchangeSessionCache cache = LogchangeSessionCache.of(session);
+        File rootDirectory = new File(DEFAULT_PATH);
+        File changelogDirectory = new File(rootDirectory, inputDir);
+        InputsFingerprintFile fingerprintFile = InputsFingerprintFile.of(new File(stateDirectory, LINT_COMMAND + ".sha256"));
+
+        synchronized (cache.lock(changelogDirectory)) {
+            Config config = cache.findConfig(new File(changelogDirectory, configFile));
+            ChangelogInputs inputs = ChangelogInputs.of(rootDirectory, changelogDirectory, config, pluginVersion, configFile);
+            if (!force && (cache.isCompleted(LINT_COMMAND, inputs.getFingerprint()) || fingerprintFile.isUpToDate(inputs))) {
+                getLog().info(UP_TO_DATE_LOG);
+                return;
+            }
+
+            LintProjectCommand.of(DEFAULT_PATH, inputDir, outputFile, configFile).withCache(cache).validate();
+            fingerprintFile.write(inputs);
+            cache.markCompleted(LINT_COMMAND, inputs.getFingerprint());
+        }
         getLog().info(LINT_COMMAND_END_LOG);
     }
 }
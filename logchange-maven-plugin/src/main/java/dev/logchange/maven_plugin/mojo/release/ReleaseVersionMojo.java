@@ -49,6 +49,9 @@ public class ReleaseVersionMojo extends AbstractMojo {
     @Parameter(defaultValue = DEFAULT_XML_OUTPUT_FILE, property = XML_OUTPUT_FILE_PROPERTY)
     private String xmlOutputFile;
 
+    @Parameter(defaultValue = "false", property = PACK_PROPERTY)
+    private boolean isPack;
+
     @Override
     public void execute() {
         String version = ReleaseVersionCommand.getVersion(getVersion());
@@ -61,7 +64,7 @@ public class ReleaseVersionMojo extends AbstractMojo {
                 outputFile,
                 configFile,
                 isGenerateChangesXml,
-                xmlOutputFile).execute();
+                xmlOutputFile).withPack(isPack).execute();
         getLog().info(RELEASE_COMMAND_END_LOG);
     }
 
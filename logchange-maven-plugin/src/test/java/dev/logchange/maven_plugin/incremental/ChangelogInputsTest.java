@@ -0,0 +1,116 @@
+package dev.logchange.maven_plugin.incremental;
+
+import dev.logchange.core.domain.config.model.Config;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangelogInputsTest {
+
+    @TempDir
+    Path root;
+
+    private File changelog;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        changelog = root.resolve("changelog").toFile();
+        write("changelog/unreleased/task.yml", "title: Task");
+        write("changelog/v1.0.0/old-task.yml", "title: Old task");
+        write("changelog/v1.0.0/version-summary.md", "## [1.0.0]");
+    }
+
+    @Test
+    void givenUnchangedFiles_whenOf_thenFingerprintIsTheSame() {
+        //when:
+        ChangelogInputs first = inputs();
+        ChangelogInputs second = inputs();
+
+        //then:
+        assertEquals(first.getFingerprint(), second.getFingerprint());
+    }
+
+    @Test
+    void givenChangedEntry_whenOf_thenFingerprintIsDifferent() throws IOException {
+        //given:
+        ChangelogInputs before = inputs();
+
+        //when:
+        write("changelog/unreleased/task.yml", "title: Changed task");
+
+        //then:
+        assertNotEquals(before.getFingerprint(), inputs().getFingerprint());
+    }
+
+    @Test
+    void givenRegeneratedVersionSummary_whenOf_thenFingerprintIsTheSame() throws IOException {
+        //given:
+        ChangelogInputs before = inputs();
+
+        //when:
+        write("changelog/v1.0.0/version-summary.md", "## [1.0.0] regenerated");
+
+        //then:
+        assertEquals(before.getFingerprint(), inputs().getFingerprint());
+    }
+
+    @Test
+    void givenDeletedVersionSummary_whenOf_thenFingerprintIsDifferent() throws IOException {
+        //given:
+        ChangelogInputs before = inputs();
+
+        //when:
+        Files.delete(root.resolve("changelog/v1.0.0/version-summary.md"));
+
+        //then:
+        assertNotEquals(before.getFingerprint(), inputs().getFingerprint());
+    }
+
+    @Test
+    void givenOtherPluginVersion_whenOf_thenFingerprintIsDifferent() {
+        //when:
+        ChangelogInputs older = ChangelogInputs.of(root.toFile(), changelog, Config.EMPTY, "1.19.0", "CHANGELOG.md");
+        ChangelogInputs newer = ChangelogInputs.of(root.toFile(), changelog, Config.EMPTY, "1.20.0", "CHANGELOG.md");
+
+        //then:
+        assertNotEquals(older.getFingerprint(), newer.getFingerprint());
+    }
+
+    @Test
+    void givenStoredFingerprint_whenIsUpToDate_thenOutputMustNotBeOlderThanInputs() throws IOException {
+        //given:
+        File output = write("CHANGELOG.md", "# Changelog");
+        InputsFingerprintFile fingerprintFile = InputsFingerprintFile.of(root.resolve("target/logchange/generate.sha256").toFile());
+        fingerprintFile.write(inputs());
+
+        //when:
+        boolean upToDate = fingerprintFile.isUpToDate(inputs(), output);
+        boolean outdatedOutput = output.setLastModified(0) && fingerprintFile.isUpToDate(inputs(), output);
+
+        //then:
+        assertTrue(upToDate);
+        assertFalse(outdatedOutput);
+    }
+
+    private ChangelogInputs inputs() {
+        return ChangelogInputs.of(root.toFile(), changelog, Config.EMPTY, "CHANGELOG.md");
+    }
+
+    private File write(String path, String content) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+}
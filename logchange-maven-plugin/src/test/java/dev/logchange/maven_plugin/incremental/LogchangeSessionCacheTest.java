@@ -0,0 +1,68 @@
+package dev.logchange.maven_plugin.incremental;
+
+import dev.logchange.core.domain.changelog.model.Changelog;
+import dev.logchange.core.domain.config.model.Config;
+import dev.logchange.core.domain.config.model.CustomChangelogEntryType;
+import dev.logchange.core.domain.config.model.templates.Templates;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LogchangeSessionCacheTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void givenSameConfig_whenGetChangelog_thenChangelogIsParsedOnce() throws IOException {
+        //given:
+        File changelog = changelogDirectory();
+        LogchangeSessionCache cache = new LogchangeSessionCache();
+
+        //when:
+        Changelog first = cache.getChangelog(changelog, Config.EMPTY, LogchangeSessionCacheTest::parse);
+        Changelog second = cache.getChangelog(changelog, Config.EMPTY, LogchangeSessionCacheTest::parse);
+
+        //then:
+        assertSame(first, second);
+    }
+
+    @Test
+    void givenDifferentConfigs_whenGetChangelog_thenChangelogIsParsedForEachConfig() throws IOException {
+        //given:
+        File changelog = changelogDirectory();
+        LogchangeSessionCache cache = new LogchangeSessionCache();
+        Config customTypes = Config.builder()
+                .entryTypes(Collections.singletonList(CustomChangelogEntryType.of("performance", 1)))
+                .templates(Templates.EMPTY)
+                .build();
+
+        //when:
+        Changelog defaults = cache.getChangelog(changelog, Config.EMPTY, LogchangeSessionCacheTest::parse);
+        Changelog custom = cache.getChangelog(changelog, customTypes, LogchangeSessionCacheTest::parse);
+
+        //then:
+        assertNotSame(defaults, custom);
+        assertSame(defaults, cache.getChangelog(changelog, Config.EMPTY, LogchangeSessionCacheTest::parse));
+    }
+
+    private File changelogDirectory() throws IOException {
+        Path file = root.resolve("changelog/unreleased/task.yml");
+        Files.createDirectories(file.getParent());
+        Files.write(file, "title: Task".getBytes(StandardCharsets.UTF_8));
+        return root.resolve("changelog").toFile();
+    }
+
+    private static Changelog parse() {
+        return Changelog.of(Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -1,21 +1,23 @@
 package dev.logchange.md.table;
 
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 
 class MarkdownTable {
 
-    private static final String SEPARATOR = "|";
+    private static final char SEPARATOR = '|';
+    private static final char ESCAPE = '\\';
     private static final char WHITESPACE = ' ';
+    private static final char DASH = '-';
     private static final int DEFAULT_MINIMUM_COLUMN_WIDTH = 3;
 
     private final MarkdownTableRow header;
     private final List<MarkdownTableRow> rows;
-    private final Map<Integer, Integer> tableColumnWidths;
+    private final int[] tableColumnWidths;
 
     public static MarkdownTable of(MarkdownTableRow header) {
         checkHeader(header);
@@ -24,7 +26,7 @@ class MarkdownTable {
 
     private MarkdownTable(MarkdownTableRow header) {
         this.header = header;
-        this.tableColumnWidths = new HashMap<>();
+        this.tableColumnWidths = new int[header.getNumberOfCells()];
         this.rows = new ArrayList<>();
         calculateTableColumnWidths(header);
     }
@@ -51,62 +53,90 @@ class MarkdownTable {
     }
 
     private void calculateTableColumnWidths(MarkdownTableRow row) {
-        Map<Integer, Integer> rowCellWidths = row.getCellWidths();
-        for (int columnIndex = 0; columnIndex < getNumberOfColumns(); columnIndex++) {
-            this.tableColumnWidths.compute(columnIndex, (key, value) ->
-                    Math.max((value != null ? value : DEFAULT_MINIMUM_COLUMN_WIDTH),
-                            rowCellWidths.getOrDefault(key, DEFAULT_MINIMUM_COLUMN_WIDTH)));
+        for (int columnIndex = 0; columnIndex < tableColumnWidths.length; columnIndex++) {
+            tableColumnWidths[columnIndex] = Math.max(
+                    Math.max(tableColumnWidths[columnIndex], DEFAULT_MINIMUM_COLUMN_WIDTH),
+                    row.getCellWidth(columnIndex));
         }
     }
 
     @Override
     public String toString() {
-        return serialize();
+        StringBuilder sb = new StringBuilder(estimateLength());
+        appendTo(sb);
+        return sb.toString();
     }
 
-    private String serialize() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(generateCells(this.header));
-        sb.append(generateHeaderSeparator());
-        for (MarkdownTableRow row : rows) {
-            sb.append(System.lineSeparator());
-            sb.append(generateCells(row));
+    /**
+     * Writes the table row by row, column widths are already known, so every cell is padded while it is written.
+     */
+    void appendTo(Appendable out) {
+        try {
+            String lineSeparator = System.lineSeparator();
+            appendCells(out, this.header);
+            out.append(lineSeparator);
+            appendHeaderSeparator(out);
+            for (MarkdownTableRow row : rows) {
+                out.append(lineSeparator);
+                appendCells(out, row);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return sb.toString();
     }
 
-    private String generateCells(MarkdownTableRow row) {
-        StringBuilder sb = new StringBuilder();
-
-        for (int columnIndex = 0; columnIndex < getNumberOfColumns(); columnIndex++) {
-            sb.append(SEPARATOR);
-            sb.append(fillUpLeftAligned(
-                    surroundWithWhitespace(escapeSeparatorSign(row.getCell(columnIndex))),
-                    WHITESPACE,
-                    tableColumnWidths.get(columnIndex) + 2));
+    private void appendCells(Appendable out, MarkdownTableRow row) throws IOException {
+        for (int columnIndex = 0; columnIndex < tableColumnWidths.length; columnIndex++) {
+            out.append(SEPARATOR).append(WHITESPACE);
+            int length = appendEscaped(out, row.getText(columnIndex)) + 1;
+            // cell is filled up to column width plus surrounding whitespaces
+            appendRepeated(out, WHITESPACE, tableColumnWidths[columnIndex] + 1 - length);
+            out.append(WHITESPACE);
         }
-        return sb.append(SEPARATOR).toString();
+        out.append(SEPARATOR);
     }
 
-    private String fillUpLeftAligned(String value, char fill, int length) {
-        return value.length() >= length ? value : String.format("%-" + length + "s", value).replace(' ', fill);
+    /**
+     * @return number of written characters
+     */
+    private static int appendEscaped(Appendable out, String value) throws IOException {
+        if (value.indexOf(SEPARATOR) < 0) {
+            out.append(value);
+            return value.length();
+        }
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR) {
+                out.append(ESCAPE);
+                length++;
+            }
+            out.append(c);
+            length++;
+        }
+        return length;
     }
 
-    private String escapeSeparatorSign(Object cell) {
-        return String.valueOf(cell).replace(SEPARATOR, "\\" + SEPARATOR);
+    private void appendHeaderSeparator(Appendable out) throws IOException {
+        for (int columnWidth : tableColumnWidths) {
+            out.append(SEPARATOR).append(WHITESPACE);
+            appendRepeated(out, DASH, columnWidth);
+            out.append(WHITESPACE);
+        }
+        out.append(SEPARATOR);
     }
 
-    private String surroundWithWhitespace(String value) {
-        return WHITESPACE + value + WHITESPACE;
+    private static void appendRepeated(Appendable out, char c, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.append(c);
+        }
     }
 
-    private String generateHeaderSeparator() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(System.lineSeparator());
-        for (int columnIndex = 0; columnIndex < getNumberOfColumns(); columnIndex++) {
-            sb.append(SEPARATOR);
-            sb.append(surroundWithWhitespace(fillUpLeftAligned("", '-', tableColumnWidths.get(columnIndex))));
+    private int estimateLength() {
+        int lineLength = System.lineSeparator().length() + 1;
+        for (int columnWidth : tableColumnWidths) {
+            lineLength += columnWidth + 3;
         }
-        return sb.append(SEPARATOR).toString();
+        return lineLength * (rows.size() + 2);
     }
 }
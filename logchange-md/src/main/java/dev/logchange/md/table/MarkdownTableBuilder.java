@@ -1,13 +1,10 @@
 package dev.logchange.md.table;
 
-import lombok.extern.java.Log;
+import lombok.CustomLog;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
 
-@Log
+@CustomLog
 public class MarkdownTableBuilder {
     private MarkdownTable table;
 
@@ -39,7 +36,7 @@ public class MarkdownTableBuilder {
         try {
             this.table = MarkdownTable.of(MarkdownTableRow.of(Arrays.asList(objects)));
         } catch (MarkdownTableValidationException exception) {
-            log.warning("Creation of MarkdownTable caused exception with following message: " + exception.getMessage());
+            log.warn("Creation of MarkdownTable caused exception with following message: " + exception.getMessage());
         }
     }
 
@@ -67,22 +64,12 @@ public class MarkdownTableBuilder {
     }
 
     private MarkdownTableRow adjustNumberOfColumns(Object... objects) {
-        List<Object> columns = new LinkedList<>(Arrays.asList(objects));
         final int numberOfColumns = table.getNumberOfColumns();
-        if (columns.size() > numberOfColumns) {
-            return trimColumns(columns, numberOfColumns);
+        Object[] columns = Arrays.copyOf(objects, numberOfColumns);
+        if (objects.length < numberOfColumns) {
+            Arrays.fill(columns, objects.length, numberOfColumns, "");
         }
-        return appendEmptyColumns(columns, numberOfColumns);
-    }
-
-    private MarkdownTableRow appendEmptyColumns(List<Object> columns, int numberOfColumns) {
-        int difference = numberOfColumns - columns.size();
-        columns.addAll(Collections.nCopies(difference, ""));
-        return MarkdownTableRow.of(columns);
-    }
-
-    private MarkdownTableRow trimColumns(List<Object> columns, int numberOfColumns) {
-        return MarkdownTableRow.of(columns.subList(0, numberOfColumns));
+        return MarkdownTableRow.of(Arrays.asList(columns));
     }
 
     /**
@@ -99,4 +86,17 @@ public class MarkdownTableBuilder {
     public String build() {
         return table != null ? table.toString() : "";
     }
+
+    /**
+     * Writes the same Markdown Table as {@link #build()} directly to the given {@code Appendable},
+     * without creating intermediate {@code String} of the whole table. Nothing is written
+     * when {@code MarkdownTable} filed has not been initialized yet.
+     *
+     * @param out destination of the table, {@code IOException} thrown by it is rethrown as {@code UncheckedIOException}
+     */
+    public void appendTo(Appendable out) {
+        if (table != null) {
+            table.appendTo(out);
+        }
+    }
 }
@@ -1,8 +1,6 @@
 package dev.logchange.md.table;
 
 
-import lombok.Getter;
-
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,8 +12,12 @@ class MarkdownTableRow {
 
     private final List<Object> cells;
 
-    @Getter
-    private final Map<Integer, Integer> cellWidths;
+    /**
+     * Text of every cell, converted once, rendering and width calculation use it instead of the cell objects.
+     */
+    private final String[] texts;
+
+    private final int[] cellWidths;
 
 
     public static MarkdownTableRow of(List<Object> cells) {
@@ -25,7 +27,12 @@ class MarkdownTableRow {
 
     private MarkdownTableRow(List<Object> cells) {
         this.cells = cells;
-        this.cellWidths = calculateCellsWidths(cells);
+        this.texts = new String[cells.size()];
+        this.cellWidths = new int[cells.size()];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = String.valueOf(cells.get(i));
+            cellWidths[i] = Math.max(texts[i].length(), DEFAULT_MINIMUM_CELL_WIDTH);
+        }
     }
 
     private static void checkCells(List<Object> cells) {
@@ -37,16 +44,16 @@ class MarkdownTableRow {
         }
     }
 
-    private static Map<Integer, Integer> calculateCellsWidths(List<Object> cells) {
+    Map<Integer, Integer> getCellWidths() {
         Map<Integer, Integer> widths = new HashMap<>();
-        for (int i = 0; i < cells.size(); i++) {
-            widths.put(i, calculateCellWidth(cells.get(i)));
+        for (int i = 0; i < cellWidths.length; i++) {
+            widths.put(i, cellWidths[i]);
         }
         return widths;
     }
 
-    private static int calculateCellWidth(Object value) {
-        return Math.max(String.valueOf(value).length(), DEFAULT_MINIMUM_CELL_WIDTH);
+    int getCellWidth(int index) {
+        return cellWidths[index];
     }
 
     int getNumberOfCells() {
@@ -56,4 +63,8 @@ class MarkdownTableRow {
     Object getCell(int index) {
         return cells.get(index);
     }
+
+    String getText(int index) {
+        return texts[index];
+    }
 }
@@ -70,4 +70,40 @@ class MarkdownTableBuilderTest {
         // then
         assertEquals(expectedTable, markdownTable);
     }
+
+    @Test
+    void shouldAppendSameTableAsBuilt() {
+        // given
+        String lineSeparator = System.lineSeparator();
+        String expectedTable = "| Key        | a\\|b | null  |" + lineSeparator +
+                "| ---------- | --- | ----- |" + lineSeparator +
+                "| x          | \\|\\|\\| | 12345 |" + lineSeparator +
+                "| longer key |     | n     |" + lineSeparator +
+                "| \\| pipe    | y   |       |";
+
+        MarkdownTableBuilder builder = new MarkdownTableBuilder("Key", "a|b", null)
+                .addRow("x", "|||", 12345)
+                .addRow("longer key", "", "n")
+                .addRow("| pipe", "y");
+
+        // when
+        StringBuilder appended = new StringBuilder("before ");
+        builder.appendTo(appended);
+
+        // then
+        assertEquals(expectedTable, builder.build());
+        assertEquals("before " + expectedTable, appended.toString());
+    }
+
+    @Test
+    void shouldAppendNothingWhenNoRowsPassed() {
+        // given
+        StringBuilder appended = new StringBuilder();
+
+        // when
+        new MarkdownTableBuilder().appendTo(appended);
+
+        // then
+        assertEquals("", appended.toString());
+    }
 }
@@ -0,0 +1,106 @@
+package dev.logchange.utils.logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands lines over to a single daemon thread, which writes them in batches through a buffered writer.
+ * Callers only block when the queue is full. {@link #flush()} waits until everything queued before it has been written,
+ * so it has to be called before the process exits or before something else writes to the same stream.
+ */
+class AsyncLogSink implements LogSink {
+
+    private static final int QUEUE_CAPACITY = 8192;
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final BlockingQueue<Object> queue;
+    private final PrintStream out;
+    private final Charset charset;
+    private final Thread writer;
+
+    /**
+     * @param charset has to be the encoding of {@code out}, lines are encoded by the sink itself and written as bytes
+     */
+    AsyncLogSink(PrintStream out, Charset charset) {
+        this(out, charset, QUEUE_CAPACITY);
+    }
+
+    AsyncLogSink(PrintStream out, Charset charset, int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.out = out;
+        this.charset = charset;
+        this.writer = new Thread(this::drain, "logchange-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void write(String line) {
+        try {
+            queue.put(line);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            out.println(line);
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (Thread.currentThread() == writer || !writer.isAlive()) {
+            out.flush();
+            return;
+        }
+
+        CountDownLatch written = new CountDownLatch(1);
+        try {
+            queue.put(written);
+            written.await(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        Writer buffered = new BufferedWriter(new OutputStreamWriter(out, charset), BUFFER_SIZE);
+        List<Object> batch = new ArrayList<>();
+
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+
+            List<CountDownLatch> flushed = new ArrayList<>();
+            try {
+                for (Object item : batch) {
+                    if (item instanceof CountDownLatch) {
+                        flushed.add((CountDownLatch) item);
+                    } else {
+                        buffered.write((String) item);
+                        buffered.write(LINE_SEPARATOR);
+                    }
+                }
+                buffered.flush();
+            } catch (IOException e) {
+                // Same as System.out itself: a broken console must not fail the command
+            } finally {
+                flushed.forEach(CountDownLatch::countDown);
+                batch.clear();
+            }
+        }
+    }
+}
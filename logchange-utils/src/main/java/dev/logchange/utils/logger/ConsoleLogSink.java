@@ -0,0 +1,25 @@
+package dev.logchange.utils.logger;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.PrintStream;
+
+/**
+ * Writes every line straight to the given stream, on the calling thread.
+ * It is the default sink, so Maven and Gradle output interleaves with the build tool's own output as before.
+ */
+@RequiredArgsConstructor
+class ConsoleLogSink implements LogSink {
+
+    private final PrintStream out;
+
+    @Override
+    public void write(String line) {
+        out.println(line);
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+    }
+}
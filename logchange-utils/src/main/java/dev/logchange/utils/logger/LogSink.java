@@ -0,0 +1,11 @@
+package dev.logchange.utils.logger;
+
+/**
+ * Destination of the lines produced by {@link LogchangeLogger}.
+ */
+interface LogSink {
+
+    void write(String line);
+
+    void flush();
+}
@@ -1,8 +1,15 @@
 package dev.logchange.utils.logger;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.util.function.Supplier;
+
 public class LogchangeLogger {
 
-    private static LoggerLevel level = LoggerLevel.INFO;
+    private static volatile LoggerLevel level = LoggerLevel.INFO;
+
+    private static volatile LogSink sink = new ConsoleLogSink(System.out);
 
     private static final LogchangeLogger instance = new LogchangeLogger();
 
@@ -11,38 +18,114 @@ public class LogchangeLogger {
     }
 
     public void error(String msg) {
-        if (level.isEnabled(LoggerLevel.ERROR)) {
-            System.out.println("[ERROR] " + msg);
+        if (isEnabled(LoggerLevel.ERROR)) {
+            sink.write("[ERROR] " + msg);
+        }
+    }
+
+    public void error(Supplier<String> msg) {
+        if (isEnabled(LoggerLevel.ERROR)) {
+            sink.write("[ERROR] " + msg.get());
         }
     }
 
     public void warn(String msg) {
-        if (level.isEnabled(LoggerLevel.WARN)) {
-            System.out.println("[WARN] " + msg);
+        if (isEnabled(LoggerLevel.WARN)) {
+            sink.write("[WARN] " + msg);
+        }
+    }
+
+    public void warn(Supplier<String> msg) {
+        if (isEnabled(LoggerLevel.WARN)) {
+            sink.write("[WARN] " + msg.get());
         }
     }
 
     public void info(String msg) {
-        if (level.isEnabled(LoggerLevel.INFO)) {
-            System.out.println(msg);
+        if (isEnabled(LoggerLevel.INFO)) {
+            sink.write(msg);
+        }
+    }
+
+    public void info(Supplier<String> msg) {
+        if (isEnabled(LoggerLevel.INFO)) {
+            sink.write(msg.get());
         }
     }
 
     public void debug(String msg) {
-        if (level.isEnabled(LoggerLevel.DEBUG)) {
-            System.out.println("[DEBUG] " + msg);
+        if (isDebugEnabled()) {
+            sink.write("[DEBUG] " + msg);
+        }
+    }
+
+    /**
+     * Prefer this overload whenever building the message costs something (concatenation, toString, formatting),
+     * the supplier is only called when debug output is enabled.
+     */
+    public void debug(Supplier<String> msg) {
+        if (isDebugEnabled()) {
+            sink.write("[DEBUG] " + msg.get());
+        }
+    }
+
+    public void debug(Exception e) {
+        if (isDebugEnabled()) {
+            StringWriter stackTrace = new StringWriter();
+            e.printStackTrace(new PrintWriter(stackTrace));
+            sink.write("[DEBUG] " + e.getMessage());
+            sink.write(stackTrace.toString().trim());
         }
     }
 
+    public boolean isEnabled(LoggerLevel msgLevel) {
+        return level.isEnabled(msgLevel);
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LoggerLevel.DEBUG);
+    }
+
     public static void setLevel(LoggerLevel newLevel) {
-        instance.info("Setting log level to: " + newLevel);
         level = newLevel;
+        instance.info("Setting log level to: " + newLevel);
     }
 
-    public void debug(Exception e) {
-        if (level.isEnabled(LoggerLevel.DEBUG)) {
-            System.out.println("[DEBUG] " + e.getMessage());
-            e.printStackTrace(System.out);
+    /**
+     * Switches the output to a buffered sink written by a background thread, so logging does not block the caller
+     * on console I/O. Meant for short-lived processes such as the CLI, which own the standard output.
+     * Anything else printing to {@code System.out} should call {@link #flush()} first to keep the order of lines.
+     * A shutdown hook flushes whatever is still queued when the JVM exits.
+     */
+    public static synchronized void enableAsyncOutput() {
+        if (sink instanceof AsyncLogSink) {
+            return;
         }
+        sink.flush();
+        sink = new AsyncLogSink(System.out, consoleCharset());
+        Runtime.getRuntime().addShutdownHook(new Thread(LogchangeLogger::flush, "logchange-log-flush"));
+    }
+
+    /**
+     * Returns: Encoding used by {@code System.out}, which is {@code sun.stdout.encoding} when the JVM sets it
+     * for a console and the default charset otherwise.
+     */
+    static Charset consoleCharset() {
+        String encoding = System.getProperty("sun.stdout.encoding");
+        try {
+            if (encoding != null && Charset.isSupported(encoding)) {
+                return Charset.forName(encoding);
+            }
+        } catch (IllegalArgumentException e) {
+            // Malformed name, same as not set
+        }
+        return Charset.defaultCharset();
+    }
+
+    /**
+     * Blocks until every line logged so far has been written to the output.
+     */
+    public static void flush() {
+        sink.flush();
     }
 }
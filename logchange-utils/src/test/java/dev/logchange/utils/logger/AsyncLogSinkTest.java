@@ -0,0 +1,188 @@
+package dev.logchange.utils.logger;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncLogSinkTest {
+
+    @Test
+    void shouldKeepOrderOfLinesLoggedByEachThread() throws InterruptedException {
+        // given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncLogSink sink = new AsyncLogSink(new PrintStream(bytes), StandardCharsets.UTF_8, 16);
+        int threads = 4;
+        int linesPerThread = 500;
+
+        // when:
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String name = "thread-" + t;
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < linesPerThread; i++) {
+                    sink.write(name + ":" + i);
+                }
+            }));
+        }
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        sink.flush();
+
+        // then:
+        List<String> lines = lines(bytes);
+        assertThat(lines).hasSize(threads * linesPerThread);
+        for (int t = 0; t < threads; t++) {
+            String prefix = "thread-" + t + ":";
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < linesPerThread; i++) {
+                expected.add(prefix + i);
+            }
+            assertThat(lines).filteredOn(line -> line.startsWith(prefix)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void shouldWriteEverythingQueuedBeforeFlushReturns() {
+        // given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncLogSink sink = new AsyncLogSink(new PrintStream(bytes), StandardCharsets.UTF_8);
+        sink.write("first");
+        sink.write("second");
+
+        // when:
+        sink.flush();
+
+        // then:
+        assertThat(lines(bytes)).containsExactly("first", "second");
+    }
+
+    @Test
+    void shouldFlushQueuedLinesFromShutdownHookThread() throws InterruptedException {
+        // given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncLogSink sink = new AsyncLogSink(new PrintStream(bytes), StandardCharsets.UTF_8);
+        for (int i = 0; i < 100; i++) {
+            sink.write("line " + i);
+        }
+
+        // when:
+        Thread hook = new Thread(sink::flush, "logchange-log-flush");
+        hook.start();
+        hook.join();
+
+        // then:
+        assertThat(lines(bytes)).hasSize(100).endsWith("line 99");
+    }
+
+    @Test
+    void shouldEncodeLinesWithGivenCharset() {
+        // given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncLogSink sink = new AsyncLogSink(new PrintStream(bytes), StandardCharsets.UTF_8);
+
+        // when:
+        sink.write("Zażółć gęślą jaźń");
+        sink.flush();
+
+        // then:
+        assertThat(new String(bytes.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("Zażółć gęślą jaźń" + System.lineSeparator());
+    }
+
+    @Test
+    void shouldBlockCallerWhenQueueIsFullWithoutLosingLines() throws InterruptedException {
+        // given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CountDownLatch consoleReleased = new CountDownLatch(1);
+        OutputStream slowConsole = new FilterOutputStream(bytes) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                awaitUninterruptibly(consoleReleased);
+                out.write(b, off, len);
+            }
+        };
+        int capacity = 4;
+        AsyncLogSink sink = new AsyncLogSink(new PrintStream(slowConsole), StandardCharsets.UTF_8, capacity);
+
+        // when:
+        Thread caller = new Thread(() -> {
+            for (int i = 0; i < 20; i++) {
+                sink.write("line " + i);
+            }
+        });
+        caller.start();
+
+        // then:
+        caller.join(TimeUnit.SECONDS.toMillis(1));
+        assertThat(caller.isAlive()).isTrue();
+        assertThat(caller.getState()).isEqualTo(Thread.State.WAITING);
+
+        // when:
+        consoleReleased.countDown();
+        caller.join();
+        sink.flush();
+
+        // then:
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expected.add("line " + i);
+        }
+        assertThat(lines(bytes)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldWriteDirectlyToConsoleWhenCallerIsInterrupted() {
+        // given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncLogSink sink = new AsyncLogSink(new PrintStream(bytes), StandardCharsets.UTF_8, 1);
+
+        // when:
+        Thread.currentThread().interrupt();
+        try {
+            sink.write("interrupted");
+
+            // then:
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            assertThat(lines(bytes)).containsExactly("interrupted");
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private static List<String> lines(ByteArrayOutputStream bytes) {
+        String content = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        if (content.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(content.split(System.lineSeparator())));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.logchange.utils.logger;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsoleLogSinkTest {
+
+    @Test
+    void shouldWriteLineOnCallerThreadWithoutFlush() {
+        // given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ConsoleLogSink sink = new ConsoleLogSink(new PrintStream(bytes));
+
+        // when:
+        sink.write("first");
+        sink.write("second");
+
+        // then:
+        assertThat(new String(bytes.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("first" + System.lineSeparator() + "second" + System.lineSeparator());
+    }
+
+}
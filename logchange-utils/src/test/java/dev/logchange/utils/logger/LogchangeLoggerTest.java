@@ -0,0 +1,67 @@
+package dev.logchange.utils.logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogchangeLoggerTest {
+
+    private static final String STDOUT_ENCODING = "sun.stdout.encoding";
+
+    private String stdoutEncoding;
+
+    @BeforeEach
+    void saveStdoutEncoding() {
+        stdoutEncoding = System.getProperty(STDOUT_ENCODING);
+    }
+
+    @AfterEach
+    void restoreStdoutEncoding() {
+        if (stdoutEncoding == null) {
+            System.clearProperty(STDOUT_ENCODING);
+        } else {
+            System.setProperty(STDOUT_ENCODING, stdoutEncoding);
+        }
+    }
+
+    @Test
+    void shouldUseConsoleEncodingWhenJvmSetsIt() {
+        // given:
+        System.setProperty(STDOUT_ENCODING, "UTF-16LE");
+
+        // when:
+        Charset charset = LogchangeLogger.consoleCharset();
+
+        // then:
+        assertThat(charset).isEqualTo(StandardCharsets.UTF_16LE);
+    }
+
+    @Test
+    void shouldUseDefaultCharsetWithoutConsoleEncoding() {
+        // given:
+        System.clearProperty(STDOUT_ENCODING);
+
+        // when:
+        Charset charset = LogchangeLogger.consoleCharset();
+
+        // then:
+        assertThat(charset).isEqualTo(Charset.defaultCharset());
+    }
+
+    @Test
+    void shouldUseDefaultCharsetWhenConsoleEncodingIsInvalid() {
+        // given:
+        System.setProperty(STDOUT_ENCODING, "not a charset");
+
+        // when:
+        Charset charset = LogchangeLogger.consoleCharset();
+
+        // then:
+        assertThat(charset).isEqualTo(Charset.defaultCharset());
+    }
+}